@@ -80,18 +80,19 @@ suite = {
       "workingSets" : "Truffle,Python",
     },
 
-#    "edu.uci.python.profiler" : {
-#      "sourceDirs" : ["src"],
-#      "dependencies" : ["edu.uci.python","JYTHON"],
-#      "checkstyle" : "edu.uci.python",
-#      "javaCompliance" : "1.8",
-#      "workingSets" : "Truffle,Python",
-#    },
+    "edu.uci.python.profiler" : {
+      "subDir" : "zippy",
+      "sourceDirs" : ["src"],
+      "dependencies" : ["edu.uci.python","JYTHON"],
+      "checkstyle" : "edu.uci.python",
+      "javaCompliance" : "1.8",
+      "workingSets" : "Truffle,Python",
+    },
 
     "edu.uci.python.test" : {
       "subDir" : "zippy",
       "sourceDirs" : ["src"],
-      "dependencies" : ["edu.uci.python","mx:JUNIT"],
+      "dependencies" : ["edu.uci.python","edu.uci.python.profiler","mx:JUNIT"],
       "checkstyle" : "edu.uci.python",
       "javaCompliance" : "1.8",
       "workingSets" : "Truffle,Python",
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.profiler;
+
+import java.io.*;
+import java.util.*;
+
+import com.oracle.truffle.api.*;
+import com.oracle.truffle.api.frame.*;
+import com.oracle.truffle.api.nodes.*;
+import com.oracle.truffle.api.source.*;
+
+import edu.uci.python.nodes.*;
+import edu.uci.python.nodes.function.*;
+import edu.uci.python.runtime.*;
+import edu.uci.python.shell.*;
+
+/**
+ * A sampling profiler. A timer thread asks for a sample every interval; the interpreter takes it at
+ * the next function entry or loop back-edge by walking its Truffle frames. Straight-line code
+ * between those points is attributed to the next one reached, so the innermost frame is labeled
+ * with the line of the function or loop that polled. Samples are aggregated by function and
+ * source line and written as collapsed stacks, one "outer;...;inner count" line per distinct stack,
+ * which flamegraph.pl reads directly.
+ *
+ * Run a script under the profiler with {@link #main}; the interval in milliseconds and the output
+ * file are taken from -Dedu.uci.python.SamplingInterval and -Dedu.uci.python.SamplingOutput.
+ */
+public final class SamplingProfiler implements ProfilerSafepoint.Sampler {
+
+    public static final int DEFAULT_INTERVAL = 10;
+
+    private final int interval;
+    private final Map<String, Counter> stacks = new HashMap<>();
+    private volatile boolean running;
+    private Thread timer;
+
+    public SamplingProfiler(int interval) {
+        this.interval = interval;
+    }
+
+    public void start() {
+        running = true;
+        ProfilerSafepoint.install(this);
+
+        timer = new Thread(new Runnable() {
+            public void run() {
+                while (running) {
+                    try {
+                        Thread.sleep(interval);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+
+                    ProfilerSafepoint.requestSample();
+                }
+            }
+        }, "zippy-sampling-profiler");
+
+        timer.setDaemon(true);
+        timer.start();
+    }
+
+    public void stop() {
+        running = false;
+        timer.interrupt();
+        ProfilerSafepoint.uninstall();
+    }
+
+    public void takeSample(final Node location) {
+        final List<String> frames = new ArrayList<>();
+
+        Truffle.getRuntime().iterateFrames(new FrameInstanceVisitor<Object>() {
+            public Object visitFrame(FrameInstance frame) {
+                addFrame(frames, frame, location);
+                return null;
+            }
+        });
+
+        final StringBuilder stack = new StringBuilder();
+
+        for (int i = frames.size() - 1; i >= 0; i--) {
+            stack.append(frames.get(i));
+
+            if (i > 0) {
+                stack.append(';');
+            }
+        }
+
+        final String key = stack.toString();
+
+        synchronized (stacks) {
+            Counter counter = stacks.get(key);
+
+            if (counter == null) {
+                counter = new Counter();
+                stacks.put(key, counter);
+            }
+
+            counter.increment();
+        }
+    }
+
+    /**
+     * Labels a frame with its function and the line it is executing: the call site for callers,
+     * the polling node for the frame that took the sample.
+     */
+    private static void addFrame(List<String> frames, FrameInstance frame, Node location) {
+        if (frame == null || !(frame.getCallTarget() instanceof RootCallTarget)) {
+            return;
+        }
+
+        final RootNode root = ((RootCallTarget) frame.getCallTarget()).getRootNode();
+        final String name;
+
+        if (root instanceof FunctionRootNode) {
+            name = ((FunctionRootNode) root).getFunctionName();
+        } else if (root instanceof BuiltinFunctionRootNode) {
+            name = ((BuiltinFunctionRootNode) root).getFunctionName();
+        } else if (root instanceof ModuleNode) {
+            name = "<module>";
+        } else {
+            return;
+        }
+
+        final Node callNode = frame.getCallNode();
+        final SourceSection section;
+
+        if (callNode != null) {
+            section = callNode.getEncapsulatingSourceSection();
+        } else if (location != null && location.getRootNode() == root) {
+            section = location.getEncapsulatingSourceSection();
+        } else {
+            section = root.getSourceSection();
+        }
+
+        if (section == null || section.getSource() == null) {
+            frames.add(name);
+        } else {
+            frames.add(name + " (" + section.getSource().getName() + ":" + section.getStartLine() + ")");
+        }
+    }
+
+    public long getSampleCount() {
+        long count = 0;
+
+        synchronized (stacks) {
+            for (Counter counter : stacks.values()) {
+                count += counter.getCounter();
+            }
+        }
+
+        return count;
+    }
+
+    public void writeCollapsedStacks(PrintStream out) {
+        final SortedMap<String, Counter> sorted;
+
+        synchronized (stacks) {
+            sorted = new TreeMap<>(stacks);
+        }
+
+        for (Map.Entry<String, Counter> entry : sorted.entrySet()) {
+            out.println(entry.getKey() + " " + entry.getValue().getCounter());
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        final SamplingProfiler profiler = new SamplingProfiler(Integer.getInteger("edu.uci.python.SamplingInterval", DEFAULT_INTERVAL));
+        final String output = System.getProperty("edu.uci.python.SamplingOutput", "zippy.collapsed");
+
+        // Scripts may end in System.exit, so the samples are written from a shutdown hook.
+        Runtime.getRuntime().addShutdownHook(new Thread() {
+            @Override
+            public void run() {
+                profiler.stop();
+
+                try (PrintStream out = new PrintStream(new FileOutputStream(output))) {
+                    profiler.writeCollapsedStacks(out);
+                } catch (IOException e) {
+                    System.err.println("[ZipPy] could not write samples to " + output + ": " + e.getMessage());
+                }
+            }
+        });
+
+        profiler.start();
+        RunScript.main(args);
+    }
+
+}
@@ -123,6 +123,14 @@ public class BuiltinFunctionTests {
         assertPrints("(2+3j)\n(3.4+4.9j)\n(2+0j)\n0j\n", source);
     }
 
+    @Test
+    public void complexReprTest() {
+        String source = "print(1e20j, 1e-7+1j, complex(0.0, -0.0), complex(-0.0, 1))\n" + //
+                        "print(complex(1, -0.0), 1.5e16j, 0.00012j, complex(123456789012345.6, -2.5))\n";
+
+        assertPrints("1e+20j (1e-07+1j) -0j (-0+1j)\n(1-0j) 1.5e+16j 0.00012j (123456789012345.6-2.5j)\n", source);
+    }
+
     @Test
     public void enumerateTest() {
         String source = "list1 = [1000, 2000, 3000]\n" + "for s in enumerate(list1):\n" + "\tprint(s)\n";
@@ -281,6 +289,20 @@ public class BuiltinFunctionTests {
         assertPrints("[0.0001000002, 1.2e-09, 1.2e-11]\n", source);
     }
 
+    @Test
+    public void divmodNegativeAndBig() {
+        String source = "print(divmod(-7, 2), divmod(7, -2))\n" + //
+                        "print(divmod(-2 ** 70, 3))\n";
+        assertPrints("(-4, 1) (-4, -1)\n(-393530540239137101142, 2)\n", source);
+    }
+
+    @Test
+    public void pow() {
+        String source = "print(pow(2, 10), pow(2, 70), pow(2, -2))\n" + //
+                        "print(pow(3, 200, 1000007), pow(2 ** 100, 3, -7))\n";
+        assertPrints("1024 1180591620717411303424 0.25\n959082 -6\n", source);
+    }
+
     @Test
     public void divmodDouble() {
         String source = "print(divmod(4.2, 3.1))";
@@ -360,4 +382,22 @@ public class BuiltinFunctionTests {
         assertPrints("False\n", source);
     }
 
+    @Test
+    public void numericListReductions() {
+        String source = "a = [3, 1, 4, 1, 5]\n" + //
+                        "d = [1.5, -2.0, 0.0]\n" + //
+                        "print(sum(a), min(a), max(a), any(a), all(a))\n" + //
+                        "print(sum(d), min(d), max(d), any(d), all(d))\n" + //
+                        "print(sum([2147483647, 2147483647]), sum([2 ** 62, 2 ** 62]), all([]), any([0, 0]))\n";
+        assertPrints("14 1 5 True True\n-0.5 -2.0 1.5 True False\n4294967294 9223372036854775808 True False\n", source);
+    }
+
+    @Test
+    public void mixedReductions() {
+        String source = "print(sum([1, 2.5]), sum([1j, 2j]), sum([2 ** 40, 2 ** 70, 1]), sum(iter([1, 2.5])))\n" + //
+                        "print(max(iter([1, 7.5, 3])), min(iter([4, 2 ** 70, -1.5])))\n" + //
+                        "print(max(1, 2.5, 2 ** 70), min('b', 'a'), max(2, 2.0))\n";
+        assertPrints("3.5 3j 1180591621816922931201 3.5\n7.5 -1.5\n1180591620717411303424 a 2\n", source);
+    }
+
 }
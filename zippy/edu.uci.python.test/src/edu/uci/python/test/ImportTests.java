@@ -24,11 +24,16 @@
  */
 package edu.uci.python.test;
 
+import java.io.*;
 import java.nio.file.*;
+import java.nio.file.attribute.*;
 
 import org.junit.*;
 
+import edu.uci.python.parser.*;
+
 import static edu.uci.python.test.PythonTests.*;
+import static org.junit.Assert.*;
 
 public class ImportTests {
 
@@ -38,6 +43,56 @@ public class ImportTests {
         assertPrints("imported foo()\n" + "local foo()\n" + "local variable\n" + "imported variable\n", script);
     }
 
+    @Test
+    public void cachedModuleParse() throws IOException {
+        Path cacheDirectory = Files.createTempDirectory("zippy-ast-cache");
+        System.setProperty("edu.uci.python.CacheParsedModules", "true");
+        System.setProperty("edu.uci.python.ParsedModuleCacheDirectory", cacheDirectory.toString());
+        try {
+            Path script = Paths.get("import-test.py");
+            String expected = "imported foo()\n" + "local foo()\n" + "local variable\n" + "imported variable\n";
+            // The first run populates the cache, the second one runs the restored trees.
+            assertPrints(expected, script);
+            int hits = ParsedModuleCache.getHitCount();
+            assertPrints(expected, script);
+            assertTrue(ParsedModuleCache.getHitCount() > hits);
+        } finally {
+            System.clearProperty("edu.uci.python.CacheParsedModules");
+            System.clearProperty("edu.uci.python.ParsedModuleCacheDirectory");
+            deleteRecursively(cacheDirectory);
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+                Files.delete(dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    @Test
+    public void parallelImportParsing() {
+        System.setProperty("edu.uci.python.ParallelImportParsing", "true");
+        try {
+            Path script = Paths.get("import-test.py");
+            int hits = PythonParserImpl.getPrefetchHitCount();
+            assertPrints("imported foo()\n" + "local foo()\n" + "local variable\n" + "imported variable\n", script);
+            // The imported module was parsed in the background and its tree used by the import.
+            assertTrue(PythonParserImpl.getPrefetchHitCount() > hits);
+        } finally {
+            System.clearProperty("edu.uci.python.ParallelImportParsing");
+        }
+    }
+
     @Test
     public void importStandardLib() {
         String source = "import bisect\n" + //
@@ -48,9 +103,9 @@ public class ImportTests {
 
     @Test
     public void module__file__() {
-        String source = "import bisect\n" + //
-                        "print(bisect.__file__)\n";
-        assertPrintContains("bisect.py\n", source);
+        String source = "import keyword\n" + //
+                        "print(keyword.__file__)\n";
+        assertPrintContains("keyword.py\n", source);
     }
 
 }
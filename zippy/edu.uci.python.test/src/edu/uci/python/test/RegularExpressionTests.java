@@ -48,4 +48,30 @@ public class RegularExpressionTests {
         assertPrints("", source);
     }
 
+    @Test
+    public void matchGroups() {
+        String source = "import re\n" + //
+                        "m = re.match(r\"(?P<key>\\w+)=(?P<value>\\d+)\", \"width=80 height=24\")\n" + //
+                        "print(m.group(), m.group('key'), m.group(2))\n" + //
+                        "print(m.span('value'), m.start(), m.end())\n" + //
+                        "print(re.search(r\"h\\w+\", \"width=80 height=24\").span())\n" + //
+                        "print(re.match(\"x\", \"abc\") is None)\n" + //
+                        "print(re.compile(\"a+\") is re.compile(\"a+\"))\n";
+        assertPrints("width=80 width 80\n(6, 8) 0 8\n(9, 15)\nTrue\nTrue\n", source);
+    }
+
+    @Test
+    public void subAndSplit() {
+        String source = "import re\n" + //
+                        "print(re.sub(r\"(\\w+)@(\\w+)\", r\"\\2 at \\g<1>\", \"joe@home, ann@work\"))\n" + //
+                        "print(re.subn(\"o\", \"0\", \"foo boo\", 3))\n" + //
+                        "def double(m):\n" + //
+                        "    return str(int(m.group()) * 2)\n" + //
+                        "print(re.sub(r\"\\d+\", double, \"1 2 30\"))\n" + //
+                        "print(re.split(r\"[,;]\\s*\", \"a, b;c\"))\n" + //
+                        "for m in re.finditer(\"ab\", \"abcabd\"):\n" + //
+                        "    print(m.start())\n";
+        assertPrints("home at joe, work at ann\n('f00 b0o', 3)\n2 4 60\n['a', 'b', 'c']\n0\n3\n", source);
+    }
+
 }
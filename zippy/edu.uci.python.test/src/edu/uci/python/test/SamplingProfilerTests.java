@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.test;
+
+import static edu.uci.python.test.PythonTests.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+
+import org.junit.*;
+
+import edu.uci.python.profiler.*;
+
+public class SamplingProfilerTests {
+
+    @Test
+    public void collapsedStacks() {
+        String source = "def busy(n):\n" + //
+                        "    total = 0\n" + //
+                        "    i = 0\n" + //
+                        "    while i < n:\n" + //
+                        "        total += i\n" + //
+                        "        i += 1\n" + //
+                        "    return total\n" + //
+                        "print(busy(3000000))\n";
+
+        SamplingProfiler profiler = new SamplingProfiler(1);
+        profiler.start();
+        try {
+            assertPrints("4499998500000\n", source);
+        } finally {
+            profiler.stop();
+        }
+
+        // The loop makes no calls, so its samples are taken at the loop back-edge.
+        assertTrue(profiler.getSampleCount() > 0);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        profiler.writeCollapsedStacks(new PrintStream(bytes));
+        String[] lines = bytes.toString().split("\n");
+        long total = 0;
+        boolean sampledLoop = false;
+
+        for (String line : lines) {
+            assertTrue(line, line.matches("<module> \\([^;]+:\\d+\\)(;\\S+ \\([^;]+:\\d+\\))* \\d+"));
+            total += Long.parseLong(line.substring(line.lastIndexOf(' ') + 1));
+            sampledLoop |= line.contains(";busy (");
+        }
+
+        assertEquals(profiler.getSampleCount(), total);
+        assertTrue(sampledLoop);
+    }
+
+    @Test
+    public void hotLinesOfOneFunction() {
+        String source = "def busy(n):\n" + //
+                        "    total = 0\n" + //
+                        "    i = 0\n" + //
+                        "    while i < n:\n" + //
+                        "        total += i\n" + //
+                        "        i += 1\n" + //
+                        "    i = 0\n" + //
+                        "    while i < n:\n" + //
+                        "        total -= i\n" + //
+                        "        i += 1\n" + //
+                        "    return total\n" + //
+                        "print(busy(3000000))\n";
+
+        SamplingProfiler profiler = new SamplingProfiler(1);
+        profiler.start();
+        try {
+            assertPrints("0\n", source);
+        } finally {
+            profiler.stop();
+        }
+
+        // Each loop polls at its own back-edge, so the two loops are reported on their own lines.
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        profiler.writeCollapsedStacks(new PrintStream(bytes));
+        String collapsed = bytes.toString();
+        assertTrue(collapsed, collapsed.contains(";busy ((test):4) "));
+        assertTrue(collapsed, collapsed.contains(";busy ((test):8) "));
+    }
+
+}
@@ -128,6 +128,25 @@ public class SpecialMethodTests {
         assertPrints("True\nFalse\n", source);
     }
 
+    @Test
+    public void __lt__Reflected() {
+        String source = "class Num:\n" + //
+                        "  def __init__(self, n):\n" + //
+                        "    self.n = n\n" + //
+                        "  def __lt__(self, other):\n" + //
+                        "    return self.n < (other.n if isinstance(other, Num) else other)\n" + //
+                        "" + //
+                        "print(Num(2) > Num(1), Num(1) > Num(2))\n" + //
+                        "print(Num(1) < 3, 3 > Num(1))\n" + //
+                        "class Plain:\n" + //
+                        "  pass\n" + //
+                        "try:\n" + //
+                        "  Plain() < Plain()\n" + //
+                        "except TypeError:\n" + //
+                        "  print('TypeError')\n";
+        assertPrints("True False\nTrue True\nTypeError\n", source);
+    }
+
     @Test
     public void __len__() {
         String source = "class Num:\n" + //
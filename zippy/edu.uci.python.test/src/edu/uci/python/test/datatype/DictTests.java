@@ -53,4 +53,115 @@ public class DictTests {
         assertPrints("{3: 4}\n", source);
     }
 
+    @Test
+    public void insertionOrder() {
+        String source = "dd = {}\n" + //
+                        "dd[5] = 'a'\n" + //
+                        "dd[1] = 'b'\n" + //
+                        "dd[3] = 'c'\n" + //
+                        "del dd[1]\n" + //
+                        "dd[1] = 'd'\n" + //
+                        "print(dd)\n";
+
+        assertPrints("{5: a, 3: c, 1: d}\n", source);
+    }
+
+    @Test
+    public void numericKeys() {
+        String source = "dd = {1: 'int'}\n" + //
+                        "dd[1.0] = 'float'\n" + //
+                        "print(len(dd))\n" + //
+                        "print(dd[True])\n";
+
+        assertPrints("1\nfloat\n", source);
+    }
+
+    @Test
+    public void tupleKeys() {
+        String source = "dd = {}\n" + //
+                        "for i in range(3):\n" + //
+                        "    dd[(i, i + 1)] = i\n" + //
+                        "print(dd[(1, 2)])\n" + //
+                        "print((2, 3) in dd)\n";
+
+        assertPrints("1\nTrue\n", source);
+    }
+
+    @Test
+    public void objectKeys() {
+        String source = "class Key:\n" + //
+                        "    def __init__(self, v):\n" + //
+                        "        self.v = v\n" + //
+                        "    def __hash__(self):\n" + //
+                        "        return self.v\n" + //
+                        "    def __eq__(self, other):\n" + //
+                        "        return self.v == other.v\n" + //
+                        "dd = {Key(1): 'a', Key(2): 'b'}\n" + //
+                        "print(dd[Key(2)])\n" + //
+                        "print(len(dd))\n";
+
+        assertPrints("b\n2\n", source);
+    }
+
+    @Test
+    public void manyKeys() {
+        String source = "dd = {}\n" + //
+                        "for i in range(1000):\n" + //
+                        "    dd[str(i)] = i\n" + //
+                        "for i in range(0, 1000, 2):\n" + //
+                        "    del dd[str(i)]\n" + //
+                        "total = 0\n" + //
+                        "for k in dd:\n" + //
+                        "    total += dd[k]\n" + //
+                        "print(len(dd))\n" + //
+                        "print(total)\n";
+
+        assertPrints("500\n250000\n", source);
+    }
+
+    @Test
+    public void popitem() {
+        String source = "dd = {1:2, 3:4}\n" + //
+                        "print(dd.popitem())\n" + //
+                        "print(dd)\n";
+
+        assertPrints("(3, 4)\n{1: 2}\n", source);
+    }
+
+    @Test
+    public void counting() {
+        String source = "counts = {}\n" + //
+                        "for i in range(100):\n" + //
+                        "    k = i % 3\n" + //
+                        "    if k in counts:\n" + //
+                        "        counts[k] += 1\n" + //
+                        "    else:\n" + //
+                        "        counts[k] = 1\n" + //
+                        "print(counts)\n";
+
+        assertPrints("{0: 34, 1: 33, 2: 33}\n", source);
+    }
+
+    @Test
+    public void booleanValues() {
+        String source = "seen = {}\n" + //
+                        "seen[1] = 2\n" + //
+                        "seen[3] = True\n" + //
+                        "seen['x'] = 4\n" + //
+                        "print(seen)\n";
+
+        assertPrints("{1: 2, 3: True, x: 4}\n", source);
+    }
+
+    @Test
+    public void intAndFloatKeys() {
+        String source = "dd = {10 ** 20: 1, 2 ** 70: 2, 3: 3}\n" + //
+                        "print(dd.get(1e20), dd.get(2.0 ** 70), dd.get(3.0), dd.get(3.5))\n" + //
+                        "print({2 ** 53 + 1: 'a'}.get(2.0 ** 53), {2.0 ** 63: 'b'}.get(2 ** 63))\n" + //
+                        "print({2 ** 63 - 1: 'c'}.get(2.0 ** 63), {-2.0 ** 63: 'd'}.get(-2 ** 63))\n" + //
+                        "print(1e20 in {10 ** 20: 1}, 10 ** 20 + 1 in {1e20: 1})\n";
+
+        assertPrints("1 2 3 None\nNone b\nNone d\nTrue False\n", source);
+    }
+
 }
@@ -184,10 +184,96 @@ public class ListTests {
         assertError("IndexError: list assignment index out of range\n", source);
     }
 
+    @Test
+    public void sortKeyReverse() {
+        String source = "lst = [3, 1, 2]\n" + //
+                        "lst.sort(reverse=True)\n" + //
+                        "print(lst)\n" + //
+                        "words = ['ccc', 'a', 'bb']\n" + //
+                        "words.sort(key=len)\n" + //
+                        "print(words)\n";
+        assertPrints("[3, 2, 1]\n['a', 'bb', 'ccc']\n", source);
+    }
+
+    @Test
+    public void sortIsStable() {
+        String source = "pairs = [(1, 'x'), (0, 'y'), (1, 'a'), (0, 'b')]\n" + //
+                        "print(sorted(pairs, key=lambda p: p[0]))\n" + //
+                        "print(sorted(pairs, key=lambda p: p[0], reverse=True))\n";
+        assertPrints("[(0, 'y'), (0, 'b'), (1, 'x'), (1, 'a')]\n[(1, 'x'), (1, 'a'), (0, 'y'), (0, 'b')]\n", source);
+    }
+
+    @Test
+    public void sortedMixed() {
+        String source = "print(sorted([2.5, 1, 3, 0.5]))\n" + //
+                        "print(sorted('cab'))\n" + //
+                        "print(sorted(iter([(1, 'b'), (0, 'z'), (1, 'a')])))\n";
+        assertPrints("[0.5, 1, 2.5, 3]\n['a', 'b', 'c']\n[(0, 'z'), (1, 'a'), (1, 'b')]\n", source);
+    }
+
+    @Test
+    public void sortUserLessThan() {
+        String source = "class A:\n" + //
+                        "  def __init__(self, v):\n" + //
+                        "    self.v = v\n" + //
+                        "  def __lt__(self, other):\n" + //
+                        "    return self.v < other.v\n" + //
+                        "print([a.v for a in sorted([A(3), A(1), A(2)])])\n" + //
+                        "print(A(1) < A(2))\n";
+        assertPrints("[1, 2, 3]\nTrue\n", source);
+    }
+
     // Disabled for now.
     public void moreSlice() {
         Path script = Paths.get("slice-test.py");
         assertPrints("[1, 2]\n", script);
     }
 
+    @Test
+    public void appendLongAndBigInteger() {
+        String source = "l = [1, 2]\n" + //
+                        "l.append(2147483648)\n" + //
+                        "l.append(3)\n" + //
+                        "l.append(2 ** 70)\n" + //
+                        "print(l)\n";
+        assertPrints("[1, 2, 2147483648, 3, 1180591620717411303424]\n", source);
+    }
+
+    @Test
+    public void complexList() {
+        String source = "l = [complex(1, 2), complex(3, -1), complex(0, 1)]\n" + //
+                        "l.append(complex(2, 2))\n" + //
+                        "l[1] = l[1] * l[2] + l[0]\n" + //
+                        "print(l, l[-1], l[1:3])\n" + //
+                        "l.append(1.5)\n" + //
+                        "print(l)\n";
+        assertPrints("[(1+2j), (2+5j), 1j, (2+2j)] (2+2j) [(2+5j), 1j]\n[(1+2j), (2+5j), 1j, (2+2j), 1.5]\n", source);
+    }
+
+    @Test
+    public void countIndexAndRepeat() {
+        String source = "a = [3, 1, 4, 1, 5]\n" + //
+                        "d = [1.5, -2.0, 0.0]\n" + //
+                        "print(a.count(1), a.index(4), d.count(0.0), d.index(-2.0))\n" + //
+                        "print([0] * 3, [1, 2] * 2, [2.5] * 2)\n";
+        assertPrints("2 2 1 1\n[0, 0, 0] [1, 2, 1, 2] [2.5, 2.5]\n", source);
+    }
+
+    @Test
+    public void repeatNonPositive() {
+        String source = "print([1, 2] * 0, [2 ** 40] * -1, [1.5] * -3, ['a'] * -1, ['a', 'b'] * 0)\n" + //
+                        "print(-2 * [1], 0 * ['a'], len([2.5, 1.5] * 1))\n";
+        assertPrints("[] [] [] [] []\n[] [] 2\n", source);
+    }
+
+    @Test
+    public void repeatOverflow() {
+        String source = "for l in [[1, 2], [2 ** 40, 1], [1.5, 2.5], ['a', 'b']]:\n" + //
+                        "    try:\n" + //
+                        "        l * (2 ** 30)\n" + //
+                        "    except MemoryError:\n" + //
+                        "        print('MemoryError')\n";
+        assertPrints("MemoryError\nMemoryError\nMemoryError\nMemoryError\n", source);
+    }
+
 }
@@ -53,4 +53,62 @@ public class SetTests {
                         "print(s)";
         assertPrints("{1, 2, 3}\n{1, 2, 3, 4}\n", source);
     }
+
+    @Test
+    public void mixedTypes() {
+        String source = "s = {1, 'a', 2.5, (1, 2)}\n" + //
+                        "print(1 in s)\n" + //
+                        "print(1.0 in s)\n" + //
+                        "print('a' in s)\n" + //
+                        "print((1, 2) in s)\n" + //
+                        "print(3 not in s)";
+        assertPrints("True\nTrue\nTrue\nTrue\nTrue\n", source);
+    }
+
+    @Test
+    public void userObjects() {
+        String source = "class P:\n" + //
+                        "    def __init__(self, x):\n" + //
+                        "        self.x = x\n" + //
+                        "    def __hash__(self):\n" + //
+                        "        return self.x\n" + //
+                        "    def __eq__(self, other):\n" + //
+                        "        return self.x == other.x\n" + //
+                        "s = {P(1), P(1), P(2)}\n" + //
+                        "print(len(s))\n" + //
+                        "print(P(2) in s)";
+        assertPrints("2\nTrue\n", source);
+    }
+
+    @Test
+    public void setAlgebra() {
+        String source = "a = {1, 2, 3}\n" + //
+                        "b = {2, 3, 4}\n" + //
+                        "print(a | b)\n" + //
+                        "print(a & b)\n" + //
+                        "print(a - b)\n" + //
+                        "print(a ^ b)\n" + //
+                        "print(a <= b)\n" + //
+                        "print(a == {3, 2, 1})";
+        assertPrints("{1, 2, 3, 4}\n{2, 3}\n{1}\n{1, 4}\nFalse\nTrue\n", source);
+    }
+
+    @Test
+    public void setRemoveDiscardPop() {
+        String source = "s = {1, 2, 3}\n" + //
+                        "s.remove(2)\n" + //
+                        "s.discard(5)\n" + //
+                        "print(s)\n" + //
+                        "s.pop()\n" + //
+                        "print(len(s))";
+        assertPrints("{1, 3}\n1\n", source);
+    }
+
+    @Test
+    public void frozensetKey() {
+        String source = "d = {frozenset([1, 2]): 'x'}\n" + //
+                        "print(d[frozenset([2, 1])])";
+        assertPrints("x\n", source);
+    }
+
 }
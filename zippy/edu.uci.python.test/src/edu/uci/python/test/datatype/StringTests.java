@@ -81,4 +81,58 @@ public class StringTests {
         assertPrints("('0', '1', '2', '3', '4', '5', '6', '7', '8', '9')\n", source);
     }
 
+    @Test
+    public void incrementalConcat() {
+        String source = "s = ''\n" + //
+                        "for i in range(2000):\n" + //
+                        "    s += 'ab'\n" + //
+                        "t = s\n" + //
+                        "s += 'c'\n" + //
+                        "t += 'd'\n" + //
+                        "print(len(s), len(t), s[-1], t[-1])\n" + //
+                        "print(s.startswith('abab'), t.startswith('b'))\n" + //
+                        "print(len('-'.join([s, t])), len(s.split('ba')), len(s.replace('ab', 'x')))\n" + //
+                        "d = {s: 1}\n" + //
+                        "print(d['ab' * 2000 + 'c'], s == 'ab' * 2000 + 'c')\n";
+        assertPrints("4001 4001 c d\nTrue False\n8003 2000 2001\n1 True\n", source);
+    }
+
+    @Test
+    public void concatMatchesFlatString() {
+        String source = "s = 'a' * 600\n" + //
+                        "u = 'a' * 1200\n" + //
+                        "t = s + s\n" + //
+                        "print([u].index(t), [t].index(u))\n" + //
+                        "print([u, t, 'b'].count(t), [t, u].count(u))\n" + //
+                        "l = [u, 'b']\n" + //
+                        "l.remove(t)\n" + //
+                        "print(l, [t] == [u], [u] == [t])\n";
+        assertPrints("0 0\n2 2\n['b'] True True\n", source);
+    }
+
+    @Test
+    public void concatIterateAndIndex() {
+        String source = "s = 'ab' * 300\n" + //
+                        "t = s + s\n" + //
+                        "print([c for c in t][:2])\n" + //
+                        "n = 0\n" + //
+                        "for c in t:\n" + //
+                        "    if c == 'a':\n" + //
+                        "        n += 1\n" + //
+                        "print(n, t[0], t[-1], t[1:5], t[::600])\n";
+        assertPrints("['a', 'b']\n600 a b baba aa\n", source);
+    }
+
+    @Test
+    public void concatMinMaxAndContains() {
+        String source = "s = 'ab' * 300\n" + //
+                        "t = s + s\n" + //
+                        "u = 'ab' * 600\n" + //
+                        "print(max(t), min(t))\n" + //
+                        "print(max(['a', t]) == t, min([t, 'b']) == t, max(('a', t)) == t)\n" + //
+                        "print(t in (u,), u in (t,), t in [u], 'ba' in t)\n" + //
+                        "print((t,) == (u,), t < u + 'c', t > 'ab')\n";
+        assertPrints("b a\nTrue True True\nTrue True True True\nTrue True True\n", source);
+    }
+
 }
@@ -46,4 +46,34 @@ public class SubscriptTest {
         assertPrints("[1, 2]\n", source);
     }
 
+    @Test
+    public void bigIntegerSubscript() {
+        String source = "d = {}\n" + //
+                        "d[2 ** 70] = 'a'\n" + //
+                        "d[2 ** 71] = 'b'\n" + //
+                        "print(len(d), d[2 ** 70], d[2 ** 71])\n" + //
+                        "try:\n" + //
+                        "    [10, 20][2 ** 70]\n" + //
+                        "except IndexError:\n" + //
+                        "    print('IndexError')\n";
+
+        assertPrints("2 a b\nIndexError\n", source);
+    }
+
+    @Test
+    public void longSubscript() {
+        String source = "d = {}\n" + //
+                        "d[2 ** 32] = 'a'\n" + //
+                        "d[2 ** 33] = 'b'\n" + //
+                        "print(len(d), d[2 ** 32], d[2 ** 33], 0 in d, {2 ** 40: 'x'}[2 ** 40])\n" + //
+                        "l = [10, 20]\n" + //
+                        "print(l[2 ** 32 - 2 ** 32 + 1], l[-(2 ** 40) + 2 ** 40])\n" + //
+                        "try:\n" + //
+                        "    l[2 ** 32]\n" + //
+                        "except IndexError:\n" + //
+                        "    print('IndexError')\n";
+
+        assertPrints("2 a b False x\n20 10\nIndexError\n", source);
+    }
+
 }
@@ -133,4 +133,63 @@ public class BinaryArithTests {
         assertError("TypeError: unsupported operand type(s) for +: None + 1\n", source);
     }
 
+    @Test
+    public void overflowIntoLongAndBigInteger() {
+        String source = "x = 0\n" + //
+                        "for i in range(5):\n" + //
+                        "  x = x + 2147483647\n" + //
+                        "print(x)\n" + //
+                        "y = x * x\n" + //
+                        "print(y)\n" + //
+                        "print(-(-2147483647 - 1))\n" + //
+                        "print(-9223372036854775807 - 1 - 1)\n";
+        assertPrints("10737418235\n115292150353310515225\n2147483648\n-9223372036854775809\n", source);
+    }
+
+    @Test
+    public void floorDivAndModulo() {
+        assertPrints("-4 2 -2 -4\n", "print(-7 // 2, -7 % 3, 7 % -3, 7 // -2)");
+        assertPrints("-4294967296 1\n", "x = -4294967295; print(x // 1 - 1, x % 2)");
+    }
+
+    @Test
+    public void powAndShifts() {
+        assertPrints("1024 1099511627776 1180591620717411303424 0.5\n", "print(2 ** 10, 2 ** 40, 2 ** 70, 2 ** -1)");
+        assertPrints("1099511627776 1180591620717411303424 -4 0\n", "print(1 << 40, 1 << 70, -8 >> 1, 5 >> 40)");
+    }
+
+    @Test
+    public void bigIntegerFloorDivAndModulo() {
+        String source = "x = 2 ** 100\n" + //
+                        "print(-x // 3, -x % 3, x % -7, x // -7)\n" + //
+                        "print(x * x // x == x, (x + 5) % x, 1 / (x * 2) * x)\n";
+        assertPrints("-422550200076076467165567735126 2 -5 -181092942889747057356671886483\nTrue 5 0.5\n", source);
+    }
+
+    @Test
+    public void pidigits() {
+        String source = "def pidigits(n):\n" + //
+                        "  digits = []\n" + //
+                        "  q, r, t, k, m, x = 1, 0, 1, 1, 3, 3\n" + //
+                        "  while len(digits) < n:\n" + //
+                        "    if 4 * q + r - t < m * t:\n" + //
+                        "      digits.append(m)\n" + //
+                        "      q, r, t, k, m, x = 10 * q, 10 * (r - m * t), t, k, (10 * (3 * q + r)) // t - 10 * m, x\n" + //
+                        "    else:\n" + //
+                        "      q, r, t, k, m, x = q * k, (2 * q + r) * x, t * x, k + 1, (q * (7 * k + 2) + r * x) // (t * x), x + 2\n" + //
+                        "  return digits\n" + //
+                        "print(''.join([str(d) for d in pidigits(30)]))\n";
+        assertPrints("314159265358979323846264338327\n", source);
+    }
+
+    @Test
+    public void bigIntegerModuleGlobals() {
+        String source = "a, b, c, d, e, f = 1, 2, 3, 4, 5, 6\n" + //
+                        "for i in range(3):\n" + //
+                        "  f = f * 2 ** 40\n" + //
+                        "  a = a + 1\n" + //
+                        "print(a, f, str(f), type(f) == type(a), abs(-f) == f)\n";
+        assertPrints("4 7975367974709495237422842361682067456 7975367974709495237422842361682067456 True True\n", source);
+    }
+
 }
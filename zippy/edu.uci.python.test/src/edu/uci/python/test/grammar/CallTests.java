@@ -25,11 +25,17 @@
 package edu.uci.python.test.grammar;
 
 import static edu.uci.python.test.PythonTests.*;
+import static org.junit.Assert.*;
 
 import java.nio.file.*;
 
 import org.junit.*;
 
+import com.oracle.truffle.api.nodes.*;
+
+import edu.uci.python.nodes.function.*;
+import edu.uci.python.runtime.*;
+
 public class CallTests {
 
     @Test
@@ -117,4 +123,40 @@ public class CallTests {
         assertPrints("True\nTrue\nFalse\nTrue\nFalse\n", script);
     }
 
+    @Test
+    public void lazyFunctionTranslation() {
+        System.setProperty("edu.uci.python.LazyFunctionTranslation", "true");
+        try {
+            String source = "def outer(n, step=2):\n" + //
+                            "    def inner(x):\n" + //
+                            "        return x * n\n" + //
+                            "    squares = [i * i for i in range(n)]\n" + //
+                            "    return inner(step) + sum(squares) + offset\n" + //
+                            "def unused():\n" + //
+                            "    return undefined\n" + //
+                            "def gen(n):\n" + //
+                            "    for i in range(n):\n" + //
+                            "        yield i\n" + //
+                            "offset = 100\n" + //
+                            "print(outer(3))\n" + //
+                            "print(outer(4, 1))\n" + //
+                            "print(list(gen(3)))\n";
+
+            PythonParseResult parsed = getParseResult(source);
+            assertTrue(isDeferred(parsed.getFunctionRoot("outer")));
+            assertTrue(isDeferred(parsed.getFunctionRoot("unused")));
+            assertFalse(isDeferred(parsed.getFunctionRoot("gen")));
+
+            PythonParseResult executed = assertPrints("111\n118\n[0, 1, 2]\n", source);
+            assertFalse(isDeferred(executed.getFunctionRoot("outer")));
+            assertTrue(isDeferred(executed.getFunctionRoot("unused")));
+        } finally {
+            System.clearProperty("edu.uci.python.LazyFunctionTranslation");
+        }
+    }
+
+    private static boolean isDeferred(RootNode root) {
+        return NodeUtil.findFirstNodeInstance(root, DeferredFunctionBodyNode.class) != null;
+    }
+
 }
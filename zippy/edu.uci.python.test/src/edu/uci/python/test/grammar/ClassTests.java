@@ -184,10 +184,7 @@ public class ClassTests {
         assertPrints("4\n", source);
     }
 
-    /**
-     * zwei: Disabled before MRO is wired in for attribute access look up.
-     */
-    // @Test
+    @Test
     public void multipleInheritance() {
         String source = "class common:\n" + //
                         "    def __repr__(self):\n" + //
@@ -203,4 +200,24 @@ public class ClassTests {
         assertPrints("common\n", source);
     }
 
+    @Test
+    public void methodAddedToBaseClass() {
+        String source = "class A:\n" + //
+                        "    def f(self):\n" + //
+                        "        return 1\n" + //
+                        "class B(A):\n" + //
+                        "    pass\n" + //
+                        "class C(B):\n" + //
+                        "    pass\n" + //
+                        "def two(self):\n" + //
+                        "    return 2\n" + //
+                        "def call(o):\n" + //
+                        "    return o.f()\n" + //
+                        "c = C()\n" + //
+                        "print(call(c))\n" + //
+                        "B.f = two\n" + //
+                        "print(call(c))\n";
+        assertPrints("1\n2\n", source);
+    }
+
 }
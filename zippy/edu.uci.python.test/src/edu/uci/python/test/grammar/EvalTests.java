@@ -37,4 +37,21 @@ public class EvalTests {
         assertPrints("2\n", source);
     }
 
+    @Test
+    public void sameExpressionInLoop() {
+        String source = "total = 0\n" + //
+                        "for i in range(100):\n" + //
+                        "  total += eval('2 * 3')\n" + //
+                        "print(total)\n";
+        assertPrints("600\n", source);
+    }
+
+    @Test
+    public void changingExpressions() {
+        String source = "exprs = ['1 + 1', 'len([1, 2, 3])', '1 + 1', 'str(7) * 2']\n" + //
+                        "for e in exprs:\n" + //
+                        "  print(eval(e))\n";
+        assertPrints("2\n3\n2\n77\n", source);
+    }
+
 }
@@ -28,8 +28,11 @@ import java.nio.file.*;
 
 import org.junit.*;
 
+import static org.junit.Assert.*;
 import static edu.uci.python.test.PythonTests.*;
 
+import edu.uci.python.runtime.exception.*;
+
 public class TryTests {
 
     @Test
@@ -187,6 +190,73 @@ public class TryTests {
         assertPrints("", source);
     }
 
+    @Test
+    public void exceptBaseClass() {
+        String source = "try:\n" + //
+                        "    {}['a']\n" + //
+                        "except LookupError:\n" + //
+                        "    print('lookup')\n" + //
+                        "try:\n" + //
+                        "    [][1]\n" + //
+                        "except Exception:\n" + //
+                        "    print('exception')\n";
+
+        assertPrints("lookup\nexception\n", source);
+    }
+
+    @Test
+    public void exceptStopIteration() {
+        String source = "def f():\n" + //
+                        "    it = iter([1])\n" + //
+                        "    next(it)\n" + //
+                        "    try:\n" + //
+                        "        next(it)\n" + //
+                        "    except KeyError:\n" + //
+                        "        print('wrong')\n" + //
+                        "    except StopIteration:\n" + //
+                        "        return 'stop'\n" + //
+                        "    return 'missed'\n" + //
+                        "print(f())\n";
+
+        assertPrints("stop\n", source);
+    }
+
+    @Test
+    public void exceptArithmeticErrors() {
+        String source = "def f(x, y):\n" + //
+                        "    try:\n" + //
+                        "        return x ** y if y > 1 else x // y\n" + //
+                        "    except ZeroDivisionError:\n" + //
+                        "        return 'ZeroDivisionError'\n" + //
+                        "    except OverflowError:\n" + //
+                        "        return 'OverflowError'\n" + //
+                        "print(f(2**100, 0))\n" + //
+                        "print(f(2**100 + 1, 2**30))\n";
+
+        assertPrints("ZeroDivisionError\nOverflowError\n", source);
+    }
+
+    @Test
+    public void raiseClassAndInstance() {
+        String source = "def f(e):\n" + //
+                        "    try:\n" + //
+                        "        raise e\n" + //
+                        "    except KeyError:\n" + //
+                        "        return 'KeyError'\n" + //
+                        "    except Exception:\n" + //
+                        "        return 'Exception'\n" + //
+                        "print(f(ValueError))\n" + //
+                        "print(f(ValueError('bad')))\n" + //
+                        "print(f(KeyError('key')))\n";
+
+        assertPrints("Exception\nException\nKeyError\n", source);
+    }
+
+    @Test
+    public void raisedErrorsSkipJavaStack() {
+        assertEquals(0, PythonError.KeyError("missing").getStackTrace().length);
+    }
+
     @Test
     public void scriptTryTest() {
         Path script = Paths.get("raise-try-test.py");
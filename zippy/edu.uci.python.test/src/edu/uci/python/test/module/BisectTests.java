@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.test.module;
+
+import org.junit.*;
+import static edu.uci.python.test.PythonTests.*;
+
+public class BisectTests {
+
+    @Test
+    public void bisectInt() {
+        String source = "import bisect\n" + //
+                        "l = [1, 2, 2, 4]\n" + //
+                        "print(bisect.bisect(l, 2), bisect.bisect_left(l, 2))\n" + //
+                        "print(bisect.bisect_right(l, 3, 0, 2), bisect.bisect_left(l, 2, lo=2))\n";
+        assertPrints("3 1\n2 2\n", source);
+    }
+
+    @Test
+    public void insort() {
+        String source = "import bisect\n" + //
+                        "l = [1, 2, 4]\n" + //
+                        "bisect.insort(l, 3)\n" + //
+                        "bisect.insort_left(l, 0)\n" + //
+                        "print(l)\n" + //
+                        "s = ['a', 'c']\n" + //
+                        "bisect.insort(s, 'b')\n" + //
+                        "print(s)\n";
+        assertPrints("[0, 1, 2, 3, 4]\n['a', 'b', 'c']\n", source);
+    }
+
+    @Test
+    public void bisectMixed() {
+        String source = "import bisect\n" + //
+                        "print(bisect.bisect([1.0, 2.0], 1.5))\n" + //
+                        "print(bisect.bisect_left([(1, 'a'), (2, 'b')], (2, 'a')))\n";
+        assertPrints("1\n1\n", source);
+    }
+
+    @Test
+    public void bisectThroughLocal() {
+        String source = "import bisect\n" + //
+                        "def lookup(l, x):\n" + //
+                        "    bs = bisect.bisect\n" + //
+                        "    return bs(l, x)\n" + //
+                        "print(lookup([1, 2, 4], 3), lookup([1, 2, 4], 0))\n";
+        assertPrints("2 0\n", source);
+    }
+
+    @Test
+    public void bisectThroughDefaultArgument() {
+        String source = "import bisect\n" + //
+                        "def lookup(l, x, bisect=bisect.bisect):\n" + //
+                        "    return bisect(l, x)\n" + //
+                        "print(lookup([1, 2, 4], 3), lookup([1, 2, 4], 5))\n";
+        assertPrints("2 3\n", source);
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.test.module;
+
+import org.junit.*;
+import static edu.uci.python.test.PythonTests.*;
+
+public class CmathTests {
+
+    @Test
+    public void sqrtAndExp() {
+        String source = "import cmath\n" + //
+                        "print(cmath.sqrt(-4), cmath.sqrt(complex(3, 4)))\n" + //
+                        "print(cmath.exp(complex(0, 0)), cmath.log(complex(1, 0)))\n";
+        assertPrints("2j (2+1j)\n(1+0j) 0j\n", source);
+    }
+
+    @Test
+    public void polarAndRect() {
+        String source = "import cmath\n" + //
+                        "print(cmath.polar(complex(3, 4)), cmath.phase(complex(0, 1)))\n" + //
+                        "z = cmath.rect(2.0, 0.0)\n" + //
+                        "print(z, cmath.cos(complex(0, 0)))\n";
+        assertPrints("(5.0, 0.9272952180016122) 1.5707963267948966\n(2+0j) (1-0j)\n", source);
+    }
+
+    @Test
+    public void dft() {
+        String source = "import cmath\n" + //
+                        "x = [complex(1, 0), complex(2, 0), complex(3, 0), complex(4, 0)]\n" + //
+                        "n = len(x)\n" + //
+                        "out = []\n" + //
+                        "for k in range(n):\n" + //
+                        "  s = complex(0, 0)\n" + //
+                        "  for t in range(n):\n" + //
+                        "    s = s + x[t] * cmath.exp(complex(0, -2 * cmath.pi * t * k / n))\n" + //
+                        "  out.append(s)\n" + //
+                        "print(round(abs(out[0]), 6), round(abs(out[2]), 6))\n";
+        assertPrints("10.0 2.0\n", source);
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.test.module;
+
+import org.junit.*;
+import static edu.uci.python.test.PythonTests.*;
+
+public class CollectionsTests {
+
+    @Test
+    public void dequeBothEnds() {
+        String source = "from collections import deque\n" + //
+                        "d = deque([1, 2, 3])\n" + //
+                        "d.append(4)\n" + //
+                        "d.appendleft(0)\n" + //
+                        "print(d)\n" + //
+                        "print(d.pop(), d.popleft(), len(d))\n" + //
+                        "print(d[0], d[-1], 2 in d)\n";
+        assertPrints("deque([0, 1, 2, 3, 4])\n4 0 3\n1 3 True\n", source);
+    }
+
+    @Test
+    public void dequeGrowsAndGeneralizes() {
+        String source = "from collections import deque\n" + //
+                        "d = deque()\n" + //
+                        "for i in range(20):\n" + //
+                        "    d.append(i)\n" + //
+                        "    d.appendleft(-i)\n" + //
+                        "print(len(d), d[0], d[-1], d[20])\n" + //
+                        "d.append('x')\n" + //
+                        "del d[0]\n" + //
+                        "print(len(d), d[0], d[-1])\n";
+        assertPrints("40 -19 19 0\n40 -18 x\n", source);
+    }
+
+    @Test
+    public void dequeRotate() {
+        String source = "from collections import deque\n" + //
+                        "d = deque(range(5))\n" + //
+                        "d.rotate()\n" + //
+                        "print(d)\n" + //
+                        "d.rotate(-2)\n" + //
+                        "print(d)\n" + //
+                        "d.rotate(12)\n" + //
+                        "print(d)\n";
+        assertPrints("deque([4, 0, 1, 2, 3])\ndeque([1, 2, 3, 4, 0])\ndeque([4, 0, 1, 2, 3])\n", source);
+    }
+
+    @Test
+    public void dequeMaxlen() {
+        String source = "from collections import deque\n" + //
+                        "d = deque(range(5), maxlen=3)\n" + //
+                        "print(d)\n" + //
+                        "d.appendleft(9)\n" + //
+                        "print(d)\n";
+        assertPrints("deque([2, 3, 4], maxlen=3)\ndeque([9, 2, 3], maxlen=3)\n", source);
+    }
+
+    @Test
+    public void dequeIteration() {
+        String source = "from collections import deque\n" + //
+                        "total = 0\n" + //
+                        "for x in deque([1, 2, 3]):\n" + //
+                        "    total += x\n" + //
+                        "q = deque([0])\n" + //
+                        "while q:\n" + //
+                        "    v = q.popleft()\n" + //
+                        "    if v < 5:\n" + //
+                        "        q.append(v + 1)\n" + //
+                        "print(total, v)\n";
+        assertPrints("6 5\n", source);
+    }
+
+    @Test
+    public void defaultDict() {
+        String source = "from collections import defaultdict\n" + //
+                        "counts = defaultdict(int)\n" + //
+                        "for c in 'abcab':\n" + //
+                        "    counts[c] += 1\n" + //
+                        "print(counts['a'], counts['z'], len(counts))\n" + //
+                        "groups = defaultdict(list)\n" + //
+                        "groups[1].append(2)\n" + //
+                        "groups[1].append(3)\n" + //
+                        "print(groups[1], list([4]))\n";
+        assertPrints("2 0 4\n[2, 3] [4]\n", source);
+    }
+
+    @Test
+    public void counterMostCommon() {
+        String source = "from collections import Counter\n" + //
+                        "c = Counter('abracadabra')\n" + //
+                        "print(c.most_common(2))\n" + //
+                        "print(c['z'])\n" + //
+                        "c.subtract('aaaa')\n" + //
+                        "print(c['a'])\n";
+        assertPrints("[('a', 5), ('b', 2)]\n0\n1\n", source);
+    }
+
+    @Test
+    public void orderedDictMoveToEnd() {
+        String source = "from collections import OrderedDict\n" + //
+                        "o = OrderedDict([('a', 1), ('b', 2), ('c', 3)])\n" + //
+                        "o.move_to_end('a')\n" + //
+                        "print(list(o))\n" + //
+                        "o.move_to_end('c', last=False)\n" + //
+                        "print(list(o))\n" + //
+                        "print(o.popitem(last=False))\n" + //
+                        "print(o)\n";
+        assertPrints("['b', 'c', 'a']\n['c', 'b', 'a']\n('c', 3)\nOrderedDict([('b', 2), ('a', 1)])\n", source);
+    }
+
+}
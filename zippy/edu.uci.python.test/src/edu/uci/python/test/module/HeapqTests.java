@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.test.module;
+
+import org.junit.*;
+import static edu.uci.python.test.PythonTests.*;
+
+public class HeapqTests {
+
+    @Test
+    public void pushPopInt() {
+        String source = "import heapq\n" + //
+                        "h = []\n" + //
+                        "for x in [5, 3, 8, 1, 9, 2]:\n" + //
+                        "    heapq.heappush(h, x)\n" + //
+                        "print(h)\n" + //
+                        "print([heapq.heappop(h) for i in range(6)])\n";
+        assertPrints("[1, 3, 2, 5, 9, 8]\n[1, 2, 3, 5, 8, 9]\n", source);
+    }
+
+    @Test
+    public void heapifyDouble() {
+        String source = "import heapq\n" + //
+                        "d = [3.5, 1.5, 2.5, 0.5]\n" + //
+                        "heapq.heapify(d)\n" + //
+                        "print(heapq.heappop(d), heapq.heapreplace(d, 4.0), d)\n" + //
+                        "print(heapq.heappushpop(d, 1.0), d)\n";
+        assertPrints("0.5 1.5 [2.5, 3.5, 4.0]\n1.0 [2.5, 3.5, 4.0]\n", source);
+    }
+
+    @Test
+    public void tuples() {
+        String source = "import heapq\n" + //
+                        "t = [(3, 'c'), (1, 'a'), (2, 'b')]\n" + //
+                        "heapq.heapify(t)\n" + //
+                        "print(heapq.heappop(t), heapq.heappushpop(t, (0, 'z')), t)\n" + //
+                        "heapq.heappush(t, (1, 'y'))\n" + //
+                        "print(t[0])\n";
+        assertPrints("(1, 'a') (0, 'z') [(2, 'b'), (3, 'c')]\n(1, 'y')\n", source);
+    }
+
+    @Test
+    public void smallestLargest() {
+        String source = "import heapq\n" + //
+                        "print(heapq.nsmallest(2, [5, 1, 4, 2]))\n" + //
+                        "print(heapq.nlargest(2, ['a', 'ccc', 'bb'], key=len))\n";
+        assertPrints("[1, 2]\n['ccc', 'bb']\n", source);
+    }
+
+    @Test
+    public void popEmpty() {
+        String source = "import heapq\n" + //
+                        "heapq.heappop([])\n";
+        assertError("IndexError: index out of range\n", source);
+    }
+
+}
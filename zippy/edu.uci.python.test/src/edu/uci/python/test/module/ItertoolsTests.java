@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.test.module;
+
+import org.junit.*;
+import static edu.uci.python.test.PythonTests.*;
+
+public class ItertoolsTests {
+
+    @Test
+    public void countSlice() {
+        String source = "from itertools import count, islice\n" + //
+                        "total = 0\n" + //
+                        "for i in islice(count(), 10):\n" + //
+                        "    total += i\n" + //
+                        "print(total)\n" + //
+                        "print(list(islice(count(5, 2), 3)))\n" + //
+                        "print(list(islice(range(10), 1, 8, 3)))\n" + //
+                        "c = count()\n" + //
+                        "print(list(islice(c, 3)), next(c))\n";
+        assertPrints("45\n[5, 7, 9]\n[1, 4, 7]\n[0, 1, 2] 3\n", source);
+    }
+
+    @Test
+    public void countPastIntRange() {
+        String source = "from itertools import count, islice\n" + //
+                        "print(list(islice(count(2147483646), 3)))\n" + //
+                        "for i in islice(count(-2147483647, -1), 3):\n" + //
+                        "    print(i)\n" + //
+                        "c = count(9223372036854775806)\n" + //
+                        "print(next(c), next(c), next(c))\n" + //
+                        "print(list(islice(count(2**40), 2)), list(islice(count(0, 2**40), 3)))\n" + //
+                        "print(list(islice(count(2**70, -2**69), 3)))\n" + //
+                        "print(list(islice(count(1.5), 2)))\n";
+        assertPrints("[2147483646, 2147483647, 2147483648]\n-2147483647\n-2147483648\n-2147483649\n" + //
+                        "9223372036854775806 9223372036854775807 9223372036854775808\n" + //
+                        "[1099511627776, 1099511627777] [0, 1099511627776, 2199023255552]\n" + //
+                        "[1180591620717411303424, 590295810358705651712, 0]\n[1.5, 2.5]\n", source);
+    }
+
+    @Test
+    public void chainAndRepeat() {
+        String source = "from itertools import chain, repeat\n" + //
+                        "print(list(chain([1, 2], (3,), 'ab')))\n" + //
+                        "print(list(repeat(7, 3)))\n";
+        assertPrints("[1, 2, 3, 'a', 'b']\n[7, 7, 7]\n", source);
+    }
+
+    @Test
+    public void combinatorics() {
+        String source = "from itertools import product, permutations, combinations\n" + //
+                        "print(list(product('ab', repeat=2)))\n" + //
+                        "print(list(permutations([1, 2, 3])))\n" + //
+                        "print(list(permutations('abc', 2)))\n" + //
+                        "print(list(combinations(range(4), 2)))\n";
+        assertPrints("[('a', 'a'), ('a', 'b'), ('b', 'a'), ('b', 'b')]\n" + //
+                        "[(1, 2, 3), (1, 3, 2), (2, 1, 3), (2, 3, 1), (3, 1, 2), (3, 2, 1)]\n" + //
+                        "[('a', 'b'), ('a', 'c'), ('b', 'a'), ('b', 'c'), ('c', 'a'), ('c', 'b')]\n" + //
+                        "[(0, 1), (0, 2), (0, 3), (1, 2), (1, 3), (2, 3)]\n", source);
+    }
+
+    @Test
+    public void accumulate() {
+        String source = "from itertools import accumulate\n" + //
+                        "print(list(accumulate([1, 2, 3, 4])))\n" + //
+                        "print(list(accumulate([1, 2, 3], lambda a, b: a * b)))\n";
+        assertPrints("[1, 3, 6, 10]\n[1, 2, 6]\n", source);
+    }
+
+    @Test
+    public void groupby() {
+        String source = "from itertools import groupby\n" + //
+                        "for k, g in groupby('aaabbcaa'):\n" + //
+                        "    print(k, list(g))\n" + //
+                        "print([k for k, g in groupby([1, 1, 2, 3, 3])])\n";
+        assertPrints("a ['a', 'a', 'a']\nb ['b', 'b']\nc ['c']\na ['a', 'a']\n[1, 2, 3]\n", source);
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.test.runtime;
+
+import static org.junit.Assert.*;
+
+import org.junit.*;
+import org.python.core.*;
+
+import edu.uci.python.nodes.truffle.*;
+import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.datatype.storage.*;
+import edu.uci.python.test.*;
+
+public class DictStorageTests {
+
+    @Test
+    public void emptyGeneralizesToInt() {
+        PythonTests.getContext();
+        PDict dict = new PDict();
+        assertTrue(dict.getStorage() instanceof EmptyDictStorage);
+        dict.setItem(1, 2);
+        assertTrue(dict.getStorage() instanceof IntDictStorage);
+        assertEquals(2, dict.getItem(1));
+    }
+
+    @Test
+    public void emptyGeneralizesToString() {
+        PythonTests.getContext();
+        PDict dict = new PDict();
+        dict.setItem("a", 1.5);
+        assertTrue(dict.getStorage() instanceof StringDictStorage);
+        assertEquals(1.5, dict.getStringItem("a"));
+    }
+
+    @Test
+    public void intGeneralizesToObject() {
+        PythonTests.getContext();
+        PDict dict = new PDict();
+
+        for (int i = 0; i < 100; i++) {
+            dict.setItem(i, i * 2);
+        }
+
+        dict.setItem(100, "hundred");
+        assertTrue(dict.getStorage() instanceof ObjectDictStorage);
+        assertEquals(101, dict.len());
+        assertEquals(42, dict.getIntItem(21));
+        assertEquals("hundred", dict.getItem(100));
+    }
+
+    @Test
+    public void intStorageLookup() {
+        IntDictStorage store = new IntDictStorage();
+
+        for (int i = 0; i < 1000; i++) {
+            store.setIntItem(i * 7, i);
+        }
+
+        assertEquals(1000, store.length());
+        assertEquals(10, store.intValueAt(store.findIntEntry(70)));
+        assertEquals(-1, store.findIntEntry(71));
+        assertEquals(10, store.getItem(70.0));
+        assertEquals(0, store.getItem(false));
+    }
+
+    @Test
+    public void removeKeepsInsertionOrder() {
+        StringDictStorage store = new StringDictStorage();
+        store.setStringItem("c", 1);
+        store.setStringItem("a", 2);
+        store.setStringItem("b", 3);
+        assertEquals(2, store.removeItem("a"));
+        store.setStringItem("a", 4);
+
+        int entry = store.nextEntry(0);
+        assertEquals("c", store.keyAt(entry));
+        entry = store.nextEntry(entry + 1);
+        assertEquals("b", store.keyAt(entry));
+        entry = store.nextEntry(entry + 1);
+        assertEquals("a", store.keyAt(entry));
+        assertEquals(-1, store.nextEntry(entry + 1));
+    }
+
+    @Test
+    public void pDictProxyWritesThrough() {
+        PythonTests.getContext();
+        PDict dict = new PDict();
+        dict.setItem("a", 1);
+        PyDictionary pyDict = (PyDictionary) PythonTypesUtil.adaptToPyObject(dict);
+        assertEquals(Py.newInteger(1), pyDict.__finditem__("a"));
+
+        pyDict.__setitem__("b", Py.newInteger(2));
+        pyDict.__delitem__("a");
+        assertEquals(1, dict.len());
+        assertEquals(2, dict.getItem("b"));
+        assertSame(dict, PythonTypesUtil.unboxPyObject(pyDict));
+    }
+
+}
@@ -34,8 +34,10 @@ import org.junit.*;
 
 import com.oracle.truffle.api.nodes.*;
 
+import edu.uci.python.nodes.call.CallDispatchBoxedNode.*;
 import edu.uci.python.nodes.object.DispatchUnboxedNode.*;
 import edu.uci.python.runtime.*;
+import edu.uci.python.runtime.standardtype.*;
 
 public class GetAttributeDispatchTests {
 
@@ -134,4 +136,58 @@ public class GetAttributeDispatchTests {
         assertTrue(uninitialized.size() == 0);
     }
 
+    @Test
+    public void megamorphicMethodCall() {
+        int classes = PythonOptions.CallSiteInlineCacheMaxDepth + 5;
+        StringBuilder source = new StringBuilder("class Base:\n  def m(self, k=0):\n    return -1\n");
+
+        for (int i = 0; i < classes; i++) {
+            source.append("class C" + i + "(Base):\n");
+            source.append(i % 2 == 0 ? "  def m(self, k=0):\n    return " + i + " + k\n" : "  pass\n");
+        }
+
+        source.append("def call(o, k):\n  return o.m(k=k)\n");
+        source.append("objs = [" + "C0()");
+
+        for (int i = 1; i < classes; i++) {
+            source.append(", C" + i + "()");
+        }
+
+        source.append("]\n");
+        source.append("print(sum([call(o, 0) for o in objs]))\n");
+        source.append("print(sum([call(o, 1) for o in objs]))\n");
+        source.append("def other(self, k=0):\n  return 100\n");
+        source.append("Base.m = other\n");
+        source.append("print(call(objs[1], 0))\n");
+
+        int even = 0;
+        int odd = 0;
+
+        for (int i = 0; i < classes; i++) {
+            if (i % 2 == 0) {
+                even += i;
+            } else {
+                odd++;
+            }
+        }
+
+        int withKeyword = even + (classes + 1) / 2 - odd;
+        PythonParseResult result = assertPrints((even - odd) + "\n" + withKeyword + "\n100\n", source.toString());
+        List<GenericDispatchBoxedNode> generic = NodeUtil.findAllNodeInstances(result.getFunctionRoot("call"), GenericDispatchBoxedNode.class);
+        assertEquals(1, generic.size());
+    }
+
+    @Test
+    public void methodCachePerContext() {
+        PythonContext first = getContext();
+        PythonContext second = getContext();
+        assertNotSame(first.getMethodCache(), second.getMethodCache());
+
+        PythonClass base = new PythonClass(first, "Base", first.getObjectClass());
+        PythonClass derived = new PythonClass(first, "Derived", base);
+        base.setAttribute("m", 42);
+        assertEquals(42, first.getMethodCache().lookup(derived, "m"));
+        assertNull(first.getMethodCache().lookup(derived, "missing"));
+    }
+
 }
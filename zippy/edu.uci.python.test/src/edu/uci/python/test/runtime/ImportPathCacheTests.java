@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.test.runtime;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.junit.*;
+import org.junit.rules.*;
+
+import edu.uci.python.runtime.*;
+
+public class ImportPathCacheTests {
+
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void reorderedSearchPath() throws IOException {
+        File first = folder.newFolder("first");
+        File second = folder.newFolder("second");
+        new File(first, "mod.py").createNewFile();
+        new File(second, "mod.py").createNewFile();
+
+        ImportPathCache cache = new ImportPathCache();
+        assertEquals(new File(first, "mod.py").getPath(), cache.findInLibraries(Arrays.asList(first.getPath(), second.getPath()), "mod"));
+        assertEquals(new File(second, "mod.py").getPath(), cache.findInLibraries(Arrays.asList(second.getPath(), first.getPath()), "mod"));
+    }
+
+    @Test
+    public void appendedSearchPath() throws IOException {
+        File first = folder.newFolder("first");
+        File second = folder.newFolder("second");
+        new File(second, "extra.py").createNewFile();
+
+        ImportPathCache cache = new ImportPathCache();
+        List<String> searchPath = new ArrayList<>();
+        searchPath.add(first.getPath());
+        assertNull(cache.findInLibraries(searchPath, "extra"));
+
+        searchPath.add(second.getPath());
+        assertEquals(new File(second, "extra.py").getPath(), cache.findInLibraries(searchPath, "extra"));
+    }
+
+    @Test
+    public void packageCreatedAfterMiss() throws IOException {
+        File library = folder.newFolder("library");
+        File pkg = new File(library, "pkg");
+        assertTrue(pkg.mkdir());
+
+        ImportPathCache cache = new ImportPathCache();
+        List<String> searchPath = Collections.singletonList(library.getPath());
+        assertNull(cache.findInLibraries(searchPath, "pkg"));
+
+        File init = new File(pkg, "__init__.py");
+        init.createNewFile();
+        assertEquals(init.getPath(), cache.findInLibraries(searchPath, "pkg"));
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.test.runtime;
+
+import static edu.uci.python.test.PythonTests.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+
+import org.junit.*;
+
+import edu.uci.python.runtime.*;
+
+public class InlineCacheTelemetryTests {
+
+    private static String report(String source) throws IOException {
+        File output = File.createTempFile("inline-caches", ".json");
+        output.deleteOnExit();
+        System.setProperty("edu.uci.python.InlineCacheTelemetryOutput", output.getPath());
+        String[] options = {"InlineCacheTelemetry"};
+        PythonOptions.setEnvOptions(options);
+
+        try {
+            InlineCacheTelemetry.reset();
+            assertPrints("", source);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            InlineCacheTelemetry.printReport(new PrintStream(bytes));
+            return bytes.toString();
+        } finally {
+            PythonOptions.unsetEnvOptions(options);
+            System.getProperties().remove("edu.uci.python.InlineCacheTelemetryOutput");
+            InlineCacheTelemetry.configure(false, null);
+            InlineCacheTelemetry.reset();
+        }
+    }
+
+    @Test
+    public void polymorphicAttribute() throws IOException {
+        String source = "class A:\n" + //
+                        "  def __init__(self):\n" + //
+                        "    self.x = 1\n" + //
+                        "class B:\n" + //
+                        "  def __init__(self):\n" + //
+                        "    self.x = 2\n" + //
+                        "class C:\n" + //
+                        "  def __init__(self):\n" + //
+                        "    self.x = 3\n" + //
+                        "def get(o):\n" + //
+                        "  return o.x\n" + //
+                        "for o in [A(), B(), C(), A(), B(), C()]:\n" + //
+                        "  get(o)\n";
+        String report = report(source);
+        assertTrue(report, report.contains("\"kind\": \"attribute\""));
+        assertTrue(report, report.contains("\"location\": \"(test):11:3\", \"name\": \"x\", \"maxDepth\": 3"));
+    }
+
+    @Test
+    public void megamorphicCall() throws IOException {
+        StringBuilder source = new StringBuilder();
+        int classes = PythonOptions.CallSiteInlineCacheMaxDepth + 2;
+
+        for (int i = 0; i < classes; i++) {
+            source.append("class C" + i + ":\n  def m(self):\n    return " + i + "\n");
+        }
+
+        source.append("def call(o):\n  return o.m()\n");
+
+        for (int i = 0; i < classes; i++) {
+            source.append("call(C" + i + "())\n");
+        }
+
+        String report = report(source.toString());
+        assertTrue(report, report.contains("\"name\": \"m\", \"maxDepth\": " + PythonOptions.CallSiteInlineCacheMaxDepth));
+        assertTrue(report, report.contains("\"megamorphic\": 1"));
+    }
+
+}
@@ -145,4 +145,37 @@ public class ObjectLayoutTests {
         assertTrue(obj.isOwnAttribute("foo"));
     }
 
+    @Test
+    public void sharedLayoutTransitions() {
+        final PythonContext context = PythonTests.getContext();
+        final PythonClass classA = new PythonClass(context, "A", new PythonClass[]{});
+        final PythonObject obj1 = new DummyPythonBasicObject(classA);
+        final PythonObject obj2 = new DummyPythonBasicObject(classA);
+        final ObjectLayout initialLayout = obj1.getObjectLayout();
+
+        obj1.setAttribute("foo", 42);
+        obj2.setAttribute("foo", 24);
+        assertSame(obj1.getObjectLayout(), obj2.getObjectLayout());
+
+        // New instances start from the successor, so the constructor layout is retired.
+        assertFalse(initialLayout.getValidAssumption().isValid());
+        assertTrue(obj1.getObjectLayout().getValidAssumption().isValid());
+
+        obj1.setAttribute("foo", "string");
+        obj2.setAttribute("foo", "string");
+        assertSame(obj1.getObjectLayout(), obj2.getObjectLayout());
+        assertEquals("string", obj2.getAttribute("foo"));
+    }
+
+    @Test
+    public void classLayoutInvalidation() {
+        final PythonContext context = PythonTests.getContext();
+        final PythonClass classA = new PythonClass(context, "A", new PythonClass[]{});
+        classA.setAttribute("foo", 42);
+        final ObjectLayout layout = classA.getObjectLayout();
+
+        classA.setAttribute("bar", 24);
+        assertFalse(layout.getValidAssumption().isValid());
+    }
+
 }
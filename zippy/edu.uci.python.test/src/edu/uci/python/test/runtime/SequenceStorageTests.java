@@ -27,8 +27,12 @@ package edu.uci.python.test.runtime;
 import static org.junit.Assert.*;
 
 import org.junit.*;
+import org.python.core.*;
 
+import edu.uci.python.nodes.truffle.*;
+import edu.uci.python.runtime.sequence.*;
 import edu.uci.python.runtime.sequence.storage.*;
+import edu.uci.python.test.*;
 
 public class SequenceStorageTests {
 
@@ -213,4 +217,32 @@ public class SequenceStorageTests {
         assertEquals(12, store.length());
     }
 
+    @Test
+    public void pyListDelegation() {
+        PythonTests.getContext();
+        PyList pyList = new PyList(new PyObject[]{Py.newInteger(1), Py.newInteger(2), Py.newInteger(3)});
+        PList list = (PList) PythonTypesUtil.unboxPyObject(pyList);
+        assertTrue(list.getStorage() instanceof PyListSequenceStorage);
+
+        list.append(4);
+        list.setItem(0, 42);
+        assertEquals(4, pyList.size());
+        assertEquals(Py.newInteger(42), pyList.pyget(0));
+        assertSame(pyList, PythonTypesUtil.adaptToPyObject(list));
+    }
+
+    @Test
+    public void pListProxyWritesThrough() {
+        PythonTests.getContext();
+        PList list = new PList(new IntSequenceStorage(getIntValues()));
+        PyList pyList = (PyList) PythonTypesUtil.adaptToPyObject(list);
+        assertEquals(Py.newInteger(4), pyList.pyget(3));
+
+        pyList.append(Py.newInteger(42));
+        pyList.pyset(0, Py.newInteger(7));
+        assertEquals(7, list.len());
+        assertEquals(7, list.getItem(0));
+        assertEquals(42, list.getItem(6));
+    }
+
 }
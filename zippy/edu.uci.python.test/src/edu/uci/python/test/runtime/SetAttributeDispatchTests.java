@@ -36,6 +36,7 @@ import com.oracle.truffle.api.nodes.*;
 import edu.uci.python.nodes.object.*;
 import edu.uci.python.nodes.object.SetDispatchNode.*;
 import edu.uci.python.runtime.*;
+import edu.uci.python.runtime.function.*;
 
 public class SetAttributeDispatchTests {
 
@@ -57,4 +58,28 @@ public class SetAttributeDispatchTests {
         }
     }
 
+    @Test
+    public void retiredConstructorLayout() {
+        String source = "class Task:\n" + //
+                        "  def __init__(self, a, b):\n" + //
+                        "    self.a = a\n" + //
+                        "    self.b = b\n" + //
+                        "def make():\n" + //
+                        "  return Task(1, 2)\n" + //
+                        "make()\n";
+        PythonParseResult result = assertPrints("", source);
+        RootNode init = result.getFunctionRoot("__init__");
+        SetAttributeNode setA = NodeUtil.findAllNodeInstances(init, SetAttributeNode.class).get(0);
+        LinkedSetDispatchNode first = NodeUtil.findFirstNodeInstance(setA, LinkedSetDispatchNode.class);
+
+        // The first store to a was cached on the layout holding only a, which the class retired
+        // once b was added. The second instance starts from the final layout and replaces it.
+        PFunction make = (PFunction) result.getModule().getAttribute("make");
+        make.call(PArguments.create());
+
+        List<LinkedSetDispatchNode> dispatches = NodeUtil.findAllNodeInstances(setA, LinkedSetDispatchNode.class);
+        assertEquals(1, dispatches.size());
+        assertNotSame(first, dispatches.get(0));
+    }
+
 }
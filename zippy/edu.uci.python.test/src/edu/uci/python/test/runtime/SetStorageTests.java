@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.test.runtime;
+
+import static org.junit.Assert.*;
+
+import org.junit.*;
+
+import edu.uci.python.runtime.datatype.storage.*;
+import edu.uci.python.runtime.sequence.*;
+import edu.uci.python.test.*;
+
+public class SetStorageTests {
+
+    @Test
+    public void emptyGeneralizesToInt() {
+        PythonTests.getContext();
+        PSet set = new PSet();
+        assertTrue(set.getStorage() instanceof EmptySetStorage);
+        set.add(1);
+        set.add(2);
+        assertTrue(set.getStorage() instanceof IntSetStorage);
+        assertTrue(set.contains(2));
+        assertTrue(set.contains(2.0));
+    }
+
+    @Test
+    public void intGeneralizesToObject() {
+        PythonTests.getContext();
+        PSet set = new PSet();
+
+        for (int i = 0; i < 100; i++) {
+            set.add(i);
+        }
+
+        set.add("hundred");
+        assertTrue(set.getStorage() instanceof ObjectSetStorage);
+        assertEquals(101, set.len());
+        assertTrue(set.contains(42));
+        assertTrue(set.contains("hundred"));
+    }
+
+    @Test
+    public void drainWithPop() {
+        StringSetStorage store = new StringSetStorage();
+
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 100; i++) {
+                store.addString("s" + i);
+            }
+
+            while (store.pop() != null) {
+                // drain
+            }
+
+            assertEquals(0, store.length());
+        }
+
+        assertFalse(store.containsString("s1"));
+    }
+
+}
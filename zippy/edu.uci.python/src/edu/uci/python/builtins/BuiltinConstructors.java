@@ -27,8 +27,6 @@ package edu.uci.python.builtins;
 import java.math.*;
 import java.util.*;
 
-import org.python.core.*;
-
 import com.oracle.truffle.api.*;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.*;
@@ -71,6 +69,16 @@ public final class BuiltinConstructors extends PythonBuiltins {
             return arg != 0;
         }
 
+        @Specialization
+        public boolean bool(long arg) {
+            return arg != 0;
+        }
+
+        @Specialization
+        public boolean bool(BigInteger arg) {
+            return arg.signum() != 0;
+        }
+
         @Specialization
         public boolean bool(double arg) {
             return arg != 0.0;
@@ -133,16 +141,16 @@ public final class BuiltinConstructors extends PythonBuiltins {
 
         @Specialization
         public PComplex complexFromObjectObject(Object real, Object imaginary) {
-            if (real instanceof String) {
+            if (real instanceof String || real instanceof PString) {
                 if (!(imaginary instanceof PNone)) {
-                    throw Py.TypeError("complex() can't take second arg if first is a string");
+                    throw PythonError.TypeError("complex() can't take second arg if first is a string");
                 }
 
-                String realPart = (String) real;
+                String realPart = real.toString();
                 return JavaTypeConversions.convertStringToComplex(realPart);
             }
 
-            throw Py.TypeError("can't convert real " + real + " imag " + imaginary);
+            throw PythonError.TypeError("can't convert real " + real + " imag " + imaginary);
         }
     }
 
@@ -161,7 +169,7 @@ public final class BuiltinConstructors extends PythonBuiltins {
 
         @Specialization(guards = {"oneArgument(args)", "firstArgIsDict(args)"})
         public PDict dictFromDict(PTuple args) {
-            return new PDict(((PDict) args.getItem(0)).getMap());
+            return ((PDict) args.getItem(0)).copy();
         }
 
         @Specialization(guards = {"oneArgument(args)", "firstArgIsIterable(args)"})
@@ -242,7 +250,7 @@ public final class BuiltinConstructors extends PythonBuiltins {
                 return 0.0;
             }
 
-            throw Py.TypeError("can't convert " + arg.getClass().getSimpleName() + " to float ");
+            throw PythonError.TypeError("can't convert " + arg.getClass().getSimpleName() + " to float ");
         }
     }
 
@@ -297,6 +305,12 @@ public final class BuiltinConstructors extends PythonBuiltins {
             return arg;
         }
 
+        @SuppressWarnings("unused")
+        @Specialization(guards = "noKeywordArg(arg,keywordArg)")
+        public long createInt(long arg, Object keywordArg) {
+            return arg;
+        }
+
         @SuppressWarnings("unused")
         @Specialization(guards = "noKeywordArg(arg,keywordArg)")
         public BigInteger createInt(BigInteger arg, Object keywordArg) {
@@ -341,6 +355,12 @@ public final class BuiltinConstructors extends PythonBuiltins {
     @GenerateNodeFactory
     public abstract static class ListNode extends PythonBuiltinNode {
 
+        @SuppressWarnings("unused")
+        @Specialization
+        public PList listEmpty(PNone none) {
+            return new PList();
+        }
+
         @Specialization
         public PList listString(String arg) {
             char[] chars = arg.toCharArray();
@@ -558,13 +578,13 @@ public final class BuiltinConstructors extends PythonBuiltins {
                 }
             }
 
-            throw Py.TypeError("range does not support " + start + ", " + stop + ", " + step);
+            throw PythonError.TypeError("range does not support " + start + ", " + stop + ", " + step);
         }
 
         @Specialization(guards = "!isNumber(stop)")
         public PSequence rangeError(Object start, Object stop, Object step) {
             CompilerDirectives.transferToInterpreterAndInvalidate();
-            throw Py.TypeError("range does not support " + start + ", " + stop + ", " + step);
+            throw PythonError.TypeError("range does not support " + start + ", " + stop + ", " + step);
         }
 
         public static boolean isNumber(Object value) {
@@ -620,7 +640,7 @@ public final class BuiltinConstructors extends PythonBuiltins {
         @Specialization
         public PSet set(VirtualFrame frame, Object arg) {
             if (!(arg instanceof Iterable<?>)) {
-                throw Py.TypeError("'" + PythonTypesUtil.getPythonTypeName(arg) + "' object is not iterable");
+                throw PythonError.TypeError("'" + PythonTypesUtil.getPythonTypeName(arg) + "' object is not iterable");
             } else {
                 throw new RuntimeException("set does not support iterable object " + arg);
             }
@@ -643,6 +663,17 @@ public final class BuiltinConstructors extends PythonBuiltins {
             return Integer.toString(val);
         }
 
+        @Specialization
+        public String str(long val) {
+            return Long.toString(val);
+        }
+
+        @TruffleBoundary
+        @Specialization
+        public String str(BigInteger val) {
+            return val.toString();
+        }
+
         @Specialization
         public String str(double arg) {
             return JavaTypeConversions.doubleToString(arg);
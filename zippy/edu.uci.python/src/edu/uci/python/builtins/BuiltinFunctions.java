@@ -29,9 +29,13 @@ import java.util.*;
 
 import org.python.core.*;
 
+import edu.uci.python.builtins.module.*;
+import edu.uci.python.builtins.type.ListBuiltins.ListSortNode;
 import edu.uci.python.nodes.*;
 import edu.uci.python.nodes.call.*;
 import edu.uci.python.nodes.expression.*;
+import edu.uci.python.nodes.expression.BinaryArithmeticNode.AddNode;
+import edu.uci.python.nodes.expression.BinaryArithmeticNodeFactory.AddNodeFactory;
 import edu.uci.python.nodes.expression.CastToBooleanNodeFactory.YesNodeFactory;
 import edu.uci.python.nodes.function.*;
 import edu.uci.python.nodes.truffle.*;
@@ -69,9 +73,20 @@ public final class BuiltinFunctions extends PythonBuiltins {
     @GenerateNodeFactory
     public abstract static class AbsNode extends PythonBuiltinNode {
 
-        @Specialization
+        @Specialization(rewriteOn = ArithmeticException.class)
         public int absInt(int arg) {
-            return Math.abs(arg);
+            return ExactMath.subtractExact(0, Math.min(arg, -arg));
+        }
+
+        @Specialization(rewriteOn = ArithmeticException.class)
+        public long absLong(long arg) {
+            return ExactMath.subtractExact(0, Math.min(arg, -arg));
+        }
+
+        @TruffleBoundary
+        @Specialization
+        public BigInteger absBigInteger(BigInteger arg) {
+            return arg.abs();
         }
 
         @Specialization
@@ -91,13 +106,13 @@ public final class BuiltinFunctions extends PythonBuiltins {
                 PMethod method = new PMethod(object, (PFunction) absAttribute);
                 return method.call(null, null);
             } else {
-                throw Py.TypeError("bad operand type for abs(): '" + object + "'");
+                throw PythonError.TypeError("bad operand type for abs(): '" + object + "'");
             }
         }
 
         @Specialization
         public double absObject(Object arg) {
-            throw Py.TypeError("bad operand type for abs(): '" + PythonTypesUtil.getPythonTypeName(arg) + "'");
+            throw PythonError.TypeError("bad operand type for abs(): '" + PythonTypesUtil.getPythonTypeName(arg) + "'");
         }
     }
 
@@ -108,12 +123,18 @@ public final class BuiltinFunctions extends PythonBuiltins {
 
         @Child protected CastToBooleanNode toBoolean;
 
+        @Specialization(guards = "isIntStorage(list)")
+        public boolean allInt(PList list) {
+            return ((IntSequenceStorage) list.getStorage()).indexOfInt(0) == -1;
+        }
+
+        @Specialization(guards = "isDoubleStorage(list)")
+        public boolean allDouble(PList list) {
+            return ((DoubleSequenceStorage) list.getStorage()).indexOfDouble(0.0) == -1;
+        }
+
         @Specialization
         public boolean all(PIterable iterable) {
-            if (iterable.len() == 0) {
-                return false;
-            }
-
             PIterator iterator = iterable.__iter__();
 
             try {
@@ -158,6 +179,18 @@ public final class BuiltinFunctions extends PythonBuiltins {
             return toBoolean.executeBoolean(null, value);
         }
 
+        @Specialization(guards = "isIntStorage(list)")
+        public boolean anyInt(PList list) {
+            final IntSequenceStorage store = (IntSequenceStorage) list.getStorage();
+            return store.countInt(0) != store.length();
+        }
+
+        @Specialization(guards = "isDoubleStorage(list)")
+        public boolean anyDouble(PList list) {
+            final DoubleSequenceStorage store = (DoubleSequenceStorage) list.getStorage();
+            return store.countDouble(0.0) != store.length();
+        }
+
         @Specialization
         public boolean any(PIterable iterable) {
             if (iterable.len() == 0) {
@@ -221,7 +254,7 @@ public final class BuiltinFunctions extends PythonBuiltins {
             if (arg >= 0 && arg < 1114111) {
                 return Character.toString((char) arg);
             } else {
-                throw Py.ValueError("chr() arg not in range(0x110000)");
+                throw PythonError.ValueError("chr() arg not in range(0x110000)");
             }
         }
 
@@ -229,7 +262,7 @@ public final class BuiltinFunctions extends PythonBuiltins {
         @Specialization
         public char charFromObject(BigInteger arg) {
             if (arg.longValue() > Integer.MAX_VALUE) {
-                throw Py.OverflowError("integer is greater than maximum");
+                throw PythonError.OverflowError("integer is greater than maximum");
             } else {
                 throw new RuntimeException("chr does not support BigInteger " + arg);
             }
@@ -239,17 +272,17 @@ public final class BuiltinFunctions extends PythonBuiltins {
         @TruffleBoundary
         @Specialization
         public Object charFromObject(double arg) {
-            throw Py.TypeError("integer argument expected, got float");
+            throw PythonError.TypeError("integer argument expected, got float");
         }
 
         @TruffleBoundary
         @Specialization
         public char charFromObject(Object arg) {
             if (arg instanceof Double) {
-                throw Py.TypeError("integer argument expected, got float");
+                throw PythonError.TypeError("integer argument expected, got float");
             }
 
-            throw Py.TypeError("an integer is required");
+            throw PythonError.TypeError("an integer is required");
         }
     }
 
@@ -289,25 +322,31 @@ public final class BuiltinFunctions extends PythonBuiltins {
     @GenerateNodeFactory
     public abstract static class DivModNode extends PythonBuiltinNode {
 
-        @Specialization
+        @Specialization(rewriteOn = ArithmeticException.class)
         public PTuple doInt(int a, int b) {
-            return new PTuple(new Object[]{a / b, a % b});
+            return new PTuple(new Object[]{ArithmeticUtil.floorDivExact(a, b), ArithmeticUtil.floorMod(a, b)});
         }
 
-        @Specialization
-        public PTuple doBigInteger(BigInteger a, BigInteger b) {
-            return new PTuple(divideAndRemainderSlowStub(a, b));
+        @Specialization(rewriteOn = ArithmeticException.class)
+        public PTuple doLong(long a, long b) {
+            return new PTuple(new Object[]{ArithmeticUtil.floorDivExact(a, b), ArithmeticUtil.floorMod(a, b)});
         }
 
-        @TruffleBoundary
-        private static BigInteger[] divideAndRemainderSlowStub(BigInteger a, BigInteger b) {
-            return a.divideAndRemainder(b);
+        @Specialization
+        public PTuple doBigInteger(BigInteger a, BigInteger b) {
+            BigInteger[] result = BigIntegerMath.floorDivMod(a, b);
+            return new PTuple(new Object[]{BigIntegerMath.narrow(result[0]), BigIntegerMath.narrow(result[1])});
         }
 
         @Specialization
         public PTuple doDouble(double a, double b) {
+            if (b == 0.0) {
+                CompilerDirectives.transferToInterpreter();
+                throw PythonError.ZeroDivisionError("float divmod()");
+            }
+
             double q = Math.floor(a / b);
-            return new PTuple(new Object[]{q, a % b});
+            return new PTuple(new Object[]{q, a - q * b});
         }
     }
 
@@ -316,19 +355,33 @@ public final class BuiltinFunctions extends PythonBuiltins {
     @GenerateNodeFactory
     public abstract static class EvalNode extends PythonBuiltinNode {
 
+        /**
+         * Most eval() call sites always evaluate the same string, so the first one is called
+         * directly. Other strings go through the context's compiled expression cache.
+         */
+        @CompilationFinal private String cachedExpression;
+        @CompilationFinal @Child protected DirectCallNode cachedCall;
+        @CompilationFinal @Child protected IndirectCallNode indirectCall;
+
         @Specialization
-        public Object eval(String expression) {
-            return evalExpression(expression);
-        }
+        public Object eval(VirtualFrame frame, String expression) {
+            if (cachedCall != null && (expression == cachedExpression || expression.equals(cachedExpression))) {
+                return cachedCall.call(frame, PArguments.empty());
+            }
 
-        @TruffleBoundary
-        private Object evalExpression(String expression) {
-            PythonParser parser = getContext().getParser();
-            PythonParseResult parsed = parser.parse(getContext(), new PythonModule(getContext(), "<eval>", null), expression);
-            RootNode root = parsed.getModuleRoot();
-            VirtualFrame frame = Truffle.getRuntime().createVirtualFrame(null, root.getFrameDescriptor());
-            Truffle.getRuntime().createCallTarget(root);
-            return root.execute(frame);
+            if (cachedCall == null) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                cachedExpression = expression;
+                cachedCall = insert(Truffle.getRuntime().createDirectCallNode(getContext().compileExpression(expression)));
+                return cachedCall.call(frame, PArguments.empty());
+            }
+
+            if (indirectCall == null) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                indirectCall = insert(Truffle.getRuntime().createIndirectCallNode());
+            }
+
+            return indirectCall.call(frame, getContext().compileExpression(expression), PArguments.empty());
         }
     }
 
@@ -712,7 +765,7 @@ public final class BuiltinFunctions extends PythonBuiltins {
 
         @Fallback
         public int len(Object arg) {
-            throw Py.TypeError("object of type '" + PythonTypesUtil.getPythonTypeName(arg) + "' has no len()");
+            throw PythonError.TypeError("object of type '" + PythonTypesUtil.getPythonTypeName(arg) + "' has no len()");
         }
     }
 
@@ -722,6 +775,37 @@ public final class BuiltinFunctions extends PythonBuiltins {
     @GenerateNodeFactory
     public abstract static class MaxNode extends PythonBuiltinNode {
 
+        @SuppressWarnings("unused")
+        @Specialization(guards = {"hasOneArgument(arg1,args,keywordArg)", "isIntStorage(arg1)"})
+        public int maxInt(PList arg1, PTuple args, Object keywordArg) {
+            final IntSequenceStorage store = (IntSequenceStorage) arg1.getStorage();
+            checkNotEmpty(store);
+            return store.maxInt();
+        }
+
+        @SuppressWarnings("unused")
+        @Specialization(guards = {"hasOneArgument(arg1,args,keywordArg)", "isLongStorage(arg1)"})
+        public long maxLong(PList arg1, PTuple args, Object keywordArg) {
+            final LongSequenceStorage store = (LongSequenceStorage) arg1.getStorage();
+            checkNotEmpty(store);
+            return store.maxLong();
+        }
+
+        @SuppressWarnings("unused")
+        @Specialization(guards = {"hasOneArgument(arg1,args,keywordArg)", "isDoubleStorage(arg1)"})
+        public double maxDouble(PList arg1, PTuple args, Object keywordArg) {
+            final DoubleSequenceStorage store = (DoubleSequenceStorage) arg1.getStorage();
+            checkNotEmpty(store);
+            return store.maxDouble();
+        }
+
+        private static void checkNotEmpty(SequenceStorage store) {
+            if (store.length() == 0) {
+                CompilerDirectives.transferToInterpreter();
+                throw PythonError.ValueError("max() arg is an empty sequence");
+            }
+        }
+
         @SuppressWarnings("unused")
         @Specialization(guards = "hasOneArgument(arg1,args,keywordArg)")
         public Object maxSequence(PSequence arg1, PTuple args, Object keywordArg) {
@@ -740,23 +824,11 @@ public final class BuiltinFunctions extends PythonBuiltins {
             return arg1.getMax();
         }
 
-        /**
-         * Incomplete. Only deals with ints now.
-         */
         @SuppressWarnings("unused")
-        @Specialization
-        public Object maxPIterator(PIterator arg1, PTuple args, PNone keywordArg) {
-            int max = Integer.MIN_VALUE;
-
-            try {
-                while (true) {
-                    int item = (int) arg1.__next__();
-                    max = Math.max(max, item);
-                }
-            } catch (StopIterationException e) {
-            }
-
-            return max;
+        @Specialization(guards = "hasOneArgument(arg1,args,keywordArg)")
+        public Object maxPIterator(PIterator arg1, PTuple args, Object keywordArg) {
+            final PList items = new PList(arg1);
+            return PythonComparator.max(items.getStorage().getCopyOfInternalArray(), items.len());
         }
 
         @Specialization
@@ -777,40 +849,11 @@ public final class BuiltinFunctions extends PythonBuiltins {
         }
 
         private static Object getMax(Object arg1, Object arg2) {
-
-            if (arg1 instanceof Double) {
-                double arg1Double = (Double) arg1;
-                if (arg2 instanceof Integer || arg2 instanceof Double) {
-                    double arg2Double = (Double) arg2;
-                    return Math.max(arg1Double, arg2Double);
-                }
-            }
-
-            BigInteger a = null;
-            if (arg1 instanceof Integer)
-                a = BigInteger.valueOf(Long.valueOf((int) arg1));
-            else if (arg1 instanceof Long)
-                a = BigInteger.valueOf((long) arg1);
-            else if (arg1 instanceof BigInteger)
-                a = (BigInteger) arg1;
-
-            BigInteger b = null;
-            if (arg2 instanceof Integer)
-                b = BigInteger.valueOf(Long.valueOf((int) arg2));
-            else if (arg2 instanceof Long)
-                b = BigInteger.valueOf((long) arg2);
-            else if (arg2 instanceof BigInteger)
-                b = (BigInteger) arg2;
-
-            if (a != null && b != null)
-                return a.max(b);
-
-            throw new RuntimeException("Unsupported max operation");
+            return PythonComparator.max(new Object[]{arg1, arg2}, 2);
         }
 
         private static Object getMax(Object[] args) {
-            Arrays.sort(args);
-            return args[args.length - 1];
+            return PythonComparator.max(args, args.length);
         }
 
     }
@@ -821,6 +864,37 @@ public final class BuiltinFunctions extends PythonBuiltins {
     @GenerateNodeFactory
     public abstract static class MinNode extends PythonBuiltinNode {
 
+        @SuppressWarnings("unused")
+        @Specialization(guards = {"hasOneArgument(arg1,args,keywordArg)", "isIntStorage(arg1)"})
+        public int minInt(PList arg1, PTuple args, Object keywordArg) {
+            final IntSequenceStorage store = (IntSequenceStorage) arg1.getStorage();
+            checkNotEmpty(store);
+            return store.minInt();
+        }
+
+        @SuppressWarnings("unused")
+        @Specialization(guards = {"hasOneArgument(arg1,args,keywordArg)", "isLongStorage(arg1)"})
+        public long minLong(PList arg1, PTuple args, Object keywordArg) {
+            final LongSequenceStorage store = (LongSequenceStorage) arg1.getStorage();
+            checkNotEmpty(store);
+            return store.minLong();
+        }
+
+        @SuppressWarnings("unused")
+        @Specialization(guards = {"hasOneArgument(arg1,args,keywordArg)", "isDoubleStorage(arg1)"})
+        public double minDouble(PList arg1, PTuple args, Object keywordArg) {
+            final DoubleSequenceStorage store = (DoubleSequenceStorage) arg1.getStorage();
+            checkNotEmpty(store);
+            return store.minDouble();
+        }
+
+        private static void checkNotEmpty(SequenceStorage store) {
+            if (store.length() == 0) {
+                CompilerDirectives.transferToInterpreter();
+                throw PythonError.ValueError("min() arg is an empty sequence");
+            }
+        }
+
         @SuppressWarnings("unused")
         @Specialization(guards = "hasOneArgument(arg1,args,keywordArg)")
         public Object minString(String arg1, PTuple args, Object keywordArg) {
@@ -846,6 +920,13 @@ public final class BuiltinFunctions extends PythonBuiltins {
             return arg1.getMin();
         }
 
+        @SuppressWarnings("unused")
+        @Specialization(guards = "hasOneArgument(arg1,args,keywordArg)")
+        public Object minPIterator(PIterator arg1, PTuple args, Object keywordArg) {
+            final PList items = new PList(arg1);
+            return PythonComparator.min(items.getStorage().getCopyOfInternalArray(), items.len());
+        }
+
         @Specialization
         public Object minGeneric(Object arg1, PTuple args, Object keywordArg) {
             if (keywordArg instanceof PNone) {
@@ -866,39 +947,11 @@ public final class BuiltinFunctions extends PythonBuiltins {
         }
 
         private static Object getMin(Object arg1, Object arg2) {
-            if (arg1 instanceof Double) {
-                double arg1Double = (Double) arg1;
-                if (arg2 instanceof Integer || arg2 instanceof Long || arg2 instanceof Double) {
-                    double arg2Double = (Double) arg2;
-                    return Math.min(arg1Double, arg2Double);
-                }
-            }
-            BigInteger a = null;
-            if (arg1 instanceof Integer)
-                a = BigInteger.valueOf(Long.valueOf((int) arg1));
-            else if (arg1 instanceof Long)
-                a = BigInteger.valueOf((long) arg1);
-            else if (arg1 instanceof BigInteger)
-                a = (BigInteger) arg1;
-
-            BigInteger b = null;
-            if (arg2 instanceof Integer)
-                b = BigInteger.valueOf(Long.valueOf((int) arg2));
-            else if (arg2 instanceof Long)
-                b = BigInteger.valueOf((long) arg2);
-            else if (arg2 instanceof BigInteger)
-                b = (BigInteger) arg2;
-
-            if (a != null && b != null)
-                return a.min(b);
-
-            throw new RuntimeException("Unsupported min operation");
+            return PythonComparator.min(new Object[]{arg1, arg2}, 2);
         }
 
         private static Object getMin(Object[] args) {
-            Object[] copy = args;
-            Arrays.sort(copy);
-            return copy[0];
+            return PythonComparator.min(args, args.length);
         }
 
     }
@@ -950,6 +1003,45 @@ public final class BuiltinFunctions extends PythonBuiltins {
         }
     }
 
+    // pow(x, y[, z])
+    @Builtin(name = "pow", minNumOfArguments = 2, maxNumOfArguments = 3)
+    @GenerateNodeFactory
+    public abstract static class PowNode extends PythonBuiltinNode {
+
+        protected static boolean isNegative(long exponent) {
+            return exponent < 0;
+        }
+
+        @SuppressWarnings("unused")
+        @Specialization(guards = "!isNegative(y)", rewriteOn = ArithmeticException.class)
+        public int pow(int x, int y, PNone z) {
+            return ArithmeticUtil.powExact(x, y);
+        }
+
+        @SuppressWarnings("unused")
+        @Specialization(guards = "!isNegative(y)", rewriteOn = ArithmeticException.class)
+        public long pow(long x, long y, PNone z) {
+            return ArithmeticUtil.powExact(x, y);
+        }
+
+        @SuppressWarnings("unused")
+        @Specialization
+        public Object pow(BigInteger x, BigInteger y, PNone z) {
+            return BigIntegerMath.pow(x, y);
+        }
+
+        @SuppressWarnings("unused")
+        @Specialization
+        public double pow(double x, double y, PNone z) {
+            return Math.pow(x, y);
+        }
+
+        @Specialization
+        public Object pow(BigInteger x, BigInteger y, BigInteger z) {
+            return BigIntegerMath.narrow(BigIntegerMath.modPow(x, y, z));
+        }
+    }
+
     // print(*objects, sep=' ', end='\n', file=sys.stdout, flush=False)
     @Builtin(name = "print", minNumOfArguments = 0, takesKeywordArguments = true, takesVariableArguments = true, takesVariableKeywords = true, keywordNames = {"sep", "end", "file",
                     "flush"}, requiresContext = true)
@@ -1134,73 +1226,108 @@ public final class BuiltinFunctions extends PythonBuiltins {
         }
     }
 
+    // sorted(iterable, key=None, reverse=False)
+    @Builtin(name = "sorted", hasFixedNumOfArguments = true, fixedNumOfArguments = 1, takesKeywordArguments = true, takesVariableKeywords = true, keywordNames = {"key", "reverse"})
+    @GenerateNodeFactory
+    public abstract static class SortedNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PList sorted(PList list, Object[] keywords) {
+            PList sorted = new PList(list.getStorage().copy());
+            ListSortNode.sort(sorted, keywords, "sorted");
+            return sorted;
+        }
+
+        @Specialization
+        public PList sorted(Object iterable, Object[] keywords) {
+            PList sorted = new PList(CollectionsModuleBuiltins.toIterator(iterable));
+            ListSortNode.sort(sorted, keywords, "sorted");
+            return sorted;
+        }
+    }
+
     // sum(iterable[, start])
     @Builtin(name = "sum", minNumOfArguments = 1, takesKeywordArguments = true, maxNumOfArguments = 2, keywordNames = {"start"})
     @GenerateNodeFactory
     public abstract static class SumNode extends PythonBuiltinNode {
-        /**
-         * Incomplete. Only support ints.
-         */
 
-        @Specialization(guards = "isIntStorage(list)")
-        public int doPIteratorInt(PList list) {
-            PIterator iterator = list.__iter__();
-            int sum = 0;
-            try {
-                while (true) {
-                    sum += (int) iterator.__next__();
-                }
-            } catch (StopIterationException e) {
+        @CompilationFinal @Child private AddNode add;
+
+        @Specialization(guards = "isIntStorage(list)", rewriteOn = ArithmeticException.class)
+        public int doIntStorage(PList list) {
+            final long sum = ((IntSequenceStorage) list.getStorage()).sumInt();
+
+            if (sum != (int) sum) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                throw new ArithmeticException("integer overflow");
             }
 
-            return sum;
+            return (int) sum;
         }
 
-        @Specialization(guards = "isLongStorage(list)")
-        public long doPIteratorLong(PList list) {
-            PIterator iterator = list.__iter__();
-            long sum = 0;
-            try {
-                while (true) {
-                    sum += (long) iterator.__next__();
-                }
-            } catch (StopIterationException e) {
-            }
+        @Specialization(guards = "isIntStorage(list)")
+        public long doIntStorageLong(PList list) {
+            return ((IntSequenceStorage) list.getStorage()).sumInt();
+        }
 
-            return sum;
+        @Specialization(guards = "isLongStorage(list)", rewriteOn = ArithmeticException.class)
+        public long doLongStorage(PList list) {
+            return ((LongSequenceStorage) list.getStorage()).sumLong();
+        }
+
+        @Specialization(guards = "isLongStorage(list)")
+        public BigInteger doLongStorageBigInteger(PList list) {
+            return sumSlowPath((LongSequenceStorage) list.getStorage());
         }
 
         @Specialization(guards = "isDoubleStorage(list)")
-        public double doPIteratorDouble(PList list) {
-            PIterator iterator = list.__iter__();
-            double sum = 0.0;
-            try {
-                while (true) {
-                    sum += (double) iterator.__next__();
-                }
-            } catch (StopIterationException e) {
+        public double doDoubleStorage(PList list) {
+            return ((DoubleSequenceStorage) list.getStorage()).sumDouble();
+        }
+
+        @TruffleBoundary
+        private static BigInteger sumSlowPath(LongSequenceStorage store) {
+            final long[] values = store.getInternalLongArray();
+            BigInteger sum = BigInteger.ZERO;
+
+            for (int i = 0; i < store.length(); i++) {
+                sum = sum.add(BigInteger.valueOf(values[i]));
             }
 
             return sum;
         }
 
+        /**
+         * The typed storages above are fast paths; anything else is added up element by element
+         * with Python's +, so ints, floats, complex numbers and longs mix as they do in Python.
+         */
         @Specialization
-        public int doPIterable(PIterable iterable) {
-            return doPIterator(iterable.__iter__());
+        public Object doPIterable(VirtualFrame frame, PIterable iterable) {
+            return doPIterator(frame, iterable.__iter__());
         }
 
         @Specialization
-        public int doPIterator(PIterator iterator) {
-            int sum = 0;
+        public Object doPIterator(VirtualFrame frame, PIterator iterator) {
+            Object sum = 0;
+
             try {
                 while (true) {
-                    sum += (int) iterator.__next__();
+                    sum = getAdd().executeWith(frame, sum, iterator.__next__());
                 }
             } catch (StopIterationException e) {
             }
 
             return sum;
         }
+
+        private AddNode getAdd() {
+            if (add == null) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                add = insert(AddNodeFactory.create(EmptyNode.create(), EmptyNode.create()));
+            }
+
+            return add;
+        }
     }
 
     // super([type[, object-or-type]])
@@ -1236,6 +1363,18 @@ public final class BuiltinFunctions extends PythonBuiltins {
             return PInt.__class__;
         }
 
+        @Specialization
+        @SuppressWarnings("unused")
+        public Object type(long value) {
+            return PInt.__class__;
+        }
+
+        @Specialization
+        @SuppressWarnings("unused")
+        public Object type(BigInteger value) {
+            return PInt.__class__;
+        }
+
         @Specialization
         @SuppressWarnings("unused")
         public Object type(double value) {
@@ -1297,7 +1436,7 @@ public final class BuiltinFunctions extends PythonBuiltins {
 
     @TruffleBoundary
     private static void typeError(String message) {
-        throw Py.TypeError(message);
+        throw PythonError.TypeError(message);
     }
 
 }
@@ -28,7 +28,6 @@ import java.util.*;
 
 import com.oracle.truffle.api.*;
 
-//import edu.uci.python.profiler.*;
 import edu.uci.python.runtime.*;
 import edu.uci.python.runtime.builtin.*;
 import edu.uci.python.runtime.function.*;
@@ -75,7 +74,6 @@ public abstract class PythonBuiltins {
                 setBuiltinClass(builtin.name(), builtinClass);
             } else {
                 setBuiltinFunction(builtin.name(), function);
-                // TODO: Redesign Python profiler based on the new changes from Truffle
             }
         }
     }
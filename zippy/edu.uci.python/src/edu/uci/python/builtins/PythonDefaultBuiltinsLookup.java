@@ -28,23 +28,40 @@ import java.util.HashMap;
 import java.util.Map;
 
 import edu.uci.python.builtins.module.ArrayModuleBuiltins;
+import edu.uci.python.builtins.module.BisectModuleBuiltins;
+import edu.uci.python.builtins.module.CmathModuleBuiltins;
+import edu.uci.python.builtins.module.CollectionsModuleBuiltins;
+import edu.uci.python.builtins.module.HeapqModuleBuiltins;
+import edu.uci.python.builtins.module.ItertoolsModuleBuiltins;
 import edu.uci.python.builtins.module.MathModuleBuiltins;
 import edu.uci.python.builtins.module.RandomModuleBuiltins;
+import edu.uci.python.builtins.module.ReModuleBuiltins;
 import edu.uci.python.builtins.module.TimeModuleBuiltins;
+import edu.uci.python.builtins.type.CounterBuiltins;
+import edu.uci.python.builtins.type.DequeBuiltins;
 import edu.uci.python.builtins.type.DictBuiltins;
 import edu.uci.python.builtins.type.GeneratorBuiltins;
 import edu.uci.python.builtins.type.ListBuiltins;
+import edu.uci.python.builtins.type.MatchBuiltins;
 import edu.uci.python.builtins.type.ObjectBuiltins;
+import edu.uci.python.builtins.type.OrderedDictBuiltins;
+import edu.uci.python.builtins.type.PatternBuiltins;
 import edu.uci.python.builtins.type.SetBuiltins;
 import edu.uci.python.builtins.type.StringBuiltins;
 import edu.uci.python.builtins.type.TupleBuiltins;
 import edu.uci.python.runtime.PythonContext;
 import edu.uci.python.runtime.builtin.PythonBuiltinClass;
 import edu.uci.python.runtime.builtin.PythonBuiltinsLookup;
+import edu.uci.python.runtime.datatype.PCounter;
+import edu.uci.python.runtime.datatype.PDefaultDict;
+import edu.uci.python.runtime.datatype.PDeque;
 import edu.uci.python.runtime.datatype.PDict;
 import edu.uci.python.runtime.datatype.PFloat;
 import edu.uci.python.runtime.datatype.PGenerator;
 import edu.uci.python.runtime.datatype.PInt;
+import edu.uci.python.runtime.datatype.PMatch;
+import edu.uci.python.runtime.datatype.POrderedDict;
+import edu.uci.python.runtime.datatype.PPattern;
 import edu.uci.python.runtime.function.PBuiltinFunction;
 import edu.uci.python.runtime.sequence.PList;
 import edu.uci.python.runtime.sequence.PSet;
@@ -76,7 +93,19 @@ public final class PythonDefaultBuiltinsLookup implements PythonBuiltinsLookup {
         addModule("array", createModule("array", context, new ArrayModuleBuiltins()));
         addModule("time", createModule("time", context, new TimeModuleBuiltins()));
         addModule("math", createModule("math", context, new MathModuleBuiltins()));
+        addModule("cmath", createModule("cmath", context, new CmathModuleBuiltins()));
         addModule("random", createModule("random", context, new RandomModuleBuiltins()));
+        addModule("re", createModule("re", context, new ReModuleBuiltins()));
+        addModule("itertools", createModule("itertools", context, new ItertoolsModuleBuiltins()));
+        addModule("heapq", createModule("heapq", context, new HeapqModuleBuiltins()));
+
+        PythonModule bisectModule = createModule("bisect", context, new BisectModuleBuiltins());
+        bisectModule.setAttribute("bisect", bisectModule.getAttribute("bisect_right"));
+        bisectModule.setAttribute("insort", bisectModule.getAttribute("insort_right"));
+        addModule("bisect", bisectModule);
+
+        PythonModule collectionsModule = createModule("collections", context, new CollectionsModuleBuiltins());
+        addModule("collections", collectionsModule);
 
         // Only populate builtins, no need to add it to the builtinTypes lookup.
         createType("object", context, builtinsModule, new ObjectBuiltins());
@@ -90,6 +119,13 @@ public final class PythonDefaultBuiltinsLookup implements PythonBuiltinsLookup {
         addType(PSet.class, createType("set", context, builtinsModule, new SetBuiltins()));
 
         addType(PGenerator.class, createType("generator", context, new GeneratorBuiltins()));
+        addType(PPattern.class, createType("SRE_Pattern", context, new PatternBuiltins()));
+        addType(PMatch.class, createType("SRE_Match", context, new MatchBuiltins()));
+
+        addType(PDeque.class, createType("deque", context, collectionsModule, new DequeBuiltins()));
+        addType(PDefaultDict.class, createType("defaultdict", context, collectionsModule, new DictBuiltins()));
+        addType(PCounter.class, createType("Counter", context, collectionsModule, new DictBuiltins(), new CounterBuiltins()));
+        addType(POrderedDict.class, createType("OrderedDict", context, collectionsModule, new DictBuiltins(), new OrderedDictBuiltins()));
 
         return builtinsModule;
     }
@@ -112,9 +148,13 @@ public final class PythonDefaultBuiltinsLookup implements PythonBuiltinsLookup {
         return module;
     }
 
-    private static PythonBuiltinClass createType(String name, PythonContext context, PythonModule builtinsModule, PythonBuiltins builtins) {
-        PythonBuiltinClass clazz = (PythonBuiltinClass) builtinsModule.getAttribute(name);
-        addBuiltinsToClass(clazz, builtins, context);
+    private static PythonBuiltinClass createType(String name, PythonContext context, PythonModule module, PythonBuiltins... builtins) {
+        PythonBuiltinClass clazz = (PythonBuiltinClass) module.getAttribute(name);
+
+        for (PythonBuiltins builtin : builtins) {
+            addBuiltinsToClass(clazz, builtin, context);
+        }
+
         return clazz;
     }
 
@@ -26,8 +26,6 @@ package edu.uci.python.builtins.module;
 
 import java.util.*;
 
-import org.python.core.*;
-
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.*;
 import com.oracle.truffle.api.nodes.*;
@@ -160,7 +158,7 @@ public final class ArrayModuleBuiltins extends PythonBuiltins {
 
         @TruffleBoundary
         private static void typeError(String typeCode, Object initializer) {
-            throw Py.TypeError("unsupported operand type:" + typeCode.charAt(0) + " " + initializer + " and 'array.array'");
+            throw PythonError.TypeError("unsupported operand type:" + typeCode.charAt(0) + " " + initializer + " and 'array.array'");
         }
 
         @TruffleBoundary
@@ -31,13 +31,16 @@ import com.oracle.truffle.api.dsl.*;
 
 import edu.uci.python.builtins.*;
 import edu.uci.python.nodes.function.*;
+import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.exception.*;
+import edu.uci.python.runtime.function.*;
 import edu.uci.python.runtime.sequence.*;
+import edu.uci.python.runtime.sequence.storage.*;
 
 /**
  * @author Gulfem
  * @author zwei
  */
-
 public final class BisectModuleBuiltins extends PythonBuiltins {
 
     @Override
@@ -45,99 +48,232 @@ public final class BisectModuleBuiltins extends PythonBuiltins {
         return BisectModuleBuiltinsFactory.getFactories();
     }
 
-    // bisect.bisect(a, x, lo=0, hi=len(a))
-    @Builtin(name = "bisect", hasFixedNumOfArguments = true, fixedNumOfArguments = 2, takesKeywordArguments = true, takesVariableKeywords = true, keywordNames = {"lo", "hi"})
-    @GenerateNodeFactory
-    public abstract static class PythonBisectNode extends PythonBuiltinNode {
+    private static Object keyword(Object[] keywords, String name) {
+        if (keywords != null) {
+            for (int i = 0; i < keywords.length; i++) {
+                final PKeyword keyword = (PKeyword) keywords[i];
 
-        @SuppressWarnings("unused")
-        @Specialization
-        public int bisect(Object arg1, Object arg2, Object[] keywords) {
-            return bisect(arg1, arg2);
+                if (keyword.getName().equals(name)) {
+                    return keyword.getValue();
+                }
+            }
         }
 
-        public int bisect(Object arg0, Object arg1) {
-            if (arg0 instanceof PList) {
-                PList plist = (PList) arg0;
+        return PNone.NONE;
+    }
 
-                if (plist.len() == 0) {
-                    return 0;
-                }
+    protected static int lowerBound(Object lo, Object[] keywords) {
+        final int bound = ReModuleBuiltins.toInt(lo instanceof PNone ? keyword(keywords, "lo") : lo, 0);
+
+        if (bound < 0) {
+            throw PythonError.ValueError("lo must be non-negative");
+        }
+
+        return bound;
+    }
 
-                return getIndexRight(plist, arg1);
+    protected static int upperBound(Object hi, Object[] keywords, int length) {
+        final int bound = ReModuleBuiltins.toInt(hi instanceof PNone ? keyword(keywords, "hi") : hi, length);
+        return bound < 0 || bound > length ? length : bound;
+    }
+
+    public static int bisect(int[] values, int x, int lo, int hi, boolean left) {
+        int low = lo;
+        int high = hi;
+
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+
+            if (left ? values[middle] < x : !(x < values[middle])) {
+                low = middle + 1;
             } else {
-                throw new RuntimeException("invalid arguments number for bisect() ");
+                high = middle;
             }
         }
 
-        public int getIndexRight(PSequence seq, Object key) {
-            if (key instanceof String) {
-                return binarySearchRightStr(seq, 0, seq.len() - 1, (String) key);
+        return low;
+    }
+
+    public static int bisect(long[] values, long x, int lo, int hi, boolean left) {
+        int low = lo;
+        int high = hi;
+
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+
+            if (left ? values[middle] < x : !(x < values[middle])) {
+                low = middle + 1;
             } else {
-                return binarySearchRightDouble(seq, 0, seq.len() - 1, (double) key);
+                high = middle;
             }
         }
 
-        @TruffleBoundary
-        public int binarySearchRightDouble(PSequence seq, int start, int stop, double key) {
-            if (start <= stop) {
-                int middle = (stop - start) / 2 + start;
-                if (((double) seq.getItem(middle)) > key) {
-                    if (middle - 1 >= 0 && ((double) seq.getItem(middle - 1)) < key) {
-                        return middle;
-                    } else if (middle - 1 <= 0) {
-                        return 0;
-                    } else {
-                        return binarySearchRightDouble(seq, start, middle - 1, key);
-                    }
-                } else if (((double) seq.getItem(middle)) < key) {
-                    if (middle + 1 < seq.len() && ((double) seq.getItem(middle + 1)) > key) {
-                        return middle + 1;
-                    } else if (middle + 1 >= seq.len() - 1) {
-                        return seq.len();
-                    } else {
-                        return binarySearchRightDouble(seq, middle + 1, stop, key);
-                    }
-                } else {
-                    int i = middle + 1;
-                    while (((double) seq.getItem(i)) == key && i < seq.len()) {
-                        i++;
-                    }
-                    return i;
-                }
+        return low;
+    }
+
+    public static int bisect(double[] values, double x, int lo, int hi, boolean left) {
+        int low = lo;
+        int high = hi;
+
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+
+            if (left ? values[middle] < x : !(x < values[middle])) {
+                low = middle + 1;
+            } else {
+                high = middle;
             }
-            return -1; // should not happen
-        }
-
-        @TruffleBoundary
-        public int binarySearchRightStr(PSequence seq, int start, int stop, String key) {
-            if (start <= stop) {
-                int middle = (stop - start) / 2 + start;
-                if (((String) seq.getItem(middle)).compareTo(key) > 0) {
-                    if (middle - 1 >= 0 && ((String) seq.getItem(middle - 1)).compareTo(key) < 0) {
-                        return middle;
-                    } else if (middle - 1 <= 0) {
-                        return 0;
-                    } else {
-                        return binarySearchRightStr(seq, start, middle - 1, key);
-                    }
-                } else if (((String) seq.getItem(middle)).compareTo(key) < 0) {
-                    if (middle + 1 < seq.len() && ((String) seq.getItem(middle + 1)).compareTo(key) > 0) {
-                        return middle + 1;
-                    } else if (middle + 1 >= seq.len() - 1) {
-                        return seq.len();
-                    } else {
-                        return binarySearchRightStr(seq, middle + 1, stop, key);
-                    }
-                } else {
-                    int i = middle + 1;
-                    while (((String) seq.getItem(i)).compareTo(key) == 0 && i < seq.len()) {
-                        i++;
-                    }
-                    return i;
-                }
+        }
+
+        return low;
+    }
+
+    @TruffleBoundary
+    public static int bisect(Object sequence, Object x, Object lo, Object hi, Object[] keywords, boolean left) {
+        if (!(sequence instanceof PSequence)) {
+            throw PythonError.TypeError("'" + sequence + "' object does not support indexing");
+        }
+
+        final PSequence seq = (PSequence) sequence;
+        final PythonComparator comparator = new PythonComparator();
+        int low = lowerBound(lo, keywords);
+        int high = upperBound(hi, keywords, seq.len());
+
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            final Object item = seq.getItem(middle);
+
+            if (left ? comparator.lessThan(item, x) : !comparator.lessThan(x, item)) {
+                low = middle + 1;
+            } else {
+                high = middle;
             }
-            return -1; // should not happen
+        }
+
+        return low;
+    }
+
+    // bisect.bisect_right(a, x, lo=0, hi=len(a)), also bound to bisect.bisect
+    @Builtin(name = "bisect_right", minNumOfArguments = 2, maxNumOfArguments = 4, takesKeywordArguments = true, takesVariableKeywords = true, keywordNames = {"lo", "hi"})
+    @GenerateNodeFactory
+    public abstract static class BisectRightNode extends PythonBuiltinNode {
+
+        @Specialization(guards = "isIntStorage(a)")
+        public int bisectInt(PList a, int x, Object lo, Object hi, Object[] keywords) {
+            final IntSequenceStorage store = (IntSequenceStorage) a.getStorage();
+            return bisect(store.getInternalIntArray(), x, lowerBound(lo, keywords), upperBound(hi, keywords, store.length()), false);
+        }
+
+        @Specialization(guards = "isLongStorage(a)")
+        public int bisectLong(PList a, long x, Object lo, Object hi, Object[] keywords) {
+            final LongSequenceStorage store = (LongSequenceStorage) a.getStorage();
+            return bisect(store.getInternalLongArray(), x, lowerBound(lo, keywords), upperBound(hi, keywords, store.length()), false);
+        }
+
+        @Specialization(guards = "isDoubleStorage(a)")
+        public int bisectDouble(PList a, double x, Object lo, Object hi, Object[] keywords) {
+            final DoubleSequenceStorage store = (DoubleSequenceStorage) a.getStorage();
+            return bisect(store.getInternalDoubleArray(), x, lowerBound(lo, keywords), upperBound(hi, keywords, store.length()), false);
+        }
+
+        @Specialization
+        public int bisectObject(Object a, Object x, Object lo, Object hi, Object[] keywords) {
+            return BisectModuleBuiltins.bisect(a, x, lo, hi, keywords, false);
+        }
+    }
+
+    // bisect.bisect_left(a, x, lo=0, hi=len(a))
+    @Builtin(name = "bisect_left", minNumOfArguments = 2, maxNumOfArguments = 4, takesKeywordArguments = true, takesVariableKeywords = true, keywordNames = {"lo", "hi"})
+    @GenerateNodeFactory
+    public abstract static class BisectLeftNode extends PythonBuiltinNode {
+
+        @Specialization(guards = "isIntStorage(a)")
+        public int bisectInt(PList a, int x, Object lo, Object hi, Object[] keywords) {
+            final IntSequenceStorage store = (IntSequenceStorage) a.getStorage();
+            return bisect(store.getInternalIntArray(), x, lowerBound(lo, keywords), upperBound(hi, keywords, store.length()), true);
+        }
+
+        @Specialization(guards = "isLongStorage(a)")
+        public int bisectLong(PList a, long x, Object lo, Object hi, Object[] keywords) {
+            final LongSequenceStorage store = (LongSequenceStorage) a.getStorage();
+            return bisect(store.getInternalLongArray(), x, lowerBound(lo, keywords), upperBound(hi, keywords, store.length()), true);
+        }
+
+        @Specialization(guards = "isDoubleStorage(a)")
+        public int bisectDouble(PList a, double x, Object lo, Object hi, Object[] keywords) {
+            final DoubleSequenceStorage store = (DoubleSequenceStorage) a.getStorage();
+            return bisect(store.getInternalDoubleArray(), x, lowerBound(lo, keywords), upperBound(hi, keywords, store.length()), true);
+        }
+
+        @Specialization
+        public int bisectObject(Object a, Object x, Object lo, Object hi, Object[] keywords) {
+            return BisectModuleBuiltins.bisect(a, x, lo, hi, keywords, true);
+        }
+    }
+
+    // bisect.insort_right(a, x, lo=0, hi=len(a)), also bound to bisect.insort
+    @Builtin(name = "insort_right", minNumOfArguments = 2, maxNumOfArguments = 4, takesKeywordArguments = true, takesVariableKeywords = true, keywordNames = {"lo", "hi"})
+    @GenerateNodeFactory
+    public abstract static class InsortRightNode extends PythonBuiltinNode {
+
+        @Specialization(guards = "isIntStorage(a)")
+        public PNone insortInt(PList a, int x, Object lo, Object hi, Object[] keywords) {
+            final IntSequenceStorage store = (IntSequenceStorage) a.getStorage();
+            store.insertIntItem(bisect(store.getInternalIntArray(), x, lowerBound(lo, keywords), upperBound(hi, keywords, store.length()), false), x);
+            return PNone.NONE;
+        }
+
+        @Specialization(guards = "isLongStorage(a)")
+        public PNone insortLong(PList a, long x, Object lo, Object hi, Object[] keywords) {
+            final LongSequenceStorage store = (LongSequenceStorage) a.getStorage();
+            store.insertLongItem(bisect(store.getInternalLongArray(), x, lowerBound(lo, keywords), upperBound(hi, keywords, store.length()), false), x);
+            return PNone.NONE;
+        }
+
+        @Specialization(guards = "isDoubleStorage(a)")
+        public PNone insortDouble(PList a, double x, Object lo, Object hi, Object[] keywords) {
+            final DoubleSequenceStorage store = (DoubleSequenceStorage) a.getStorage();
+            store.insertDoubleItem(bisect(store.getInternalDoubleArray(), x, lowerBound(lo, keywords), upperBound(hi, keywords, store.length()), false), x);
+            return PNone.NONE;
+        }
+
+        @Specialization
+        public PNone insortObject(PList a, Object x, Object lo, Object hi, Object[] keywords) {
+            a.insert(BisectModuleBuiltins.bisect(a, x, lo, hi, keywords, false), x);
+            return PNone.NONE;
+        }
+    }
+
+    // bisect.insort_left(a, x, lo=0, hi=len(a))
+    @Builtin(name = "insort_left", minNumOfArguments = 2, maxNumOfArguments = 4, takesKeywordArguments = true, takesVariableKeywords = true, keywordNames = {"lo", "hi"})
+    @GenerateNodeFactory
+    public abstract static class InsortLeftNode extends PythonBuiltinNode {
+
+        @Specialization(guards = "isIntStorage(a)")
+        public PNone insortInt(PList a, int x, Object lo, Object hi, Object[] keywords) {
+            final IntSequenceStorage store = (IntSequenceStorage) a.getStorage();
+            store.insertIntItem(bisect(store.getInternalIntArray(), x, lowerBound(lo, keywords), upperBound(hi, keywords, store.length()), true), x);
+            return PNone.NONE;
+        }
+
+        @Specialization(guards = "isLongStorage(a)")
+        public PNone insortLong(PList a, long x, Object lo, Object hi, Object[] keywords) {
+            final LongSequenceStorage store = (LongSequenceStorage) a.getStorage();
+            store.insertLongItem(bisect(store.getInternalLongArray(), x, lowerBound(lo, keywords), upperBound(hi, keywords, store.length()), true), x);
+            return PNone.NONE;
+        }
+
+        @Specialization(guards = "isDoubleStorage(a)")
+        public PNone insortDouble(PList a, double x, Object lo, Object hi, Object[] keywords) {
+            final DoubleSequenceStorage store = (DoubleSequenceStorage) a.getStorage();
+            store.insertDoubleItem(bisect(store.getInternalDoubleArray(), x, lowerBound(lo, keywords), upperBound(hi, keywords, store.length()), true), x);
+            return PNone.NONE;
+        }
+
+        @Specialization
+        public PNone insortObject(PList a, Object x, Object lo, Object hi, Object[] keywords) {
+            a.insert(BisectModuleBuiltins.bisect(a, x, lo, hi, keywords, true), x);
+            return PNone.NONE;
         }
     }
 
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.builtins.module;
+
+import java.util.List;
+
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+
+import edu.uci.python.builtins.Builtin;
+import edu.uci.python.builtins.PythonBuiltins;
+import edu.uci.python.nodes.function.PythonBuiltinNode;
+import edu.uci.python.runtime.datatype.PComplex;
+import edu.uci.python.runtime.misc.FastMathUtil;
+import edu.uci.python.runtime.sequence.PTuple;
+
+/**
+ * The cmath module. Every function works on the real and imaginary parts directly and returns a
+ * single new {@link PComplex}, so a call in a hot loop leaves nothing behind that escape analysis
+ * cannot remove. Real arguments are treated as complex numbers with a zero imaginary part.
+ */
+public class CmathModuleBuiltins extends PythonBuiltins {
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinNode>> getNodeFactories() {
+        return CmathModuleBuiltinsFactory.getFactories();
+    }
+
+    public CmathModuleBuiltins() {
+        // Add constant values
+        builtinConstants.put("pi", Math.PI);
+        builtinConstants.put("e", Math.E);
+    }
+
+    // cmath.sqrt
+    @Builtin(name = "sqrt", fixedNumOfArguments = 1, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class SqrtNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PComplex sqrt(double value) {
+            if (value >= 0) {
+                return new PComplex(Math.sqrt(value), 0);
+            }
+
+            return new PComplex(0, Math.sqrt(-value));
+        }
+
+        @Specialization
+        public PComplex sqrt(PComplex value) {
+            final double real = value.getReal();
+            final double imag = value.getImag();
+
+            if (real == 0 && imag == 0) {
+                return new PComplex(0, imag);
+            }
+
+            // Take the root of the larger part first to avoid cancellation.
+            final double t = Math.sqrt((Math.abs(real) + FastMathUtil.hypot(real, imag)) / 2);
+
+            if (real >= 0) {
+                return new PComplex(t, imag / (2 * t));
+            }
+
+            return new PComplex(Math.abs(imag) / (2 * t), Math.copySign(t, imag));
+        }
+    }
+
+    @Builtin(name = "exp", fixedNumOfArguments = 1, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class ExpNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PComplex exp(double value) {
+            return new PComplex(Math.exp(value), 0);
+        }
+
+        @Specialization
+        public PComplex exp(PComplex value) {
+            final double magnitude = Math.exp(value.getReal());
+            return new PComplex(magnitude * Math.cos(value.getImag()), magnitude * Math.sin(value.getImag()));
+        }
+    }
+
+    @Builtin(name = "log", fixedNumOfArguments = 1, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class LogNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PComplex log(double value) {
+            return new PComplex(Math.log(Math.abs(value)), Math.atan2(0.0, value));
+        }
+
+        @Specialization
+        public PComplex log(PComplex value) {
+            return new PComplex(Math.log(FastMathUtil.hypot(value.getReal(), value.getImag())), Math.atan2(value.getImag(), value.getReal()));
+        }
+    }
+
+    @Builtin(name = "cos", fixedNumOfArguments = 1, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class CosNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PComplex cos(double value) {
+            return new PComplex(Math.cos(value), 0);
+        }
+
+        @Specialization
+        public PComplex cos(PComplex value) {
+            final double real = value.getReal();
+            final double imag = value.getImag();
+            return new PComplex(Math.cos(real) * Math.cosh(imag), -Math.sin(real) * Math.sinh(imag));
+        }
+    }
+
+    @Builtin(name = "sin", fixedNumOfArguments = 1, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class SinNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PComplex sin(double value) {
+            return new PComplex(Math.sin(value), 0);
+        }
+
+        @Specialization
+        public PComplex sin(PComplex value) {
+            final double real = value.getReal();
+            final double imag = value.getImag();
+            return new PComplex(Math.sin(real) * Math.cosh(imag), Math.cos(real) * Math.sinh(imag));
+        }
+    }
+
+    @Builtin(name = "phase", fixedNumOfArguments = 1, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class PhaseNode extends PythonBuiltinNode {
+
+        @Specialization
+        public double phase(double value) {
+            return Math.atan2(0.0, value);
+        }
+
+        @Specialization
+        public double phase(PComplex value) {
+            return Math.atan2(value.getImag(), value.getReal());
+        }
+    }
+
+    @Builtin(name = "polar", fixedNumOfArguments = 1, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class PolarNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PTuple polar(double value) {
+            return new PTuple(new Object[]{Math.abs(value), Math.atan2(0.0, value)});
+        }
+
+        @Specialization
+        public PTuple polar(PComplex value) {
+            return new PTuple(new Object[]{FastMathUtil.hypot(value.getReal(), value.getImag()), Math.atan2(value.getImag(), value.getReal())});
+        }
+    }
+
+    @Builtin(name = "rect", fixedNumOfArguments = 2, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class RectNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PComplex rect(double r, double phi) {
+            return new PComplex(r * Math.cos(phi), r * Math.sin(phi));
+        }
+    }
+
+    @Builtin(name = "isnan", fixedNumOfArguments = 1, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class IsNanNode extends PythonBuiltinNode {
+
+        @Specialization
+        public boolean isnan(double value) {
+            return Double.isNaN(value);
+        }
+
+        @Specialization
+        public boolean isnan(PComplex value) {
+            return Double.isNaN(value.getReal()) || Double.isNaN(value.getImag());
+        }
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.builtins.module;
+
+import java.util.*;
+
+import com.oracle.truffle.api.dsl.*;
+
+import edu.uci.python.builtins.*;
+import edu.uci.python.nodes.function.*;
+import edu.uci.python.nodes.truffle.*;
+import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.datatype.storage.*;
+import edu.uci.python.runtime.exception.*;
+import edu.uci.python.runtime.function.*;
+import edu.uci.python.runtime.iterator.*;
+
+/**
+ * The containers of the collections module. They are built on the runtime's own deque and
+ * dictionary types rather than on the Jython implementation.
+ */
+public final class CollectionsModuleBuiltins extends PythonBuiltins {
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinNode>> getNodeFactories() {
+        return CollectionsModuleBuiltinsFactory.getFactories();
+    }
+
+    public static PIterator toIterator(Object iterable) {
+        if (iterable instanceof String) {
+            return new PStringIterator((String) iterable);
+        } else if (iterable instanceof PIterator) {
+            return (PIterator) iterable;
+        } else if (iterable instanceof PIterable) {
+            return ((PIterable) iterable).__iter__();
+        }
+
+        throw PythonError.TypeError("'" + PythonTypesUtil.getPythonTypeName(iterable) + "' object is not iterable");
+    }
+
+    private static void fill(PDict dict, Object source) {
+        if (source instanceof PDict) {
+            final DictStorage other = ((PDict) source).getStorage();
+
+            for (int i = other.nextEntry(0); i >= 0; i = other.nextEntry(i + 1)) {
+                dict.setItem(other.keyAt(i), other.valueAt(i));
+            }
+        } else if (!(source instanceof PNone)) {
+            dict.addKeyValuePairs(toIterator(source));
+        }
+    }
+
+    private static int toMaxlen(Object maxlen) {
+        if (maxlen instanceof PNone) {
+            return PDeque.UNBOUNDED;
+        }
+
+        final int bound = ReModuleBuiltins.toInt(maxlen, 0);
+
+        if (bound < 0) {
+            throw PythonError.ValueError("maxlen must be non-negative");
+        }
+
+        return bound;
+    }
+
+    // deque([iterable[, maxlen]])
+    @Builtin(name = "deque", minNumOfArguments = 0, maxNumOfArguments = 2, takesKeywordArguments = true, keywordNames = {"maxlen"}, isConstructor = true)
+    @GenerateNodeFactory
+    public abstract static class DequeNode extends PythonBuiltinNode {
+
+        @SuppressWarnings("unused")
+        @Specialization
+        public PDeque deque(PNone iterable, PNone maxlen, PNone maxlenKeyword) {
+            return new PDeque(PDeque.UNBOUNDED);
+        }
+
+        @Specialization
+        public PDeque deque(Object iterable, Object maxlen, Object maxlenKeyword) {
+            final Object bound = maxlen instanceof PNone ? maxlenKeyword : maxlen;
+            final PDeque deque = new PDeque(toMaxlen(bound instanceof PKeyword ? ((PKeyword) bound).getValue() : bound));
+
+            if (!(iterable instanceof PNone)) {
+                deque.extend(toIterator(iterable));
+            }
+
+            return deque;
+        }
+    }
+
+    // defaultdict([default_factory[, mapping_or_iterable]])
+    @Builtin(name = "defaultdict", minNumOfArguments = 0, maxNumOfArguments = 2, isConstructor = true)
+    @GenerateNodeFactory
+    public abstract static class DefaultDictNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PDefaultDict defaultDict(Object defaultFactory, Object source) {
+            if (!(defaultFactory instanceof PNone) && !(defaultFactory instanceof PythonCallable)) {
+                throw PythonError.TypeError("first argument must be callable or None");
+            }
+
+            final PDefaultDict dict = new PDefaultDict(defaultFactory);
+            fill(dict, source);
+            return dict;
+        }
+    }
+
+    // Counter([iterable_or_mapping])
+    @Builtin(name = "Counter", minNumOfArguments = 0, maxNumOfArguments = 1, isConstructor = true)
+    @GenerateNodeFactory
+    public abstract static class CounterNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PCounter counter(Object source) {
+            final PCounter counter = new PCounter();
+
+            if (source instanceof PDict) {
+                counter.update(source, 1);
+            } else if (!(source instanceof PNone)) {
+                counter.update(toIterator(source), 1);
+            }
+
+            return counter;
+        }
+    }
+
+    // OrderedDict([mapping_or_iterable])
+    @Builtin(name = "OrderedDict", minNumOfArguments = 0, maxNumOfArguments = 1, isConstructor = true)
+    @GenerateNodeFactory
+    public abstract static class OrderedDictNode extends PythonBuiltinNode {
+
+        @Specialization
+        public POrderedDict orderedDict(Object source) {
+            final POrderedDict dict = new POrderedDict();
+            fill(dict, source);
+            return dict;
+        }
+    }
+
+}
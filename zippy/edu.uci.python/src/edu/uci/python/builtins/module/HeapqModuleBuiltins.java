@@ -0,0 +1,549 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.builtins.module;
+
+import java.util.*;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.*;
+
+import edu.uci.python.builtins.*;
+import edu.uci.python.nodes.function.*;
+import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.exception.*;
+import edu.uci.python.runtime.sequence.*;
+import edu.uci.python.runtime.sequence.storage.*;
+
+/**
+ * Binary min-heaps kept in a list, following CPython's heapq. Int, long and double heaps are sifted
+ * directly on the storage arrays; other heaps compare their items with Python ordering.
+ */
+public final class HeapqModuleBuiltins extends PythonBuiltins {
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinNode>> getNodeFactories() {
+        return HeapqModuleBuiltinsFactory.getFactories();
+    }
+
+    /**
+     * Moves the item at pos up towards startpos until its parent is not greater.
+     */
+    public static void siftDown(int[] heap, int startpos, int pos) {
+        final int item = heap[pos];
+        int current = pos;
+
+        while (current > startpos) {
+            final int parentpos = (current - 1) >> 1;
+
+            if (item < heap[parentpos]) {
+                heap[current] = heap[parentpos];
+                current = parentpos;
+            } else {
+                break;
+            }
+        }
+
+        heap[current] = item;
+    }
+
+    /**
+     * Moves the smaller child up until a leaf is reached, then sifts the item at pos down into
+     * place.
+     */
+    public static void siftUp(int[] heap, int pos, int endpos) {
+        final int item = heap[pos];
+        int current = pos;
+        int childpos = 2 * current + 1;
+
+        while (childpos < endpos) {
+            final int rightpos = childpos + 1;
+
+            if (rightpos < endpos && !(heap[childpos] < heap[rightpos])) {
+                childpos = rightpos;
+            }
+
+            heap[current] = heap[childpos];
+            current = childpos;
+            childpos = 2 * current + 1;
+        }
+
+        heap[current] = item;
+        siftDown(heap, pos, current);
+    }
+
+    public static void siftDown(long[] heap, int startpos, int pos) {
+        final long item = heap[pos];
+        int current = pos;
+
+        while (current > startpos) {
+            final int parentpos = (current - 1) >> 1;
+
+            if (item < heap[parentpos]) {
+                heap[current] = heap[parentpos];
+                current = parentpos;
+            } else {
+                break;
+            }
+        }
+
+        heap[current] = item;
+    }
+
+    public static void siftUp(long[] heap, int pos, int endpos) {
+        final long item = heap[pos];
+        int current = pos;
+        int childpos = 2 * current + 1;
+
+        while (childpos < endpos) {
+            final int rightpos = childpos + 1;
+
+            if (rightpos < endpos && !(heap[childpos] < heap[rightpos])) {
+                childpos = rightpos;
+            }
+
+            heap[current] = heap[childpos];
+            current = childpos;
+            childpos = 2 * current + 1;
+        }
+
+        heap[current] = item;
+        siftDown(heap, pos, current);
+    }
+
+    public static void siftDown(double[] heap, int startpos, int pos) {
+        final double item = heap[pos];
+        int current = pos;
+
+        while (current > startpos) {
+            final int parentpos = (current - 1) >> 1;
+
+            if (item < heap[parentpos]) {
+                heap[current] = heap[parentpos];
+                current = parentpos;
+            } else {
+                break;
+            }
+        }
+
+        heap[current] = item;
+    }
+
+    public static void siftUp(double[] heap, int pos, int endpos) {
+        final double item = heap[pos];
+        int current = pos;
+        int childpos = 2 * current + 1;
+
+        while (childpos < endpos) {
+            final int rightpos = childpos + 1;
+
+            if (rightpos < endpos && !(heap[childpos] < heap[rightpos])) {
+                childpos = rightpos;
+            }
+
+            heap[current] = heap[childpos];
+            current = childpos;
+            childpos = 2 * current + 1;
+        }
+
+        heap[current] = item;
+        siftDown(heap, pos, current);
+    }
+
+    @TruffleBoundary
+    public static void siftDown(SequenceStorage heap, PythonComparator comparator, int startpos, int pos) {
+        final Object item = heap.getItemNormalized(pos);
+        int current = pos;
+
+        try {
+            while (current > startpos) {
+                final int parentpos = (current - 1) >> 1;
+                final Object parent = heap.getItemNormalized(parentpos);
+
+                if (comparator.lessThan(item, parent)) {
+                    heap.setItemNormalized(current, parent);
+                    current = parentpos;
+                } else {
+                    break;
+                }
+            }
+
+            heap.setItemNormalized(current, item);
+        } catch (SequenceStoreException e) {
+            throw new IllegalStateException();
+        }
+    }
+
+    @TruffleBoundary
+    public static void siftUp(SequenceStorage heap, PythonComparator comparator, int pos) {
+        final int endpos = heap.length();
+        final Object item = heap.getItemNormalized(pos);
+        int current = pos;
+        int childpos = 2 * current + 1;
+
+        try {
+            while (childpos < endpos) {
+                final int rightpos = childpos + 1;
+
+                if (rightpos < endpos && !comparator.lessThan(heap.getItemNormalized(childpos), heap.getItemNormalized(rightpos))) {
+                    childpos = rightpos;
+                }
+
+                heap.setItemNormalized(current, heap.getItemNormalized(childpos));
+                current = childpos;
+                childpos = 2 * current + 1;
+            }
+
+            heap.setItemNormalized(current, item);
+        } catch (SequenceStoreException e) {
+            throw new IllegalStateException();
+        }
+
+        siftDown(heap, comparator, pos, current);
+    }
+
+    protected static PList toHeap(Object heap) {
+        if (heap instanceof PList) {
+            return (PList) heap;
+        }
+
+        throw PythonError.TypeError("heap argument must be a list");
+    }
+
+    @TruffleBoundary
+    protected static Object replaceTop(PList heap, Object item) {
+        final Object top = heap.getItem(0);
+        heap.setItem(0, item);
+        siftUp(heap.getStorage(), new PythonComparator(), 0);
+        return top;
+    }
+
+    protected static void checkNotEmpty(SequenceStorage store) {
+        if (store.length() == 0) {
+            throw PythonError.IndexError("index out of range");
+        }
+    }
+
+    // heapq.heappush(heap, item)
+    @Builtin(name = "heappush", fixedNumOfArguments = 2, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class HeapPushNode extends PythonBuiltinNode {
+
+        @Specialization(guards = "isIntStorage(heap)")
+        public PNone pushInt(PList heap, int item) {
+            final IntSequenceStorage store = (IntSequenceStorage) heap.getStorage();
+            store.appendInt(item);
+            siftDown(store.getInternalIntArray(), 0, store.length() - 1);
+            return PNone.NONE;
+        }
+
+        @Specialization(guards = "isLongStorage(heap)")
+        public PNone pushLong(PList heap, long item) {
+            final LongSequenceStorage store = (LongSequenceStorage) heap.getStorage();
+            store.appendLong(item);
+            siftDown(store.getInternalLongArray(), 0, store.length() - 1);
+            return PNone.NONE;
+        }
+
+        @Specialization(guards = "isDoubleStorage(heap)")
+        public PNone pushDouble(PList heap, double item) {
+            final DoubleSequenceStorage store = (DoubleSequenceStorage) heap.getStorage();
+            store.appendDouble(item);
+            siftDown(store.getInternalDoubleArray(), 0, store.length() - 1);
+            return PNone.NONE;
+        }
+
+        @Specialization
+        public PNone push(Object heap, Object item) {
+            final PList list = toHeap(heap);
+            list.append(item);
+            siftDown(list.getStorage(), new PythonComparator(), 0, list.len() - 1);
+            return PNone.NONE;
+        }
+    }
+
+    // heapq.heappop(heap)
+    @Builtin(name = "heappop", fixedNumOfArguments = 1, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class HeapPopNode extends PythonBuiltinNode {
+
+        @Specialization(guards = "isIntStorage(heap)")
+        public int popInt(PList heap) {
+            final IntSequenceStorage store = (IntSequenceStorage) heap.getStorage();
+            checkNotEmpty(store);
+            final int last = store.popInt();
+
+            if (store.length() == 0) {
+                return last;
+            }
+
+            final int[] values = store.getInternalIntArray();
+            final int top = values[0];
+            values[0] = last;
+            siftUp(values, 0, store.length());
+            return top;
+        }
+
+        @Specialization(guards = "isLongStorage(heap)")
+        public long popLong(PList heap) {
+            final LongSequenceStorage store = (LongSequenceStorage) heap.getStorage();
+            checkNotEmpty(store);
+            final long last = store.popLong();
+
+            if (store.length() == 0) {
+                return last;
+            }
+
+            final long[] values = store.getInternalLongArray();
+            final long top = values[0];
+            values[0] = last;
+            siftUp(values, 0, store.length());
+            return top;
+        }
+
+        @Specialization(guards = "isDoubleStorage(heap)")
+        public double popDouble(PList heap) {
+            final DoubleSequenceStorage store = (DoubleSequenceStorage) heap.getStorage();
+            checkNotEmpty(store);
+            final double last = store.popDouble();
+
+            if (store.length() == 0) {
+                return last;
+            }
+
+            final double[] values = store.getInternalDoubleArray();
+            final double top = values[0];
+            values[0] = last;
+            siftUp(values, 0, store.length());
+            return top;
+        }
+
+        @Specialization
+        public Object pop(Object heap) {
+            final PList list = toHeap(heap);
+            checkNotEmpty(list.getStorage());
+            final Object last = list.getItem(list.len() - 1);
+            list.delItem(list.len() - 1);
+            return list.len() == 0 ? last : replaceTop(list, last);
+        }
+    }
+
+    // heapq.heapify(x)
+    @Builtin(name = "heapify", fixedNumOfArguments = 1, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class HeapifyNode extends PythonBuiltinNode {
+
+        @Specialization(guards = "isIntStorage(heap)")
+        public PNone heapifyInt(PList heap) {
+            final IntSequenceStorage store = (IntSequenceStorage) heap.getStorage();
+            final int length = store.length();
+
+            for (int i = length / 2 - 1; i >= 0; i--) {
+                siftUp(store.getInternalIntArray(), i, length);
+            }
+
+            return PNone.NONE;
+        }
+
+        @Specialization(guards = "isLongStorage(heap)")
+        public PNone heapifyLong(PList heap) {
+            final LongSequenceStorage store = (LongSequenceStorage) heap.getStorage();
+            final int length = store.length();
+
+            for (int i = length / 2 - 1; i >= 0; i--) {
+                siftUp(store.getInternalLongArray(), i, length);
+            }
+
+            return PNone.NONE;
+        }
+
+        @Specialization(guards = "isDoubleStorage(heap)")
+        public PNone heapifyDouble(PList heap) {
+            final DoubleSequenceStorage store = (DoubleSequenceStorage) heap.getStorage();
+            final int length = store.length();
+
+            for (int i = length / 2 - 1; i >= 0; i--) {
+                siftUp(store.getInternalDoubleArray(), i, length);
+            }
+
+            return PNone.NONE;
+        }
+
+        @Specialization
+        public PNone heapify(Object heap) {
+            final SequenceStorage store = toHeap(heap).getStorage();
+            final PythonComparator comparator = new PythonComparator();
+
+            for (int i = store.length() / 2 - 1; i >= 0; i--) {
+                siftUp(store, comparator, i);
+            }
+
+            return PNone.NONE;
+        }
+    }
+
+    // heapq.heapreplace(heap, item)
+    @Builtin(name = "heapreplace", fixedNumOfArguments = 2, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class HeapReplaceNode extends PythonBuiltinNode {
+
+        @Specialization(guards = "isIntStorage(heap)")
+        public int replaceInt(PList heap, int item) {
+            final IntSequenceStorage store = (IntSequenceStorage) heap.getStorage();
+            checkNotEmpty(store);
+            final int[] values = store.getInternalIntArray();
+            final int top = values[0];
+            values[0] = item;
+            siftUp(values, 0, store.length());
+            return top;
+        }
+
+        @Specialization(guards = "isLongStorage(heap)")
+        public long replaceLong(PList heap, long item) {
+            final LongSequenceStorage store = (LongSequenceStorage) heap.getStorage();
+            checkNotEmpty(store);
+            final long[] values = store.getInternalLongArray();
+            final long top = values[0];
+            values[0] = item;
+            siftUp(values, 0, store.length());
+            return top;
+        }
+
+        @Specialization(guards = "isDoubleStorage(heap)")
+        public double replaceDouble(PList heap, double item) {
+            final DoubleSequenceStorage store = (DoubleSequenceStorage) heap.getStorage();
+            checkNotEmpty(store);
+            final double[] values = store.getInternalDoubleArray();
+            final double top = values[0];
+            values[0] = item;
+            siftUp(values, 0, store.length());
+            return top;
+        }
+
+        @Specialization
+        public Object replace(Object heap, Object item) {
+            final PList list = toHeap(heap);
+            checkNotEmpty(list.getStorage());
+            return replaceTop(list, item);
+        }
+    }
+
+    // heapq.heappushpop(heap, item)
+    @Builtin(name = "heappushpop", fixedNumOfArguments = 2, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class HeapPushPopNode extends PythonBuiltinNode {
+
+        @Specialization(guards = "isIntStorage(heap)")
+        public int pushPopInt(PList heap, int item) {
+            final IntSequenceStorage store = (IntSequenceStorage) heap.getStorage();
+            final int[] values = store.getInternalIntArray();
+
+            if (store.length() == 0 || !(values[0] < item)) {
+                return item;
+            }
+
+            final int top = values[0];
+            values[0] = item;
+            siftUp(values, 0, store.length());
+            return top;
+        }
+
+        @Specialization(guards = "isLongStorage(heap)")
+        public long pushPopLong(PList heap, long item) {
+            final LongSequenceStorage store = (LongSequenceStorage) heap.getStorage();
+            final long[] values = store.getInternalLongArray();
+
+            if (store.length() == 0 || !(values[0] < item)) {
+                return item;
+            }
+
+            final long top = values[0];
+            values[0] = item;
+            siftUp(values, 0, store.length());
+            return top;
+        }
+
+        @Specialization(guards = "isDoubleStorage(heap)")
+        public double pushPopDouble(PList heap, double item) {
+            final DoubleSequenceStorage store = (DoubleSequenceStorage) heap.getStorage();
+            final double[] values = store.getInternalDoubleArray();
+
+            if (store.length() == 0 || !(values[0] < item)) {
+                return item;
+            }
+
+            final double top = values[0];
+            values[0] = item;
+            siftUp(values, 0, store.length());
+            return top;
+        }
+
+        @Specialization
+        public Object pushPop(Object heap, Object item) {
+            final PList list = toHeap(heap);
+
+            if (list.len() == 0 || !new PythonComparator().lessThan(list.getItem(0), item)) {
+                return item;
+            }
+
+            return replaceTop(list, item);
+        }
+    }
+
+    // heapq.nsmallest(n, iterable, key=None)
+    @Builtin(name = "nsmallest", minNumOfArguments = 2, maxNumOfArguments = 3, takesKeywordArguments = true, keywordNames = {"key"})
+    @GenerateNodeFactory
+    public abstract static class NSmallestNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PList nsmallest(Object n, Object iterable, Object key, Object keyKeyword) {
+            return select(n, iterable, key instanceof PNone ? keyKeyword : key, false);
+        }
+    }
+
+    // heapq.nlargest(n, iterable, key=None)
+    @Builtin(name = "nlargest", minNumOfArguments = 2, maxNumOfArguments = 3, takesKeywordArguments = true, keywordNames = {"key"})
+    @GenerateNodeFactory
+    public abstract static class NLargestNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PList nlargest(Object n, Object iterable, Object key, Object keyKeyword) {
+            return select(n, iterable, key instanceof PNone ? keyKeyword : key, true);
+        }
+    }
+
+    /**
+     * nsmallest and nlargest sort a copy of the input and keep the first n items, which gives the
+     * same stable order as CPython.
+     */
+    @TruffleBoundary
+    protected static PList select(Object n, Object iterable, Object key, boolean largest) {
+        final PList list = iterable instanceof PList ? new PList(((PList) iterable).getStorage().copy()) : new PList(CollectionsModuleBuiltins.toIterator(iterable));
+        final int count = Math.min(Math.max(ReModuleBuiltins.toInt(n, 0), 0), list.len());
+
+        list.sort(ItertoolsModuleBuiltins.toCallable(key), largest);
+        return new PList(list.getStorage().getSliceInBound(0, count, 1, count));
+    }
+
+}
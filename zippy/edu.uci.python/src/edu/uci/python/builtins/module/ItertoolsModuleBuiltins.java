@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.builtins.module;
+
+import java.math.*;
+import java.util.*;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.*;
+
+import edu.uci.python.builtins.*;
+import edu.uci.python.nodes.function.*;
+import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.exception.*;
+import edu.uci.python.runtime.function.*;
+import edu.uci.python.runtime.iterator.*;
+import edu.uci.python.runtime.iterator.PCountIterator.PDoubleCountIterator;
+import edu.uci.python.runtime.iterator.PISliceIterator.PIntegerISliceIterator;
+import edu.uci.python.runtime.sequence.*;
+
+/**
+ * The itertools iterators are runtime iterators like those of lists and ranges, so that loops and
+ * builtins consume them without going through Jython. islice keeps ints unboxed; count moves from
+ * int to long to BigInteger as it grows, like any Python int.
+ */
+public final class ItertoolsModuleBuiltins extends PythonBuiltins {
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinNode>> getNodeFactories() {
+        return ItertoolsModuleBuiltinsFactory.getFactories();
+    }
+
+    @TruffleBoundary
+    protected static Object[] toArray(Object iterable) {
+        final PIterator iterator = CollectionsModuleBuiltins.toIterator(iterable);
+        final List<Object> values = new ArrayList<>();
+
+        try {
+            while (true) {
+                values.add(iterator.__next__());
+            }
+        } catch (StopIterationException e) {
+            // fall through
+        }
+
+        return values.toArray();
+    }
+
+    protected static PythonCallable toCallable(Object function) {
+        if (function instanceof PKeyword) {
+            return toCallable(((PKeyword) function).getValue());
+        } else if (function instanceof PNone) {
+            return null;
+        } else if (function instanceof PythonCallable) {
+            return (PythonCallable) function;
+        }
+
+        throw PythonError.TypeError("'" + function + "' object is not callable");
+    }
+
+    protected static int toLength(Object r, int defaultValue) {
+        final int length = ReModuleBuiltins.toInt(r, defaultValue);
+
+        if (length < 0) {
+            throw PythonError.ValueError("r must be non-negative");
+        }
+
+        return length;
+    }
+
+    // count(start=0, step=1)
+    @Builtin(name = "count", minNumOfArguments = 0, maxNumOfArguments = 2)
+    @GenerateNodeFactory
+    public abstract static class CountNode extends PythonBuiltinNode {
+
+        @SuppressWarnings("unused")
+        @Specialization
+        public PCountIterator count(PNone start, PNone step) {
+            return new PCountIterator(0, 1);
+        }
+
+        @SuppressWarnings("unused")
+        @Specialization
+        public PCountIterator count(long start, PNone step) {
+            return new PCountIterator(start, 1);
+        }
+
+        @Specialization
+        public PCountIterator count(long start, long step) {
+            return new PCountIterator(start, step);
+        }
+
+        @SuppressWarnings("unused")
+        @Specialization
+        public PCountIterator count(BigInteger start, PNone step) {
+            return new PCountIterator(start, BigInteger.ONE);
+        }
+
+        @Specialization
+        public PCountIterator count(BigInteger start, BigInteger step) {
+            return new PCountIterator(start, step);
+        }
+
+        @SuppressWarnings("unused")
+        @Specialization
+        public PDoubleCountIterator count(double start, PNone step) {
+            return new PDoubleCountIterator(start, 1);
+        }
+
+        @Specialization
+        public PDoubleCountIterator count(double start, double step) {
+            return new PDoubleCountIterator(start, step);
+        }
+
+        @Fallback
+        public Object count(Object start, Object step) {
+            throw PythonError.TypeError("a number is required, got " + start + " and " + step);
+        }
+    }
+
+    // repeat(object[, times])
+    @Builtin(name = "repeat", minNumOfArguments = 1, maxNumOfArguments = 2)
+    @GenerateNodeFactory
+    public abstract static class RepeatNode extends PythonBuiltinNode {
+
+        @SuppressWarnings("unused")
+        @Specialization
+        public PRepeatIterator repeat(Object value, PNone times) {
+            return new PRepeatIterator(value, -1);
+        }
+
+        @Specialization
+        public PRepeatIterator repeat(Object value, int times) {
+            return new PRepeatIterator(value, Math.max(times, 0));
+        }
+    }
+
+    // chain(*iterables)
+    @Builtin(name = "chain", minNumOfArguments = 0, takesVariableArguments = true)
+    @GenerateNodeFactory
+    public abstract static class ChainNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PChainIterator chain(PTuple iterables) {
+            final PIterator[] iterators = new PIterator[iterables.len()];
+
+            for (int i = 0; i < iterators.length; i++) {
+                iterators[i] = CollectionsModuleBuiltins.toIterator(iterables.getItem(i));
+            }
+
+            return new PChainIterator(iterators);
+        }
+    }
+
+    // islice(iterable, stop)
+    // islice(iterable, start, stop[, step])
+    @Builtin(name = "islice", minNumOfArguments = 1, takesVariableArguments = true)
+    @GenerateNodeFactory
+    public abstract static class ISliceNode extends PythonBuiltinNode {
+
+        private static int toIndex(Object index, int defaultValue) {
+            if (index instanceof PNone) {
+                return defaultValue;
+            }
+
+            final int value = ReModuleBuiltins.toInt(index, defaultValue);
+
+            if (value < 0) {
+                throw PythonError.ValueError("Indices for islice() must be None or an integer: 0 <= x <= sys.maxsize.");
+            }
+
+            return value;
+        }
+
+        @Specialization
+        public PISliceIterator islice(Object iterable, PTuple args) {
+            final int start;
+            final int stop;
+            int step = 1;
+
+            if (args.len() == 1) {
+                start = 0;
+                stop = toIndex(args.getItem(0), PISliceIterator.NO_STOP);
+            } else if (args.len() == 2 || args.len() == 3) {
+                start = toIndex(args.getItem(0), 0);
+                stop = toIndex(args.getItem(1), PISliceIterator.NO_STOP);
+
+                if (args.len() == 3 && !(args.getItem(2) instanceof PNone)) {
+                    step = ReModuleBuiltins.toInt(args.getItem(2), 1);
+
+                    if (step <= 0) {
+                        throw PythonError.ValueError("Step for islice() must be a positive integer or None.");
+                    }
+                }
+            } else {
+                throw PythonError.TypeError("islice expected at most 4 arguments, got " + (args.len() + 1));
+            }
+
+            final PIterator iterator = CollectionsModuleBuiltins.toIterator(iterable);
+
+            if (iterator instanceof PIntegerIterator) {
+                return new PIntegerISliceIterator(iterator, start, stop, step);
+            }
+
+            return new PISliceIterator(iterator, start, stop, step);
+        }
+    }
+
+    // accumulate(iterable[, func])
+    @Builtin(name = "accumulate", minNumOfArguments = 1, maxNumOfArguments = 2)
+    @GenerateNodeFactory
+    public abstract static class AccumulateNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PAccumulateIterator accumulate(Object iterable, Object function) {
+            return new PAccumulateIterator(CollectionsModuleBuiltins.toIterator(iterable), toCallable(function));
+        }
+    }
+
+    // product(*iterables, repeat=1)
+    @Builtin(name = "product", minNumOfArguments = 0, takesVariableArguments = true, takesKeywordArguments = true, keywordNames = {"repeat"})
+    @GenerateNodeFactory
+    public abstract static class ProductNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PProductIterator product(PTuple iterables, Object repeatKeyword) {
+            final int repeat = ReModuleBuiltins.toInt(repeatKeyword, 1);
+
+            if (repeat < 0) {
+                throw PythonError.ValueError("repeat argument cannot be negative");
+            }
+
+            final int count = iterables.len();
+            final Object[][] pools = new Object[count * repeat][];
+
+            for (int i = 0; i < count; i++) {
+                final Object[] pool = toArray(iterables.getItem(i));
+
+                for (int j = 0; j < repeat; j++) {
+                    pools[j * count + i] = pool;
+                }
+            }
+
+            return new PProductIterator(pools);
+        }
+    }
+
+    // permutations(iterable, r=None)
+    @Builtin(name = "permutations", minNumOfArguments = 1, maxNumOfArguments = 2)
+    @GenerateNodeFactory
+    public abstract static class PermutationsNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PPermutationsIterator permutations(Object iterable, Object r) {
+            final Object[] pool = toArray(iterable);
+            return new PPermutationsIterator(pool, toLength(r, pool.length));
+        }
+    }
+
+    // combinations(iterable, r)
+    @Builtin(name = "combinations", fixedNumOfArguments = 2, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class CombinationsNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PCombinationsIterator combinations(Object iterable, Object r) {
+            final Object[] pool = toArray(iterable);
+            return new PCombinationsIterator(pool, toLength(r, 0));
+        }
+    }
+
+    // groupby(iterable, key=None)
+    @Builtin(name = "groupby", minNumOfArguments = 1, maxNumOfArguments = 2, takesKeywordArguments = true, keywordNames = {"key"})
+    @GenerateNodeFactory
+    public abstract static class GroupByNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PGroupByIterator groupBy(Object iterable, Object key, Object keyKeyword) {
+            final PythonCallable function = toCallable(key instanceof PNone ? keyKeyword : key);
+            return new PGroupByIterator(CollectionsModuleBuiltins.toIterator(iterable), function);
+        }
+    }
+
+}
@@ -35,6 +35,7 @@ import com.oracle.truffle.api.dsl.*;
 import edu.uci.python.builtins.*;
 import edu.uci.python.nodes.function.*;
 import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.exception.*;
 import edu.uci.python.runtime.sequence.*;
 
 /**
@@ -120,7 +121,7 @@ public class RandomModuleBuiltins extends PythonBuiltins {
                     if (arr[i] instanceof Integer) {
                         b[i] = ((Integer) arr[i]).byteValue();
                     } else {
-                        throw Py.TypeError("state vector of unexpected type: " + arr[i].getClass());
+                        throw PythonError.TypeError("state vector of unexpected type: " + arr[i].getClass());
                     }
                 }
                 ByteArrayInputStream bin = new ByteArrayInputStream(b);
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.builtins.module;
+
+import java.util.*;
+
+import com.oracle.truffle.api.dsl.*;
+
+import edu.uci.python.builtins.*;
+import edu.uci.python.nodes.function.*;
+import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.exception.*;
+import edu.uci.python.runtime.function.*;
+import edu.uci.python.runtime.iterator.*;
+import edu.uci.python.runtime.sequence.*;
+
+/**
+ * Native re module. Patterns are compiled through {@link PPattern#compile}, which caches them, so
+ * the module level functions do not pay for recompiling a pattern used in a loop.
+ */
+public final class ReModuleBuiltins extends PythonBuiltins {
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinNode>> getNodeFactories() {
+        return ReModuleBuiltinsFactory.getFactories();
+    }
+
+    public ReModuleBuiltins() {
+        builtinConstants.put("I", PPattern.IGNORECASE);
+        builtinConstants.put("IGNORECASE", PPattern.IGNORECASE);
+        builtinConstants.put("L", PPattern.LOCALE);
+        builtinConstants.put("LOCALE", PPattern.LOCALE);
+        builtinConstants.put("M", PPattern.MULTILINE);
+        builtinConstants.put("MULTILINE", PPattern.MULTILINE);
+        builtinConstants.put("S", PPattern.DOTALL);
+        builtinConstants.put("DOTALL", PPattern.DOTALL);
+        builtinConstants.put("U", PPattern.UNICODE);
+        builtinConstants.put("UNICODE", PPattern.UNICODE);
+        builtinConstants.put("X", PPattern.VERBOSE);
+        builtinConstants.put("VERBOSE", PPattern.VERBOSE);
+        builtinConstants.put("A", PPattern.ASCII);
+        builtinConstants.put("ASCII", PPattern.ASCII);
+    }
+
+    protected static String toStr(Object value) {
+        if (value instanceof String) {
+            return (String) value;
+        } else if (value instanceof PString) {
+            return ((PString) value).getValue();
+        }
+
+        throw PythonError.TypeError("expected string or buffer");
+    }
+
+    public static int toInt(Object value, int defaultValue) {
+        if (value instanceof PKeyword) {
+            return toInt(((PKeyword) value).getValue(), defaultValue);
+        } else if (value instanceof PNone) {
+            return defaultValue;
+        } else if (value instanceof Integer) {
+            return (int) value;
+        } else if (value instanceof Boolean) {
+            return (boolean) value ? 1 : 0;
+        }
+
+        throw PythonError.TypeError("an integer is required");
+    }
+
+    protected static PPattern toPattern(Object pattern, Object flags, Object flagsKeyword) {
+        int flagsValue = toInt(flags, 0) | toInt(flagsKeyword, 0);
+        if (pattern instanceof PPattern) {
+            if (flagsValue != 0) {
+                throw PythonError.ValueError("cannot process flags argument with a compiled pattern");
+            }
+            return (PPattern) pattern;
+        }
+
+        return PPattern.compile(toStr(pattern), flagsValue);
+    }
+
+    // re.compile(pattern, flags=0)
+    @Builtin(name = "compile", minNumOfArguments = 1, maxNumOfArguments = 2, takesKeywordArguments = true, keywordNames = {"flags"})
+    @GenerateNodeFactory
+    public abstract static class CompileNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PPattern compile(Object pattern, Object flags, Object flagsKeyword) {
+            return toPattern(pattern, flags, flagsKeyword);
+        }
+    }
+
+    // re.match(pattern, string, flags=0)
+    @Builtin(name = "match", minNumOfArguments = 2, maxNumOfArguments = 3, takesKeywordArguments = true, keywordNames = {"flags"})
+    @GenerateNodeFactory
+    public abstract static class MatchNode extends PythonBuiltinNode {
+
+        @Specialization
+        public Object match(Object pattern, Object string, Object flags, Object flagsKeyword) {
+            String str = toStr(string);
+            return toPattern(pattern, flags, flagsKeyword).match(str, 0, str.length());
+        }
+    }
+
+    // re.search(pattern, string, flags=0)
+    @Builtin(name = "search", minNumOfArguments = 2, maxNumOfArguments = 3, takesKeywordArguments = true, keywordNames = {"flags"})
+    @GenerateNodeFactory
+    public abstract static class SearchNode extends PythonBuiltinNode {
+
+        @Specialization
+        public Object search(Object pattern, Object string, Object flags, Object flagsKeyword) {
+            String str = toStr(string);
+            return toPattern(pattern, flags, flagsKeyword).search(str, 0, str.length());
+        }
+    }
+
+    // re.fullmatch(pattern, string, flags=0)
+    @Builtin(name = "fullmatch", minNumOfArguments = 2, maxNumOfArguments = 3, takesKeywordArguments = true, keywordNames = {"flags"})
+    @GenerateNodeFactory
+    public abstract static class FullMatchNode extends PythonBuiltinNode {
+
+        @Specialization
+        public Object fullmatch(Object pattern, Object string, Object flags, Object flagsKeyword) {
+            String str = toStr(string);
+            return toPattern(pattern, flags, flagsKeyword).fullmatch(str, 0, str.length());
+        }
+    }
+
+    // re.sub(pattern, repl, string, count=0, flags=0)
+    @Builtin(name = "sub", minNumOfArguments = 3, maxNumOfArguments = 5, takesKeywordArguments = true, keywordNames = {"flags"})
+    @GenerateNodeFactory
+    public abstract static class SubNode extends PythonBuiltinNode {
+
+        @Specialization
+        public Object sub(Object pattern, Object repl, Object string, Object count, Object flags, Object flagsKeyword) {
+            return toPattern(pattern, flags, flagsKeyword).subn(repl instanceof PythonCallable ? repl : toStr(repl), toStr(string), toInt(count, 0)).getItem(0);
+        }
+    }
+
+    // re.subn(pattern, repl, string, count=0, flags=0)
+    @Builtin(name = "subn", minNumOfArguments = 3, maxNumOfArguments = 5, takesKeywordArguments = true, keywordNames = {"flags"})
+    @GenerateNodeFactory
+    public abstract static class SubnNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PTuple subn(Object pattern, Object repl, Object string, Object count, Object flags, Object flagsKeyword) {
+            return toPattern(pattern, flags, flagsKeyword).subn(repl instanceof PythonCallable ? repl : toStr(repl), toStr(string), toInt(count, 0));
+        }
+    }
+
+    // re.split(pattern, string, maxsplit=0, flags=0)
+    @Builtin(name = "split", minNumOfArguments = 2, maxNumOfArguments = 4, takesKeywordArguments = true, keywordNames = {"flags"})
+    @GenerateNodeFactory
+    public abstract static class SplitNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PList split(Object pattern, Object string, Object maxsplit, Object flags, Object flagsKeyword) {
+            return toPattern(pattern, flags, flagsKeyword).split(toStr(string), toInt(maxsplit, 0));
+        }
+    }
+
+    // re.findall(pattern, string, flags=0)
+    @Builtin(name = "findall", minNumOfArguments = 2, maxNumOfArguments = 3, takesKeywordArguments = true, keywordNames = {"flags"})
+    @GenerateNodeFactory
+    public abstract static class FindAllNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PList findall(Object pattern, Object string, Object flags, Object flagsKeyword) {
+            String str = toStr(string);
+            return toPattern(pattern, flags, flagsKeyword).findall(str, 0, str.length());
+        }
+    }
+
+    // re.finditer(pattern, string, flags=0)
+    @Builtin(name = "finditer", minNumOfArguments = 2, maxNumOfArguments = 3, takesKeywordArguments = true, keywordNames = {"flags"})
+    @GenerateNodeFactory
+    public abstract static class FindIterNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PIterator finditer(Object pattern, Object string, Object flags, Object flagsKeyword) {
+            String str = toStr(string);
+            return toPattern(pattern, flags, flagsKeyword).finditer(str, 0, str.length());
+        }
+    }
+
+    // re.escape(string)
+    @Builtin(name = "escape", hasFixedNumOfArguments = true, fixedNumOfArguments = 1)
+    @GenerateNodeFactory
+    public abstract static class EscapeNode extends PythonBuiltinNode {
+
+        @Specialization
+        public String escape(String string) {
+            return PPattern.escape(string);
+        }
+    }
+
+    // re.purge()
+    @Builtin(name = "purge", hasFixedNumOfArguments = true, fixedNumOfArguments = 0)
+    @GenerateNodeFactory
+    public abstract static class PurgeNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PNone purge() {
+            PPattern.purge();
+            return PNone.NONE;
+        }
+    }
+
+}
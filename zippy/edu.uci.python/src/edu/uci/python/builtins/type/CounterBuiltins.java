@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.builtins.type;
+
+import java.util.List;
+
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+
+import edu.uci.python.builtins.Builtin;
+import edu.uci.python.builtins.PythonBuiltins;
+import edu.uci.python.builtins.module.CollectionsModuleBuiltins;
+import edu.uci.python.nodes.function.PythonBuiltinNode;
+import edu.uci.python.runtime.datatype.PCounter;
+import edu.uci.python.runtime.datatype.PDict;
+import edu.uci.python.runtime.datatype.PNone;
+import edu.uci.python.runtime.sequence.PList;
+
+public final class CounterBuiltins extends PythonBuiltins {
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinNode>> getNodeFactories() {
+        return CounterBuiltinsFactory.getFactories();
+    }
+
+    protected static void update(PCounter counter, Object source, int sign) {
+        if (source instanceof PDict) {
+            counter.update(source, sign);
+        } else if (!(source instanceof PNone)) {
+            counter.update(CollectionsModuleBuiltins.toIterator(source), sign);
+        }
+    }
+
+    // most_common([n])
+    @Builtin(name = "most_common", minNumOfArguments = 1, maxNumOfArguments = 2)
+    @GenerateNodeFactory
+    public abstract static class MostCommonNode extends PythonBuiltinNode {
+
+        @SuppressWarnings("unused")
+        @Specialization
+        public PList mostCommon(PCounter counter, PNone n) {
+            return counter.mostCommon(-1);
+        }
+
+        @Specialization
+        public PList mostCommon(PCounter counter, int n) {
+            return counter.mostCommon(Math.max(n, 0));
+        }
+    }
+
+    // elements()
+    @Builtin(name = "elements", fixedNumOfArguments = 1, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class ElementsNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PList elements(PCounter counter) {
+            return counter.elements();
+        }
+    }
+
+    // update([iterable_or_mapping])
+    @Builtin(name = "update", minNumOfArguments = 1, maxNumOfArguments = 2)
+    @GenerateNodeFactory
+    public abstract static class UpdateNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PNone update(PCounter counter, Object source) {
+            CounterBuiltins.update(counter, source, 1);
+            return PNone.NONE;
+        }
+    }
+
+    // subtract([iterable_or_mapping])
+    @Builtin(name = "subtract", minNumOfArguments = 1, maxNumOfArguments = 2)
+    @GenerateNodeFactory
+    public abstract static class SubtractNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PNone subtract(PCounter counter, Object source) {
+            CounterBuiltins.update(counter, source, -1);
+            return PNone.NONE;
+        }
+    }
+
+}
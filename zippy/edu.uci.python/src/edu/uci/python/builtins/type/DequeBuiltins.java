@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.builtins.type;
+
+import java.util.List;
+
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+
+import edu.uci.python.builtins.Builtin;
+import edu.uci.python.builtins.PythonBuiltins;
+import edu.uci.python.builtins.module.CollectionsModuleBuiltins;
+import edu.uci.python.nodes.function.PythonBuiltinNode;
+import edu.uci.python.runtime.datatype.PDeque;
+import edu.uci.python.runtime.datatype.PNone;
+
+public final class DequeBuiltins extends PythonBuiltins {
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinNode>> getNodeFactories() {
+        return DequeBuiltinsFactory.getFactories();
+    }
+
+    // append(x)
+    @Builtin(name = "append", fixedNumOfArguments = 2, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class AppendNode extends PythonBuiltinNode {
+
+        @Specialization(guards = "isIntDequeStorage(deque)")
+        public PNone appendInt(PDeque deque, int value) {
+            deque.appendInt(value);
+            return PNone.NONE;
+        }
+
+        @Specialization
+        public PNone append(PDeque deque, Object value) {
+            deque.append(value);
+            return PNone.NONE;
+        }
+    }
+
+    // appendleft(x)
+    @Builtin(name = "appendleft", fixedNumOfArguments = 2, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class AppendLeftNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PNone appendLeft(PDeque deque, Object value) {
+            deque.appendLeft(value);
+            return PNone.NONE;
+        }
+    }
+
+    // pop()
+    @Builtin(name = "pop", fixedNumOfArguments = 1, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class PopNode extends PythonBuiltinNode {
+
+        @Specialization(guards = "isIntDequeStorage(deque)")
+        public int popInt(PDeque deque) {
+            return deque.popInt();
+        }
+
+        @Specialization
+        public Object pop(PDeque deque) {
+            return deque.pop();
+        }
+    }
+
+    // popleft()
+    @Builtin(name = "popleft", fixedNumOfArguments = 1, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class PopLeftNode extends PythonBuiltinNode {
+
+        @Specialization(guards = "isIntDequeStorage(deque)")
+        public int popLeftInt(PDeque deque) {
+            return deque.popLeftInt();
+        }
+
+        @Specialization
+        public Object popLeft(PDeque deque) {
+            return deque.popLeft();
+        }
+    }
+
+    // extend(iterable)
+    @Builtin(name = "extend", fixedNumOfArguments = 2, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class ExtendNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PNone extend(PDeque deque, Object iterable) {
+            deque.extend(CollectionsModuleBuiltins.toIterator(iterable));
+            return PNone.NONE;
+        }
+    }
+
+    // extendleft(iterable)
+    @Builtin(name = "extendleft", fixedNumOfArguments = 2, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class ExtendLeftNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PNone extendLeft(PDeque deque, Object iterable) {
+            deque.extendLeft(CollectionsModuleBuiltins.toIterator(iterable));
+            return PNone.NONE;
+        }
+    }
+
+    // rotate(n=1)
+    @Builtin(name = "rotate", minNumOfArguments = 1, maxNumOfArguments = 2)
+    @GenerateNodeFactory
+    public abstract static class RotateNode extends PythonBuiltinNode {
+
+        @SuppressWarnings("unused")
+        @Specialization
+        public PNone rotate(PDeque deque, PNone n) {
+            deque.rotate(1);
+            return PNone.NONE;
+        }
+
+        @Specialization
+        public PNone rotate(PDeque deque, int n) {
+            deque.rotate(n);
+            return PNone.NONE;
+        }
+    }
+
+    // clear()
+    @Builtin(name = "clear", fixedNumOfArguments = 1, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class ClearNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PNone clear(PDeque deque) {
+            deque.clear();
+            return PNone.NONE;
+        }
+    }
+
+    // count(x)
+    @Builtin(name = "count", fixedNumOfArguments = 2, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class CountNode extends PythonBuiltinNode {
+
+        @Specialization
+        public int count(PDeque deque, Object value) {
+            return deque.count(value);
+        }
+    }
+
+    // remove(value)
+    @Builtin(name = "remove", fixedNumOfArguments = 2, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class RemoveNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PNone remove(PDeque deque, Object value) {
+            deque.remove(value);
+            return PNone.NONE;
+        }
+    }
+
+    // reverse()
+    @Builtin(name = "reverse", fixedNumOfArguments = 1, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class ReverseNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PNone reverse(PDeque deque) {
+            deque.reverse();
+            return PNone.NONE;
+        }
+    }
+
+    // copy()
+    @Builtin(name = "copy", fixedNumOfArguments = 1, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class CopyNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PDeque copy(PDeque deque) {
+            return deque.copy();
+        }
+    }
+
+}
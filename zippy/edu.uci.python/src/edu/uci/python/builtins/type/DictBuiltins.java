@@ -34,6 +34,8 @@ import edu.uci.python.builtins.PythonBuiltins;
 import edu.uci.python.nodes.function.PythonBuiltinNode;
 import edu.uci.python.runtime.datatype.PDict;
 import edu.uci.python.runtime.datatype.PDictView;
+import edu.uci.python.runtime.datatype.storage.IntDictStorage;
+import edu.uci.python.runtime.exception.PythonError;
 import edu.uci.python.runtime.sequence.PList;
 import edu.uci.python.runtime.sequence.PTuple;
 import edu.uci.python.runtime.sequence.storage.IntSequenceStorage;
@@ -57,10 +59,12 @@ public final class DictBuiltins extends PythonBuiltins {
 
         @Specialization
         public Object setDefault(PDict dict, Object arg0, Object arg1) {
-            if (dict.getMap().containsKey(arg0)) {
-                return dict.getMap().get(arg0);
+            final Object value = dict.getItem(arg0);
+
+            if (value != null) {
+                return value;
             } else {
-                dict.getMap().put(arg0, arg1);
+                dict.setItem(arg0, arg1);
                 return arg1;
             }
         }
@@ -73,9 +77,8 @@ public final class DictBuiltins extends PythonBuiltins {
 
         @Specialization
         public Object pop(PDict dict, Object arg0, Object arg1) {
-            Object retVal = dict.getMap().get(arg0);
+            Object retVal = dict.removeItem(arg0);
             if (retVal != null) {
-                dict.getMap().remove(arg0);
                 return retVal;
             } else {
                 return arg1;
@@ -90,11 +93,13 @@ public final class DictBuiltins extends PythonBuiltins {
 
         @Specialization
         public Object popItem(PDict dict) {
-            Object key = dict.__iter__().__next__();
-            dict.delItem(key);
-            Object nextKey = dict.__iter__().__next__();
-            Object nextValue = dict.getItem(nextKey);
-            return new PTuple(new Object[]{nextKey, nextValue});
+            final PTuple item = dict.popItem();
+
+            if (item == null) {
+                throw PythonError.KeyError("popitem(): dictionary is empty");
+            }
+
+            return item;
         }
     }
 
@@ -103,12 +108,13 @@ public final class DictBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     public abstract static class KeysNode extends PythonBuiltinNode {
 
-        @Specialization(rewriteOn = ClassCastException.class)
+        @Specialization(guards = "isIntDictStorage(self)")
         public PList keysPDictInt(PDict self) {
+            IntDictStorage dictStore = (IntDictStorage) self.getStorage();
             IntSequenceStorage store = new IntSequenceStorage();
 
-            for (Object key : self.keys()) {
-                store.appendInt((int) key);
+            for (int i = dictStore.nextEntry(0); i >= 0; i = dictStore.nextEntry(i + 1)) {
+                store.appendInt(dictStore.intKeyAt(i));
             }
 
             return new PList(store);
@@ -132,13 +138,13 @@ public final class DictBuiltins extends PythonBuiltins {
     }
 
     // get(key[, default])
-    @Builtin(name = "get", fixedNumOfArguments = 3, hasFixedNumOfArguments = true)
+    @Builtin(name = "get", minNumOfArguments = 2, maxNumOfArguments = 3)
     @GenerateNodeFactory
     public abstract static class GetNode extends PythonBuiltinNode {
 
         @Specialization
         public Object get(PDict dict, Object key, Object defaultValue) {
-            final Object value = dict.getMap().get(key);
+            final Object value = dict.getItem(key);
             return value != null ? value : defaultValue;
         }
     }
@@ -150,7 +156,7 @@ public final class DictBuiltins extends PythonBuiltins {
 
         @Specialization
         public PDict copy(PDict dict) {
-            return new PDict(dict.getMap());
+            return dict.copy();
         }
     }
 
@@ -161,7 +167,7 @@ public final class DictBuiltins extends PythonBuiltins {
 
         @Specialization
         public PDict copy(PDict dict) {
-            dict.getMap().clear();
+            dict.clear();
             return dict;
         }
     }
@@ -171,6 +177,18 @@ public final class DictBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     public abstract static class ValuesNode extends PythonBuiltinNode {
 
+        @Specialization(guards = "isIntDictStorage(dict)")
+        public PList valuesPDictInt(PDict dict) {
+            IntDictStorage dictStore = (IntDictStorage) dict.getStorage();
+            IntSequenceStorage store = new IntSequenceStorage();
+
+            for (int i = dictStore.nextEntry(0); i >= 0; i = dictStore.nextEntry(i + 1)) {
+                store.appendInt(dictStore.intValueAt(i));
+            }
+
+            return new PList(store);
+        }
+
         @Specialization
         public PList values(PDict dict) {
             return new PList(dict.values());
@@ -26,12 +26,17 @@ package edu.uci.python.builtins.type;
 
 import java.util.*;
 
+import com.oracle.truffle.api.*;
 import com.oracle.truffle.api.dsl.*;
 
 import edu.uci.python.builtins.*;
 import edu.uci.python.nodes.function.*;
+import edu.uci.python.nodes.truffle.*;
 import edu.uci.python.runtime.datatype.*;
 import edu.uci.python.runtime.exception.*;
+import edu.uci.python.runtime.function.*;
+import edu.uci.python.runtime.iterator.*;
+import edu.uci.python.runtime.misc.*;
 import edu.uci.python.runtime.sequence.*;
 import edu.uci.python.runtime.sequence.storage.*;
 
@@ -99,6 +104,15 @@ public class ListBuiltins extends PythonBuiltins {
             store.append(arg);
             return list;
         }
+
+        /**
+         * The value does not fit the current storage, e.g. a long appended to int storage.
+         */
+        @Specialization
+        public PList appendAndGeneralize(PList list, Object arg) {
+            list.append(arg);
+            return list;
+        }
     }
 
     // list.extend(L)
@@ -205,6 +219,30 @@ public class ListBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     public abstract static class ListIndexNode extends PythonBuiltinNode {
 
+        @Specialization(guards = "isIntStorage(list)")
+        public int indexInt(PList list, int arg) {
+            return checkFound(((IntSequenceStorage) list.getStorage()).indexOfInt(arg), arg);
+        }
+
+        @Specialization(guards = "isLongStorage(list)")
+        public int indexLong(PList list, long arg) {
+            return checkFound(((LongSequenceStorage) list.getStorage()).indexOfLong(arg), arg);
+        }
+
+        @Specialization(guards = "isDoubleStorage(list)")
+        public int indexDouble(PList list, double arg) {
+            return checkFound(((DoubleSequenceStorage) list.getStorage()).indexOfDouble(arg), arg);
+        }
+
+        private static int checkFound(int index, Object arg) {
+            if (index == -1) {
+                CompilerDirectives.transferToInterpreter();
+                throw PythonError.ValueError(arg + " is not in list");
+            }
+
+            return index;
+        }
+
         @Specialization
         public int index(PList list, Object arg) {
             return list.index(arg);
@@ -216,13 +254,30 @@ public class ListBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     public abstract static class ListCountNode extends PythonBuiltinNode {
 
+        @Specialization(guards = "isIntStorage(list)")
+        public int countInt(PList list, int arg) {
+            return ((IntSequenceStorage) list.getStorage()).countInt(arg);
+        }
+
+        @Specialization(guards = "isLongStorage(list)")
+        public int countLong(PList list, long arg) {
+            return ((LongSequenceStorage) list.getStorage()).countLong(arg);
+        }
+
+        @Specialization(guards = "isDoubleStorage(list)")
+        public int countDouble(PList list, double arg) {
+            return ((DoubleSequenceStorage) list.getStorage()).countDouble(arg);
+        }
+
         @Specialization
         public int count(PList list, Object arg) {
+            final PIterator iterator = list.__iter__();
+            final Object normalized = PString.normalize(arg);
             int count = 0;
 
             try {
                 while (true) {
-                    if (list.__iter__().__next__().equals(arg)) {
+                    if (iterator.__next__().equals(normalized)) {
                         count++;
                     }
                 }
@@ -234,15 +289,45 @@ public class ListBuiltins extends PythonBuiltins {
         }
     }
 
-    // list.sort()
-    @Builtin(name = "sort", fixedNumOfArguments = 1, hasFixedNumOfArguments = true)
+    // list.sort(key=None, reverse=False)
+    @Builtin(name = "sort", fixedNumOfArguments = 1, hasFixedNumOfArguments = true, takesKeywordArguments = true, takesVariableKeywords = true, keywordNames = {"key", "reverse"})
     @GenerateNodeFactory
     public abstract static class ListSortNode extends PythonBuiltinNode {
 
         @Specialization
-        public PList sort(PList list) {
-            list.sort();
-            return list;
+        public PNone sort(PList list, Object[] keywords) {
+            sort(list, keywords, "sort");
+            return PNone.NONE;
+        }
+
+        /**
+         * Shared by list.sort() and sorted(): parses the key and reverse keywords and sorts the
+         * list in place.
+         */
+        public static void sort(PList list, Object[] keywords, String name) {
+            PythonCallable key = null;
+            boolean reverse = false;
+
+            if (keywords != null) {
+                for (int i = 0; i < keywords.length; i++) {
+                    PKeyword keyword = (PKeyword) keywords[i];
+                    Object value = keyword.getValue();
+
+                    if (keyword.getName().equals("key")) {
+                        if (value instanceof PythonCallable) {
+                            key = (PythonCallable) value;
+                        } else if (!(value instanceof PNone)) {
+                            throw PythonError.TypeError("'" + PythonTypesUtil.getPythonTypeName(value) + "' object is not callable");
+                        }
+                    } else if (keyword.getName().equals("reverse")) {
+                        reverse = JavaTypeConversions.toBoolean(value);
+                    } else {
+                        throw PythonError.TypeError("'" + keyword.getName() + "' is an invalid keyword argument for " + name + "()");
+                    }
+                }
+            }
+
+            list.sort(key, reverse);
         }
     }
 
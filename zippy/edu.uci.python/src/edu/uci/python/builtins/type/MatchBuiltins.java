@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.builtins.type;
+
+import java.util.*;
+
+import com.oracle.truffle.api.dsl.*;
+
+import edu.uci.python.builtins.*;
+import edu.uci.python.nodes.function.*;
+import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.sequence.*;
+
+public final class MatchBuiltins extends PythonBuiltins {
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinNode>> getNodeFactories() {
+        return MatchBuiltinsFactory.getFactories();
+    }
+
+    // match.group([group1, ...])
+    @Builtin(name = "group", minNumOfArguments = 1, takesVariableArguments = true)
+    @GenerateNodeFactory
+    public abstract static class GroupNode extends PythonBuiltinNode {
+
+        @Specialization
+        public Object group(PMatch self, PTuple groups) {
+            if (groups.len() == 0) {
+                return self.group(0);
+            } else if (groups.len() == 1) {
+                return self.group(groups.getItem(0));
+            }
+
+            Object[] items = new Object[groups.len()];
+            for (int i = 0; i < items.length; i++) {
+                items[i] = self.group(groups.getItem(i));
+            }
+            return new PTuple(items);
+        }
+    }
+
+    // match.groups(default=None)
+    @Builtin(name = "groups", minNumOfArguments = 1, maxNumOfArguments = 2)
+    @GenerateNodeFactory
+    public abstract static class GroupsNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PTuple groups(PMatch self, Object defaultValue) {
+            return self.groups(defaultValue);
+        }
+    }
+
+    // match.groupdict(default=None)
+    @Builtin(name = "groupdict", minNumOfArguments = 1, maxNumOfArguments = 2)
+    @GenerateNodeFactory
+    public abstract static class GroupDictNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PDict groupdict(PMatch self, Object defaultValue) {
+            return self.groupdict(defaultValue);
+        }
+    }
+
+    // match.start([group])
+    @Builtin(name = "start", minNumOfArguments = 1, maxNumOfArguments = 2)
+    @GenerateNodeFactory
+    public abstract static class StartNode extends PythonBuiltinNode {
+
+        @SuppressWarnings("unused")
+        @Specialization
+        public int start(PMatch self, PNone group) {
+            return self.start(0);
+        }
+
+        @Specialization
+        public int start(PMatch self, Object group) {
+            return self.start(group);
+        }
+    }
+
+    // match.end([group])
+    @Builtin(name = "end", minNumOfArguments = 1, maxNumOfArguments = 2)
+    @GenerateNodeFactory
+    public abstract static class EndNode extends PythonBuiltinNode {
+
+        @SuppressWarnings("unused")
+        @Specialization
+        public int end(PMatch self, PNone group) {
+            return self.end(0);
+        }
+
+        @Specialization
+        public int end(PMatch self, Object group) {
+            return self.end(group);
+        }
+    }
+
+    // match.span([group])
+    @Builtin(name = "span", minNumOfArguments = 1, maxNumOfArguments = 2)
+    @GenerateNodeFactory
+    public abstract static class SpanNode extends PythonBuiltinNode {
+
+        @SuppressWarnings("unused")
+        @Specialization
+        public PTuple span(PMatch self, PNone group) {
+            return self.span(0);
+        }
+
+        @Specialization
+        public PTuple span(PMatch self, Object group) {
+            return self.span(group);
+        }
+    }
+
+    // match.expand(template)
+    @Builtin(name = "expand", hasFixedNumOfArguments = true, fixedNumOfArguments = 2)
+    @GenerateNodeFactory
+    public abstract static class ExpandNode extends PythonBuiltinNode {
+
+        @Specialization
+        public String expand(PMatch self, String template) {
+            return self.getPattern().expand(self, template);
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.builtins.type;
+
+import java.util.List;
+
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+
+import edu.uci.python.builtins.Builtin;
+import edu.uci.python.builtins.PythonBuiltins;
+import edu.uci.python.builtins.module.ReModuleBuiltins;
+import edu.uci.python.nodes.function.PythonBuiltinNode;
+import edu.uci.python.runtime.datatype.PNone;
+import edu.uci.python.runtime.datatype.POrderedDict;
+import edu.uci.python.runtime.exception.PythonError;
+import edu.uci.python.runtime.sequence.PTuple;
+
+public final class OrderedDictBuiltins extends PythonBuiltins {
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinNode>> getNodeFactories() {
+        return OrderedDictBuiltinsFactory.getFactories();
+    }
+
+    protected static boolean isLast(Object last, Object lastKeyword) {
+        return ReModuleBuiltins.toInt(last instanceof PNone ? lastKeyword : last, 1) != 0;
+    }
+
+    // move_to_end(key, last=True)
+    @Builtin(name = "move_to_end", minNumOfArguments = 2, maxNumOfArguments = 3, takesKeywordArguments = true, keywordNames = {"last"})
+    @GenerateNodeFactory
+    public abstract static class MoveToEndNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PNone moveToEnd(POrderedDict dict, Object key, Object last, Object lastKeyword) {
+            dict.moveToEnd(key, isLast(last, lastKeyword));
+            return PNone.NONE;
+        }
+    }
+
+    // popitem(last=True)
+    @Builtin(name = "popitem", minNumOfArguments = 1, maxNumOfArguments = 2, takesKeywordArguments = true, keywordNames = {"last"})
+    @GenerateNodeFactory
+    public abstract static class PopItemNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PTuple popItem(POrderedDict dict, Object last, Object lastKeyword) {
+            final PTuple item = dict.popItem(isLast(last, lastKeyword));
+
+            if (item == null) {
+                throw PythonError.KeyError("dictionary is empty");
+            }
+
+            return item;
+        }
+    }
+
+}
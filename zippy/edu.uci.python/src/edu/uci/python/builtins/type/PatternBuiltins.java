@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.builtins.type;
+
+import java.util.*;
+
+import com.oracle.truffle.api.dsl.*;
+
+import edu.uci.python.builtins.*;
+import edu.uci.python.builtins.module.*;
+import edu.uci.python.nodes.function.*;
+import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.function.*;
+import edu.uci.python.runtime.iterator.*;
+import edu.uci.python.runtime.sequence.*;
+
+public final class PatternBuiltins extends PythonBuiltins {
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinNode>> getNodeFactories() {
+        return PatternBuiltinsFactory.getFactories();
+    }
+
+    protected static int toPos(Object pos) {
+        return ReModuleBuiltins.toInt(pos, 0);
+    }
+
+    protected static int toEndpos(Object endpos, String string) {
+        return ReModuleBuiltins.toInt(endpos, string.length());
+    }
+
+    // pattern.match(string[, pos[, endpos]])
+    @Builtin(name = "match", minNumOfArguments = 2, maxNumOfArguments = 4)
+    @GenerateNodeFactory
+    public abstract static class MatchNode extends PythonBuiltinNode {
+
+        @Specialization
+        public Object match(PPattern self, String string, Object pos, Object endpos) {
+            return self.match(string, toPos(pos), toEndpos(endpos, string));
+        }
+    }
+
+    // pattern.search(string[, pos[, endpos]])
+    @Builtin(name = "search", minNumOfArguments = 2, maxNumOfArguments = 4)
+    @GenerateNodeFactory
+    public abstract static class SearchNode extends PythonBuiltinNode {
+
+        @Specialization
+        public Object search(PPattern self, String string, Object pos, Object endpos) {
+            return self.search(string, toPos(pos), toEndpos(endpos, string));
+        }
+    }
+
+    // pattern.fullmatch(string[, pos[, endpos]])
+    @Builtin(name = "fullmatch", minNumOfArguments = 2, maxNumOfArguments = 4)
+    @GenerateNodeFactory
+    public abstract static class FullMatchNode extends PythonBuiltinNode {
+
+        @Specialization
+        public Object fullmatch(PPattern self, String string, Object pos, Object endpos) {
+            return self.fullmatch(string, toPos(pos), toEndpos(endpos, string));
+        }
+    }
+
+    // pattern.findall(string[, pos[, endpos]])
+    @Builtin(name = "findall", minNumOfArguments = 2, maxNumOfArguments = 4)
+    @GenerateNodeFactory
+    public abstract static class FindAllNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PList findall(PPattern self, String string, Object pos, Object endpos) {
+            return self.findall(string, toPos(pos), toEndpos(endpos, string));
+        }
+    }
+
+    // pattern.finditer(string[, pos[, endpos]])
+    @Builtin(name = "finditer", minNumOfArguments = 2, maxNumOfArguments = 4)
+    @GenerateNodeFactory
+    public abstract static class FindIterNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PIterator finditer(PPattern self, String string, Object pos, Object endpos) {
+            return self.finditer(string, toPos(pos), toEndpos(endpos, string));
+        }
+    }
+
+    // pattern.sub(repl, string, count=0)
+    @Builtin(name = "sub", minNumOfArguments = 3, maxNumOfArguments = 4)
+    @GenerateNodeFactory
+    public abstract static class SubNode extends PythonBuiltinNode {
+
+        @Specialization
+        public Object sub(PPattern self, String repl, String string, Object count) {
+            return self.subn(repl, string, ReModuleBuiltins.toInt(count, 0)).getItem(0);
+        }
+
+        @Specialization
+        public Object sub(PPattern self, PythonCallable repl, String string, Object count) {
+            return self.subn(repl, string, ReModuleBuiltins.toInt(count, 0)).getItem(0);
+        }
+    }
+
+    // pattern.subn(repl, string, count=0)
+    @Builtin(name = "subn", minNumOfArguments = 3, maxNumOfArguments = 4)
+    @GenerateNodeFactory
+    public abstract static class SubnNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PTuple subn(PPattern self, String repl, String string, Object count) {
+            return self.subn(repl, string, ReModuleBuiltins.toInt(count, 0));
+        }
+
+        @Specialization
+        public PTuple subn(PPattern self, PythonCallable repl, String string, Object count) {
+            return self.subn(repl, string, ReModuleBuiltins.toInt(count, 0));
+        }
+    }
+
+    // pattern.split(string, maxsplit=0)
+    @Builtin(name = "split", minNumOfArguments = 2, maxNumOfArguments = 3)
+    @GenerateNodeFactory
+    public abstract static class SplitNode extends PythonBuiltinNode {
+
+        @Specialization
+        public PList split(PPattern self, String string, Object maxsplit) {
+            return self.split(string, ReModuleBuiltins.toInt(maxsplit, 0));
+        }
+    }
+
+}
@@ -31,6 +31,7 @@ import com.oracle.truffle.api.dsl.*;
 import edu.uci.python.builtins.*;
 import edu.uci.python.nodes.function.*;
 import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.exception.*;
 import edu.uci.python.runtime.sequence.*;
 
 /**
@@ -66,4 +67,45 @@ public final class SetBuiltins extends PythonBuiltins {
         }
     }
 
+    @Builtin(name = "remove", fixedNumOfArguments = 2, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class RemoveNode extends PythonBuiltinNode {
+
+        @Specialization
+        public Object remove(PSet self, Object o) {
+            if (!self.remove(o)) {
+                throw PythonError.KeyError(o.toString());
+            }
+
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "discard", fixedNumOfArguments = 2, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class DiscardNode extends PythonBuiltinNode {
+
+        @Specialization
+        public Object discard(PSet self, Object o) {
+            self.discard(o);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "pop", fixedNumOfArguments = 1, hasFixedNumOfArguments = true)
+    @GenerateNodeFactory
+    public abstract static class PopNode extends PythonBuiltinNode {
+
+        @Specialization
+        public Object pop(PSet self) {
+            final Object element = self.pop();
+
+            if (element == null) {
+                throw PythonError.KeyError("pop from an empty set");
+            }
+
+            return element;
+        }
+    }
+
 }
@@ -63,6 +63,11 @@ public final class StringBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     public abstract static class StartsWithNode extends PythonBuiltinNode {
 
+        @Specialization
+        public Object startsWith(PString self, String prefix) {
+            return self.startsWith(prefix);
+        }
+
         @Specialization
         public Object startsWith(String self, String prefix) {
             if (self.startsWith(prefix)) {
@@ -103,11 +108,11 @@ public final class StringBuiltins extends PythonBuiltins {
             ObjectSequenceStorage store = (ObjectSequenceStorage) list.getStorage();
 
             for (int i = 0; i < list.len() - 1; i++) {
-                sb.append(store.getItemNormalized(i));
+                PString.appendTo(sb, store.getItemNormalized(i));
                 sb.append(string);
             }
 
-            sb.append(list.getItem(list.len() - 1));
+            PString.appendTo(sb, list.getItem(list.len() - 1));
             return sb.toString();
         }
 
@@ -130,11 +135,11 @@ public final class StringBuiltins extends PythonBuiltins {
             StringBuilder sb = new StringBuilder();
 
             for (int i = 0; i < seq.len() - 1; i++) {
-                sb.append(seq.getItem(i).toString());
+                PString.appendTo(sb, seq.getItem(i));
                 sb.append(string);
             }
 
-            sb.append(seq.getItem(seq.len() - 1));
+            PString.appendTo(sb, seq.getItem(seq.len() - 1));
             return sb.toString();
         }
 
@@ -145,13 +150,13 @@ public final class StringBuiltins extends PythonBuiltins {
             }
 
             StringBuilder sb = new StringBuilder();
-            Object[] joinString = arg.getSet().toArray();
+            Object[] joinString = arg.toArray();
             for (int i = 0; i < joinString.length - 1; i++) {
-                sb.append(joinString[i]);
+                PString.appendTo(sb, joinString[i]);
                 sb.append(string);
             }
 
-            sb.append(joinString[joinString.length - 1]);
+            PString.appendTo(sb, joinString[joinString.length - 1]);
             return sb.toString();
         }
 
@@ -187,7 +192,7 @@ public final class StringBuiltins extends PythonBuiltins {
             for (int i = 0; i < from.length(); i++) {
                 int key = from.charAt(i);
                 int value = to.charAt(i);
-                translation.setItem(key, value);
+                translation.setIntItem(key, value);
             }
 
             return translation;
@@ -205,7 +210,7 @@ public final class StringBuiltins extends PythonBuiltins {
 
             for (int i = 0; i < self.length(); i++) {
                 char original = self.charAt(i);
-                Object translated = table.getItem((int) original);
+                Object translated = table.getIntItem(original);
                 int ord = translated == null ? original : (int) translated;
                 translatedChars[i] = (char) ord;
             }
@@ -3,6 +3,7 @@ package edu.uci.python.nodes;
 import com.oracle.truffle.api.frame.*;
 
 import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.datatype.storage.*;
 import edu.uci.python.runtime.function.*;
 import edu.uci.python.runtime.iterator.*;
 import edu.uci.python.runtime.object.*;
@@ -62,6 +63,10 @@ public abstract class PGuards {
         return list.getStorage() instanceof DoubleSequenceStorage;
     }
 
+    public static boolean isComplexStorage(PList list) {
+        return list.getStorage() instanceof ComplexSequenceStorage;
+    }
+
     public static boolean isListStorage(PList list) {
         return list.getStorage() instanceof ListSequenceStorage;
     }
@@ -101,6 +106,34 @@ public abstract class PGuards {
         return false;
     }
 
+    public static boolean isEmptyDictStorage(PDict dict) {
+        return dict.getStorage() instanceof EmptyDictStorage;
+    }
+
+    public static boolean isIntDictStorage(PDict dict) {
+        return dict.getStorage() instanceof IntDictStorage;
+    }
+
+    public static boolean isStringDictStorage(PDict dict) {
+        return dict.getStorage() instanceof StringDictStorage;
+    }
+
+    public static boolean isIntDequeStorage(PDeque deque) {
+        return deque.getStorage() instanceof IntDequeStorage;
+    }
+
+    public static boolean isCountSlice(PISliceIterator iterator) {
+        return iterator.hasStop() && iterator.getIterator() instanceof PCountIterator;
+    }
+
+    public static boolean isIntSetStorage(PBaseSet set) {
+        return set.getStorage() instanceof IntSetStorage;
+    }
+
+    public static boolean isStringSetStorage(PBaseSet set) {
+        return set.getStorage() instanceof StringSetStorage;
+    }
+
     public static boolean isNotPythonObject(Object obj) {
         return !(obj instanceof PythonObject);
     }
@@ -76,6 +76,11 @@ public abstract class ReadIndexedArgumentNode extends PNode {
 
         @Override
         public Object execute(VirtualFrame frame) {
+            if (index >= PArguments.getUserArgumentLength(frame)) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                return replace(new GenericReadArgumentNode(index)).execute(frame);
+            }
+
             return PArguments.getArgumentAt(frame, index);
         }
     }
@@ -89,10 +94,36 @@ public abstract class ReadIndexedArgumentNode extends PNode {
 
         @Override
         public Object execute(VirtualFrame frame) {
+            if (index < PArguments.getUserArgumentLength(frame)) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                return replace(new GenericReadArgumentNode(index)).execute(frame);
+            }
+
             return PNone.NONE;
         }
     }
 
+    /**
+     * A builtin's call target is shared by the runtime callers that invoke it directly, and those
+     * may pass a different number of arguments from one call to the next.
+     */
+    @NodeInfo(cost = NodeCost.MEGAMORPHIC)
+    public static final class GenericReadArgumentNode extends ReadIndexedArgumentNode {
+
+        public GenericReadArgumentNode(int index) {
+            super(index);
+        }
+
+        @Override
+        public Object execute(VirtualFrame frame) {
+            if (index >= PArguments.getUserArgumentLength(frame)) {
+                return PNone.NONE;
+            }
+
+            return PArguments.getArgumentAt(frame, index);
+        }
+    }
+
     @NodeInfo(cost = NodeCost.UNINITIALIZED)
     public static final class UninitializedReadArgumentNode extends ReadIndexedArgumentNode {
 
@@ -47,6 +47,7 @@ public abstract class CallDispatchBoxedNode extends CallDispatchNode {
 
     protected final Object executeCallAndRewrite(CallDispatchBoxedNode next, VirtualFrame frame, PythonObject primaryObj, Object[] arguments, PKeyword[] keywords) {
         CompilerDirectives.transferToInterpreterAndInvalidate();
+        InlineCacheTelemetry.invalidation(this, InlineCacheTelemetry.CALL, calleeName);
         return replace(next).executeCall(frame, primaryObj, arguments, keywords);
     }
 
@@ -203,20 +204,39 @@ public abstract class CallDispatchBoxedNode extends CallDispatchNode {
         }
     }
 
+    /**
+     * Method calls on instances look the method up in the {@link PythonMethodCache} of the class's
+     * context and go through an indirect call, so the site does not evaluate the callee attribute
+     * again. Other calls re-evaluate the callee.
+     */
     @NodeInfo(cost = NodeCost.MEGAMORPHIC)
     public static final class GenericDispatchBoxedNode extends CallDispatchBoxedNode {
 
         @Child protected PNode calleeNode;
+        @Child protected IndirectCallNode indirectCall;
         private final boolean isPrimaryPassedInArguments;
 
         public GenericDispatchBoxedNode(String calleeName, PNode calleeNode, boolean isPrimaryPassedInArguments) {
             super(calleeName);
             this.calleeNode = calleeNode;
+            this.indirectCall = Truffle.getRuntime().createIndirectCallNode();
             this.isPrimaryPassedInArguments = isPrimaryPassedInArguments;
         }
 
         @Override
         public Object executeCall(VirtualFrame frame, PythonObject primaryObj, Object[] arguments, PKeyword[] keywords) {
+            if (isPrimaryPassedInArguments && isInstance(primaryObj) && !primaryObj.isOwnAttribute(calleeName)) {
+                PythonClass clazz = primaryObj.getPythonClass();
+                Object method = clazz.getContext().getMethodCache().lookup(clazz, calleeName);
+
+                if (method instanceof PFunction && !(method instanceof PGeneratorFunction)) {
+                    PFunction function = (PFunction) method;
+                    Object[] combined = keywords.length == 0 ? arguments : PArguments.applyKeywordArgs(function.getArity(), arguments, keywords);
+                    PArguments.setDeclarationFrame(combined, function.getDeclarationFrame());
+                    return indirectCall.call(frame, function.getCallTarget(), combined);
+                }
+            }
+
             PythonCallable callee;
 
             try {
@@ -226,10 +246,14 @@ public abstract class CallDispatchBoxedNode extends CallDispatchNode {
             }
 
             if (callee instanceof PMethod && isPrimaryPassedInArguments) {
-                return ((PMethod) callee).__func__().call(arguments);
+                callee = ((PMethod) callee).__func__();
             }
 
-            return callee.call(arguments);
+            return keywords.length == 0 ? callee.call(arguments) : callee.call(arguments, keywords);
+        }
+
+        private static boolean isInstance(PythonObject primaryObj) {
+            return !(primaryObj instanceof PythonClass) && !(primaryObj instanceof PythonModule);
         }
     }
 
@@ -280,7 +304,9 @@ public abstract class CallDispatchBoxedNode extends CallDispatchNode {
 
             CallDispatchBoxedNode specialized;
 
-            if (getDispatchDepth() < PythonOptions.CallSiteInlineCacheMaxDepth) {
+            final int depth = getDispatchDepth();
+
+            if (depth < PythonOptions.CallSiteInlineCacheMaxDepth) {
                 PythonCallable callee;
 
                 try {
@@ -289,8 +315,10 @@ public abstract class CallDispatchBoxedNode extends CallDispatchNode {
                     throw new IllegalStateException("Call to " + e.getMessage() + " not supported.");
                 }
 
+                InlineCacheTelemetry.rewrite(this, InlineCacheTelemetry.CALL, calleeName, depth + 1);
                 specialized = replace(create(primaryObj, calleeName, callee, calleeNode, keywords, isPrimaryPassedInArguments));
             } else {
+                InlineCacheTelemetry.megamorphic(this, InlineCacheTelemetry.CALL, calleeName);
                 specialized = getTop().replace(new GenericDispatchBoxedNode(calleeName, calleeNode, isPrimaryPassedInArguments));
             }
 
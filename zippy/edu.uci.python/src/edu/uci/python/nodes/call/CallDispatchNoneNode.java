@@ -54,7 +54,7 @@ public abstract class CallDispatchNoneNode extends CallDispatchNode {
             return new GeneratorDispatchNoneNode((PGeneratorFunction) callee, next);
         }
 
-        if (callee instanceof PFunction) {
+        if (callee instanceof PFunction || callee instanceof PBuiltinFunction) {
             return new LinkedDispatchNoneNode(callee, next);
         }
 
@@ -63,7 +63,8 @@ public abstract class CallDispatchNoneNode extends CallDispatchNode {
             return new LinkedDispatchNoneNode((PythonCallable) clazz.getAttribute("__init__"), next);
         }
 
-        throw new UnsupportedOperationException("Unsupported callee type " + callee);
+        // Bound built-in methods and other callables go through their generic call path.
+        return new GenericDispatchNoneNode(callee.getName());
     }
 
     /**
@@ -175,9 +176,13 @@ public abstract class CallDispatchNoneNode extends CallDispatchNode {
 
             CallDispatchNoneNode specialized;
 
-            if (getDispatchDepth() < PythonOptions.CallSiteInlineCacheMaxDepth) {
+            final int depth = getDispatchDepth();
+
+            if (depth < PythonOptions.CallSiteInlineCacheMaxDepth) {
+                InlineCacheTelemetry.rewrite(this, InlineCacheTelemetry.CALL, calleeName, depth + 1);
                 specialized = replace(CallDispatchNoneNode.create(callee, keywords));
             } else {
+                InlineCacheTelemetry.megamorphic(this, InlineCacheTelemetry.CALL, calleeName);
                 specialized = getTop().replace(new GenericDispatchNoneNode(calleeName));
             }
 
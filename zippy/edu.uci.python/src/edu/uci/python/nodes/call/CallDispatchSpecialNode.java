@@ -32,6 +32,7 @@ import edu.uci.python.nodes.control.*;
 import edu.uci.python.nodes.object.*;
 import edu.uci.python.nodes.truffle.*;
 import edu.uci.python.runtime.*;
+import edu.uci.python.runtime.exception.*;
 import edu.uci.python.runtime.function.*;
 import edu.uci.python.runtime.object.*;
 
@@ -45,9 +46,38 @@ public abstract class CallDispatchSpecialNode extends CallDispatchNode {
 
     protected final Object executeCallAndRewrite(CallDispatchSpecialNode next, VirtualFrame frame, Object left, Object right) {
         CompilerDirectives.transferToInterpreterAndInvalidate();
+        InlineCacheTelemetry.invalidation(this, InlineCacheTelemetry.CALL, calleeName);
         return replace(next).executeCall(frame, left, right);
     }
 
+    /**
+     * The method the right operand is asked for when the left one does not implement
+     * {@code specialMethodId}: {@code __radd__} for {@code __add__}, and the mirrored comparison
+     * for a comparison, as {@code a > b} is {@code b < a}.
+     */
+    protected static String getReflectedName(String specialMethodId) {
+        switch (specialMethodId) {
+            case "__lt__":
+                return "__gt__";
+            case "__gt__":
+                return "__lt__";
+            case "__le__":
+                return "__ge__";
+            case "__ge__":
+                return "__le__";
+            case "__eq__":
+            case "__ne__":
+                return specialMethodId;
+            default:
+                return specialMethodId.replaceFirst("__", "__r");
+        }
+    }
+
+    private static PythonError unsupportedOperands(String specialMethodId, Object left, Object right) {
+        return PythonError.TypeError("unsupported operand type(s) for " + specialMethodId + ": '" + PythonTypesUtil.getPythonTypeName(left) + "' and '" +
+                        PythonTypesUtil.getPythonTypeName(right) + "'");
+    }
+
     protected static CallDispatchSpecialNode create(PythonObject primary, String specialMethodId, PythonCallable callee, boolean reflected) {
         UninitializedDispatchSpecialNode next = new UninitializedDispatchSpecialNode(specialMethodId);
 
@@ -194,7 +224,7 @@ public abstract class CallDispatchSpecialNode extends CallDispatchNode {
                 return callee.call(new Object[]{left, right});
             }
 
-            specialMethodId = calleeName.replaceFirst("__", "__r");
+            specialMethodId = getReflectedName(calleeName);
             callee = PythonCallUtil.resolveSpecialMethod(right, specialMethodId);
 
             if (callee != null) {
@@ -202,7 +232,7 @@ public abstract class CallDispatchSpecialNode extends CallDispatchNode {
                 return callee.call(new Object[]{right, left});
             }
 
-            throw new IllegalStateException("Call to " + calleeName + " not supported.");
+            throw unsupportedOperands(calleeName, left, right);
         }
     }
 
@@ -218,9 +248,12 @@ public abstract class CallDispatchSpecialNode extends CallDispatchNode {
             CompilerDirectives.transferToInterpreterAndInvalidate();
 
             CallDispatchSpecialNode specialized;
+            final int depth = getDispatchDepth();
 
-            if (getDispatchDepth() >= PythonOptions.CallSiteInlineCacheMaxDepth) {
+            if (depth >= PythonOptions.CallSiteInlineCacheMaxDepth) {
+                InlineCacheTelemetry.megamorphic(this, InlineCacheTelemetry.CALL, calleeName);
                 specialized = getTop().replace(new GenericDispatchSpecialNode(calleeName));
+                return specialized.executeCall(frame, left, right);
             }
 
             /**
@@ -231,20 +264,22 @@ public abstract class CallDispatchSpecialNode extends CallDispatchNode {
 
             if (callee != null) {
                 // Non reflective special method is found.
+                InlineCacheTelemetry.rewrite(this, InlineCacheTelemetry.CALL, calleeName, depth + 1);
                 specialized = replace(create((PythonObject) left, specialMethodId, callee, false));
                 return specialized.executeCall(frame, left, right);
             }
 
-            specialMethodId = calleeName.replaceFirst("__", "__r");
+            specialMethodId = getReflectedName(calleeName);
             callee = PythonCallUtil.resolveSpecialMethod(right, specialMethodId);
 
             if (callee != null) {
                 // Reflective special method is found.
+                InlineCacheTelemetry.rewrite(this, InlineCacheTelemetry.CALL, calleeName, depth + 1);
                 specialized = replace(create((PythonObject) right, specialMethodId, callee, true));
                 return specialized.executeCall(frame, left, right);
             }
 
-            throw new IllegalStateException("Call to " + calleeName + " not supported.");
+            throw unsupportedOperands(calleeName, left, right);
         }
     }
 
@@ -133,15 +133,19 @@ public abstract class CallDispatchUnboxedNode extends CallDispatchNode {
 
             CallDispatchUnboxedNode specialized;
 
-            if (getDispatchDepth() < PythonOptions.CallSiteInlineCacheMaxDepth) {
+            final int depth = getDispatchDepth();
+
+            if (depth < PythonOptions.CallSiteInlineCacheMaxDepth) {
                 PythonCallable callee;
                 try {
                     callee = calleeNode.executePythonCallable(frame);
                 } catch (UnexpectedResultException e) {
                     throw new IllegalStateException("Call to " + e.getMessage() + " not supported.");
                 }
+                InlineCacheTelemetry.rewrite(this, InlineCacheTelemetry.CALL, calleeName, depth + 1);
                 specialized = replace(CallDispatchUnboxedNode.create(primaryObj, callee, calleeNode, keywords));
             } else {
+                InlineCacheTelemetry.megamorphic(this, InlineCacheTelemetry.CALL, calleeName);
                 specialized = getTop().replace(new GenericDispatchUnboxedNode(calleeName, calleeNode));
             }
 
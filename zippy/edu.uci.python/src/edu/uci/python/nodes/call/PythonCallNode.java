@@ -44,6 +44,7 @@ import edu.uci.python.nodes.optimize.*;
 import edu.uci.python.nodes.truffle.*;
 import edu.uci.python.runtime.*;
 import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.exception.*;
 import edu.uci.python.runtime.function.*;
 import edu.uci.python.runtime.object.*;
 import edu.uci.python.runtime.standardtype.*;
@@ -146,7 +147,7 @@ public abstract class PythonCallNode extends PNode {
          * Failed to resolve a valid callable.
          */
         if (callable == null) {
-            throw Py.TypeError("'" + getPythonTypeName(callee) + "' object is not callable");
+            throw PythonError.TypeError("'" + getPythonTypeName(callee) + "' object is not callable");
         }
 
         /**
@@ -35,11 +35,19 @@ import com.oracle.truffle.api.nodes.NodeInfo;
 import edu.uci.python.ast.VisitorIF;
 import edu.uci.python.nodes.PNode;
 import edu.uci.python.nodes.frame.WriteNode;
+import edu.uci.python.runtime.ProfilerSafepoint;
 import edu.uci.python.runtime.PythonOptions;
 import edu.uci.python.runtime.datatype.PGenerator;
 import edu.uci.python.runtime.datatype.PNone;
+import edu.uci.python.runtime.datatype.storage.DequeStorage;
+import edu.uci.python.runtime.datatype.storage.DoubleDequeStorage;
+import edu.uci.python.runtime.datatype.storage.IntDequeStorage;
 import edu.uci.python.runtime.exception.StopIterationException;
+import edu.uci.python.runtime.iterator.PDequeIterator;
+import edu.uci.python.runtime.iterator.PDequeIterator.PDoubleDequeIterator;
+import edu.uci.python.runtime.iterator.PDequeIterator.PIntDequeIterator;
 import edu.uci.python.runtime.iterator.PDoubleIterator;
+import edu.uci.python.runtime.iterator.PISliceIterator;
 import edu.uci.python.runtime.iterator.PIntegerIterator;
 import edu.uci.python.runtime.iterator.PIntegerSequenceIterator;
 import edu.uci.python.runtime.iterator.PIterator;
@@ -87,6 +95,7 @@ public abstract class ForNode extends LoopNode {
         for (int i = start; i < stop; i += step) {
             ((WriteNode) target).executeWrite(frame, i);
             body.executeVoid(frame);
+            ProfilerSafepoint.poll(this);
         }
 
         return PNone.NONE;
@@ -101,6 +110,7 @@ public abstract class ForNode extends LoopNode {
         for (int index = 0; index < store.length(); index++) {
             ((WriteNode) target).executeWrite(frame, store.getIntItemNormalized(index));
             body.executeVoid(frame);
+            ProfilerSafepoint.poll(this);
 
             if (CompilerDirectives.inInterpreter()) {
                 count++;
@@ -110,6 +120,90 @@ public abstract class ForNode extends LoopNode {
         return PNone.NONE;
     }
 
+    /**
+     * Deques are read by position straight from their storage. The storage check catches a deque
+     * that generalized its storage in the loop body.
+     */
+    @Specialization
+    public Object doIntDequeIterator(VirtualFrame frame, PIntDequeIterator iterator) {
+        @SuppressWarnings("unused")
+        int count = 0;
+        IntDequeStorage store = (IntDequeStorage) iterator.getStorage();
+
+        for (int index = 0; index < store.length(); index++) {
+            iterator.checkStorage();
+            ((WriteNode) target).executeWrite(frame, store.getIntItem(index));
+            body.executeVoid(frame);
+            ProfilerSafepoint.poll(this);
+
+            if (CompilerDirectives.inInterpreter()) {
+                count++;
+            }
+        }
+
+        return PNone.NONE;
+    }
+
+    @Specialization
+    public Object doDoubleDequeIterator(VirtualFrame frame, PDoubleDequeIterator iterator) {
+        @SuppressWarnings("unused")
+        int count = 0;
+        DoubleDequeStorage store = (DoubleDequeStorage) iterator.getStorage();
+
+        for (int index = 0; index < store.length(); index++) {
+            iterator.checkStorage();
+            ((WriteNode) target).executeWrite(frame, store.getDoubleItem(index));
+            body.executeVoid(frame);
+            ProfilerSafepoint.poll(this);
+
+            if (CompilerDirectives.inInterpreter()) {
+                count++;
+            }
+        }
+
+        return PNone.NONE;
+    }
+
+    @Specialization
+    public Object doDequeIterator(VirtualFrame frame, PDequeIterator iterator) {
+        @SuppressWarnings("unused")
+        int count = 0;
+        DequeStorage store = iterator.getStorage();
+
+        for (int index = 0; index < store.length(); index++) {
+            iterator.checkStorage();
+            ((WriteNode) target).executeWrite(frame, store.getItem(index));
+            body.executeVoid(frame);
+            ProfilerSafepoint.poll(this);
+
+            if (CompilerDirectives.inInterpreter()) {
+                count++;
+            }
+        }
+
+        return PNone.NONE;
+    }
+
+    /**
+     * A bounded slice of count() cannot run out early, so it loops a known number of times.
+     */
+    @Specialization(guards = "isCountSlice(iterator)")
+    public Object doCountSlice(VirtualFrame frame, PISliceIterator iterator) {
+        final int length = iterator.remaining();
+
+        try {
+            for (int i = 0; i < length; i++) {
+                ((WriteNode) target).executeWrite(frame, iterator.__next__());
+                body.executeVoid(frame);
+                ProfilerSafepoint.poll(this);
+            }
+        } catch (StopIterationException e) {
+            // the loop body advanced the iterator
+        }
+
+        return PNone.NONE;
+    }
+
     @Specialization
     public Object doIntegerIterator(VirtualFrame frame, PIntegerIterator iterator) {
         @SuppressWarnings("unused")
@@ -119,6 +213,7 @@ public abstract class ForNode extends LoopNode {
             while (true) {
                 ((WriteNode) target).executeWrite(frame, iterator.__nextInt__());
                 body.executeVoid(frame);
+                ProfilerSafepoint.poll(this);
 
                 if (CompilerDirectives.inInterpreter()) {
                     count++;
@@ -140,6 +235,7 @@ public abstract class ForNode extends LoopNode {
         for (int index = 0; index < store.length(); index++) {
             ((WriteNode) target).executeWrite(frame, store.getLongItemNormalized(index));
             body.executeVoid(frame);
+            ProfilerSafepoint.poll(this);
 
             if (CompilerDirectives.inInterpreter()) {
                 count++;
@@ -158,6 +254,7 @@ public abstract class ForNode extends LoopNode {
             while (true) {
                 ((WriteNode) target).executeWrite(frame, iterator.__nextLong__());
                 body.executeVoid(frame);
+                ProfilerSafepoint.poll(this);
 
                 if (CompilerDirectives.inInterpreter()) {
                     count++;
@@ -179,6 +276,7 @@ public abstract class ForNode extends LoopNode {
             while (true) {
                 ((WriteNode) target).executeWrite(frame, iterator.__nextDouble__());
                 body.executeVoid(frame);
+                ProfilerSafepoint.poll(this);
 
                 if (CompilerDirectives.inInterpreter()) {
                     count++;
@@ -201,6 +299,7 @@ public abstract class ForNode extends LoopNode {
         for (int index = 0; index < store.length(); index++) {
             ((WriteNode) target).executeWrite(frame, store.getItemNormalized(index));
             body.executeVoid(frame);
+            ProfilerSafepoint.poll(this);
 
             if (CompilerDirectives.inInterpreter()) {
                 count++;
@@ -218,6 +317,7 @@ public abstract class ForNode extends LoopNode {
         for (int index = 0; index < sequence.len(); index++) {
             ((WriteNode) target).executeWrite(frame, sequence.getItem(index));
             body.executeVoid(frame);
+            ProfilerSafepoint.poll(this);
 
             if (CompilerDirectives.inInterpreter()) {
                 count++;
@@ -234,6 +334,7 @@ public abstract class ForNode extends LoopNode {
             while (true) {
                 ((WriteNode) target).executeWrite(frame, generator.__next__());
                 body.executeVoid(frame);
+                ProfilerSafepoint.poll(this);
 
                 if (CompilerDirectives.inInterpreter()) {
                     count++;
@@ -265,6 +366,7 @@ public abstract class ForNode extends LoopNode {
             while (true) {
                 ((WriteNode) target).executeWrite(frame, iterator.__next__());
                 body.executeVoid(frame);
+                ProfilerSafepoint.poll(this);
 
                 if (CompilerDirectives.inInterpreter()) {
                     count++;
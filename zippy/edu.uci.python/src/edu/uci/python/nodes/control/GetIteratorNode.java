@@ -105,6 +105,11 @@ public abstract class GetIteratorNode extends UnaryOpNode {
         return value.__iter__();
     }
 
+    @Specialization
+    public Object doPDeque(PDeque value) {
+        return value.__iter__();
+    }
+
     @Specialization
     public Object doPEnumerate(PEnumerate value) {
         return value.__iter__();
@@ -31,6 +31,7 @@ import com.oracle.truffle.api.nodes.*;
 import edu.uci.python.ast.VisitorIF;
 import edu.uci.python.nodes.*;
 import edu.uci.python.nodes.expression.*;
+import edu.uci.python.runtime.*;
 import edu.uci.python.runtime.datatype.*;
 
 @NodeInfo(shortName = "while")
@@ -54,6 +55,7 @@ public class WhileNode extends LoopNode {
         try {
             while (condition.executeBoolean(frame)) {
                 body.execute(frame);
+                ProfilerSafepoint.poll(this);
 
                 if (CompilerDirectives.inInterpreter()) {
                     count++;
@@ -37,8 +37,10 @@ import com.oracle.truffle.api.frame.*;
 import com.oracle.truffle.api.nodes.*;
 
 import edu.uci.python.ast.VisitorIF;
+import edu.uci.python.runtime.*;
 import edu.uci.python.runtime.array.*;
 import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.exception.*;
 import edu.uci.python.runtime.misc.*;
 import edu.uci.python.runtime.object.*;
 import edu.uci.python.runtime.sequence.*;
@@ -54,6 +56,11 @@ public abstract class BinaryArithmeticNode extends BinaryOpNode {
             return left instanceof PythonObject || right instanceof PythonObject;
         }
 
+        /**
+         * Adds two values already evaluated, for builtins such as sum().
+         */
+        public abstract Object executeWith(VirtualFrame frame, Object left, Object right);
+
         @Specialization
         int doBoolean(boolean left, boolean right) {
             final int leftInt = left ? 1 : 0;
@@ -66,11 +73,12 @@ public abstract class BinaryArithmeticNode extends BinaryOpNode {
             return ExactMath.addExact(left, right);
         }
 
-        @Specialization
-        Long doLong(Long left, Long right) {
-            return left + right;
+        @Specialization(rewriteOn = ArithmeticException.class)
+        long doLong(long left, long right) {
+            return ExactMath.addExact(left, right);
         }
 
+        @TruffleBoundary
         @Specialization
         BigInteger doBigInteger(BigInteger left, BigInteger right) {
             return left.add(right);
@@ -134,8 +142,18 @@ public abstract class BinaryArithmeticNode extends BinaryOpNode {
         }
 
         @Specialization
-        String doString(String left, String right) {
-            return left + right;
+        PString doPString(PString left, PString right) {
+            return left.append(right);
+        }
+
+        @Specialization
+        PString doPStringString(PString left, String right) {
+            return left.append(right);
+        }
+
+        @Specialization
+        Object doString(String left, String right) {
+            return PString.concat(left, right);
         }
 
         @Specialization(guards = "areBothIntStorage(left,right)")
@@ -184,7 +202,7 @@ public abstract class BinaryArithmeticNode extends BinaryOpNode {
         // TODO: type info for operands in type error message.
         @Fallback
         Object doGeneric(Object left, Object right) {
-            throw Py.TypeError("unsupported operand type(s) for +: " + left + " + " + right);
+            throw PythonError.TypeError("unsupported operand type(s) for +: " + left + " + " + right);
         }
     }
 
@@ -197,11 +215,12 @@ public abstract class BinaryArithmeticNode extends BinaryOpNode {
             return ExactMath.subtractExact(left, right);
         }
 
-        @Specialization
-        Long doLong(Long left, Long right) {
-            return left - right;
+        @Specialization(rewriteOn = ArithmeticException.class)
+        long doLong(long left, long right) {
+            return ExactMath.subtractExact(left, right);
         }
 
+        @TruffleBoundary
         @Specialization
         BigInteger doBigInteger(BigInteger left, BigInteger right) {
             return left.subtract(right);
@@ -249,19 +268,9 @@ public abstract class BinaryArithmeticNode extends BinaryOpNode {
             return ExactMath.multiplyExact(left, right);
         }
 
-        @Specialization
-        Long doLong(Long left, Long right) {
-            return left * right;
-        }
-
-        @Specialization
-        BigInteger doIntegerBigInteger(int left, BigInteger right) {
-            return doBigInteger(BigInteger.valueOf(left), right);
-        }
-
-        @Specialization
-        BigInteger doIntegerBigInteger(BigInteger left, int right) {
-            return doBigInteger(left, BigInteger.valueOf(right));
+        @Specialization(rewriteOn = ArithmeticException.class)
+        long doLong(long left, long right) {
+            return ExactMath.multiplyExact(left, right);
         }
 
         @TruffleBoundary
@@ -348,7 +357,7 @@ public abstract class BinaryArithmeticNode extends BinaryOpNode {
         // TODO: better type error message.
         @Fallback
         Object doGeneric(Object left, Object right) {
-            throw Py.TypeError("can't multiply " + left + left.getClass() + " by " + right);
+            throw PythonError.TypeError("can't multiply " + left + left.getClass() + " by " + right);
         }
     }
 
@@ -360,39 +369,39 @@ public abstract class BinaryArithmeticNode extends BinaryOpNode {
          * double division by zero in Java doesn't throw an exception, instead it yield Infinity
          * (NaN).
          */
-        @Specialization(rewriteOn = ArithmeticException.class)
+        @Specialization
         double doInteger(int left, int right) {
             if (right == 0) {
-                CompilerDirectives.transferToInterpreterAndInvalidate();
-                throw new ArithmeticException("divide by zero");
+                CompilerDirectives.transferToInterpreter();
+                throw PythonError.ZeroDivisionError("divide by zero");
             }
 
             return (double) left / right;
         }
 
         @Specialization
-        double doLong(Long left, Long right) {
+        double doLong(long left, long right) {
             if (right == 0) {
-                CompilerDirectives.transferToInterpreterAndInvalidate();
-                throw new ArithmeticException("divide by zero");
+                CompilerDirectives.transferToInterpreter();
+                throw PythonError.ZeroDivisionError("divide by zero");
             }
 
             return (double) left / right;
         }
 
         @Specialization
-        double doLong(Long left, double right) {
-            return (double) left / right;
+        double doBigInteger(BigInteger left, BigInteger right) {
+            return BigIntegerMath.trueDivide(left, right);
         }
 
         @Specialization
-        double doLong(double left, Long right) {
+        double doLong(long left, double right) {
             return left / right;
         }
 
         @Specialization
-        double doBigInteger(BigInteger left, BigInteger right) {
-            return FastMathUtil.slowPathDivide(left, right).doubleValue();
+        double doLong(double left, long right) {
+            return left / right;
         }
 
         @Specialization
@@ -402,19 +411,12 @@ public abstract class BinaryArithmeticNode extends BinaryOpNode {
 
         @Specialization
         PComplex doDoubleComplex(double left, PComplex right) {
-            double opNormSq = right.getReal() * right.getReal() + right.getImag() * right.getImag();
-            PComplex conjugate = right.getConjugate();
-            double realPart = left * conjugate.getReal();
-            double imagPart = left * conjugate.getImag();
-            return new PComplex(realPart / opNormSq, imagPart / opNormSq);
+            return new PComplex(left, 0).div(right);
         }
 
         @Specialization
         PComplex doComplexDouble(PComplex left, double right) {
-            double opNormSq = right * right;
-            double realPart = left.getReal() * right;
-            double imagPart = left.getImag() * right;
-            return new PComplex(realPart / opNormSq, imagPart / opNormSq);
+            return left.div(new PComplex(right, 0));
         }
 
         @Specialization
@@ -429,7 +431,7 @@ public abstract class BinaryArithmeticNode extends BinaryOpNode {
 
         @Fallback
         Object doGeneric(Object left, Object right) {
-            throw Py.TypeError("Unsupported operand type for /: " + left + " and " + right);
+            throw PythonError.TypeError("Unsupported operand type for /: " + left + " and " + right);
         }
     }
 
@@ -437,19 +439,19 @@ public abstract class BinaryArithmeticNode extends BinaryOpNode {
     @GenerateNodeFactory
     public abstract static class FloorDivNode extends BinaryArithmeticNode {
 
-        @Specialization
+        @Specialization(rewriteOn = ArithmeticException.class)
         int doInteger(int left, int right) {
-            return left / right;
+            return ArithmeticUtil.floorDivExact(left, right);
         }
 
-        @Specialization
+        @Specialization(rewriteOn = ArithmeticException.class)
         long doLong(long left, long right) {
-            return left / right;
+            return ArithmeticUtil.floorDivExact(left, right);
         }
 
         @Specialization
-        BigInteger doBigInteger(BigInteger left, BigInteger right) {
-            return FastMathUtil.slowPathDivide(left, right);
+        Object doBigInteger(BigInteger left, BigInteger right) {
+            return BigIntegerMath.narrow(BigIntegerMath.floorDivMod(left, right)[0]);
         }
 
         @Specialization
@@ -464,7 +466,7 @@ public abstract class BinaryArithmeticNode extends BinaryOpNode {
 
         @Fallback
         Object doGeneric(Object left, Object right) {
-            throw Py.TypeError("Unsupported operand type for //: " + left + " and " + right);
+            throw PythonError.TypeError("Unsupported operand type for //: " + left + " and " + right);
         }
     }
 
@@ -472,52 +474,19 @@ public abstract class BinaryArithmeticNode extends BinaryOpNode {
     @GenerateNodeFactory
     public abstract static class ModuloNode extends BinaryArithmeticNode {
 
-        @Specialization(guards = "isLeftPositive(left)")
-        int doInteger(int left, int right) {
-            return left % right;
-        }
-
         @Specialization
-        int doIntegerNegative(int left, int right) {
-            return (left + right) % right;
-        }
-
-        protected static boolean isLeftPositive(int left) {
-            return left >= 0;
-        }
-
-        protected static boolean isLeftNegative(int left) {
-            return left < 0;
-        }
-
-        @Specialization(guards = "isLeftPositive(left)")
-        long doLong(long left, int right) {
-            return left % right;
+        int doInteger(int left, int right) {
+            return ArithmeticUtil.floorMod(left, right);
         }
 
         @Specialization
-        long doLongNegative(long left, int right) {
-            return (left + right) % right;
-        }
-
-        @Specialization(guards = "isLeftPositive(left)")
         long doLong(long left, long right) {
-            return left % right;
-        }
-
-        @Specialization
-        long doLongNegative(long left, long right) {
-            return (left + right) % right;
+            return ArithmeticUtil.floorMod(left, right);
         }
 
-        protected static boolean isLeftPositive(long left) {
-            return left >= 0;
-        }
-
-        @TruffleBoundary
         @Specialization
-        BigInteger doBigInteger(BigInteger left, BigInteger right) {
-            return left.mod(right);
+        Object doBigInteger(BigInteger left, BigInteger right) {
+            return BigIntegerMath.narrow(BigIntegerMath.floorMod(left, right));
         }
 
         @Specialization
@@ -542,7 +511,7 @@ public abstract class BinaryArithmeticNode extends BinaryOpNode {
 
         @Fallback
         Object doGeneric(Object left, Object right) {
-            throw Py.TypeError("Unsupported operand type for %: " + left + " and " + right);
+            throw PythonError.TypeError("Unsupported operand type for %: " + left + " and " + right);
         }
     }
 
@@ -550,30 +519,28 @@ public abstract class BinaryArithmeticNode extends BinaryOpNode {
     @GenerateNodeFactory
     public abstract static class PowerNode extends BinaryArithmeticNode {
 
-        @TruffleBoundary
-        @Specialization
-        Object doInteger(int left, int right) {
-            BigInteger val = BigInteger.valueOf(left).pow(right);
-            return (val.longValue() <= Integer.MAX_VALUE) ? val.intValue() : val;
+        protected static boolean isNegative(long exponent) {
+            return exponent < 0;
         }
 
-        @Specialization
-        long doLong(long left, int right) {
-            return BigInteger.valueOf(left).pow(right).longValue();
+        @Specialization(guards = "!isNegative(right)", rewriteOn = ArithmeticException.class)
+        int doInteger(int left, int right) {
+            return ArithmeticUtil.powExact(left, right);
         }
 
-        @Specialization
+        @Specialization(guards = "!isNegative(right)", rewriteOn = ArithmeticException.class)
         long doLong(long left, long right) {
-            return BigInteger.valueOf(left).pow(Math.toIntExact(right)).longValue();
+            return ArithmeticUtil.powExact(left, right);
+        }
+
+        @Specialization(guards = "isNegative(right)")
+        double doNegativeExponent(long left, long right) {
+            return Math.pow(left, right);
         }
 
-        @TruffleBoundary
         @Specialization
-        BigInteger doBigInteger(BigInteger left, BigInteger right) {
-            if (right.longValue() <= Integer.MAX_VALUE)
-                return left.pow(right.intValue());
-            double value = Math.pow(left.doubleValue(), right.doubleValue());
-            return BigInteger.valueOf((long) value);
+        Object doBigInteger(BigInteger left, BigInteger right) {
+            return BigIntegerMath.pow(left, right);
         }
 
         @Specialization
@@ -44,6 +44,11 @@ public abstract class BinaryBitwiseNode extends BinaryOpNode {
             return ArithmeticUtil.leftShiftExact(left, right);
         }
 
+        @Specialization(rewriteOn = ArithmeticException.class)
+        long doLong(long left, long right) {
+            return ArithmeticUtil.leftShiftExact(left, right);
+        }
+
         @Specialization
         BigInteger doBigInteger(BigInteger left, int right) {
             return left.shiftLeft(right);
@@ -64,7 +69,12 @@ public abstract class BinaryBitwiseNode extends BinaryOpNode {
 
         @Specialization
         int doInteger(int left, int right) {
-            return left >> right;
+            return (int) ArithmeticUtil.rightShift(left, right);
+        }
+
+        @Specialization
+        long doLong(long left, long right) {
+            return ArithmeticUtil.rightShift(left, right);
         }
 
         @Specialization
@@ -90,6 +100,11 @@ public abstract class BinaryBitwiseNode extends BinaryOpNode {
             return left & right;
         }
 
+        @Specialization
+        long doLong(long left, long right) {
+            return left & right;
+        }
+
         @Specialization
         BigInteger doBigInteger(BigInteger left, BigInteger right) {
             return left.and(right);
@@ -110,10 +125,20 @@ public abstract class BinaryBitwiseNode extends BinaryOpNode {
             return left ^ right;
         }
 
+        @Specialization
+        long doLong(long left, long right) {
+            return left ^ right;
+        }
+
         @Specialization
         BigInteger doBigInteger(BigInteger left, BigInteger right) {
             return left.xor(right);
         }
+
+        @Specialization
+        PBaseSet doPBaseSet(PBaseSet left, PBaseSet right) {
+            return left.symmetricDifference(right);
+        }
     }
 
     @NodeInfo(shortName = "|")
@@ -125,10 +150,20 @@ public abstract class BinaryBitwiseNode extends BinaryOpNode {
             return left | right;
         }
 
+        @Specialization
+        long doLong(long left, long right) {
+            return left | right;
+        }
+
         @Specialization
         BigInteger doBigInteger(BigInteger left, BigInteger right) {
             return left.or(right);
         }
+
+        @Specialization
+        PBaseSet doPBaseSet(PBaseSet left, PBaseSet right) {
+            return left.union(right);
+        }
     }
 
     @Override
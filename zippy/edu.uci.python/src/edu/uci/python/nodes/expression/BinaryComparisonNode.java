@@ -32,6 +32,7 @@ import com.oracle.truffle.api.nodes.*;
 
 import edu.uci.python.ast.VisitorIF;
 import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.datatype.storage.*;
 import edu.uci.python.runtime.object.*;
 import edu.uci.python.runtime.sequence.*;
 import edu.uci.python.runtime.sequence.storage.*;
@@ -54,6 +55,11 @@ public abstract class BinaryComparisonNode extends BinaryOpNode {
             return left == right;
         }
 
+        @Specialization
+        boolean doLong(long left, long right) {
+            return left == right;
+        }
+
         @Specialization
         boolean doBigInteger(BigInteger left, BigInteger right) {
             return left.equals(right);
@@ -160,6 +166,11 @@ public abstract class BinaryComparisonNode extends BinaryOpNode {
             return left != right;
         }
 
+        @Specialization
+        boolean doLong(long left, long right) {
+            return left != right;
+        }
+
         @Specialization
         boolean doBigInteger(BigInteger left, BigInteger right) {
             return !left.equals(right);
@@ -216,6 +227,11 @@ public abstract class BinaryComparisonNode extends BinaryOpNode {
             return left < right;
         }
 
+        @Specialization
+        boolean doLong(long left, long right) {
+            return left < right;
+        }
+
         @Specialization
         boolean doBigInteger(BigInteger left, BigInteger right) {
             return left.compareTo(right) < 0;
@@ -240,6 +256,11 @@ public abstract class BinaryComparisonNode extends BinaryOpNode {
         boolean doTruffleSequence(PSequence left, PSequence right) {
             return left.lessThan(right);
         }
+
+        @Specialization(guards = "isEitherOperandPythonObject(left,right)")
+        Object doPythonObject(VirtualFrame frame, Object left, Object right) {
+            return doSpecialMethodCall(frame, "__lt__", left, right);
+        }
     }
 
     @NodeInfo(shortName = "<=")
@@ -251,6 +272,11 @@ public abstract class BinaryComparisonNode extends BinaryOpNode {
             return left <= right;
         }
 
+        @Specialization
+        boolean doLong(long left, long right) {
+            return left <= right;
+        }
+
         @Specialization
         boolean doBigInteger(BigInteger left, BigInteger right) {
             return left.compareTo(right) <= 0;
@@ -276,6 +302,11 @@ public abstract class BinaryComparisonNode extends BinaryOpNode {
             return left.isSubset(right);
         }
 
+        @Specialization(guards = "isEitherOperandPythonObject(left,right)")
+        Object doPythonObject(VirtualFrame frame, Object left, Object right) {
+            return doSpecialMethodCall(frame, "__le__", left, right);
+        }
+
     }
 
     @NodeInfo(shortName = ">")
@@ -287,6 +318,11 @@ public abstract class BinaryComparisonNode extends BinaryOpNode {
             return left > right;
         }
 
+        @Specialization
+        boolean doLong(long left, long right) {
+            return left > right;
+        }
+
         @Specialization()
         boolean doBigInteger(BigInteger left, BigInteger right) {
             return left.compareTo(right) > 0;
@@ -316,6 +352,11 @@ public abstract class BinaryComparisonNode extends BinaryOpNode {
         boolean doString(String left, String right) {
             return left.compareTo(right) > 0;
         }
+
+        @Specialization(guards = "isEitherOperandPythonObject(left,right)")
+        Object doPythonObject(VirtualFrame frame, Object left, Object right) {
+            return doSpecialMethodCall(frame, "__gt__", left, right);
+        }
     }
 
     @NodeInfo(shortName = ">=")
@@ -327,6 +368,11 @@ public abstract class BinaryComparisonNode extends BinaryOpNode {
             return left >= right;
         }
 
+        @Specialization
+        boolean doLong(long left, long right) {
+            return left >= right;
+        }
+
         @Specialization()
         boolean doBigInteger(BigInteger left, BigInteger right) {
             return left.compareTo(right) >= 0;
@@ -356,6 +402,11 @@ public abstract class BinaryComparisonNode extends BinaryOpNode {
         boolean doTuple(PTuple left, PTuple right) {
             return left.compareTo(right) >= 0;
         }
+
+        @Specialization(guards = "isEitherOperandPythonObject(left,right)")
+        Object doPythonObject(VirtualFrame frame, Object left, Object right) {
+            return doSpecialMethodCall(frame, "__ge__", left, right);
+        }
     }
 
     @NodeInfo(shortName = "is")
@@ -453,6 +504,16 @@ public abstract class BinaryComparisonNode extends BinaryOpNode {
             return right.contains(left);
         }
 
+        @Specialization(guards = "isIntSetStorage(right)")
+        public boolean doBaseSetInt(int left, PBaseSet right) {
+            return ((IntSetStorage) right.getStorage()).containsInt(left);
+        }
+
+        @Specialization(guards = "isStringSetStorage(right)")
+        public boolean doBaseSetString(String left, PBaseSet right) {
+            return ((StringSetStorage) right.getStorage()).containsString(left);
+        }
+
         @Specialization
         public boolean doBaseSet(Object left, PBaseSet right) {
             return right.contains(left);
@@ -474,6 +535,11 @@ public abstract class BinaryComparisonNode extends BinaryOpNode {
             return right.hasKey(left);
         }
 
+        @Specialization
+        public boolean doPDeque(Object left, PDeque right) {
+            return right.index(left) != -1;
+        }
+
         protected static boolean isEmptyDict(@SuppressWarnings("unused") Object first, PDict dict) {
             return dict.len() == 0;
         }
@@ -483,6 +549,16 @@ public abstract class BinaryComparisonNode extends BinaryOpNode {
     @GenerateNodeFactory
     public abstract static class NotInNode extends BinaryComparisonNode {
 
+        @Specialization(guards = "isIntSetStorage(right)")
+        public boolean doBaseSetInt(int left, PBaseSet right) {
+            return !((IntSetStorage) right.getStorage()).containsInt(left);
+        }
+
+        @Specialization(guards = "isStringSetStorage(right)")
+        public boolean doBaseSetString(String left, PBaseSet right) {
+            return !((StringSetStorage) right.getStorage()).containsString(left);
+        }
+
         @Specialization
         public boolean doBaseSet(Object left, PBaseSet right) {
             return !right.contains(left);
@@ -526,6 +602,11 @@ public abstract class BinaryComparisonNode extends BinaryOpNode {
         public boolean doPDictionary(Object left, PDict right) {
             return !right.hasKey(left);
         }
+
+        @Specialization
+        public boolean doPDeque(Object left, PDeque right) {
+            return right.index(left) == -1;
+        }
     }
 
     @Override
@@ -26,6 +26,7 @@ package edu.uci.python.nodes.expression;
 
 import java.math.BigInteger;
 
+import com.oracle.truffle.api.*;
 import com.oracle.truffle.api.dsl.*;
 import com.oracle.truffle.api.nodes.*;
 
@@ -43,6 +44,11 @@ public abstract class UnaryArithmeticNode extends UnaryOpNode {
             return operand;
         }
 
+        @Specialization
+        long doLong(long operand) {
+            return operand;
+        }
+
         @Specialization
         BigInteger doBigInteger(BigInteger operand) {
             return operand;
@@ -58,9 +64,14 @@ public abstract class UnaryArithmeticNode extends UnaryOpNode {
     @GenerateNodeFactory
     public abstract static class MinusNode extends UnaryArithmeticNode {
 
-        @Specialization
+        @Specialization(rewriteOn = ArithmeticException.class)
         int doInteger(int operand) {
-            return -operand;
+            return ExactMath.subtractExact(0, operand);
+        }
+
+        @Specialization(rewriteOn = ArithmeticException.class)
+        long doLong(long operand) {
+            return ExactMath.subtractExact(0, operand);
         }
 
         @Specialization
@@ -82,6 +93,11 @@ public abstract class UnaryArithmeticNode extends UnaryOpNode {
             return ~operand;
         }
 
+        @Specialization
+        long doLong(long operand) {
+            return ~operand;
+        }
+
         @Specialization
         BigInteger doBigInteger(BigInteger operand) {
             return operand.not();
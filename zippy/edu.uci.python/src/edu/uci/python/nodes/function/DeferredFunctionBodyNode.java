@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.nodes.function;
+
+import com.oracle.truffle.api.*;
+import com.oracle.truffle.api.frame.*;
+import com.oracle.truffle.api.nodes.*;
+
+import edu.uci.python.nodes.*;
+
+/**
+ * Stands in for the statements of a function whose body has not been translated yet. On the first
+ * call the body is translated, replaces this node in the running tree as well as in the
+ * uninitialized body of the enclosing {@link FunctionRootNode}. Bodies containing a generator are
+ * never deferred, so there is nothing left for the generator optimizations to do here.
+ */
+public final class DeferredFunctionBodyNode extends PNode {
+
+    /**
+     * Produces the translated statements. Shared by all copies of a deferred body, so that the
+     * Jython AST is translated at most once.
+     */
+    public abstract static class BodyTranslator {
+
+        private PNode translated;
+
+        protected abstract PNode translate();
+
+        protected final synchronized PNode getTranslatedBody() {
+            if (translated == null) {
+                translated = translate();
+            }
+
+            return translated;
+        }
+    }
+
+    private final BodyTranslator translator;
+
+    public DeferredFunctionBodyNode(BodyTranslator translator) {
+        this.translator = translator;
+    }
+
+    @Override
+    public Object execute(VirtualFrame frame) {
+        CompilerDirectives.transferToInterpreterAndInvalidate();
+        PNode statements = translator.getTranslatedBody();
+        FunctionRootNode root = (FunctionRootNode) getRootNode();
+
+        DeferredFunctionBodyNode pending = NodeUtil.findFirstNodeInstance(root.getUninitializedBody(), DeferredFunctionBodyNode.class);
+        if (pending != null) {
+            pending.replace(NodeUtil.cloneNode(statements));
+        }
+
+        PNode body = replace(NodeUtil.cloneNode(statements));
+        return body.execute(frame);
+    }
+
+}
@@ -126,6 +126,7 @@ public final class FunctionRootNode extends RootNode {
             }
         }
 
+        ProfilerSafepoint.poll(this);
         return body.execute(frame);
     }
 
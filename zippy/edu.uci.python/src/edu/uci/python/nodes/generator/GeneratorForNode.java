@@ -32,6 +32,7 @@ import edu.uci.python.ast.VisitorIF;
 import edu.uci.python.nodes.*;
 import edu.uci.python.nodes.control.*;
 import edu.uci.python.nodes.control.LoopNode;
+import edu.uci.python.runtime.*;
 import edu.uci.python.runtime.datatype.*;
 import edu.uci.python.runtime.exception.*;
 import edu.uci.python.runtime.function.*;
@@ -96,6 +97,7 @@ public abstract class GeneratorForNode extends LoopNode implements GeneratorCont
         try {
             while (true) {
                 body.executeVoid(frame);
+                ProfilerSafepoint.poll(this);
                 target.executeWith(frame, getIterator(frame).__next__());
                 incrementCounter();
             }
@@ -147,6 +149,7 @@ public abstract class GeneratorForNode extends LoopNode implements GeneratorCont
             try {
                 while (true) {
                     body.executeVoid(frame);
+                    ProfilerSafepoint.poll(this);
                     target.executeWith(frame, getPRangeIterator(frame).__nextInt__());
                     incrementCounter();
                 }
@@ -196,6 +199,7 @@ public abstract class GeneratorForNode extends LoopNode implements GeneratorCont
             try {
                 while (true) {
                     body.executeVoid(frame);
+                    ProfilerSafepoint.poll(this);
                     target.executeWith(frame, getPSequenceIterator(frame).__next__());
                     incrementCounter();
                 }
@@ -245,6 +249,7 @@ public abstract class GeneratorForNode extends LoopNode implements GeneratorCont
             try {
                 while (true) {
                     body.executeVoid(frame);
+                    ProfilerSafepoint.poll(this);
                     target.executeWith(frame, getPGenerator(frame).__next__());
                     incrementCounter();
                 }
@@ -31,6 +31,7 @@ import edu.uci.python.ast.VisitorIF;
 import edu.uci.python.nodes.PNode;
 import edu.uci.python.nodes.control.WhileNode;
 import edu.uci.python.nodes.expression.CastToBooleanNode;
+import edu.uci.python.runtime.ProfilerSafepoint;
 import edu.uci.python.runtime.datatype.PNone;
 import edu.uci.python.runtime.exception.BreakException;
 import edu.uci.python.runtime.function.PArguments;
@@ -78,6 +79,7 @@ public final class GeneratorWhileNode extends WhileNode implements GeneratorCont
             while (isActive(frame) || condition.executeBoolean(frame)) {
                 setActive(frame, true);
                 body.executeVoid(frame);
+                ProfilerSafepoint.poll(this);
                 setActive(frame, false);
                 incrementCounter();
             }
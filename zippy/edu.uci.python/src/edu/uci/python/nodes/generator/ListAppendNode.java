@@ -28,6 +28,7 @@ import com.oracle.truffle.api.dsl.*;
 
 import edu.uci.python.ast.VisitorIF;
 import edu.uci.python.nodes.expression.*;
+import edu.uci.python.runtime.datatype.*;
 import edu.uci.python.runtime.sequence.*;
 import edu.uci.python.runtime.sequence.storage.*;
 
@@ -108,6 +109,13 @@ public abstract class ListAppendNode extends BinaryOpNode {
         return right;
     }
 
+    @Specialization(guards = "isComplexStorage(list)")
+    public PComplex doComplexStorage(PList list, PComplex right) {
+        ComplexSequenceStorage store = (ComplexSequenceStorage) list.getStorage();
+        store.appendComplex(right);
+        return right;
+    }
+
     @Specialization
     public double doDouble(PList list, double right) {
         SequenceStorage store = list.getStorage();
@@ -31,6 +31,7 @@ import com.oracle.truffle.api.nodes.*;
 
 import edu.uci.python.ast.VisitorIF;
 import edu.uci.python.nodes.*;
+import edu.uci.python.runtime.datatype.*;
 import edu.uci.python.runtime.sequence.*;
 import edu.uci.python.runtime.sequence.storage.*;
 
@@ -56,7 +57,7 @@ public abstract class ListLiteralNode extends LiteralNode {
         }
 
         replace(new ObjectListLiteralNode(values));
-        return new PList(SequenceStorageFactory.createStorage(evaluated));
+        return new PList(SequenceStorageFactory.createStorage(elements));
     }
 
     public static class UninitializedListLiteralNode extends ListLiteralNode {
@@ -87,6 +88,8 @@ public abstract class ListLiteralNode extends LiteralNode {
                 replace(new LongListLiteralNode(values));
             } else if (store instanceof DoubleSequenceStorage) {
                 replace(new DoubleListLiteralNode(values));
+            } else if (store instanceof ComplexSequenceStorage) {
+                replace(new ComplexListLiteralNode(values));
             } else if (store instanceof ListSequenceStorage) {
                 replace(new ListListLiteralNode(values)).execute(frame);
             } else if (store instanceof TupleSequenceStorage) {
@@ -129,6 +132,8 @@ public abstract class ListLiteralNode extends LiteralNode {
                 newList = (PList) replace(new LongListLiteralNode(values)).execute(frame);
             } else if (store instanceof DoubleSequenceStorage) {
                 newList = (PList) replace(new DoubleListLiteralNode(values)).execute(frame);
+            } else if (store instanceof ComplexSequenceStorage) {
+                newList = (PList) replace(new ComplexListLiteralNode(values)).execute(frame);
             } else if (store instanceof ListSequenceStorage) {
                 newList = (PList) replace(new ListListLiteralNode(values)).execute(frame);
             } else if (store instanceof TupleSequenceStorage) {
@@ -228,6 +233,39 @@ public abstract class ListLiteralNode extends LiteralNode {
         }
     }
 
+    public static final class ComplexListLiteralNode extends ListLiteralNode {
+
+        public ComplexListLiteralNode(PNode[] values) {
+            super(values);
+        }
+
+        @ExplodeLoop
+        @Override
+        public Object execute(VirtualFrame frame) {
+            final double[] elements = new double[values.length * 2];
+
+            for (int i = 0; i < values.length; i++) {
+                final Object value = values[i].execute(frame);
+
+                if (!(value instanceof PComplex)) {
+                    final Object[] evaluated = new Object[i + 1];
+
+                    for (int j = 0; j < i; j++) {
+                        evaluated[j] = new PComplex(elements[j * 2], elements[j * 2 + 1]);
+                    }
+
+                    evaluated[i] = value;
+                    return doGeneric(frame, evaluated);
+                }
+
+                elements[i * 2] = ((PComplex) value).getReal();
+                elements[i * 2 + 1] = ((PComplex) value).getImag();
+            }
+
+            return new PList(new ComplexSequenceStorage(elements));
+        }
+    }
+
     public static final class ListListLiteralNode extends ListLiteralNode {
 
         public ListListLiteralNode(PNode[] values) {
@@ -24,14 +24,13 @@
  */
 package edu.uci.python.nodes.object;
 
-import org.python.core.*;
-
 import com.oracle.truffle.api.*;
 import com.oracle.truffle.api.frame.*;
 import com.oracle.truffle.api.nodes.*;
 
 import edu.uci.python.nodes.truffle.*;
 import edu.uci.python.runtime.*;
+import edu.uci.python.runtime.exception.*;
 import edu.uci.python.runtime.object.*;
 import edu.uci.python.runtime.standardtype.*;
 
@@ -72,12 +71,18 @@ public abstract class DispatchBoxedNode extends Node {
         PythonObject storage = primary.getValidStorageFullLookup(attributeId);
 
         if (storage == null) {
-            throw Py.AttributeError(primary + " object has no attribute " + attributeId);
+            throw PythonError.AttributeError(primary + " object has no attribute " + attributeId);
         }
 
         return replace(LinkedDispatchBoxedNode.create(attributeId, primary, storage, primary.isOwnAttribute(attributeId), next));
     }
 
+    protected DispatchBoxedNode rewriteInvalidated(PythonObject primary, DispatchBoxedNode next) {
+        CompilerDirectives.transferToInterpreterAndInvalidate();
+        InlineCacheTelemetry.invalidation(this, InlineCacheTelemetry.ATTRIBUTE, attributeId);
+        return rewrite(primary, next);
+    }
+
     @NodeInfo(cost = NodeCost.UNINITIALIZED)
     public static class UninitializedDispatchBoxedNode extends DispatchBoxedNode {
 
@@ -117,8 +122,10 @@ public abstract class DispatchBoxedNode extends Node {
             DispatchBoxedNode specialized;
 
             if (depth < PythonOptions.AttributeAccessInlineCacheMaxDepth) {
+                InlineCacheTelemetry.rewrite(this, InlineCacheTelemetry.ATTRIBUTE, attributeId, depth + 1);
                 specialized = rewrite(primary, this);
             } else {
+                InlineCacheTelemetry.megamorphic(this, InlineCacheTelemetry.ATTRIBUTE, attributeId);
                 specialized = current.replace(new GenericDispatchBoxedNode(attributeId));
             }
 
@@ -202,7 +209,7 @@ public abstract class DispatchBoxedNode extends Node {
                     return next.getValue(frame, primaryObj);
                 }
             } catch (InvalidAssumptionException e) {
-                return rewrite(primaryObj, next).getValue(frame, primaryObj);
+                return rewriteInvalidated(primaryObj, next).getValue(frame, primaryObj);
             }
         }
 
@@ -215,7 +222,7 @@ public abstract class DispatchBoxedNode extends Node {
                     return next.getIntValue(frame, primary);
                 }
             } catch (InvalidAssumptionException e) {
-                return rewrite(primary, next).getIntValue(frame, primary);
+                return rewriteInvalidated(primary, next).getIntValue(frame, primary);
             }
         }
 
@@ -228,7 +235,7 @@ public abstract class DispatchBoxedNode extends Node {
                     return next.getDoubleValue(frame, primary);
                 }
             } catch (InvalidAssumptionException e) {
-                return rewrite(primary, next).getDoubleValue(frame, primary);
+                return rewriteInvalidated(primary, next).getDoubleValue(frame, primary);
             }
         }
 
@@ -241,7 +248,7 @@ public abstract class DispatchBoxedNode extends Node {
                     return next.getBooleanValue(frame, primary);
                 }
             } catch (InvalidAssumptionException e) {
-                return rewrite(primary, next).getBooleanValue(frame, primary);
+                return rewriteInvalidated(primary, next).getBooleanValue(frame, primary);
             }
         }
     }
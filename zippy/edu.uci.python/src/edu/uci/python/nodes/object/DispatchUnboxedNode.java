@@ -24,14 +24,13 @@
  */
 package edu.uci.python.nodes.object;
 
-import org.python.core.*;
-
 import com.oracle.truffle.api.*;
 import com.oracle.truffle.api.frame.*;
 import com.oracle.truffle.api.nodes.*;
 
 import edu.uci.python.nodes.truffle.*;
 import edu.uci.python.runtime.*;
+import edu.uci.python.runtime.exception.*;
 import edu.uci.python.runtime.object.*;
 import edu.uci.python.runtime.standardtype.*;
 
@@ -71,7 +70,7 @@ public abstract class DispatchUnboxedNode extends Node {
         } while (current != null);
 
         if (current == null) {
-            throw Py.AttributeError(primaryObj + " object has no attribute " + attributeId);
+            throw PythonError.AttributeError(primaryObj + " object has no attribute " + attributeId);
         }
 
         LinkedDispatchUnboxedNode newNode = new LinkedDispatchUnboxedNode(attributeId, primaryObj, current, next);
@@ -100,8 +99,10 @@ public abstract class DispatchUnboxedNode extends Node {
             }
 
             if (depth < PythonOptions.AttributeAccessInlineCacheMaxDepth) {
+                InlineCacheTelemetry.rewrite(this, InlineCacheTelemetry.ATTRIBUTE, attributeId, depth + 1);
                 specialized = rewrite(primaryObj, this);
             } else {
+                InlineCacheTelemetry.megamorphic(this, InlineCacheTelemetry.ATTRIBUTE, attributeId);
                 specialized = current.replace(new GenericDispatchUnboxedNode(attributeId));
             }
 
@@ -24,11 +24,10 @@
  */
 package edu.uci.python.nodes.object;
 
-import org.python.core.*;
-
 import com.oracle.truffle.api.*;
 import com.oracle.truffle.api.nodes.*;
 
+import edu.uci.python.runtime.exception.*;
 import edu.uci.python.runtime.object.*;
 import edu.uci.python.runtime.standardtype.*;
 
@@ -43,12 +42,12 @@ public abstract class LayoutCheckNode extends Node {
     public abstract boolean accept(PythonObject primary) throws InvalidAssumptionException;
 
     public static LayoutCheckNode create(PythonObject primary, ObjectLayout storageLayout, int depth) {
+        assert depth <= 1;
+
         if (depth == 0) {
             return new PythonObjectCheckNode(primary);
-        } else if (depth == 1) {
-            return new PythonClassCheckNode(primary, storageLayout);
         } else {
-            return new ClassChainCheckNode(primary, storageLayout, depth);
+            return new PythonClassCheckNode(primary, storageLayout);
         }
     }
 
@@ -58,36 +57,17 @@ public abstract class LayoutCheckNode extends Node {
             return new PythonObjectCheckNode(primary);
         }
 
-        int depth = 0;
-        PythonClass current;
-
-        if (primary instanceof PythonClass) {
-            current = (PythonClass) primary;
-        } else {
-            current = primary.getPythonClass();
-            depth++;
-        }
-
-        // class chain lookup
-        do {
-            if (current.isOwnAttribute(attributeId)) {
-                break;
-            }
-
-            current = current.getSuperClass();
-            depth++;
-        } while (current != null);
+        final PythonClass clazz = primary instanceof PythonClass ? (PythonClass) primary : primary.getPythonClass();
+        final PythonClass owner = clazz.lookUpAttributeOwner(attributeId);
 
-        if (current == null) {
-            throw Py.AttributeError(primary + " object has no attribute " + attributeId);
+        if (owner == null) {
+            throw PythonError.AttributeError(primary + " object has no attribute " + attributeId);
         }
 
-        if (depth == 0) {
+        if (owner == primary) {
             return new PythonObjectCheckNode(primary);
-        } else if (depth == 1) {
-            return new PythonClassCheckNode(primary, current.getObjectLayout());
         } else {
-            return new ClassChainCheckNode(primary, current.getObjectLayout(), depth);
+            return new ClassHierarchyCheckNode(primary, clazz);
         }
     }
 
@@ -134,48 +114,28 @@ public abstract class LayoutCheckNode extends Node {
         }
     }
 
-    public static final class ClassChainCheckNode extends LayoutCheckNode {
+    /**
+     * The attribute is defined by a class in the MRO of the primary's class. Instead of checking
+     * every class on the way, a single assumption covers the whole hierarchy.
+     */
+    public static final class ClassHierarchyCheckNode extends LayoutCheckNode {
 
         private final Assumption objectStableAssumption;
-        private final Assumption[] classChainsStableAssumptions;
-        private final Assumption storageStableAssumption;
+        private final Assumption lookupStableAssumption;
 
-        public ClassChainCheckNode(PythonObject primary, ObjectLayout storageLayout, int depth) {
+        public ClassHierarchyCheckNode(PythonObject primary, PythonClass clazz) {
             super(primary.getObjectLayout());
             this.objectStableAssumption = primary.getStableAssumption();
+            this.lookupStableAssumption = clazz.getLookupStableAssumption();
             assert objectStableAssumption.isValid();
-
-            Assumption[] classStables = new Assumption[depth - 1];
-            PythonClass current = primary.getPythonClass();
-
-            for (int i = 0; i < depth - 1; i++) {
-                classStables[i] = current.getStableAssumption();
-                assert classStables[i].isValid();
-                current = current.getSuperClass();
-                assert current != null;
-            }
-
-            this.classChainsStableAssumptions = classStables;
-            this.storageStableAssumption = storageLayout.getValidAssumption();
-            assert storageStableAssumption == current.getStableAssumption();
-            assert storageStableAssumption.isValid();
+            assert lookupStableAssumption.isValid();
         }
 
-        @ExplodeLoop
         @Override
         public boolean accept(PythonObject primary) throws InvalidAssumptionException {
-            storageStableAssumption.check();
+            lookupStableAssumption.check();
             objectStableAssumption.check();
-
-            for (Assumption classStable : classChainsStableAssumptions) {
-                classStable.check();
-            }
-
-            if (primary.getObjectLayout() == cachedObjectLayout) {
-                return true;
-            }
-
-            return false;
+            return primary.getObjectLayout() == cachedObjectLayout;
         }
     }
 
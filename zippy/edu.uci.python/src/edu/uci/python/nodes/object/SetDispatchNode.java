@@ -57,6 +57,7 @@ public abstract class SetDispatchNode extends Node {
     protected SetDispatchNode rewrite(SetDispatchNode next) {
         CompilerAsserts.neverPartOfCompilation();
         assert this != next;
+        InlineCacheTelemetry.invalidation(this, InlineCacheTelemetry.SET_ATTRIBUTE, attributeId);
         return replace(next);
     }
 
@@ -104,10 +105,12 @@ public abstract class SetDispatchNode extends Node {
             }
 
             if (depth < PythonOptions.AttributeAccessInlineCacheMaxDepth) {
+                InlineCacheTelemetry.rewrite(this, InlineCacheTelemetry.SET_ATTRIBUTE, attributeId, depth + 1);
                 primary.setAttribute(attributeId, value);
                 StorageLocation location = primary.getOwnValidLocation(attributeId);
                 replace(new LinkedSetDispatchNode(attributeId, AttributeWriteNode.create(location), primary, this));
             } else {
+                InlineCacheTelemetry.megamorphic(this, InlineCacheTelemetry.SET_ATTRIBUTE, attributeId);
                 replace(new GenericSetDispatchNode(attributeId)).setValue(frame, primary, value);
             }
         }
@@ -108,6 +108,13 @@ public class GeneratorExpressionOptimizer {
                 ArgumentsNode arguments = (ArgumentsNode) genexp.getParent();
                 BoxedCallNode callNode = (BoxedCallNode) arguments.getParent();
                 assert callNode.isInlined();
+                if (!(callNode.getInlinedCalleeRoot() instanceof FunctionRootNode)) {
+                    /**
+                     * Builtin callees such as sum() have no generator loop to peel.
+                     */
+                    return;
+                }
+
                 FunctionRootNode calleeRoot = (FunctionRootNode) callNode.getInlinedCalleeRoot();
                 PeeledGeneratorLoopBoxedNode manuallyInlinedCallNode = new PeeledGeneratorLoopBoxedNode(calleeRoot, calleeRoot.getFrameDescriptor(), callNode.getPrimaryNode(),
                                 callNode.passPrimaryAsArgument(), callNode.getArgumentsNode(), ((LinkedDispatchBoxedNode) callNode.getDispatchNode()).getCheckNode(), callNode);
@@ -32,7 +32,7 @@ import edu.uci.python.nodes.*;
 import edu.uci.python.nodes.frame.*;
 import edu.uci.python.nodes.generator.*;
 import edu.uci.python.nodes.generator.ComprehensionNodeFactory.ArrayListAddNodeFactory;
-import edu.uci.python.nodes.generator.ComprehensionNodeFactory.TreeSetAddNodeFactory;
+import edu.uci.python.nodes.generator.ComprehensionNodeFactory.SetAddNodeFactory;
 import edu.uci.python.runtime.builtin.*;
 import edu.uci.python.runtime.function.*;
 
@@ -88,7 +88,7 @@ public enum IntrinsifiableBuiltin {
             case TUPLE:
                 return ArrayListAddNodeFactory.create(targetSlot, comprehension);
             case SET:
-                return TreeSetAddNodeFactory.create(targetSlot, comprehension);
+                return SetAddNodeFactory.create(targetSlot, comprehension);
             default:
                 throw new IllegalStateException();
         }
@@ -26,13 +26,15 @@ package edu.uci.python.nodes.statement;
 
 import org.python.core.*;
 
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.frame.*;
-import com.oracle.truffle.api.nodes.*;
 
 import edu.uci.python.ast.VisitorIF;
 import edu.uci.python.nodes.*;
 import edu.uci.python.nodes.frame.*;
 import edu.uci.python.runtime.*;
+import edu.uci.python.runtime.exception.*;
+import edu.uci.python.runtime.sequence.*;
 
 /**
  * @author Gulfem
@@ -53,44 +55,84 @@ public class ExceptNode extends StatementNode {
         this.context = context;
     }
 
-    protected Object executeExcept(VirtualFrame frame, RuntimeException excep) {
-        PyException e = null;
+    /**
+     * Runs the handler body if this clause matches the exception and returns whether it did.
+     */
+    protected boolean executeExcept(VirtualFrame frame, RuntimeException excep) {
+        final PyObject errorType = getErrorType(excep);
+
+        if (errorType == null || !matches(frame, errorType)) {
+            return false;
+        }
+
+        if (exceptName != null) {
+            ((WriteNode) exceptName).executeWrite(frame, toPyException(excep));
+        }
+
+        context.setCurrentException(excep);
+        body.execute(frame);
+
+        // clear the exception after executing the except body.
+        context.setCurrentException(null);
+        return true;
+    }
+
+    /**
+     * StopIteration travels as the preallocated {@link StopIterationException}; it is matched by
+     * type without building a PyException.
+     */
+    private static PyObject getErrorType(RuntimeException excep) {
         if (excep instanceof PyException) {
-            e = (PyException) excep;
-        } else if (excep instanceof ArithmeticException && excep.getMessage().endsWith("divide by zero")) {
-            e = Py.ZeroDivisionError("divide by zero");
-        } else {
-            throw excep;
+            return ((PyException) excep).type;
+        } else if (excep instanceof StopIterationException) {
+            return Py.StopIteration;
         }
 
-        context.setCurrentException(e);
-
-        /**
-         * TODO: need to support exceptType instance of type e.g. 'divide by zero' instance of
-         * 'Exception'
-         *
-         * TODO: need to make exception messages consistent with Python 3.3 e.g. 'division by zero'
-         */
-        if (exceptType != null) {
-            PyObject type = null;
-            for (int i = 0; i < exceptType.length && type != e.type; i++) {
-                type = (PyObject) exceptType[i].execute(frame);
+        return null;
+    }
+
+    @TruffleBoundary
+    private static PyException toPyException(RuntimeException excep) {
+        if (excep instanceof PyException) {
+            return (PyException) excep;
+        }
+
+        return Py.StopIteration("");
+    }
+
+    /**
+     * The common case names the raised class itself, so identity is checked first. Base classes
+     * and tuples of classes fall back to a subtype test.
+     */
+    private boolean matches(VirtualFrame frame, PyObject errorType) {
+        if (exceptType == null) {
+            return true;
+        }
+
+        for (int i = 0; i < exceptType.length; i++) {
+            final Object type = exceptType[i].execute(frame);
+
+            if (type == errorType || isSubType(errorType, type)) {
+                return true;
             }
+        }
+
+        return false;
+    }
 
-            if (e.type == type) {
-                if (exceptName != null) {
-                    ((WriteNode) exceptName).executeWrite(frame, e);
+    @TruffleBoundary
+    private static boolean isSubType(PyObject errorType, Object type) {
+        if (type instanceof PTuple) {
+            for (Object item : ((PTuple) type).getArray()) {
+                if (item == errorType || isSubType(errorType, item)) {
+                    return true;
                 }
-            } else {
-                throw excep;
             }
+        } else if (errorType instanceof PyType && type instanceof PyType) {
+            return ((PyType) errorType).isSubType((PyType) type);
         }
 
-        body.execute(frame);
-
-        // clear the exception after executing the except body.
-        context.setCurrentException(null);
-        throw new ControlFlowException();
+        return false;
     }
 
     @Override
@@ -50,6 +50,18 @@ public class ImportFromNode extends PNode {
         assert this.fromModules != null && this.fromModules.length > 0;
     }
 
+    public String[] getFromModules() {
+        return fromModules;
+    }
+
+    public String getImportee() {
+        return importee;
+    }
+
+    public PythonModule getRelativeTo() {
+        return relativeto;
+    }
+
     @Override
     public Object execute(VirtualFrame frame) {
         CompilerDirectives.transferToInterpreterAndInvalidate();
@@ -40,6 +40,10 @@ public class ImportNode extends PNode {
         this.moduleName = moduleName;
     }
 
+    public String getModuleName() {
+        return moduleName;
+    }
+
     @Override
     public Object execute(VirtualFrame frame) {
         return context.getImportManager().importModule(moduleName);
@@ -51,6 +51,14 @@ public class ImportStarNode extends PNode {
         this.relativeto = relativeto;
     }
 
+    public String getModuleName() {
+        return moduleName;
+    }
+
+    public PythonModule getRelativeTo() {
+        return relativeto;
+    }
+
     @Override
     public Object execute(VirtualFrame frame) {
         Object importedModule = context.getImportManager().importModule(relativeto, moduleName);
@@ -26,7 +26,6 @@ package edu.uci.python.nodes.statement;
 
 import org.python.core.*;
 
-import com.oracle.truffle.api.*;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.frame.*;
 
@@ -34,6 +33,7 @@ import edu.uci.python.ast.VisitorIF;
 import edu.uci.python.nodes.*;
 import edu.uci.python.runtime.*;
 import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.exception.*;
 
 public class RaiseNode extends StatementNode {
 
@@ -49,8 +49,6 @@ public class RaiseNode extends StatementNode {
 
     @Override
     public Object execute(VirtualFrame frame) {
-        CompilerDirectives.transferToInterpreterAndInvalidate();
-
         Object t = (type == null) ? null : type.execute(frame);
         Object i = (inst == null) ? null : inst.execute(frame);
         /**
@@ -71,7 +69,7 @@ public class RaiseNode extends StatementNode {
 
     @TruffleBoundary
     private static void doRaise(Object t, Object i) {
-        throw PyException.doRaise((PyObject) t, (PyObject) i, null);
+        throw PythonError.raise((PyObject) t, (PyObject) i);
     }
 
     public PNode getType() {
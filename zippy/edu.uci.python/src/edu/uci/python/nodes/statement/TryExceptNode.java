@@ -25,10 +25,10 @@
 package edu.uci.python.nodes.statement;
 
 import com.oracle.truffle.api.frame.VirtualFrame;
-import com.oracle.truffle.api.nodes.ControlFlowException;
 
 import edu.uci.python.ast.VisitorIF;
 import edu.uci.python.nodes.PNode;
+import edu.uci.python.runtime.datatype.PNone;
 
 public class TryExceptNode extends StatementNode {
 
@@ -54,14 +54,8 @@ public class TryExceptNode extends StatementNode {
 
     private Object catchException(VirtualFrame frame, RuntimeException exception) {
         for (ExceptNode exceptNode : exceptNodes) {
-            try {
-                exceptNode.executeExcept(frame, exception);
-            } catch (ControlFlowException cf) {
-                return cf;
-            } catch (RuntimeException ex) {
-                if (exception != ex) {
-                    throw ex;
-                }
+            if (exceptNode.executeExcept(frame, exception)) {
+                return PNone.NONE;
             }
         }
 
@@ -104,10 +104,6 @@ public class WithNode extends StatementNode {
         } finally {
             PythonCallable exitCall = (PythonCallable) pythonObj.getAttribute("__exit__");
 
-            if (exception instanceof ArithmeticException && exception.getMessage().endsWith("divide by zero")) {
-                exception = Py.ZeroDivisionError("divide by zero");
-            }
-
             Object returnValue = null;
 
             if (exception instanceof PyException) {
@@ -26,13 +26,10 @@ package edu.uci.python.nodes.subscript;
 
 import java.math.BigInteger;
 
-import org.python.core.*;
-
 import com.oracle.truffle.api.dsl.*;
 
 import edu.uci.python.ast.VisitorIF;
 import edu.uci.python.nodes.expression.*;
-import edu.uci.python.nodes.truffle.*;
 import edu.uci.python.runtime.object.*;
 
 @GenerateNodeFactory
@@ -44,14 +41,26 @@ public abstract class IndexNode extends UnaryOpNode {
     }
 
     @Specialization
-    public int doInteger(BigInteger index) {
-        return index.intValue();
+    public long doLong(long index) {
+        return index;
+    }
+
+    /**
+     * Kept whole, so that large integers stay distinct dictionary keys. Sequences narrow it to an
+     * index in the subscript nodes.
+     */
+    @Specialization
+    public BigInteger doBigInteger(BigInteger index) {
+        return index;
     }
 
-    @SuppressWarnings("unused")
+    /**
+     * Non-integer indices are only valid as dictionary keys. Sequences reject them in the
+     * subscript nodes.
+     */
     @Specialization
     public double doDouble(double index) {
-        throw Py.TypeError("list indices must be integers, not float");
+        return index;
     }
 
     @Specialization
@@ -66,7 +75,7 @@ public abstract class IndexNode extends UnaryOpNode {
 
     @Specialization
     public Object doObject(Object index) {
-        throw Py.TypeError("list indices must be integers, not " + PythonTypesUtil.getPythonTypeName(index));
+        return index;
     }
 
     @Override
@@ -62,4 +62,10 @@ public abstract class SubscriptDeleteNode extends BinaryOpNode {
         return PNone.NONE;
     }
 
+    @Specialization
+    public Object doPDeque(PDeque primary, int index) {
+        primary.delItem(index);
+        return PNone.NONE;
+    }
+
 }
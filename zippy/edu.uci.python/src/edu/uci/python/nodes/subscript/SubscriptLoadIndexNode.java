@@ -24,6 +24,8 @@
  */
 package edu.uci.python.nodes.subscript;
 
+import java.math.*;
+
 import org.python.core.*;
 
 import com.oracle.truffle.api.*;
@@ -36,6 +38,8 @@ import edu.uci.python.nodes.*;
 import edu.uci.python.nodes.truffle.*;
 import edu.uci.python.runtime.array.*;
 import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.datatype.storage.*;
+import edu.uci.python.runtime.exception.*;
 import edu.uci.python.runtime.object.*;
 import edu.uci.python.runtime.sequence.*;
 import edu.uci.python.runtime.sequence.storage.*;
@@ -100,6 +104,18 @@ public abstract class SubscriptLoadIndexNode extends SubscriptLoadNode {
         return store.getDoubleItemNormalized(idx + store.length());
     }
 
+    @Specialization(guards = {"isComplexStorage(primary)", "isIndexPositive(primary,idx)"})
+    public PComplex doPListComplex(PList primary, int idx) {
+        final ComplexSequenceStorage store = (ComplexSequenceStorage) primary.getStorage();
+        return store.getComplexItemNormalized(idx);
+    }
+
+    @Specialization(guards = {"isComplexStorage(primary)", "isIndexNegative(primary,idx)"})
+    public PComplex doPListComplexNegative(PList primary, int idx) {
+        final ComplexSequenceStorage store = (ComplexSequenceStorage) primary.getStorage();
+        return store.getComplexItemNormalized(idx + store.length());
+    }
+
     @Specialization(guards = {"isObjectStorage(primary)", "isIndexPositive(primary,idx)"})
     public Object doPListObject(PList primary, int idx) {
         final ObjectSequenceStorage store = (ObjectSequenceStorage) primary.getStorage();
@@ -150,94 +166,134 @@ public abstract class SubscriptLoadIndexNode extends SubscriptLoadNode {
     @Specialization(guards = {"isIntStorage(primary)", "isIndexPositive(primary,idx)"})
     public int doPListInt(PList primary, long idx) {
         final IntSequenceStorage store = (IntSequenceStorage) primary.getStorage();
-        return store.getIntItemNormalized(Math.toIntExact(idx));
+        return store.getIntItemNormalized(SequenceUtil.toIndex(idx));
     }
 
     @Specialization(guards = {"isIntStorage(primary)", "isIndexNegative(primary,idx)"})
     public int doPListIntNegative(PList primary, long idx) {
         final IntSequenceStorage store = (IntSequenceStorage) primary.getStorage();
-        return store.getIntItemNormalized(Math.toIntExact(idx) + store.length());
+        return store.getIntItemNormalized(SequenceUtil.toIndex(idx) + store.length());
     }
 
     @Specialization(guards = {"isLongStorage(primary)", "isIndexPositive(primary,idx)"})
     public long doPListLong(PList primary, long idx) {
         final LongSequenceStorage store = (LongSequenceStorage) primary.getStorage();
-        return store.getLongItemNormalized(Math.toIntExact(idx));
+        return store.getLongItemNormalized(SequenceUtil.toIndex(idx));
     }
 
     @Specialization(guards = {"isLongStorage(primary)", "isIndexNegative(primary,idx)"})
     public long doPListLongNegative(PList primary, long idx) {
         final LongSequenceStorage store = (LongSequenceStorage) primary.getStorage();
-        return store.getLongItemNormalized(Math.toIntExact(idx) + store.length());
+        return store.getLongItemNormalized(SequenceUtil.toIndex(idx) + store.length());
     }
 
     @Specialization(guards = {"isDoubleStorage(primary)", "isIndexPositive(primary,idx)"})
     public double doPListDouble(PList primary, long idx) {
         final DoubleSequenceStorage store = (DoubleSequenceStorage) primary.getStorage();
-        return store.getDoubleItemNormalized(Math.toIntExact(idx));
+        return store.getDoubleItemNormalized(SequenceUtil.toIndex(idx));
     }
 
     @Specialization(guards = {"isDoubleStorage(primary)", "isIndexNegative(primary,idx)"})
     public double doPListDoubleNegative(PList primary, long idx) {
         final DoubleSequenceStorage store = (DoubleSequenceStorage) primary.getStorage();
-        return store.getDoubleItemNormalized(Math.toIntExact(idx) + store.length());
+        return store.getDoubleItemNormalized(SequenceUtil.toIndex(idx) + store.length());
     }
 
     @Specialization(guards = {"isObjectStorage(primary)", "isIndexPositive(primary,idx)"})
     public Object doPListObject(PList primary, long idx) {
         final ObjectSequenceStorage store = (ObjectSequenceStorage) primary.getStorage();
-        return store.getItemNormalized(Math.toIntExact(idx));
+        return store.getItemNormalized(SequenceUtil.toIndex(idx));
     }
 
     @Specialization(guards = {"isObjectStorage(primary)", "isIndexNegative(primary,idx)"})
     public Object doPListObjectNegative(PList primary, long idx) {
         final ObjectSequenceStorage store = (ObjectSequenceStorage) primary.getStorage();
-        return store.getItemNormalized(Math.toIntExact(idx) + store.length());
+        return store.getItemNormalized(SequenceUtil.toIndex(idx) + store.length());
     }
 
     @Specialization
     public Object doPList(PList list, long idx) {
-        return list.getItem(Math.toIntExact(idx));
+        return list.getItem(SequenceUtil.toIndex(idx));
     }
 
     @Specialization(guards = "isIndexPositive(tuple,idx)")
     public Object doPTuplePositive(PTuple tuple, long idx) {
-        return tuple.getItemNormalized(Math.toIntExact(idx));
+        return tuple.getItemNormalized(SequenceUtil.toIndex(idx));
     }
 
     @Specialization(guards = "isIndexNegative(tuple,idx)")
     public Object doPTupleNegative(PTuple tuple, long idx) {
-        return tuple.getItemNormalized(Math.toIntExact(idx) + tuple.len());
+        return tuple.getItemNormalized(SequenceUtil.toIndex(idx) + tuple.len());
     }
 
     @Specialization
     public Object doPTuple(PTuple tuple, long idx) {
-        return tuple.getItem(Math.toIntExact(idx));
+        return tuple.getItem(SequenceUtil.toIndex(idx));
     }
 
     @Specialization(guards = "isIndexPositive(primary,idx)")
     public Object doPRangePositive(PRange primary, long idx) {
-        return primary.getItemNormalized(Math.toIntExact(idx));
+        return primary.getItemNormalized(SequenceUtil.toIndex(idx));
     }
 
     @Specialization(guards = "isIndexNegative(primary,idx)")
     public Object doPRangeNegative(PRange primary, long idx) {
-        return primary.getItemNormalized(Math.toIntExact(idx) + primary.len());
+        return primary.getItemNormalized(SequenceUtil.toIndex(idx) + primary.len());
     }
 
     @Specialization
     public Object doPRange(PRange primary, long idx) {
-        return primary.getItem(Math.toIntExact(idx));
+        return primary.getItem(SequenceUtil.toIndex(idx));
     }
 
     /**
-     * PDict lookup using key.
+     * PDict lookup using key. Int and string keys take the unboxed lookup paths. A missing key is
+     * resolved by {@link PDict#missing}, which lets defaultdict and Counter supply a value.
      */
+    @Specialization(guards = "isIntDictStorage(primary)", rewriteOn = UnexpectedResultException.class)
+    public int doPDictIntStorage(PDict primary, int key) throws UnexpectedResultException {
+        final IntDictStorage store = (IntDictStorage) primary.getStorage();
+        final int entry = store.findIntEntry(key);
+
+        if (entry < 0) {
+            return PythonTypesGen.expectInteger(primary.missing(key));
+        }
+
+        return store.intValueAt(entry);
+    }
+
+    @Specialization(guards = "isStringDictStorage(primary)")
+    public Object doPDictStringStorage(PDict primary, String key) {
+        final Object result = ((StringDictStorage) primary.getStorage()).getStringItem(key);
+        return result != null ? result : primary.missing(key);
+    }
+
+    @Specialization
+    public Object doPDictInt(PDict primary, int key) {
+        final Object result = primary.getIntItem(key);
+        return result != null ? result : primary.missing(key);
+    }
+
+    @Specialization
+    public Object doPDictString(PDict primary, String key) {
+        final Object result = primary.getStringItem(key);
+        return result != null ? result : primary.missing(key);
+    }
+
     @Specialization
     public Object doPDict(PDict primary, Object key) {
         final Object result = primary.getItem(key);
-        assert result != null;
-        return result;
+        return result != null ? result : primary.missing(key);
+    }
+
+    @Specialization(guards = "isIntDequeStorage(primary)")
+    public int doPDequeInt(PDeque primary, int idx) {
+        return primary.getIntItem(idx);
+    }
+
+    @Specialization
+    public Object doPDeque(PDeque primary, int idx) {
+        return primary.getItem(idx);
     }
 
     /**
@@ -290,47 +346,57 @@ public abstract class SubscriptLoadIndexNode extends SubscriptLoadNode {
 
     @Specialization(guards = "isIndexPositive(primary,idx)")
     public int doPIntArray(PIntArray primary, long idx) {
-        return primary.getIntItemNormalized(Math.toIntExact(idx));
+        return primary.getIntItemNormalized(SequenceUtil.toIndex(idx));
     }
 
     @Specialization(guards = "isIndexNegative(primary,idx)")
     public int doPIntArrayNegative(PIntArray primary, long idx) {
-        return primary.getIntItemNormalized(Math.toIntExact(idx) + primary.len());
+        return primary.getIntItemNormalized(SequenceUtil.toIndex(idx) + primary.len());
     }
 
     @Specialization(guards = "isIndexPositive(primary,idx)")
     public long doPIntArray(PLongArray primary, long idx) {
-        return primary.getLongItemNormalized(Math.toIntExact(idx));
+        return primary.getLongItemNormalized(SequenceUtil.toIndex(idx));
     }
 
     @Specialization(guards = "isIndexNegative(primary,idx)")
     public long doPIntArrayNegative(PLongArray primary, long idx) {
-        return primary.getLongItemNormalized(Math.toIntExact(idx) + primary.len());
+        return primary.getLongItemNormalized(SequenceUtil.toIndex(idx) + primary.len());
     }
 
     @Specialization(guards = "isIndexPositive(primary,idx)")
     public double doPDoubleArray(PDoubleArray primary, long idx) {
-        return primary.getDoubleItemNormalized(Math.toIntExact(idx));
+        return primary.getDoubleItemNormalized(SequenceUtil.toIndex(idx));
     }
 
     @Specialization(guards = "isIndexNegative(primary,idx)")
     public double doPDoubleArrayNegative(PDoubleArray primary, long idx) {
-        return primary.getDoubleItemNormalized(Math.toIntExact(idx) + primary.len());
+        return primary.getDoubleItemNormalized(SequenceUtil.toIndex(idx) + primary.len());
     }
 
     @Specialization(guards = "isIndexPositive(primary,idx)")
     public char doPCharArray(PCharArray primary, long idx) {
-        return primary.getCharItemNormalized(Math.toIntExact(idx));
+        return primary.getCharItemNormalized(SequenceUtil.toIndex(idx));
     }
 
     @Specialization(guards = "isIndexNegative(primary,idx)")
     public char doPCharArrayNegative(PCharArray primary, long idx) {
-        return primary.getCharItemNormalized(Math.toIntExact(idx) + primary.len());
+        return primary.getCharItemNormalized(SequenceUtil.toIndex(idx) + primary.len());
     }
 
     @Specialization
     public Object doPArray(PArray primary, long idx) {
-        return primary.getItem(Math.toIntExact(idx));
+        return primary.getItem(SequenceUtil.toIndex(idx));
+    }
+
+    @Specialization
+    public Object doPSequence(PSequence primary, BigInteger idx) {
+        return primary.getItem(SequenceUtil.toIndex(idx));
+    }
+
+    @Specialization
+    public Object doPSequence(PSequence primary, Object idx) {
+        throw PythonError.TypeError(PythonTypesUtil.getPythonTypeName(primary) + " indices must be integers, not " + PythonTypesUtil.getPythonTypeName(idx));
     }
 
     /**
@@ -357,7 +423,7 @@ public abstract class SubscriptLoadIndexNode extends SubscriptLoadNode {
         CompilerAsserts.neverPartOfCompilation();
 
         PyList list = (PyList) primary;
-        Object value = list.get(Math.toIntExact(index));
+        Object value = list.get(SequenceUtil.toIndex(index));
 
         if (value instanceof PyObject) {
             return PythonTypesUtil.unboxPyObject((PyObject) value);
@@ -24,13 +24,18 @@
  */
 package edu.uci.python.nodes.subscript;
 
+import java.math.*;
+
 import com.oracle.truffle.api.dsl.*;
 import com.oracle.truffle.api.nodes.*;
 
 import edu.uci.python.ast.VisitorIF;
 import edu.uci.python.nodes.*;
+import edu.uci.python.nodes.truffle.*;
 import edu.uci.python.runtime.array.*;
 import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.datatype.storage.*;
+import edu.uci.python.runtime.exception.*;
 import edu.uci.python.runtime.sequence.*;
 import edu.uci.python.runtime.sequence.storage.*;
 
@@ -71,6 +76,20 @@ public abstract class SubscriptStoreIndexNode extends SubscriptStoreNode {
         return PNone.NONE;
     }
 
+    @Specialization(guards = {"isComplexStorage(primary)", "isIndexPositive(primary,idx)"})
+    public Object doPListComplex(PList primary, int idx, PComplex value) {
+        final ComplexSequenceStorage store = (ComplexSequenceStorage) primary.getStorage();
+        store.setComplexItemNormalized(idx, value);
+        return PNone.NONE;
+    }
+
+    @Specialization(guards = {"isComplexStorage(primary)", "isIndexNegative(primary,idx)"})
+    public Object doPListComplexNegative(PList primary, int idx, PComplex value) {
+        final ComplexSequenceStorage store = (ComplexSequenceStorage) primary.getStorage();
+        store.setComplexItemNormalized(idx + store.length(), value);
+        return PNone.NONE;
+    }
+
     @Specialization(guards = {"isObjectStorage(primary)", "isIndexPositive(primary,idx)"})
     public Object doPListObject(PList primary, int idx, Object value) {
         final ObjectSequenceStorage store = (ObjectSequenceStorage) primary.getStorage();
@@ -92,14 +111,57 @@ public abstract class SubscriptStoreIndexNode extends SubscriptStoreNode {
     }
 
     /**
-     * PDict key & value store.
+     * PDict key & value store. Booleans are kept boxed, so that they are not implicitly cast into
+     * an int storage.
      */
+    @Specialization
+    public Object doPDictBooleanValue(PDict primary, Object key, boolean value) {
+        primary.setItem(key, value);
+        return PNone.NONE;
+    }
+
+    @Specialization
+    public Object doPDictBooleanKey(PDict primary, boolean key, Object value) {
+        primary.setItem(key, value);
+        return PNone.NONE;
+    }
+
+    @Specialization(guards = "isIntDictStorage(primary)")
+    public Object doPDictIntStorage(PDict primary, int key, int value) {
+        ((IntDictStorage) primary.getStorage()).setIntItem(key, value);
+        return PNone.NONE;
+    }
+
+    @Specialization(guards = "isStringDictStorage(primary)")
+    public Object doPDictStringStorage(PDict primary, String key, Object value) {
+        ((StringDictStorage) primary.getStorage()).setStringItem(key, value);
+        return PNone.NONE;
+    }
+
+    @Specialization(guards = "isEmptyDictStorage(primary)")
+    public Object doPDictEmptyStorage(PDict primary, Object key, Object value) {
+        primary.setItem(key, value);
+        return PNone.NONE;
+    }
+
+    @Specialization
+    public Object doPDictString(PDict primary, String key, Object value) {
+        primary.setStringItem(key, value);
+        return PNone.NONE;
+    }
+
     @Specialization
     public Object doPDict(PDict primary, Object key, Object value) {
         primary.setItem(key, value);
         return PNone.NONE;
     }
 
+    @Specialization
+    public Object doPDeque(PDeque primary, int idx, Object value) {
+        primary.setItem(idx, value);
+        return PNone.NONE;
+    }
+
     /**
      * Unboxed array stores.
      */
@@ -139,6 +201,18 @@ public abstract class SubscriptStoreIndexNode extends SubscriptStoreNode {
         return 0;
     }
 
+    @Specialization
+    public Object doPSequence(PSequence primary, BigInteger idx, Object value) {
+        primary.setItem(SequenceUtil.toIndex(idx), value);
+        return PNone.NONE;
+    }
+
+    @SuppressWarnings("unused")
+    @Specialization
+    public Object doPSequence(PSequence primary, Object idx, Object value) {
+        throw PythonError.TypeError(PythonTypesUtil.getPythonTypeName(primary) + " indices must be integers, not " + PythonTypesUtil.getPythonTypeName(idx));
+    }
+
     @Override
     public <R> R accept(VisitorIF<R> visitor) throws Exception {
         return visitor.visitSubscriptStoreIndexNode(this);
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.nodes.truffle;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.python.core.*;
+
+import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.datatype.storage.*;
+
+/**
+ * Presents a {@link PDict} to Jython as the backing map of a {@link PyDictionary}. Keys and values
+ * are converted per access instead of copying the whole dictionary into a new map.
+ */
+final class PDictProxy extends AbstractMap<PyObject, PyObject> implements ConcurrentMap<PyObject, PyObject> {
+
+    private final PDict dict;
+
+    PDictProxy(PDict dict) {
+        this.dict = dict;
+    }
+
+    PDict getDict() {
+        return dict;
+    }
+
+    private static Object unbox(Object key) {
+        return key instanceof PyObject ? PythonTypesUtil.unboxPyObject((PyObject) key) : key;
+    }
+
+    private static PyObject adapt(Object value) {
+        return value == null ? null : PythonTypesUtil.adaptToPyObject(value);
+    }
+
+    @Override
+    public int size() {
+        return dict.len();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return dict.hasKey(unbox(key));
+    }
+
+    @Override
+    public PyObject get(Object key) {
+        return adapt(dict.getItem(unbox(key)));
+    }
+
+    @Override
+    public PyObject put(PyObject key, PyObject value) {
+        Object unboxedKey = unbox(key);
+        PyObject previous = adapt(dict.getItem(unboxedKey));
+        dict.setItem(unboxedKey, unbox(value));
+        return previous;
+    }
+
+    @Override
+    public PyObject remove(Object key) {
+        return adapt(dict.removeItem(unbox(key)));
+    }
+
+    @Override
+    public void clear() {
+        dict.clear();
+    }
+
+    @Override
+    public synchronized PyObject putIfAbsent(PyObject key, PyObject value) {
+        PyObject previous = get(key);
+        if (previous == null) {
+            put(key, value);
+        }
+        return previous;
+    }
+
+    @Override
+    public synchronized boolean remove(Object key, Object value) {
+        PyObject current = get(key);
+        if (current != null && current.equals(value)) {
+            remove(key);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public synchronized boolean replace(PyObject key, PyObject oldValue, PyObject newValue) {
+        PyObject current = get(key);
+        if (current != null && current.equals(oldValue)) {
+            put(key, newValue);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public synchronized PyObject replace(PyObject key, PyObject value) {
+        return containsKey(key) ? put(key, value) : null;
+    }
+
+    @Override
+    public Set<Map.Entry<PyObject, PyObject>> entrySet() {
+        return new AbstractSet<Map.Entry<PyObject, PyObject>>() {
+
+            @Override
+            public Iterator<Map.Entry<PyObject, PyObject>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return dict.len();
+            }
+        };
+    }
+
+    /**
+     * Walks the storage in insertion order. The storage is looked up again on every step since the
+     * dictionary may have switched to a more general one in the meantime.
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<PyObject, PyObject>> {
+
+        private int next = dict.getStorage().nextEntry(0);
+        private Object lastKey;
+
+        @Override
+        public boolean hasNext() {
+            return next >= 0;
+        }
+
+        @Override
+        public Map.Entry<PyObject, PyObject> next() {
+            if (next < 0) {
+                throw new NoSuchElementException();
+            }
+            DictStorage store = dict.getStorage();
+            lastKey = store.keyAt(next);
+            Map.Entry<PyObject, PyObject> entry = new Entry(lastKey, store.valueAt(next));
+            next = store.nextEntry(next + 1);
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (lastKey == null) {
+                throw new IllegalStateException();
+            }
+            dict.delItem(lastKey);
+            lastKey = null;
+        }
+    }
+
+    private final class Entry extends SimpleEntry<PyObject, PyObject> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Object key;
+
+        Entry(Object key, Object value) {
+            super(adapt(key), adapt(value));
+            this.key = key;
+        }
+
+        @Override
+        public PyObject setValue(PyObject value) {
+            dict.setItem(key, unbox(value));
+            return super.setValue(value);
+        }
+    }
+
+}
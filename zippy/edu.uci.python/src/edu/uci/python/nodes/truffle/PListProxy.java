@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.nodes.truffle;
+
+import java.util.*;
+
+import org.python.core.*;
+
+import edu.uci.python.runtime.sequence.*;
+
+/**
+ * Presents a {@link PList} to Jython as the backing list of a {@link PyList}. Elements are adapted
+ * as Jython reads them and unboxed as it writes them, so handing a list to a Jython function does
+ * not copy it, and changes made on the Jython side are visible in the original list.
+ */
+final class PListProxy extends AbstractList<PyObject> implements RandomAccess {
+
+    private final PList list;
+
+    PListProxy(PList list) {
+        this.list = list;
+    }
+
+    @Override
+    public PyObject get(int index) {
+        checkIndex(index, list.len());
+        return PythonTypesUtil.adaptToPyObject(list.getItem(index));
+    }
+
+    @Override
+    public PyObject set(int index, PyObject element) {
+        PyObject previous = get(index);
+        list.setItem(index, PythonTypesUtil.unboxPyObject(element));
+        return previous;
+    }
+
+    @Override
+    public void add(int index, PyObject element) {
+        checkIndex(index, list.len() + 1);
+        if (index == list.len()) {
+            list.append(PythonTypesUtil.unboxPyObject(element));
+        } else {
+            list.insert(index, PythonTypesUtil.unboxPyObject(element));
+        }
+        modCount++;
+    }
+
+    @Override
+    public PyObject remove(int index) {
+        PyObject previous = get(index);
+        list.delItem(index);
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return list.len();
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+}
@@ -37,6 +37,7 @@ import edu.uci.python.runtime.datatype.PSlice.PStartSlice;
 import edu.uci.python.runtime.datatype.PSlice.PStopSlice;
 import edu.uci.python.runtime.function.*;
 import edu.uci.python.runtime.iterator.*;
+import edu.uci.python.runtime.misc.*;
 import edu.uci.python.runtime.object.*;
 import edu.uci.python.runtime.sequence.*;
 import edu.uci.python.runtime.standardtype.*;
@@ -98,14 +99,23 @@ public class PythonTypes {
         return value ? 1 : 0;
     }
 
+    /**
+     * Python int values live in three tiers: int, long once an int operation overflows, and
+     * BigInteger once a long operation overflows.
+     */
+    @ImplicitCast
+    public static long intToLong(int value) {
+        return value;
+    }
+
     @ImplicitCast
     public static BigInteger intToBigInteger(int value) {
-        return BigInteger.valueOf(value);
+        return BigIntegerMath.valueOf(value);
     }
 
     @ImplicitCast
     public static BigInteger longToBigInteger(long value) {
-        return BigInteger.valueOf(value);
+        return BigIntegerMath.valueOf(value);
     }
 
     @ImplicitCast
@@ -113,6 +123,11 @@ public class PythonTypes {
         return value;
     }
 
+    @ImplicitCast
+    public static double longToDouble(long value) {
+        return value;
+    }
+
     @ImplicitCast
     public static double bigIntegerToDouble(BigInteger value) {
         return value.doubleValue();
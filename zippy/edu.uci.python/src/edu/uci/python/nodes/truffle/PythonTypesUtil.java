@@ -27,7 +27,6 @@ package edu.uci.python.nodes.truffle;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.python.core.Py;
 import org.python.core.PyArray;
@@ -57,8 +56,11 @@ import edu.uci.python.runtime.datatype.PRange;
 import edu.uci.python.runtime.function.PFunction;
 import edu.uci.python.runtime.object.PythonObject;
 import edu.uci.python.runtime.sequence.PList;
+import edu.uci.python.runtime.sequence.PString;
 import edu.uci.python.runtime.sequence.PSet;
 import edu.uci.python.runtime.sequence.PTuple;
+import edu.uci.python.runtime.sequence.storage.PyListSequenceStorage;
+import edu.uci.python.runtime.standardtype.PythonClass;
 
 public class PythonTypesUtil {
 
@@ -94,11 +96,11 @@ public class PythonTypesUtil {
             PComplex complex = (PComplex) value;
             PyComplex pyComplex = new PyComplex(complex.getReal(), complex.getImag());
             return pyComplex;
-        } else if (value instanceof String) {
+        } else if (value instanceof String || value instanceof PString) {
             try {
-                return Py.newString((String) value);
+                return Py.newString(value.toString());
             } catch (Exception e) {
-                return Py.newUnicode((String) value);
+                return Py.newUnicode(value.toString());
             }
         } else if (value instanceof PNone) {
             return Py.None;
@@ -107,26 +109,20 @@ public class PythonTypesUtil {
             return new PyTuple(adaptToPyObjects(tuple.getArray()));
         } else if (value instanceof PList) {
             PList list = (PList) value;
-            PyObject[] pyObjs = new PyObject[list.len()];
 
-            for (int i = 0; i < list.len(); i++) {
-                pyObjs[i] = adaptToPyObject(list.getItem(i));
+            if (list.getStorage() instanceof PyListSequenceStorage) {
+                return ((PyListSequenceStorage) list.getStorage()).getPyList();
             }
 
-            return new PyList(pyObjs);
+            return PyList.fromList(new PListProxy(list));
         } else if (value instanceof PSet) {
             PSet set = (PSet) value;
-            return new PySet(adaptToPyObjects(set.getSet().toArray()));
+            return new PySet(adaptToPyObjects(set.toArray()));
         } else if (value instanceof PFrozenSet) {
             PFrozenSet set = (PFrozenSet) value;
-            return new PySet(adaptToPyObjects(set.getSet().toArray()));
+            return new PySet(adaptToPyObjects(set.toArray()));
         } else if (value instanceof PDict) {
-            PDict dict = (PDict) value;
-            ConcurrentHashMap<PyObject, PyObject> map = new ConcurrentHashMap<>();
-            for (Object key : dict.keys()) {
-                map.put(adaptToPyObject(key), adaptToPyObject(dict.getItem(key)));
-            }
-            return new PyDictionary(map);
+            return new PyDictionary(new PDictProxy((PDict) value), true);
         } else if (value instanceof PIntArray) {
             return new PyArray(int.class, ((PIntArray) value).getSequence());
         } else if (value instanceof PDoubleArray) {
@@ -186,6 +182,10 @@ public class PythonTypesUtil {
         } else if (value instanceof PyTuple) {
             PyTuple tuple = (PyTuple) value;
             return new PTuple(unboxPyObjects(tuple.getArray()));
+        } else if (value instanceof PyList) {
+            return new PList(new PyListSequenceStorage((PyList) value));
+        } else if (value instanceof PyDictionary && ((PyDictionary) value).getMap() instanceof PDictProxy) {
+            return ((PDictProxy) ((PyDictionary) value).getMap()).getDict();
         } else if (value instanceof PyArray) {
             // TODO Temporary fix
             PyList array = (PyList) ((PyArray) value).tolist();
@@ -212,13 +212,15 @@ public class PythonTypesUtil {
     public static String getPythonTypeName(Object object) {
         CompilerAsserts.neverPartOfCompilation();
 
-        if (object instanceof Integer || object instanceof BigInteger) {
+        if (object instanceof Integer || object instanceof Long || object instanceof BigInteger) {
             return "int";
+        } else if (object instanceof Boolean) {
+            return "bool";
         } else if (object instanceof Double) {
             return "float";
         } else if (object instanceof PComplex) {
             return "complex";
-        } else if (object instanceof String) {
+        } else if (object instanceof String || object instanceof PString) {
             return "str";
         } else if (object instanceof PList) {
             return "list";
@@ -234,6 +236,10 @@ public class PythonTypesUtil {
             return "dict";
         } else if (object instanceof PNone) {
             return "None";
+        } else if (object instanceof PythonClass) {
+            return "type";
+        } else if (object instanceof PythonObject) {
+            return ((PythonObject) object).getPythonClass().getName();
         }
 
         throw new RuntimeException("Unsupported type name " + object.getClass());
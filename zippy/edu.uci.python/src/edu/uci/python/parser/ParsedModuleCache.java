@@ -0,0 +1,460 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.parser;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.math.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.security.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import org.python.antlr.*;
+import org.python.antlr.base.*;
+import org.python.core.*;
+
+import com.oracle.truffle.api.source.*;
+
+import edu.uci.python.runtime.*;
+
+/**
+ * Persistent cache of the Jython ASTs produced by {@link ParserFacade} for file backed modules.
+ * <p>
+ * Entries live under {@code $ZIPPY_HOME/cache/ast}, or the directory given by the
+ * {@code ParsedModuleCacheDirectory} option, one file per module path. An entry records the
+ * module path, its modification time and a digest of its content, and is only used when all three
+ * still match. The tree is written in a compact tagged format. Node fields are discovered
+ * reflectively from the generated Jython AST classes, so the format follows the grammar without a
+ * hand written codec per node type. Trees containing values the format does not know are simply
+ * not cached.
+ * <p>
+ * Scope translation is not cached since it populates frame descriptors owned by the current
+ * context. It is re-run on the restored tree.
+ */
+public final class ParsedModuleCache {
+
+    private static final int MAGIC = 0x5A415354; // ZAST
+    private static final int VERSION = 1;
+
+    private static final byte NULL = 0;
+    private static final byte NODE = 1;
+    private static final byte LIST = 2;
+    private static final byte STRING = 3;
+    private static final byte INT = 4;
+    private static final byte BOOLEAN = 5;
+    private static final byte ENUM = 6;
+    private static final byte PYINTEGER = 7;
+    private static final byte PYLONG = 8;
+    private static final byte PYFLOAT = 9;
+    private static final byte PYCOMPLEX = 10;
+    private static final byte PYSTRING = 11;
+    private static final byte PYUNICODE = 12;
+
+    private static final Map<Class<?>, NodeShape> shapes = new HashMap<>();
+
+    private static final Map<String, File> cacheDirectories = new HashMap<>();
+    private static final AtomicInteger hits = new AtomicInteger();
+
+    private ParsedModuleCache() {
+        // no instances
+    }
+
+    /**
+     * Returns the number of trees restored from the cache so far.
+     */
+    public static int getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the cached tree of the given module, or null if there is no valid entry.
+     */
+    public static mod load(String cacheDirectory, Source source) {
+        File file = sourceFile(source);
+        File entry = entryFor(cacheDirectory, file);
+        if (entry == null || !entry.isFile()) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(entry)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return null;
+            }
+
+            if (!in.readUTF().equals(file.getAbsolutePath()) || in.readLong() != file.lastModified() || !in.readUTF().equals(digest(source.getCode()))) {
+                return null;
+            }
+
+            Object tree = new Reader(in).readValue();
+            if (!(tree instanceof mod)) {
+                return null;
+            }
+
+            hits.incrementAndGet();
+            return (mod) tree;
+        } catch (IOException | ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the freshly parsed tree of the given module to the cache. Failures are ignored; the
+     * module is parsed again next time.
+     */
+    public static void store(String cacheDirectory, Source source, mod tree) {
+        File file = sourceFile(source);
+        File entry = entryFor(cacheDirectory, file);
+        if (entry == null) {
+            return;
+        }
+
+        File temp = null;
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(file.getAbsolutePath());
+            out.writeLong(file.lastModified());
+            out.writeUTF(digest(source.getCode()));
+            new Writer(out).writeValue(tree);
+            out.flush();
+
+            /*
+             * Write to a private file first and move it in place, so that concurrent runs never
+             * observe a partially written entry.
+             */
+            temp = File.createTempFile(entry.getName(), ".tmp", entry.getParentFile());
+            Files.write(temp.toPath(), bytes.toByteArray());
+            Files.move(temp.toPath(), entry.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | ReflectiveOperationException | RuntimeException e) {
+            if (temp != null) {
+                temp.delete();
+            }
+        }
+    }
+
+    private static File sourceFile(Source source) {
+        String path = source.getPath();
+        if (path == null) {
+            return null;
+        }
+
+        File file = new File(path);
+        return file.isFile() ? file : null;
+    }
+
+    private static File entryFor(String cacheDirectory, File file) {
+        if (file == null) {
+            return null;
+        }
+
+        File directory = getCacheDirectory(cacheDirectory);
+        return directory == null ? null : new File(directory, digest(file.getAbsolutePath()) + ".ast");
+    }
+
+    /**
+     * Returns the usable cache directory for the configured path, the default one if it is null, or
+     * null if the directory cannot be created.
+     */
+    private static synchronized File getCacheDirectory(String configured) {
+        if (cacheDirectories.containsKey(configured)) {
+            return cacheDirectories.get(configured);
+        }
+
+        File directory;
+        try {
+            directory = configured != null ? new File(configured) : Paths.get(ZippyEnvVars.zippyHome(), "cache", "ast").toFile();
+            if (!directory.isDirectory() && !directory.mkdirs()) {
+                directory = null;
+            }
+        } catch (RuntimeException e) {
+            directory = null;
+        }
+
+        cacheDirectories.put(configured, directory);
+        return directory;
+    }
+
+    private static String digest(String text) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-1");
+            byte[] hash = md.digest(text.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+                sb.append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The serialized state of an AST node class: its instance fields in name order, and the fields
+     * that receive the node's line and column when the node is restored without its token.
+     */
+    private static final class NodeShape {
+
+        private final Constructor<?> constructor;
+        private final Field[] fields;
+        private final Field lineno;
+        private final Field colOffset;
+
+        NodeShape(Class<?> clazz) throws ReflectiveOperationException {
+            this.constructor = clazz.getDeclaredConstructor();
+            this.constructor.setAccessible(true);
+
+            List<Field> collected = new ArrayList<>();
+            for (Class<?> c = clazz; c != PythonTree.class && c != null; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+                        field.setAccessible(true);
+                        collected.add(field);
+                    }
+                }
+            }
+
+            Collections.sort(collected, new Comparator<Field>() {
+                @Override
+                public int compare(Field a, Field b) {
+                    int result = a.getName().compareTo(b.getName());
+                    return result != 0 ? result : a.getDeclaringClass().getName().compareTo(b.getDeclaringClass().getName());
+                }
+            });
+
+            this.fields = collected.toArray(new Field[collected.size()]);
+            this.lineno = find("lineno");
+            this.colOffset = find("col_offset");
+        }
+
+        private Field find(String name) {
+            for (Field field : fields) {
+                if (field.getName().equals(name) && field.getType() == int.class) {
+                    return field;
+                }
+            }
+            return null;
+        }
+
+        static synchronized NodeShape of(Class<?> clazz) throws ReflectiveOperationException {
+            NodeShape shape = shapes.get(clazz);
+            if (shape == null) {
+                shape = new NodeShape(clazz);
+                shapes.put(clazz, shape);
+            }
+            return shape;
+        }
+    }
+
+    private static final class Writer {
+
+        private final DataOutputStream out;
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void writeValue(Object value) throws IOException, ReflectiveOperationException {
+            if (value == null) {
+                out.writeByte(NULL);
+            } else if (value instanceof PythonTree) {
+                writeNode((PythonTree) value);
+            } else if (value instanceof List) {
+                List<?> list = (List<?>) value;
+                out.writeByte(LIST);
+                out.writeInt(list.size());
+                for (Object element : list) {
+                    writeValue(element);
+                }
+            } else if (value instanceof String) {
+                out.writeByte(STRING);
+                writeString((String) value);
+            } else if (value instanceof Integer) {
+                out.writeByte(INT);
+                out.writeInt((int) value);
+            } else if (value instanceof Boolean) {
+                out.writeByte(BOOLEAN);
+                out.writeBoolean((boolean) value);
+            } else if (value instanceof Enum) {
+                out.writeByte(ENUM);
+                writeString(((Enum<?>) value).getDeclaringClass().getName());
+                writeString(((Enum<?>) value).name());
+            } else if (value instanceof PyInteger) {
+                out.writeByte(PYINTEGER);
+                out.writeInt(((PyInteger) value).getValue());
+            } else if (value instanceof PyLong) {
+                out.writeByte(PYLONG);
+                writeString(((PyLong) value).getValue().toString());
+            } else if (value instanceof PyFloat) {
+                out.writeByte(PYFLOAT);
+                out.writeDouble(((PyFloat) value).getValue());
+            } else if (value instanceof PyComplex) {
+                out.writeByte(PYCOMPLEX);
+                out.writeDouble(((PyComplex) value).real);
+                out.writeDouble(((PyComplex) value).imag);
+            } else if (value instanceof PyUnicode) {
+                out.writeByte(PYUNICODE);
+                writeString(((PyUnicode) value).getString());
+            } else if (value instanceof PyString) {
+                out.writeByte(PYSTRING);
+                writeString(((PyString) value).getString());
+            } else {
+                throw new NotSerializableException(value.getClass().getName());
+            }
+        }
+
+        private void writeNode(PythonTree node) throws IOException, ReflectiveOperationException {
+            NodeShape shape = NodeShape.of(node.getClass());
+            out.writeByte(NODE);
+            writeString(node.getClass().getName());
+            out.writeInt(node.getCharStartIndex());
+            out.writeInt(node.getCharStopIndex());
+            out.writeInt(shape.lineno != null ? node.getLine() : -1);
+            out.writeInt(shape.colOffset != null ? node.getCharPositionInLine() : -1);
+
+            for (Field field : shape.fields) {
+                writeValue(field.get(node));
+            }
+        }
+
+        /**
+         * Strings are interned per entry: identifiers and class names repeat heavily.
+         */
+        private void writeString(String value) throws IOException {
+            Integer index = strings.get(value);
+            if (index != null) {
+                out.writeInt(index);
+                return;
+            }
+
+            strings.put(value, strings.size());
+            out.writeInt(-1);
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static final class Reader {
+
+        private final DataInputStream in;
+        private final List<String> strings = new ArrayList<>();
+
+        Reader(DataInputStream in) {
+            this.in = in;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Object readValue() throws IOException, ReflectiveOperationException {
+            byte tag = in.readByte();
+            switch (tag) {
+                case NULL:
+                    return null;
+                case NODE:
+                    return readNode();
+                case LIST:
+                    int size = in.readInt();
+                    List<Object> list = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        list.add(readValue());
+                    }
+                    return list;
+                case STRING:
+                    return readString();
+                case INT:
+                    return in.readInt();
+                case BOOLEAN:
+                    return in.readBoolean();
+                case ENUM:
+                    Class enumClass = Class.forName(readString());
+                    if (!enumClass.isEnum()) {
+                        throw new StreamCorruptedException("not an enum " + enumClass.getName());
+                    }
+                    return Enum.valueOf(enumClass, readString());
+                case PYINTEGER:
+                    return Py.newInteger(in.readInt());
+                case PYLONG:
+                    return new PyLong(new BigInteger(readString()));
+                case PYFLOAT:
+                    return new PyFloat(in.readDouble());
+                case PYCOMPLEX:
+                    return new PyComplex(in.readDouble(), in.readDouble());
+                case PYSTRING:
+                    return new PyString(readString());
+                case PYUNICODE:
+                    return new PyUnicode(readString());
+                default:
+                    throw new StreamCorruptedException("unknown tag " + tag);
+            }
+        }
+
+        private PythonTree readNode() throws IOException, ReflectiveOperationException {
+            Class<?> clazz = Class.forName(readString());
+            if (!PythonTree.class.isAssignableFrom(clazz)) {
+                throw new StreamCorruptedException("not an AST node " + clazz.getName());
+            }
+
+            NodeShape shape = NodeShape.of(clazz);
+            PythonTree node = (PythonTree) shape.constructor.newInstance();
+            node.setCharStartIndex(in.readInt());
+            node.setCharStopIndex(in.readInt());
+            int line = in.readInt();
+            int column = in.readInt();
+
+            for (Field field : shape.fields) {
+                field.set(node, readValue());
+            }
+
+            if (shape.lineno != null) {
+                shape.lineno.setInt(node, line);
+            }
+
+            if (shape.colOffset != null) {
+                shape.colOffset.setInt(node, column);
+            }
+
+            return node;
+        }
+
+        private String readString() throws IOException {
+            int index = in.readInt();
+            if (index >= 0) {
+                return strings.get(index);
+            }
+
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            String value = new String(bytes, StandardCharsets.UTF_8);
+            strings.add(value);
+            return value;
+        }
+    }
+
+}
@@ -25,6 +25,9 @@
 package edu.uci.python.parser;
 
 import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 import org.python.antlr.base.*;
 import org.python.core.*;
@@ -41,15 +44,34 @@ import edu.uci.python.runtime.standardtype.*;
 
 public class PythonParserImpl implements PythonParser {
 
+    /**
+     * Modules being parsed in the background, keyed by absolute path.
+     */
+    private final Map<String, ForkJoinTask<PrefetchedModule>> prefetched = new ConcurrentHashMap<>();
+
+    private static final AtomicInteger prefetchHits = new AtomicInteger();
+
+    private static final class PrefetchedModule {
+
+        private final String code;
+        private final mod node;
+
+        PrefetchedModule(String code, mod node) {
+            this.code = code;
+            this.node = node;
+        }
+    }
+
     /**
      * Parse input program to AST that is ready to interpret.
      */
 
     @Override
     public PythonParseResult parse(PythonContext context, PythonModule module, Source source) {
-        InputStream istream = new ByteArrayInputStream(source.getCode().getBytes());
-        String filename = source.getPath();
-        org.python.antlr.base.mod node = ParserFacade.parse(istream, CompileMode.exec, filename, cookCompilerFlags());
+        mod node = takePrefetched(source);
+        if (node == null) {
+            node = parseModule(context.getPythonOptions(), source, cookCompilerFlags());
+        }
 
         TranslationEnvironment environment = new TranslationEnvironment(context, module);
         ScopeTranslator ptp = new ScopeTranslator(environment);
@@ -65,9 +87,95 @@ public class PythonParserImpl implements PythonParser {
             }
         }
 
+        if (context.getPythonOptions().ParallelImportParsing) {
+            context.getImportManager().prefetchImports(module, result.getModuleRoot());
+        }
+
         return result;
     }
 
+    /**
+     * Only the Jython parse runs in the background. Scope and tree translation depend on the
+     * context and stay on the importing thread.
+     */
+    @Override
+    public void prefetch(PythonContext context, final String path) {
+        final String key = new File(path).getAbsolutePath();
+        if (prefetched.containsKey(key)) {
+            return;
+        }
+
+        final PythonOptions options = context.getPythonOptions();
+        final CompilerFlags cflags = cookCompilerFlags();
+        prefetched.put(key, ForkJoinPool.commonPool().submit(new Callable<PrefetchedModule>() {
+            @Override
+            public PrefetchedModule call() throws IOException {
+                Builder<IOException, RuntimeException, RuntimeException> builder = Source.newBuilder(new File(path));
+                builder.mimeType(PythonLanguage.MIME_TYPE);
+                Source source = builder.build();
+                return new PrefetchedModule(source.getCode(), parseModule(options, source, cflags));
+            }
+        }));
+    }
+
+    @Override
+    public void discardPrefetched(String path) {
+        ForkJoinTask<PrefetchedModule> task = prefetched.remove(new File(path).getAbsolutePath());
+        if (task != null) {
+            task.cancel(false);
+        }
+    }
+
+    /**
+     * Returns the number of parses so far that used a background parse.
+     */
+    public static int getPrefetchHitCount() {
+        return prefetchHits.get();
+    }
+
+    private mod takePrefetched(Source source) {
+        if (prefetched.isEmpty() || source.getPath() == null) {
+            return null;
+        }
+
+        ForkJoinTask<PrefetchedModule> task = prefetched.remove(new File(source.getPath()).getAbsolutePath());
+        if (task == null) {
+            return null;
+        }
+
+        try {
+            PrefetchedModule result = task.join();
+            if (!result.code.equals(source.getCode())) {
+                return null;
+            }
+
+            prefetchHits.incrementAndGet();
+            return result.node;
+        } catch (RuntimeException e) {
+            // Parse errors are reported by parsing the module again on this thread.
+            return null;
+        }
+    }
+
+    private static mod parseModule(PythonOptions options, Source source, CompilerFlags cflags) {
+        if (options.CacheParsedModules) {
+            mod cached = ParsedModuleCache.load(options.ParsedModuleCacheDirectory, source);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        InputStream istream = new ByteArrayInputStream(source.getCode().getBytes());
+        String filename = source.getPath();
+        mod node = ParserFacade.parse(istream, CompileMode.exec, filename, cflags);
+
+        if (options.CacheParsedModules) {
+            ParsedModuleCache.store(options.ParsedModuleCacheDirectory, source, node);
+        }
+
+        return node;
+    }
+
     @Override
     public PythonParseResult parse(PythonContext context, PythonModule module, String expression) {
         mod node = ParserFacade.parseExpressionOrModule(new StringReader(expression), "<eval>", CompilerFlags.getCompilerFlags());
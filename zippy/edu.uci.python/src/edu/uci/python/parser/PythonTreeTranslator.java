@@ -181,6 +181,7 @@ public class PythonTreeTranslator extends Visitor {
             decoratorslist.add((PNode) visit(decorator));
         }
 
+        boolean deferBody = canDeferBody(node);
         environment.beginScope(node, ScopeInfo.ScopeKind.Function);
         environment.setDefaultArgumentNodes(defaultArgs);
 
@@ -193,8 +194,13 @@ public class PythonTreeTranslator extends Visitor {
         /**
          * Function body
          */
-        List<PNode> statements = visitStatements(node.getInternalBody());
-        PNode body = factory.createBlock(statements);
+        PNode body;
+        if (deferBody) {
+            body = new DeferredFunctionBodyNode(new DeferredBodyTranslator(this, node));
+        } else {
+            List<PNode> statements = visitStatements(node.getInternalBody());
+            body = factory.createBlock(statements);
+        }
         body = factory.createBlock(argumentLoads, body);
         body = new ReturnTargetNode(body, factory.createReadLocal(environment.getReturnSlot()));
         assignSourceFromNode(node, body);
@@ -240,6 +246,84 @@ public class PythonTreeTranslator extends Visitor {
         return assignSourceFromNode(nameNode, functionNameWriteNode);
     }
 
+    /**
+     * The body of a module level function can be translated on its first call. Its translation
+     * cannot change how the function is defined: a module level function never needs its
+     * declaration frame, and functions containing a yield are excluded since they are only known to
+     * be generators once their body is translated. Functions containing a generator expression are
+     * excluded as well, because generator expressions are optimized over the eagerly translated
+     * function roots.
+     */
+    private boolean canDeferBody(FunctionDef node) {
+        PythonOptions options = context.getPythonOptions();
+        if (!options.LazyFunctionTranslation || options.CatchZippyExceptionForUnitTesting || !environment.atModuleLevel()) {
+            return false;
+        }
+
+        return !GeneratorFinder.containsGenerator(node);
+    }
+
+    private PNode translateDeferredBody(FunctionDef node) throws Exception {
+        environment.resumeModuleScope();
+        environment.beginScope(node, ScopeInfo.ScopeKind.Function);
+        try {
+            List<PNode> statements = visitStatements(node.getInternalBody());
+            return factory.createBlock(statements);
+        } finally {
+            environment.endScope(node);
+        }
+    }
+
+    private static final class DeferredBodyTranslator extends DeferredFunctionBodyNode.BodyTranslator {
+
+        private final PythonTreeTranslator translator;
+        private final FunctionDef node;
+
+        DeferredBodyTranslator(PythonTreeTranslator translator, FunctionDef node) {
+            this.translator = translator;
+            this.node = node;
+        }
+
+        @Override
+        protected PNode translate() {
+            try {
+                return translator.translateDeferredBody(node);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException("Failed in " + translator + " with error " + e);
+            }
+        }
+    }
+
+    private static final class GeneratorFinder extends Visitor {
+
+        private boolean found;
+
+        @Override
+        public Object visitYield(Yield node) throws Exception {
+            found = true;
+            return null;
+        }
+
+        @Override
+        public Object visitGeneratorExp(GeneratorExp node) throws Exception {
+            found = true;
+            return null;
+        }
+
+        static boolean containsGenerator(PythonTree node) {
+            GeneratorFinder finder = new GeneratorFinder();
+            try {
+                finder.traverse(node);
+            } catch (Exception e) {
+                return true;
+            }
+
+            return finder.found;
+        }
+    }
+
     @Override
     public Object visitLambda(Lambda node) throws Exception {
         /**
@@ -625,7 +709,7 @@ public class PythonTreeTranslator extends Visitor {
     @Override
     public Object visitSet(org.python.antlr.ast.Set node) throws Exception {
         List<PNode> elts = walkExprList(node.getInternalElts());
-        Set<PNode> setFromLost = new HashSet<>();
+        Set<PNode> setFromLost = new LinkedHashSet<>();
 
         for (PNode listNode : elts) {
             setFromLost.add(listNode);
@@ -883,7 +967,7 @@ public class PythonTreeTranslator extends Visitor {
         PNode body = factory.createYield((PNode) visit(node.getInternalElt()), environment.getReturnSlot());
         body = visitComprehensions(node.getInternalGenerators(), factory.createBlock(body));
         body = new ReturnTargetNode(body, factory.createReadLocal(environment.getReturnSlot()));
-        int lineNum = node.getLine();
+        int lineNum = node.getLineno();
         GeneratorExpressionNode genExprDef = createGeneratorExpressionDefinition((StatementNode) body, lineNum);
         genExprDef.setEnclosingFrameDescriptor(environment.getEnclosingFrame());
         environment.endScope(node);
@@ -1046,6 +1130,13 @@ public class PythonTreeTranslator extends Visitor {
             }
 
             Call call = new Call(node.getToken(), print, exprs, new ArrayList<keyword>(), null, null);
+
+            // A print restored from the parsed module cache carries no token to derive positions from
+            for (PythonTree synthetic : new PythonTree[]{print, call}) {
+                synthetic.setCharStartIndex(node.getCharStartIndex());
+                synthetic.setCharStopIndex(node.getCharStopIndex());
+            }
+
             return visitCall(call);
         } else {
             List<expr> exprs = node.getInternalValues();
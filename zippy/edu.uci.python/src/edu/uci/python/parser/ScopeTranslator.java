@@ -228,7 +228,7 @@ public class ScopeTranslator extends Visitor {
 
     @Override
     public Object visitListComp(ListComp node) throws Exception {
-        String tmp = "_[" + node.getLine() + "_" + node.getCharPositionInLine() + "]";
+        String tmp = "_[" + node.getLineno() + "_" + node.getCol_offset() + "]";
         traverse(node);
         environment.createLocal(tmp);
         visit(node.getInternalElt());
@@ -237,7 +237,7 @@ public class ScopeTranslator extends Visitor {
 
     @Override
     public Object visitSetComp(SetComp node) throws Exception {
-        String tmp = "_{" + node.getLine() + "_" + node.getCharPositionInLine() + "}";
+        String tmp = "_{" + node.getLineno() + "_" + node.getCol_offset() + "}";
         environment.createLocal(tmp);
         traverse(node);
         return null;
@@ -245,7 +245,7 @@ public class ScopeTranslator extends Visitor {
 
     @Override
     public Object visitDictComp(DictComp node) throws Exception {
-        String tmp = "_{" + node.getLine() + "_" + node.getCharPositionInLine() + "}";
+        String tmp = "_{" + node.getLineno() + "_" + node.getCol_offset() + "}";
         environment.createLocal(tmp);
         traverse(node);
         return null;
@@ -254,7 +254,7 @@ public class ScopeTranslator extends Visitor {
     @Override
     public Object visitGeneratorExp(GeneratorExp node) throws Exception {
         String boundexp = "_(x)";
-        String tmp = "_(" + node.getLine() + "_" + node.getCharPositionInLine() + ")";
+        String tmp = "_(" + node.getLineno() + "_" + node.getCol_offset() + ")";
         environment.createLocal(tmp);
         ArgListCompiler ac = new ArgListCompiler();
         List<expr> args = new ArrayList<>();
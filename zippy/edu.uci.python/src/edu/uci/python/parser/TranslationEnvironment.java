@@ -68,6 +68,17 @@ public class TranslationEnvironment {
         return this;
     }
 
+    /**
+     * Re-enters the module scope after the module has been translated, so that deferred function
+     * bodies are translated in the same scope chain as they would have been eagerly.
+     */
+    public TranslationEnvironment resumeModuleScope() {
+        assert globalScope != null;
+        currentScope = globalScope;
+        scopeLevel = 1;
+        return this;
+    }
+
     protected PythonModule getModule() {
         return module;
     }
@@ -26,10 +26,10 @@ package edu.uci.python.runtime;
 
 import java.math.BigInteger;
 
-import org.python.core.Py;
-
 import com.oracle.truffle.api.*;
 
+import edu.uci.python.runtime.exception.PythonError;
+
 public class ArithmeticUtil {
 
     public static int leftShiftExact(int left, int right) {
@@ -62,16 +62,133 @@ public class ArithmeticUtil {
         return result;
     }
 
-    private static void shiftError(int shiftCount) {
+    public static long leftShiftExact(long left, long right) {
+        if (right >= Long.SIZE || right < 0) {
+            shiftError(right);
+        }
+
+        long result = left << right;
+
+        if (left != result >> right) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            throw new ArithmeticException("integer overflow");
+        }
+
+        return result;
+    }
+
+    /**
+     * Python's right shift: the shift count is not masked, and shifting out every bit leaves the
+     * sign.
+     */
+    public static long rightShift(long left, long right) {
+        if (right < 0) {
+            shiftError(right);
+        }
+
+        return left >> Math.min(right, Long.SIZE - 1);
+    }
+
+    private static void shiftError(long shiftCount) {
         CompilerDirectives.transferToInterpreterAndInvalidate();
 
-        if (shiftCount >= Integer.SIZE) {
+        if (shiftCount < 0) {
+            throw PythonError.ValueError("negative shift count");
+        } else {
             throw new ArithmeticException("integer overflow");
-        } else if (shiftCount < 0) {
-            throw Py.ValueError("negative shift count");
         }
     }
 
+    /**
+     * Floor division as in Python. The one overflowing case, MIN_VALUE // -1, throws
+     * {@link ArithmeticException} so the caller can move to a wider representation.
+     */
+    public static int floorDivExact(int left, int right) {
+        if (right == 0) {
+            throw zeroDivision();
+        }
+
+        if (left == Integer.MIN_VALUE && right == -1) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            throw new ArithmeticException("integer overflow");
+        }
+
+        return Math.floorDiv(left, right);
+    }
+
+    public static long floorDivExact(long left, long right) {
+        if (right == 0) {
+            throw zeroDivision();
+        }
+
+        if (left == Long.MIN_VALUE && right == -1) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            throw new ArithmeticException("integer overflow");
+        }
+
+        return Math.floorDiv(left, right);
+    }
+
+    /**
+     * Modulo as in Python: the result takes the sign of the divisor.
+     */
+    public static int floorMod(int left, int right) {
+        if (right == 0) {
+            throw zeroDivision();
+        }
+
+        return Math.floorMod(left, right);
+    }
+
+    public static long floorMod(long left, long right) {
+        if (right == 0) {
+            throw zeroDivision();
+        }
+
+        return Math.floorMod(left, right);
+    }
+
+    public static int powExact(int base, int exponent) {
+        long result = powExact((long) base, (long) exponent);
+
+        if (result != (int) result) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            throw new ArithmeticException("integer overflow");
+        }
+
+        return (int) result;
+    }
+
+    /**
+     * Exponentiation by squaring for a non-negative exponent. The base is only squared while
+     * exponent bits remain, so an overflowing square means the result overflows too.
+     */
+    public static long powExact(long base, long exponent) {
+        assert exponent >= 0;
+        long result = 1;
+        long square = base;
+        long remaining = exponent;
+
+        while (true) {
+            if ((remaining & 1) != 0) {
+                result = ExactMath.multiplyExact(result, square);
+            }
+
+            remaining >>= 1;
+
+            if (remaining == 0) {
+                return result;
+            }
+
+            square = ExactMath.multiplyExact(square, square);
+        }
+    }
+
+    private static RuntimeException zeroDivision() {
+        CompilerDirectives.transferToInterpreter();
+        return PythonError.ZeroDivisionError("integer division or modulo by zero");
+    }
+
     public static boolean isZero(int value) {
         return value == 0;
     }
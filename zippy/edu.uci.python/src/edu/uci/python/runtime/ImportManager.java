@@ -32,10 +32,15 @@ import org.python.core.*;
 
 import com.oracle.truffle.api.*;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.nodes.*;
 import com.oracle.truffle.api.source.*;
 import com.oracle.truffle.api.source.Source.Builder;
 
 import edu.uci.python.PythonLanguage;
+import edu.uci.python.nodes.*;
+import edu.uci.python.nodes.control.*;
+import edu.uci.python.nodes.frame.*;
+import edu.uci.python.nodes.statement.*;
 import edu.uci.python.runtime.function.*;
 import edu.uci.python.runtime.standardtype.*;
 
@@ -53,6 +58,15 @@ public class ImportManager {
 
     private final Map<String, PythonModule> importedModules;
 
+    private final ImportPathCache pathCache;
+
+    /**
+     * Paths of the modules parsed in the background for a module whose body has not finished.
+     */
+    private final Map<PythonModule, List<String>> pendingPrefetches;
+
+    private List<Object> systemPathSnapshot;
+
     // Unsupported Imports:
     private final Map<String, Boolean> unsupportedImports;
     private final Map<String, Map<String, PyObject>> jythonImports;
@@ -71,12 +85,14 @@ public class ImportManager {
         this.context = context;
         this.paths = new ArrayList<>();
         this.importedModules = new HashMap<>();
+        this.pathCache = new ImportPathCache();
+        this.pendingPrefetches = new HashMap<>();
         this.unsupportedImports = new HashMap<>();
         this.jythonImports = new HashMap<>();
         this.paths.add(getPythonLibraryPath());
         this.paths.add(getPythonLibraryExtrasPath());
 
-        String[] unsupportedImportNames = {"re", "os", "posix", "io", "textwrap", "optparse", "functools", "struct", "decimal", "collections", "threading", "abc", "inspect", "subprocess", "warnings"};
+        String[] unsupportedImportNames = {"os", "posix", "io", "textwrap", "optparse", "functools", "struct", "decimal", "threading", "abc", "inspect", "subprocess", "warnings"};
 
         for (String lib : unsupportedImportNames) {
             this.unsupportedImports.put(lib, true);
@@ -110,7 +126,7 @@ public class ImportManager {
             /**
              * Try to find user module.
              */
-            path = relativeto.getModulePath() == null ? null : getPathFromImporterPath(moduleName, relativeto.getModulePath());
+            path = relativeto.getModulePath() == null ? null : pathCache.findNextTo(relativeto.getModulePath(), moduleName);
             Map<String, PyObject> jythonModule = null;
             if (jythonImports.containsKey(moduleName)) {
                 if (jythonImports.get(moduleName).containsKey(path))
@@ -127,15 +143,13 @@ public class ImportManager {
              * Try to find from system paths.
              */
             updateSystemPathFromJython();
-            for (String directoryPath : paths) {
-                path = getPathFromLibrary(directoryPath, moduleName);
+            path = getPathFromLibrary(moduleName);
 
-                if (jythonModule != null && jythonModule.containsKey(path))
-                    return jythonModule.get(path);
+            if (jythonModule != null && jythonModule.containsKey(path))
+                return jythonModule.get(path);
 
-                if (path != null) {
-                    return importAndCache(path, moduleName);
-                }
+            if (path != null) {
+                return importAndCache(path, moduleName);
             }
         } catch (Exception e) {
             if (path != null) {
@@ -158,9 +172,88 @@ public class ImportManager {
         return importFromJython(path, moduleName);
     }
 
+    /**
+     * Resolves the modules imported by the top level import statements of a freshly parsed module
+     * body and lets the parser start parsing them in the background. The modules are still imported
+     * and run in program order when their import statements execute. Imports nested in functions,
+     * classes or control flow are left alone, since they may never run.
+     */
+    public void prefetchImports(PythonModule module, RootNode moduleRoot) {
+        CompilerAsserts.neverPartOfCompilation();
+
+        List<String> prefetches = new ArrayList<>();
+        prefetchImports(((ModuleNode) moduleRoot).getBody(), prefetches);
+
+        if (!prefetches.isEmpty()) {
+            pendingPrefetches.put(module, prefetches);
+        }
+    }
+
+    private void prefetchImports(PNode statement, List<String> prefetches) {
+        if (statement instanceof BlockNode) {
+            for (PNode child : ((BlockNode) statement).getStatements()) {
+                prefetchImports(child, prefetches);
+            }
+        } else if (statement instanceof WriteNode) {
+            prefetchImports(((WriteNode) statement).getRhs(), prefetches);
+        } else if (statement instanceof ImportNode) {
+            prefetchModule(context.getMainModule(), ((ImportNode) statement).getModuleName(), prefetches);
+        } else if (statement instanceof ImportStarNode) {
+            ImportStarNode node = (ImportStarNode) statement;
+            prefetchModule(node.getRelativeTo(), node.getModuleName(), prefetches);
+        } else if (statement instanceof ImportFromNode) {
+            ImportFromNode node = (ImportFromNode) statement;
+            String first = node.getFromModules()[0];
+            prefetchModule(node.getRelativeTo(), first.isEmpty() ? node.getImportee() : first, prefetches);
+        }
+    }
+
+    /**
+     * Drops the background parses started for {@code module} that its body did not consume.
+     */
+    private void discardPrefetches(PythonModule module) {
+        List<String> prefetches = pendingPrefetches.remove(module);
+        if (prefetches != null) {
+            for (String path : prefetches) {
+                context.getParser().discardPrefetched(path);
+            }
+        }
+    }
+
+    private void prefetchModule(PythonModule relativeto, String module, List<String> prefetches) {
+        String moduleName = getModuleName(module);
+        if (relativeto == null || unsupportedImports.containsKey(moduleName) || context.getPythonBuiltinsLookup().lookupModule(moduleName) != null) {
+            return;
+        }
+
+        try {
+            String path = relativeto.getModulePath() == null ? null : pathCache.findNextTo(relativeto.getModulePath(), moduleName);
+            if (path == null) {
+                updateSystemPathFromJython();
+                path = getPathFromLibrary(moduleName);
+            }
+
+            if (path != null && !importedModules.containsKey(path)) {
+                context.getParser().prefetch(context, path);
+                prefetches.add(path);
+            }
+        } catch (RuntimeException e) {
+            // The import statement reports the failure if it ever runs.
+        }
+    }
+
     private void updateSystemPathFromJython() {
         PyList jythonSystemPaths = Py.getSystemState().path;
 
+        /**
+         * Only rescan when sys.path has changed since the last scan.
+         */
+        if (systemPathSnapshot != null && systemPathSnapshot.equals(jythonSystemPaths)) {
+            return;
+        }
+
+        systemPathSnapshot = new ArrayList<>(jythonSystemPaths);
+
         for (Object path : jythonSystemPaths) {
             if (!(path instanceof String)) {
                 continue;
@@ -207,75 +300,13 @@ public class ImportManager {
         return name;
     }
 
-    private static String getPathFromImporterPath(String moduleName, String basePath) {
-        String importingModulePath = basePath;
-        String filename = moduleName + ".py";
-        String path = null;
-
-        try {
-            path = new File(importingModulePath).getCanonicalFile().getParent();
-        } catch (IOException ioe) {
-            path = new File(importingModulePath).getAbsoluteFile().getParent();
-        }
-
-        if (path == null) {
-            return null;
-        }
-
-        String importedModulePath = path + File.separatorChar + filename;
-        File importingFile = new File(importedModulePath);
-
-        if (importingFile.exists()) {
-            return importedModulePath;
-        }
-
-        importedModulePath = path + File.separatorChar + moduleName;
-        File importingDirectory = new File(importedModulePath);
-        importingFile = new File(importingDirectory, "__init__.py");
-        if (importingDirectory.isDirectory()) {
-            if (importingFile.exists())
-                return importingFile.toString();
-        }
-
-        return null;
-    }
-
-    private static String getPathFromLibrary(String directoryPath, String moduleName) {
+    private String getPathFromLibrary(String moduleName) {
         if (moduleName.equals("unittest")) {
             String casePath = getPythonLibraryPath() + File.separatorChar + "unittest" + File.separatorChar + "__init__zippy.py";
             return casePath;
         }
 
-        String sourceName = "__init__.py";
-
-        // First check for packages
-        File dir = new File(directoryPath, moduleName);
-        File sourceFile = new File(dir, sourceName);
-
-        boolean isPackage = false;
-        try {
-            isPackage = dir.isDirectory() && sourceFile.isFile();
-        } catch (SecurityException e) {
-            // ok
-        }
-
-        if (!isPackage) {
-            sourceName = moduleName + ".py";
-            sourceFile = new File(directoryPath, sourceName);
-            if (sourceFile.isFile()) {
-                String path = sourceFile.getPath();
-                return path;
-            }
-        } else {
-            sourceFile = new File(dir, sourceName);
-
-            if (sourceFile.isFile()) {
-                String path = sourceFile.getPath();
-                return path;
-            }
-        }
-
-        return null;
+        return pathCache.findInLibraries(paths, moduleName);
     }
 
     @TruffleBoundary
@@ -296,7 +327,11 @@ public class ImportManager {
 
         if (parsedModule != null) {
             CallTarget callTarget = Truffle.getRuntime().createCallTarget(parsedModule.getModuleRoot());
-            callTarget.call(PArguments.empty());
+            try {
+                callTarget.call(PArguments.empty());
+            } finally {
+                discardPrefetches(parsedModule.getModule());
+            }
             return parsedModule.getModule();
         }
 
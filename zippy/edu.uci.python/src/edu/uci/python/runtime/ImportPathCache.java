@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Resolves module names to source files from cached directory listings.
+ * <p>
+ * Each directory is listed once and its listing is reused for as long as the directory's
+ * modification time does not change, so a lookup costs one stat per searched directory instead of
+ * several probes per candidate file. Library lookups, successful or not, are remembered per module
+ * name and reused while no listing has been rebuilt, the search path has the same entries in the
+ * same order and the candidate package directories they probed are unchanged.
+ * <p>
+ * A listing taken within {@link #RACY_WINDOW} of its directory's modification time is not trusted,
+ * since an entry added in the same timestamp tick would not change the modification time.
+ */
+public final class ImportPathCache {
+
+    private static final String PACKAGE_INIT = "__init__.py";
+
+    private static final long RACY_WINDOW = 2000;
+
+    private static final class DirectoryListing {
+
+        private final long lastModified;
+        private final long listedAt;
+        private final Set<String> names;
+        private final Map<String, Boolean> directories = new HashMap<>();
+
+        DirectoryListing(long lastModified, long listedAt, Set<String> names) {
+            this.lastModified = lastModified;
+            this.listedAt = listedAt;
+            this.names = names;
+        }
+
+        boolean isCurrent(long modified) {
+            return lastModified == modified && listedAt - modified > RACY_WINDOW;
+        }
+
+        boolean contains(String name) {
+            return names.contains(name);
+        }
+
+        boolean isDirectory(Path directory, String name) {
+            if (!names.contains(name)) {
+                return false;
+            }
+
+            Boolean isDirectory = directories.get(name);
+            if (isDirectory == null) {
+                isDirectory = Files.isDirectory(directory.resolve(name));
+                directories.put(name, isDirectory);
+            }
+
+            return isDirectory;
+        }
+
+        boolean isFile(Path directory, String name) {
+            return names.contains(name) && !isDirectory(directory, name);
+        }
+    }
+
+    private static final class Resolution {
+
+        private final String path;
+        private final int generation;
+        private final List<String> searchPath;
+        private final List<Path> packageDirectories;
+
+        Resolution(String path, int generation, List<String> searchPath, List<Path> packageDirectories) {
+            this.path = path;
+            this.generation = generation;
+            this.searchPath = searchPath;
+            this.packageDirectories = packageDirectories;
+        }
+    }
+
+    private static final DirectoryListing EMPTY = new DirectoryListing(-1, -1, Collections.<String> emptySet());
+
+    private final Map<Path, DirectoryListing> listings = new HashMap<>();
+    private final Map<String, Resolution> libraryResolutions = new HashMap<>();
+    private final Map<String, String> importerDirectories = new HashMap<>();
+
+    /**
+     * Bumped whenever a listing is built or its entries change, which invalidates all library
+     * resolutions.
+     */
+    private int generation;
+
+    /**
+     * Returns the source of the module or package {@code moduleName} that lives next to the module
+     * at {@code importerPath}, or null.
+     */
+    public String findNextTo(String importerPath, String moduleName) {
+        String directoryPath = getImporterDirectory(importerPath);
+        if (directoryPath == null) {
+            return null;
+        }
+
+        Path directory = Paths.get(directoryPath);
+        DirectoryListing listing = getListing(directory);
+        String filename = moduleName + ".py";
+
+        if (listing.contains(filename)) {
+            return directoryPath + File.separatorChar + filename;
+        }
+
+        if (listing.isDirectory(directory, moduleName) && getListing(directory.resolve(moduleName)).contains(PACKAGE_INIT)) {
+            return new File(new File(directoryPath, moduleName), PACKAGE_INIT).toString();
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the source of the module or package {@code moduleName} found in the first matching
+     * directory of {@code searchPath}, or null.
+     */
+    public String findInLibraries(List<String> searchPath, String moduleName) {
+        for (String directoryPath : searchPath) {
+            getListing(Paths.get(directoryPath));
+        }
+
+        Resolution resolution = libraryResolutions.get(moduleName);
+        if (resolution != null) {
+            // A package directory gains an __init__.py without touching its parent's listing
+            for (Path packageDirectory : resolution.packageDirectories) {
+                getListing(packageDirectory);
+            }
+
+            if (resolution.generation == generation && resolution.searchPath.equals(searchPath)) {
+                return resolution.path;
+            }
+        }
+
+        List<Path> packageDirectories = new ArrayList<>();
+        String path = null;
+        for (String directoryPath : searchPath) {
+            path = findInLibrary(directoryPath, moduleName, packageDirectories);
+            if (path != null) {
+                break;
+            }
+        }
+
+        libraryResolutions.put(moduleName, new Resolution(path, generation, new ArrayList<>(searchPath), packageDirectories));
+        return path;
+    }
+
+    private String findInLibrary(String directoryPath, String moduleName, List<Path> packageDirectories) {
+        Path directory = Paths.get(directoryPath);
+        DirectoryListing listing = getListing(directory);
+
+        // First check for packages
+        if (listing.isDirectory(directory, moduleName)) {
+            Path packageDirectory = directory.resolve(moduleName);
+            packageDirectories.add(packageDirectory);
+            if (getListing(packageDirectory).isFile(packageDirectory, PACKAGE_INIT)) {
+                return new File(new File(directoryPath, moduleName), PACKAGE_INIT).getPath();
+            }
+        }
+
+        String sourceName = moduleName + ".py";
+        if (listing.isFile(directory, sourceName)) {
+            return new File(directoryPath, sourceName).getPath();
+        }
+
+        return null;
+    }
+
+    private String getImporterDirectory(String importerPath) {
+        if (importerDirectories.containsKey(importerPath)) {
+            return importerDirectories.get(importerPath);
+        }
+
+        String directory;
+        try {
+            directory = new File(importerPath).getCanonicalFile().getParent();
+        } catch (IOException ioe) {
+            directory = new File(importerPath).getAbsoluteFile().getParent();
+        }
+
+        importerDirectories.put(importerPath, directory);
+        return directory;
+    }
+
+    private DirectoryListing getListing(Path directory) {
+        long lastModified;
+        try {
+            lastModified = Files.getLastModifiedTime(directory).toMillis();
+        } catch (IOException | SecurityException e) {
+            if (listings.remove(directory) != null) {
+                generation++;
+            }
+            return EMPTY;
+        }
+
+        DirectoryListing listing = listings.get(directory);
+        if (listing != null && listing.isCurrent(lastModified)) {
+            return listing;
+        }
+
+        long listedAt = System.currentTimeMillis();
+
+        Set<String> names = new HashSet<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path entry : stream) {
+                names.add(entry.getFileName().toString());
+            }
+        } catch (IOException | SecurityException e) {
+            // not a readable directory
+        }
+
+        if (listing == null || !listing.names.equals(names)) {
+            generation++;
+        }
+
+        listing = new DirectoryListing(lastModified, listedAt, names);
+        listings.put(directory, listing);
+        return listing;
+    }
+
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime;
+
+import java.io.*;
+import java.util.*;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.nodes.*;
+import com.oracle.truffle.api.source.*;
+
+/**
+ * Records how the inline caches of call and attribute access sites behave: the depth each dispatch
+ * chain reaches, how often it is rewritten, how often a cached entry is dropped because its layout
+ * or callee assumption was invalidated, and whether the site gave up and went megamorphic.
+ * Recording only happens on rewrite paths, which already run in the interpreter. The report is
+ * written as JSON when the VM exits.
+ */
+public final class InlineCacheTelemetry {
+
+    public static final String CALL = "call";
+    public static final String ATTRIBUTE = "attribute";
+    public static final String SET_ATTRIBUTE = "setattr";
+
+    private static final Map<String, Site> sites = new HashMap<>();
+
+    private static boolean enabled;
+    private static boolean reportOnExit;
+
+    private InlineCacheTelemetry() {
+    }
+
+    private static final class Site {
+
+        private final String kind;
+        private final String location;
+        private final String name;
+
+        private int maxDepth;
+        private int rewrites;
+        private int invalidations;
+        private int megamorphic;
+
+        Site(String kind, String location, String name) {
+            this.kind = kind;
+            this.location = location;
+            this.name = name;
+        }
+
+        int events() {
+            return rewrites + invalidations + megamorphic;
+        }
+    }
+
+    @TruffleBoundary
+    public static synchronized void configure(boolean enable, final String outputPath) {
+        enabled = enable;
+
+        if (!enable || reportOnExit) {
+            return;
+        }
+
+        reportOnExit = true;
+        Runtime.getRuntime().addShutdownHook(new Thread() {
+
+            @Override
+            public void run() {
+                writeReport(outputPath);
+            }
+        });
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * A new entry was linked into the dispatch chain of {@code site}, which is now {@code depth}
+     * entries deep.
+     */
+    public static void rewrite(Node site, String kind, String name, int depth) {
+        if (enabled) {
+            recordRewrite(site, kind, name, depth);
+        }
+    }
+
+    @TruffleBoundary
+    private static synchronized void recordRewrite(Node node, String kind, String name, int depth) {
+        Site site = site(node, kind, name);
+        site.rewrites++;
+        site.maxDepth = Math.max(site.maxDepth, depth);
+    }
+
+    /**
+     * A cached entry of {@code site} failed an assumption check and was unlinked.
+     */
+    public static void invalidation(Node site, String kind, String name) {
+        if (enabled) {
+            recordInvalidation(site, kind, name);
+        }
+    }
+
+    @TruffleBoundary
+    private static synchronized void recordInvalidation(Node node, String kind, String name) {
+        site(node, kind, name).invalidations++;
+    }
+
+    /**
+     * The dispatch chain of {@code site} exceeded its maximum depth and was replaced by a generic
+     * dispatch.
+     */
+    public static void megamorphic(Node site, String kind, String name) {
+        if (enabled) {
+            recordMegamorphic(site, kind, name);
+        }
+    }
+
+    @TruffleBoundary
+    private static synchronized void recordMegamorphic(Node node, String kind, String name) {
+        site(node, kind, name).megamorphic++;
+    }
+
+    private static Site site(Node node, String kind, String name) {
+        String location = location(node);
+        String key = kind + '\0' + location + '\0' + name;
+        Site site = sites.get(key);
+
+        if (site == null) {
+            site = new Site(kind, location, name);
+            sites.put(key, site);
+        }
+
+        return site;
+    }
+
+    private static String location(Node node) {
+        SourceSection section = node.getEncapsulatingSourceSection();
+
+        if (section == null || section.getSource() == null) {
+            return "<unknown>";
+        }
+
+        return section.getSource().getName() + ":" + section.getStartLine() + ":" + section.getStartColumn();
+    }
+
+    @TruffleBoundary
+    public static synchronized void reset() {
+        sites.clear();
+    }
+
+    @TruffleBoundary
+    public static synchronized void printReport(PrintStream out) {
+        List<Site> sorted = new ArrayList<>(sites.values());
+        Collections.sort(sorted, new Comparator<Site>() {
+
+            @Override
+            public int compare(Site left, Site right) {
+                if (left.events() != right.events()) {
+                    return right.events() - left.events();
+                }
+
+                return left.location.compareTo(right.location);
+            }
+        });
+
+        out.println("{");
+        out.println("  \"callSiteMaxDepth\": " + PythonOptions.CallSiteInlineCacheMaxDepth + ",");
+        out.println("  \"attributeAccessMaxDepth\": " + PythonOptions.AttributeAccessInlineCacheMaxDepth + ",");
+        out.print("  \"sites\": [");
+
+        for (int i = 0; i < sorted.size(); i++) {
+            Site site = sorted.get(i);
+            out.print(i == 0 ? "\n" : ",\n");
+            out.print("    {\"kind\": " + quote(site.kind));
+            out.print(", \"location\": " + quote(site.location));
+            out.print(", \"name\": " + quote(site.name));
+            out.print(", \"maxDepth\": " + site.maxDepth);
+            out.print(", \"rewrites\": " + site.rewrites);
+            out.print(", \"invalidations\": " + site.invalidations);
+            out.print(", \"megamorphic\": " + site.megamorphic + "}");
+        }
+
+        out.println(sorted.isEmpty() ? "]" : "\n  ]");
+        out.println("}");
+    }
+
+    private static void writeReport(String outputPath) {
+        try (PrintStream out = new PrintStream(new FileOutputStream(outputPath))) {
+            printReport(out);
+        } catch (IOException e) {
+            System.err.println("Cannot write inline cache report to " + outputPath + ": " + e.getMessage());
+        }
+    }
+
+    private static String quote(String value) {
+        StringBuilder sb = new StringBuilder("\"");
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+
+        return sb.append('"').toString();
+    }
+
+}
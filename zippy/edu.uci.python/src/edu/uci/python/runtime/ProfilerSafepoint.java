@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime;
+
+import com.oracle.truffle.api.*;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.nodes.*;
+
+/**
+ * Lets a sampling profiler on another thread ask the interpreter for a stack sample. Python
+ * functions poll at entry and loops poll at their back-edge, so the sample is taken on the
+ * interpreter thread where its Truffle frames can be walked. The polling node is handed to the
+ * sampler, since it tells which line the innermost frame is executing. Until a sampler is installed
+ * the poll folds away in compiled code.
+ */
+public final class ProfilerSafepoint {
+
+    public interface Sampler {
+
+        void takeSample(Node location);
+
+    }
+
+    private static final Assumption noSampler = Truffle.getRuntime().createAssumption("no sampling profiler");
+
+    private static volatile boolean sampleRequested;
+    private static volatile Sampler sampler;
+
+    private ProfilerSafepoint() {
+    }
+
+    public static void install(Sampler newSampler) {
+        sampler = newSampler;
+        noSampler.invalidate();
+    }
+
+    public static void uninstall() {
+        sampler = null;
+        sampleRequested = false;
+    }
+
+    public static void requestSample() {
+        sampleRequested = true;
+    }
+
+    public static void poll(Node location) {
+        if (!noSampler.isValid() && sampleRequested) {
+            takeSample(location);
+        }
+    }
+
+    @TruffleBoundary
+    private static void takeSample(Node location) {
+        sampleRequested = false;
+        final Sampler current = sampler;
+
+        if (current != null) {
+            current.takeSample(location);
+        }
+    }
+
+}
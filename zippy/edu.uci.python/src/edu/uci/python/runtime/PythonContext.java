@@ -27,8 +27,10 @@ package edu.uci.python.runtime;
 import java.io.*;
 import java.lang.invoke.*;
 import java.math.BigInteger;
+import java.util.*;
 
 import com.oracle.truffle.api.*;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.nodes.*;
 import edu.uci.python.runtime.builtin.*;
 import edu.uci.python.runtime.datatype.*;
@@ -50,13 +52,30 @@ public class PythonContext extends ExecutionContext {
     private final PythonParser parser;
     private final PythonFunctionRegistry functionRegistry;
     private final ImportManager importManager;
+    private final PythonMethodCache methodCache = new PythonMethodCache();
 
     private static PythonContext currentContext;
 
     private RuntimeException currentException;
 
+    private static final int COMPILED_EXPRESSION_CACHE_SIZE = 256;
+
+    /**
+     * Call targets of expressions passed to eval(), least recently used first.
+     */
+    @SuppressWarnings("serial") private final Map<String, RootCallTarget> compiledExpressions = new LinkedHashMap<String, RootCallTarget>(16, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, RootCallTarget> eldest) {
+            return size() > COMPILED_EXPRESSION_CACHE_SIZE;
+        }
+    };
+
     public PythonContext(PythonOptions opts, PythonBuiltinsLookup lookup, PythonParser parser) {
         this.options = opts;
+
+        InlineCacheTelemetry.configure(opts.InlineCacheTelemetry, opts.InlineCacheTelemetryOutput);
+
         this.lookup = lookup;
         this.typeClass = new PythonBuiltinClass(this, "type", null);
         this.objectClass = new PythonObjectClass(this);
@@ -127,7 +146,7 @@ public class PythonContext extends ExecutionContext {
         /**
          * TODO: missing int, double, boolean... and maybe more.
          */
-        if (obj instanceof Integer || obj instanceof BigInteger || obj instanceof Long) {
+        if (obj instanceof Integer) {
             return new PInt((int) obj);
         } else if (obj instanceof BigInteger) {
             return new PInt((BigInteger) obj);
@@ -150,6 +169,23 @@ public class PythonContext extends ExecutionContext {
         return importManager;
     }
 
+    /**
+     * Returns a call target evaluating {@code expression}, parsing it only if it is not among the
+     * recently evaluated expressions.
+     */
+    @TruffleBoundary
+    public RootCallTarget compileExpression(String expression) {
+        RootCallTarget callTarget = compiledExpressions.get(expression);
+
+        if (callTarget == null) {
+            PythonParseResult parsed = parser.parse(this, new PythonModule(this, "<eval>", null), expression);
+            callTarget = Truffle.getRuntime().createCallTarget(parsed.getModuleRoot());
+            compiledExpressions.put(expression, callTarget);
+        }
+
+        return callTarget;
+    }
+
     public static PythonObject newPythonObjectInstance(PythonClass clazz) {
         return new FixedPythonObjectStorage(clazz);
     }
@@ -167,6 +203,10 @@ public class PythonContext extends ExecutionContext {
         return functionRegistry;
     }
 
+    public PythonMethodCache getMethodCache() {
+        return methodCache;
+    }
+
     public void setCurrentException(RuntimeException e) {
         currentException = e;
     }
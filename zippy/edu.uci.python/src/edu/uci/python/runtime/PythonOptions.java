@@ -54,16 +54,34 @@ public class PythonOptions {
     // Translation flags
     public final boolean UsePrintFunction; // false
 
+    public final boolean CacheParsedModules; // false
+
+    public final String ParsedModuleCacheDirectory; // $ZIPPY_HOME/cache/ast
+
+    public final boolean LazyFunctionTranslation; // false
+
+    public final boolean ParallelImportParsing; // false
+
     // Runtime flags
     public final boolean UnboxSequenceStorage; // true
 
     public final boolean UnboxSequenceIteration; // true
 
+    public final boolean UnboxDictStorage; // true
+
+    public final boolean UnboxSetStorage; // true
+
     public final boolean IntrinsifyBuiltinCalls; // true
 
-    public static final int AttributeAccessInlineCacheMaxDepth = 20;
+    public final boolean ParallelSort; // false
+
+    public static final int AttributeAccessInlineCacheMaxDepth = Integer.getInteger(propPkgName + ".AttributeAccessInlineCacheMaxDepth", 20);
+
+    public static final int CallSiteInlineCacheMaxDepth = Integer.getInteger(propPkgName + ".CallSiteInlineCacheMaxDepth", 20);
+
+    public final boolean InlineCacheTelemetry; // false
 
-    public static final int CallSiteInlineCacheMaxDepth = 20;
+    public final String InlineCacheTelemetryOutput; // inline-caches.json
 
     public final boolean FlexibleObjectStorageEvolution; // false
 
@@ -105,11 +123,20 @@ public class PythonOptions {
 
         // Translation flags
         this.UsePrintFunction = Boolean.getBoolean(propPkgName + ".UsePrintFunction"); // false
+        this.CacheParsedModules = Boolean.getBoolean(propPkgName + ".CacheParsedModules"); // false
+        this.ParsedModuleCacheDirectory = System.getProperty(propPkgName + ".ParsedModuleCacheDirectory"); // $ZIPPY_HOME/cache/ast
+        this.LazyFunctionTranslation = Boolean.getBoolean(propPkgName + ".LazyFunctionTranslation"); // false
+        this.ParallelImportParsing = Boolean.getBoolean(propPkgName + ".ParallelImportParsing"); // false
 
         // Runtime flags
         this.UnboxSequenceStorage = !Boolean.getBoolean(propPkgName + ".disableUnboxSequenceStorage"); // true
         this.UnboxSequenceIteration = !Boolean.getBoolean(propPkgName + ".disableUnboxSequenceIteration"); // true
+        this.UnboxDictStorage = !Boolean.getBoolean(propPkgName + ".disableUnboxDictStorage"); // true
+        this.UnboxSetStorage = !Boolean.getBoolean(propPkgName + ".disableUnboxSetStorage"); // true
         this.IntrinsifyBuiltinCalls = !Boolean.getBoolean(propPkgName + ".disableIntrinsifyBuiltinCalls"); // true
+        this.ParallelSort = Boolean.getBoolean(propPkgName + ".ParallelSort"); // false
+        this.InlineCacheTelemetry = Boolean.getBoolean(propPkgName + ".InlineCacheTelemetry"); // false
+        this.InlineCacheTelemetryOutput = System.getProperty(propPkgName + ".InlineCacheTelemetryOutput", "inline-caches.json");
         this.FlexibleObjectStorageEvolution = Boolean.getBoolean(propPkgName + ".FlexibleObjectStorageEvolution"); // false
         this.FlexibleObjectStorage = Boolean.getBoolean(propPkgName + ".FlexibleObjectStorage"); // false
 
@@ -34,4 +34,15 @@ public interface PythonParser {
 
     PythonParseResult parse(PythonContext context, PythonModule module, String expression);
 
+    /**
+     * Starts parsing the module at {@code path} in the background. A later {@code parse} of the
+     * same file picks up the result instead of parsing it again.
+     */
+    void prefetch(PythonContext context, String path);
+
+    /**
+     * Cancels the background parse of the module at {@code path} if it has not been used.
+     */
+    void discardPrefetched(String path);
+
 }
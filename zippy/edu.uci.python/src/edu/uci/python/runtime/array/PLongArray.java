@@ -26,11 +26,10 @@ package edu.uci.python.runtime.array;
 
 import java.util.Arrays;
 
-import org.python.core.Py;
-
 import com.oracle.truffle.api.CompilerDirectives;
 
 import edu.uci.python.runtime.datatype.PSlice;
+import edu.uci.python.runtime.exception.PythonError;
 import edu.uci.python.runtime.iterator.PIterator;
 import edu.uci.python.runtime.iterator.PLongArrayIterator;
 import edu.uci.python.runtime.iterator.PSequenceIterator;
@@ -92,7 +91,7 @@ public final class PLongArray extends PArray {
             return array[idx];
         } catch (ArrayIndexOutOfBoundsException e) {
             CompilerDirectives.transferToInterpreterAndInvalidate();
-            throw Py.IndexError("array index out of range");
+            throw PythonError.IndexError("array index out of range");
         }
     }
 
@@ -107,7 +106,7 @@ public final class PLongArray extends PArray {
             array[idx] = value;
         } catch (ArrayIndexOutOfBoundsException e) {
             CompilerDirectives.transferToInterpreterAndInvalidate();
-            throw Py.IndexError("array assignment index out of range");
+            throw PythonError.IndexError("array assignment index out of range");
         }
     }
 
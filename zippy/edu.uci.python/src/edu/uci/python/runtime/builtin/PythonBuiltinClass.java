@@ -24,9 +24,8 @@
  */
 package edu.uci.python.runtime.builtin;
 
-import org.python.core.*;
-
 import edu.uci.python.runtime.*;
+import edu.uci.python.runtime.exception.*;
 import edu.uci.python.runtime.function.*;
 import edu.uci.python.runtime.standardtype.*;
 
@@ -44,7 +43,7 @@ public class PythonBuiltinClass extends PythonClass implements PythonCallable {
 
     @Override
     public void setAttribute(String name, Object value) {
-        throw Py.TypeError("can't set attributes of built-in/extension type '" + name + "'");
+        throw PythonError.TypeError("can't set attributes of built-in/extension type '" + name + "'");
     }
 
     /**
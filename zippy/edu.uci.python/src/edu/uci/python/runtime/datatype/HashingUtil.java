@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.datatype;
+
+import java.math.*;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+import edu.uci.python.runtime.exception.*;
+import edu.uci.python.runtime.function.*;
+import edu.uci.python.runtime.object.*;
+import edu.uci.python.runtime.sequence.*;
+import edu.uci.python.runtime.standardtype.*;
+
+/**
+ * Python hash and equality semantics for keys of hash based containers.
+ * <p>
+ * Numbers that compare equal hash equal regardless of their boxed representation, so that
+ * <code>1</code>, <code>1L</code>, <code>1.0</code> and <code>True</code> all address the same
+ * entry. Instances of user defined classes dispatch to their <code>__hash__</code> and
+ * <code>__eq__</code> methods when defined, and fall back to identity otherwise.
+ */
+public class HashingUtil {
+
+    private static final double TWO_TO_63 = 0x1p63;
+
+    public static int hashInt(int key) {
+        return key;
+    }
+
+    public static int hashLong(long key) {
+        final int low = (int) key;
+        return low == key ? low : (int) (key ^ (key >>> 32));
+    }
+
+    public static int hashString(String key) {
+        return key.hashCode();
+    }
+
+    public static int hashDouble(double key) {
+        if (key == Math.rint(key) && !Double.isInfinite(key)) {
+            if (key >= -TWO_TO_63 && key < TWO_TO_63) {
+                return hashLong((long) key);
+            }
+
+            return hashBigInteger(new BigDecimal(key).toBigInteger());
+        }
+
+        return Double.hashCode(key);
+    }
+
+    public static int hashBigInteger(BigInteger key) {
+        if (key.bitLength() < Long.SIZE) {
+            return hashLong(key.longValue());
+        }
+
+        return key.hashCode();
+    }
+
+    @TruffleBoundary
+    public static int hash(Object key) {
+        if (key instanceof Integer) {
+            return hashInt((int) key);
+        } else if (key instanceof String) {
+            return hashString((String) key);
+        } else if (key instanceof Long) {
+            return hashLong((long) key);
+        } else if (key instanceof Double) {
+            return hashDouble((double) key);
+        } else if (key instanceof Boolean) {
+            return (boolean) key ? 1 : 0;
+        } else if (key instanceof BigInteger) {
+            return hashBigInteger((BigInteger) key);
+        } else if (key instanceof PString) {
+            return hashString(((PString) key).getValue());
+        } else if (key instanceof PTuple) {
+            return hashTuple((PTuple) key);
+        } else if (key instanceof PFrozenSet) {
+            return hashFrozenSet((PFrozenSet) key);
+        } else if (isUserObject(key)) {
+            return hashPythonObject((PythonObject) key);
+        }
+
+        return key.hashCode();
+    }
+
+    @TruffleBoundary
+    public static boolean keyEquals(Object left, Object right) {
+        if (left == right) {
+            return true;
+        } else if (isNumber(left) && isNumber(right)) {
+            return numberEquals(left, right);
+        } else if (left instanceof String || left instanceof PString) {
+            return (right instanceof String || right instanceof PString) && left.toString().equals(right.toString());
+        } else if (left instanceof PTuple) {
+            return right instanceof PTuple && tupleEquals((PTuple) left, (PTuple) right);
+        } else if (isUserObject(left)) {
+            return pythonObjectEquals((PythonObject) left, right);
+        } else if (isUserObject(right)) {
+            return pythonObjectEquals((PythonObject) right, left);
+        }
+
+        return left.equals(right);
+    }
+
+    private static boolean isNumber(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Double || value instanceof BigInteger || value instanceof Boolean;
+    }
+
+    private static boolean isUserObject(Object value) {
+        return value instanceof PythonObject && !(value instanceof PythonClass) && !(value instanceof PythonModule);
+    }
+
+    private static boolean numberEquals(Object left, Object right) {
+        if (left instanceof Double && right instanceof Double) {
+            return (double) left == (double) right;
+        } else if (left instanceof Double) {
+            return integralEquals((double) left, right);
+        } else if (right instanceof Double) {
+            return integralEquals((double) right, left);
+        } else if (left instanceof BigInteger || right instanceof BigInteger) {
+            return asBigInteger(left).equals(asBigInteger(right));
+        }
+
+        return asLong(left) == asLong(right);
+    }
+
+    /**
+     * Compares a float with an integer exactly, instead of rounding the integer to a double.
+     */
+    private static boolean integralEquals(double left, Object right) {
+        if (left != Math.rint(left) || Double.isInfinite(left)) {
+            return false;
+        } else if (left >= -TWO_TO_63 && left < TWO_TO_63 && !(right instanceof BigInteger)) {
+            return (long) left == asLong(right);
+        }
+
+        return new BigDecimal(left).toBigInteger().equals(asBigInteger(right));
+    }
+
+    private static long asLong(Object value) {
+        if (value instanceof Boolean) {
+            return (boolean) value ? 1 : 0;
+        }
+
+        return ((Number) value).longValue();
+    }
+
+    private static BigInteger asBigInteger(Object value) {
+        if (value instanceof BigInteger) {
+            return (BigInteger) value;
+        }
+
+        return BigInteger.valueOf(asLong(value));
+    }
+
+    private static int hashTuple(PTuple tuple) {
+        int result = 0x345678;
+
+        for (Object item : tuple.getArray()) {
+            result = 31 * result + hash(item);
+        }
+
+        return result;
+    }
+
+    private static boolean tupleEquals(PTuple left, PTuple right) {
+        final Object[] leftArray = left.getArray();
+        final Object[] rightArray = right.getArray();
+
+        if (leftArray.length != rightArray.length) {
+            return false;
+        }
+
+        for (int i = 0; i < leftArray.length; i++) {
+            if (!keyEquals(leftArray[i], rightArray[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static int hashFrozenSet(PFrozenSet set) {
+        int result = 0;
+
+        for (Object item : set.toArray()) {
+            result += hash(item);
+        }
+
+        return result;
+    }
+
+    private static int hashPythonObject(PythonObject object) {
+        final Object hashMethod = object.getAttribute("__hash__");
+
+        if (!(hashMethod instanceof PFunction)) {
+            return System.identityHashCode(object);
+        }
+
+        final Object result = new PMethod(object, (PFunction) hashMethod).call(PArguments.create());
+
+        if (result instanceof Integer) {
+            return hashInt((int) result);
+        } else if (result instanceof Long) {
+            return hashLong((long) result);
+        } else if (result instanceof BigInteger) {
+            return hashBigInteger((BigInteger) result);
+        } else if (result instanceof Boolean) {
+            return (boolean) result ? 1 : 0;
+        }
+
+        throw PythonError.TypeError("__hash__ method should return an integer");
+    }
+
+    private static boolean pythonObjectEquals(PythonObject object, Object other) {
+        final Object eqMethod = object.getAttribute("__eq__");
+
+        if (!(eqMethod instanceof PFunction)) {
+            return false;
+        }
+
+        final Object result = new PMethod(object, (PFunction) eqMethod).call(PArguments.createWithUserArguments(other));
+        return result instanceof Boolean ? (boolean) result : result != PNone.NONE;
+    }
+
+}
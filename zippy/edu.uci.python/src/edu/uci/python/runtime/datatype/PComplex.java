@@ -24,6 +24,12 @@
  */
 package edu.uci.python.runtime.datatype;
 
+import java.math.*;
+
+import com.oracle.truffle.api.*;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+import edu.uci.python.runtime.exception.*;
 import edu.uci.python.runtime.standardtype.*;
 
 public final class PComplex extends PythonBuiltinObject {
@@ -64,9 +70,14 @@ public final class PComplex extends PythonBuiltinObject {
 
     public PComplex div(PComplex c) {
         double opNormSq = c.getReal() * c.getReal() + c.getImag() * c.getImag();
-        PComplex conjugate = c.getConjugate();
-        double realPart = real * conjugate.getReal() - imag * conjugate.getImag();
-        double imagPart = real * conjugate.getImag() + imag * conjugate.getReal();
+
+        if (opNormSq == 0.0) {
+            CompilerDirectives.transferToInterpreter();
+            throw PythonError.ZeroDivisionError("complex division by zero");
+        }
+
+        double realPart = real * c.getReal() + imag * c.getImag();
+        double imagPart = imag * c.getReal() - real * c.getImag();
         return new PComplex(realPart / opNormSq, imagPart / opNormSq);
     }
 
@@ -112,23 +123,55 @@ public final class PComplex extends PythonBuiltinObject {
 
     @Override
     public String toString() {
-        if (real == 0.) {
+        if (real == 0. && Math.copySign(1.0, real) > 0) {
             return toString(imag) + "j";
-        } else {
-            if (imag >= 0) {
-                return String.format("(%s+%sj)", toString(real), toString(imag));
-            } else {
-                return String.format("(%s-%sj)", toString(real), toString(-imag));
-            }
         }
+
+        String imagString = toString(imag);
+        return "(" + toString(real) + (imagString.charAt(0) == '-' ? "" : "+") + imagString + "j)";
     }
 
+    /**
+     * Formats a component like {@code repr(float)}, but without the trailing {@code .0} of integral
+     * values, as CPython does for complex numbers.
+     */
+    @TruffleBoundary
     private static String toString(double value) {
-        if (value == Math.floor(value) && value <= Long.MAX_VALUE && value >= Long.MIN_VALUE) {
-            return Long.toString((long) value);
+        if (Double.isNaN(value)) {
+            return "nan";
+        } else if (Double.isInfinite(value)) {
+            return value > 0 ? "inf" : "-inf";
+        } else if (value == 0) {
+            return Math.copySign(1.0, value) < 0 ? "-0" : "0";
+        }
+
+        final String sign = value < 0 ? "-" : "";
+        final BigDecimal decimal = new BigDecimal(Double.toString(Math.abs(value))).stripTrailingZeros();
+        final String digits = decimal.unscaledValue().toString();
+        final int exponent = digits.length() - 1 - decimal.scale();
+
+        if (exponent < -4 || exponent >= 16) {
+            String mantissa = digits.length() == 1 ? digits : digits.charAt(0) + "." + digits.substring(1);
+            return sign + mantissa + String.format("e%+03d", exponent);
+        }
+
+        StringBuilder sb = new StringBuilder(sign);
+        if (exponent < 0) {
+            sb.append("0.");
+            for (int i = -1; i > exponent; i--) {
+                sb.append('0');
+            }
+            sb.append(digits);
+        } else if (exponent >= digits.length() - 1) {
+            sb.append(digits);
+            for (int i = digits.length() - 1; i < exponent; i++) {
+                sb.append('0');
+            }
         } else {
-            return Double.toString(value);
+            sb.append(digits, 0, exponent + 1).append('.').append(digits, exponent + 1, digits.length());
         }
+
+        return sb.toString();
     }
 
 }
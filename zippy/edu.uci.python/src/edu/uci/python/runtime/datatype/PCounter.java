@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.datatype;
+
+import java.util.*;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+import edu.uci.python.runtime.*;
+import edu.uci.python.runtime.builtin.*;
+import edu.uci.python.runtime.datatype.storage.*;
+import edu.uci.python.runtime.exception.*;
+import edu.uci.python.runtime.iterator.*;
+import edu.uci.python.runtime.sequence.*;
+import edu.uci.python.runtime.sequence.storage.*;
+
+/**
+ * collections.Counter. Counts are plain dictionary values, so counting small int or string keys
+ * stays on the specialized dictionary storages. A missing key counts as zero without being added.
+ */
+public final class PCounter extends PDict {
+
+    public static final PythonBuiltinClass __class__ = PythonContext.getBuiltinTypeFor(PCounter.class);
+
+    public PCounter() {
+    }
+
+    private PCounter(DictStorage store) {
+        super(store);
+    }
+
+    @Override
+    public PythonBuiltinClass __class__() {
+        return __class__;
+    }
+
+    @Override
+    public Object missing(Object key) {
+        return 0;
+    }
+
+    private static int toCount(Object value) {
+        if (value instanceof Integer) {
+            return (int) value;
+        } else if (value instanceof Boolean) {
+            return (boolean) value ? 1 : 0;
+        }
+
+        throw PythonError.TypeError("Counter values must be integers");
+    }
+
+    private int getCount(Object key) {
+        final Object count = getItem(key);
+        return count == null ? 0 : toCount(count);
+    }
+
+    /**
+     * Adds sign times the count of each element of an iterable or iterator, or of each key of a
+     * mapping.
+     */
+    public void update(Object iterable, int sign) {
+        if (iterable instanceof PDict) {
+            final DictStorage other = ((PDict) iterable).getStorage();
+
+            for (int i = other.nextEntry(0); i >= 0; i = other.nextEntry(i + 1)) {
+                final Object key = other.keyAt(i);
+                setItem(key, getCount(key) + sign * toCount(other.valueAt(i)));
+            }
+
+            return;
+        }
+
+        final PIterator iterator = iterable instanceof PIterator ? (PIterator) iterable : ((PIterable) iterable).__iter__();
+
+        try {
+            while (true) {
+                final Object key = iterator.__next__();
+                setItem(key, getCount(key) + sign);
+            }
+        } catch (StopIterationException e) {
+            // fall through
+        }
+    }
+
+    /**
+     * Entries ordered by decreasing count. Equal counts keep their insertion order.
+     */
+    @TruffleBoundary
+    public PList mostCommon(int n) {
+        final DictStorage store = getStorage();
+        final List<PTuple> entries = new ArrayList<>(store.length());
+
+        for (int i = store.nextEntry(0); i >= 0; i = store.nextEntry(i + 1)) {
+            entries.add(new PTuple(new Object[]{store.keyAt(i), store.valueAt(i)}));
+        }
+
+        Collections.sort(entries, new Comparator<PTuple>() {
+            public int compare(PTuple first, PTuple second) {
+                return Integer.compare(toCount(second.getItem(1)), toCount(first.getItem(1)));
+            }
+        });
+
+        final int size = n < 0 ? entries.size() : Math.min(n, entries.size());
+        return new PList(new ObjectSequenceStorage(entries.subList(0, size).toArray()));
+    }
+
+    /**
+     * Each key repeated as many times as its count, skipping keys with a count below one.
+     */
+    @TruffleBoundary
+    public PList elements() {
+        final DictStorage store = getStorage();
+        final PList elements = new PList();
+
+        for (int i = store.nextEntry(0); i >= 0; i = store.nextEntry(i + 1)) {
+            final Object key = store.keyAt(i);
+
+            for (int count = toCount(store.valueAt(i)); count > 0; count--) {
+                elements.append(key);
+            }
+        }
+
+        return elements;
+    }
+
+    @Override
+    public PCounter copy() {
+        return new PCounter(getStorage().copy());
+    }
+
+    @Override
+    @TruffleBoundary
+    public String toString() {
+        if (len() == 0) {
+            return "Counter()";
+        }
+
+        StringBuilder buf = new StringBuilder("Counter({");
+        final PList entries = mostCommon(-1);
+
+        for (int i = 0; i < entries.len(); i++) {
+            final PTuple entry = (PTuple) entries.getItem(i);
+            buf.append(PSequence.toString(entry.getItem(0)) + ": " + entry.getItem(1));
+
+            if (i < entries.len() - 1) {
+                buf.append(", ");
+            }
+        }
+
+        buf.append("})");
+        return buf.toString();
+    }
+
+}
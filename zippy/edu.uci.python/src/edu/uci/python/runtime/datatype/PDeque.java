@@ -0,0 +1,382 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.datatype;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+import edu.uci.python.runtime.*;
+import edu.uci.python.runtime.builtin.*;
+import edu.uci.python.runtime.datatype.storage.*;
+import edu.uci.python.runtime.exception.*;
+import edu.uci.python.runtime.iterator.*;
+import edu.uci.python.runtime.sequence.*;
+import edu.uci.python.runtime.standardtype.*;
+
+/**
+ * collections.deque backed by a ring buffer. Like lists, a deque starts out with unboxed int
+ * storage, switches to double storage if its first element is a float, and generalizes to object
+ * storage when it is handed an element its storage cannot hold.
+ */
+public final class PDeque extends PythonBuiltinObject implements PIterable {
+
+    public static final PythonBuiltinClass __class__ = PythonContext.getBuiltinTypeFor(PDeque.class);
+
+    public static final int UNBOUNDED = -1;
+
+    private DequeStorage store;
+    private final int maxlen;
+
+    public PDeque(int maxlen) {
+        this.store = new IntDequeStorage();
+        this.maxlen = maxlen;
+    }
+
+    private PDeque(DequeStorage store, int maxlen) {
+        this.store = store;
+        this.maxlen = maxlen;
+    }
+
+    @Override
+    public PythonBuiltinClass __class__() {
+        return __class__;
+    }
+
+    public DequeStorage getStorage() {
+        return store;
+    }
+
+    public int getMaxlen() {
+        return maxlen;
+    }
+
+    /**
+     * A bounded deque discards an element from the opposite end to make room. Returns false if
+     * there is no room at all.
+     */
+    private boolean makeRoomAtEnd() {
+        if (maxlen != UNBOUNDED && store.length() >= maxlen) {
+            if (maxlen == 0) {
+                return false;
+            }
+
+            store.popLeft();
+        }
+
+        return true;
+    }
+
+    private boolean makeRoomAtStart() {
+        if (maxlen != UNBOUNDED && store.length() >= maxlen) {
+            if (maxlen == 0) {
+                return false;
+            }
+
+            store.pop();
+        }
+
+        return true;
+    }
+
+    public void append(Object value) {
+        if (!makeRoomAtEnd()) {
+            return;
+        }
+
+        try {
+            store.append(value);
+        } catch (DequeStoreException e) {
+            store = store.generalizeFor(value);
+
+            try {
+                store.append(value);
+            } catch (DequeStoreException ex) {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+    /**
+     * Only valid while the storage is an {@link IntDequeStorage}.
+     */
+    public void appendInt(int value) {
+        if (makeRoomAtEnd()) {
+            ((IntDequeStorage) store).appendInt(value);
+        }
+    }
+
+    public void appendLeft(Object value) {
+        if (!makeRoomAtStart()) {
+            return;
+        }
+
+        try {
+            store.appendLeft(value);
+        } catch (DequeStoreException e) {
+            store = store.generalizeFor(value);
+
+            try {
+                store.appendLeft(value);
+            } catch (DequeStoreException ex) {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+    public void extend(PIterator iterator) {
+        try {
+            while (true) {
+                append(iterator.__next__());
+            }
+        } catch (StopIterationException e) {
+            // fall through
+        }
+    }
+
+    public void extendLeft(PIterator iterator) {
+        try {
+            while (true) {
+                appendLeft(iterator.__next__());
+            }
+        } catch (StopIterationException e) {
+            // fall through
+        }
+    }
+
+    public Object pop() {
+        if (store.length() == 0) {
+            throw PythonError.IndexError("pop from an empty deque");
+        }
+
+        return store.pop();
+    }
+
+    public Object popLeft() {
+        if (store.length() == 0) {
+            throw PythonError.IndexError("pop from an empty deque");
+        }
+
+        return store.popLeft();
+    }
+
+    private int normalizeIndex(int index) {
+        final int normalized = index < 0 ? index + store.length() : index;
+
+        if (normalized < 0 || normalized >= store.length()) {
+            throw PythonError.IndexError("deque index out of range");
+        }
+
+        return normalized;
+    }
+
+    public Object getItem(int index) {
+        return store.getItem(normalizeIndex(index));
+    }
+
+    /**
+     * Only valid while the storage is an {@link IntDequeStorage}.
+     */
+    public int getIntItem(int index) {
+        return ((IntDequeStorage) store).getIntItem(normalizeIndex(index));
+    }
+
+    public int popInt() {
+        if (store.length() == 0) {
+            throw PythonError.IndexError("pop from an empty deque");
+        }
+
+        return ((IntDequeStorage) store).popInt();
+    }
+
+    public int popLeftInt() {
+        if (store.length() == 0) {
+            throw PythonError.IndexError("pop from an empty deque");
+        }
+
+        return ((IntDequeStorage) store).popLeftInt();
+    }
+
+    public void setItem(int index, Object value) {
+        final int normalized = normalizeIndex(index);
+
+        try {
+            store.setItem(normalized, value);
+        } catch (DequeStoreException e) {
+            store = store.generalizeFor(value);
+
+            try {
+                store.setItem(normalized, value);
+            } catch (DequeStoreException ex) {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+    public void delItem(int index) {
+        store.delItem(normalizeIndex(index));
+    }
+
+    public int index(Object value) {
+        if (store instanceof IntDequeStorage && value instanceof Integer) {
+            return ((IntDequeStorage) store).indexOfInt((int) value);
+        }
+
+        for (int i = 0; i < store.length(); i++) {
+            if (store.getItem(i).equals(value)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    public int count(Object value) {
+        int count = 0;
+
+        for (int i = 0; i < store.length(); i++) {
+            if (store.getItem(i).equals(value)) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    public void remove(Object value) {
+        final int index = index(value);
+
+        if (index < 0) {
+            throw PythonError.ValueError("deque.remove(x): x not in deque");
+        }
+
+        store.delItem(index);
+    }
+
+    /**
+     * Rotates n steps to the right, or to the left if n is negative.
+     */
+    public void rotate(int n) {
+        final int length = store.length();
+
+        if (length <= 1) {
+            return;
+        }
+
+        int steps = n % length;
+
+        if (steps < 0) {
+            steps += length;
+        }
+
+        store.rotate(steps);
+    }
+
+    public void reverse() {
+        store.reverse();
+    }
+
+    public void clear() {
+        store.clear();
+    }
+
+    public PDeque copy() {
+        return new PDeque(store.copy(), maxlen);
+    }
+
+    @Override
+    public int len() {
+        return store.length();
+    }
+
+    @Override
+    public PIterator __iter__() {
+        if (store instanceof IntDequeStorage) {
+            return new PDequeIterator.PIntDequeIterator(this);
+        } else if (store instanceof DoubleDequeStorage) {
+            return new PDequeIterator.PDoubleDequeIterator(this);
+        }
+
+        return new PDequeIterator(this);
+    }
+
+    @Override
+    public Object getMax() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object getMin() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof PDeque)) {
+            return false;
+        }
+
+        final DequeStorage otherStore = ((PDeque) other).getStorage();
+
+        if (otherStore.length() != store.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < store.length(); i++) {
+            if (!store.getItem(i).equals(otherStore.getItem(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    @Override
+    @TruffleBoundary
+    public String toString() {
+        StringBuilder buf = new StringBuilder("deque([");
+
+        for (int i = 0; i < store.length(); i++) {
+            buf.append(PSequence.toString(store.getItem(i)));
+
+            if (i < store.length() - 1) {
+                buf.append(", ");
+            }
+        }
+
+        buf.append("]");
+
+        if (maxlen != UNBOUNDED) {
+            buf.append(", maxlen=" + maxlen);
+        }
+
+        buf.append(")");
+        return buf.toString();
+    }
+
+}
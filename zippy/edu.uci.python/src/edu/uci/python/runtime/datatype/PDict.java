@@ -25,40 +25,40 @@
 package edu.uci.python.runtime.datatype;
 
 import java.util.*;
-import java.util.Map.Entry;
 
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 
 import edu.uci.python.runtime.*;
 import edu.uci.python.runtime.builtin.*;
+import edu.uci.python.runtime.datatype.storage.*;
 import edu.uci.python.runtime.exception.*;
 import edu.uci.python.runtime.iterator.*;
 import edu.uci.python.runtime.sequence.*;
 import edu.uci.python.runtime.standardtype.*;
 
-public final class PDict extends PythonBuiltinObject implements PIterable {
+public class PDict extends PythonBuiltinObject implements PIterable {
 
     public static final PythonBuiltinClass __class__ = PythonContext.getBuiltinTypeFor(PDict.class);
 
-    private final Map<Object, Object> map;
+    private DictStorage store;
 
     public PDict() {
-        map = new TreeMap<>();
+        store = EmptyDictStorage.INSTANCE;
     }
 
-    public PDict(Map<Object, Object> map) {
-        this();
-        addAll(map);
-    }
-
-    @TruffleBoundary
-    private void addAll(Map<Object, Object> mapToAdd) {
-        this.map.putAll(mapToAdd);
+    public PDict(DictStorage store) {
+        this.store = store;
     }
 
     public PDict(PIterator iter) {
-        map = new TreeMap<>();
+        this();
+        addKeyValuePairs(iter);
+    }
 
+    /**
+     * Adds each key value pair produced by the iterator.
+     */
+    public final void addKeyValuePairs(PIterator iter) {
         try {
             while (true) {
                 unpackKeyValuePair(iter.__next__());
@@ -70,7 +70,7 @@ public final class PDict extends PythonBuiltinObject implements PIterable {
 
     private void unpackKeyValuePair(Object obj) {
         if (obj instanceof PSequence && ((PSequence) obj).len() == 2) {
-            map.put(((PSequence) obj).getItem(0), ((PSequence) obj).getItem(1));
+            setItem(((PSequence) obj).getItem(0), ((PSequence) obj).getItem(1));
         } else {
             throw new RuntimeException("invalid args for dict()");
         }
@@ -81,65 +81,150 @@ public final class PDict extends PythonBuiltinObject implements PIterable {
         return __class__;
     }
 
+    public DictStorage getStorage() {
+        return store;
+    }
+
     public Object getItem(Object key) {
-        return map.get(key);
+        return store.getItem(key);
+    }
+
+    /**
+     * Supplies the value of a key that a subscript did not find, like __missing__ in CPython. A
+     * plain dictionary raises KeyError.
+     */
+    public Object missing(Object key) {
+        throw PythonError.KeyError(String.valueOf(key));
+    }
+
+    public Object getIntItem(int key) {
+        return store.getIntItem(key);
+    }
+
+    public Object getStringItem(String key) {
+        return store.getStringItem(key);
     }
 
     public void setItem(Object key, Object value) {
-        map.put(key, value);
+        try {
+            store.setItem(key, value);
+        } catch (DictStoreException e) {
+            store = store.generalizeFor(key, value);
+
+            try {
+                store.setItem(key, value);
+            } catch (DictStoreException ex) {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+    public void setIntItem(int key, Object value) {
+        setItem(key, value);
+    }
+
+    public void setStringItem(String key, Object value) {
+        try {
+            store.setStringItem(key, value);
+        } catch (DictStoreException e) {
+            store = store.generalizeFor(key, value);
+
+            try {
+                store.setStringItem(key, value);
+            } catch (DictStoreException ex) {
+                throw new IllegalStateException();
+            }
+        }
     }
 
     public void delItem(Object key) {
-        map.remove(key);
+        store.removeItem(key);
     }
 
-    public Collection<Object> items() {
-        return map.values();
+    /**
+     * Removes the entry for key and returns its value, or null if there is no such entry.
+     */
+    public Object removeItem(Object key) {
+        return store.removeItem(key);
     }
 
-    public Collection<Object> keys() {
-        return map.keySet();
+    /**
+     * Removes and returns the most recently inserted entry as a key value pair, or null if the
+     * dictionary is empty.
+     */
+    public PTuple popItem() {
+        final int last = store.lastEntry();
+
+        if (last < 0) {
+            return null;
+        }
+
+        final Object key = store.keyAt(last);
+        final Object value = store.valueAt(last);
+        store.removeItem(key);
+        return new PTuple(new Object[]{key, value});
     }
 
-    public Map<Object, Object> getMap() {
-        return map;
+    @TruffleBoundary
+    public List<Object> keys() {
+        final List<Object> keys = new ArrayList<>(store.length());
+
+        for (int i = store.nextEntry(0); i >= 0; i = store.nextEntry(i + 1)) {
+            keys.add(store.keyAt(i));
+        }
+
+        return keys;
     }
 
     public boolean hasKey(Object key) {
-        return this.map.containsKey(key);
+        return store.hasKey(key);
+    }
+
+    public PDict copy() {
+        return new PDict(store.copy());
+    }
+
+    public void clear() {
+        store = EmptyDictStorage.INSTANCE;
     }
 
     public PIterator __iter__() {
-        return new PDictIterator(map.keySet().iterator());
+        return new PDictIterator(store);
     }
 
     public PIterator values() {
-        return new PDictIterator(map.values().iterator());
+        return new PDictIterator.PDictValuesIterator(store);
     }
 
     @Override
+    @TruffleBoundary
     public String toString() {
         StringBuilder buf = new StringBuilder("{");
-        int length = map.size();
-        int i = 0;
 
-        for (Entry<?, ?> entry : map.entrySet()) {
-            buf.append(entry.getKey() + ": " + entry.getValue());
+        for (int i = store.nextEntry(0); i >= 0;) {
+            buf.append(toString(store.keyAt(i)) + ": " + toString(store.valueAt(i)));
+            i = store.nextEntry(i + 1);
 
-            if (i < length - 1) {
+            if (i >= 0) {
                 buf.append(", ");
             }
-
-            i++;
         }
 
         buf.append("}");
         return buf.toString();
     }
 
+    private static String toString(Object item) {
+        if (item instanceof Boolean) {
+            return (boolean) item ? "True" : "False";
+        }
+
+        return item.toString();
+    }
+
     @Override
     public int len() {
-        return map.size();
+        return store.length();
     }
 
     @Override
@@ -149,7 +234,7 @@ public final class PDict extends PythonBuiltinObject implements PIterable {
         }
 
         PDict otherDict = (PDict) other;
-        return map.equals(otherDict.getMap());
+        return store.equals(otherDict.getStorage());
     }
 
     @Override
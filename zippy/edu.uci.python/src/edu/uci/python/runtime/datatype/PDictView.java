@@ -24,9 +24,6 @@
  */
 package edu.uci.python.runtime.datatype;
 
-import java.util.*;
-import java.util.Map.Entry;
-
 import edu.uci.python.runtime.exception.*;
 import edu.uci.python.runtime.iterator.*;
 import edu.uci.python.runtime.sequence.*;
@@ -66,22 +63,16 @@ public class PDictView {
         }
     }
 
-    public static final class PDictViewItemsIterator implements PIterator {
-
-        private final Iterator<Entry<Object, Object>> iterator;
+    public static final class PDictViewItemsIterator extends PDictIterator {
 
         public PDictViewItemsIterator(PDict dict) {
-            iterator = dict.getMap().entrySet().iterator();
+            super(dict.getStorage());
         }
 
         @Override
         public Object __next__() throws StopIterationException {
-            if (iterator.hasNext()) {
-                Entry<Object, Object> entry = iterator.next();
-                return new PTuple(new Object[]{entry.getKey(), entry.getValue()});
-            }
-
-            throw StopIterationException.INSTANCE;
+            final int entry = advance();
+            return new PTuple(new Object[]{store.keyAt(entry), store.valueAt(entry)});
         }
     }
 
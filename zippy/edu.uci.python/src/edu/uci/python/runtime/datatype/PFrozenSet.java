@@ -51,11 +51,36 @@ public class PFrozenSet extends PBaseSet {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public void intersectionUpdate(PBaseSet other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void intersectionUpdate(PIterator iterator) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public void differenceUpdate(PBaseSet other) {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public void differenceUpdate(PIterator iterator) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void symmetricDifferenceUpdate(PBaseSet other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void symmetricDifferenceUpdate(PIterator iterator) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     protected PBaseSet cloneThisSet() {
         return new PFrozenSet(this);
@@ -34,18 +34,30 @@ public final class PInt extends PythonBuiltinObject {
 
     public static final PythonBuiltinClass __class__ = PythonContext.getBuiltinTypeFor(PInt.class);
 
-    private final BigInteger value;
+    /**
+     * Values that fit in 64 bits are kept in {@code value}; {@code bigValue} is only set for larger
+     * ones.
+     */
+    private final long value;
+    private final BigInteger bigValue;
 
     public PInt(int value) {
-        this.value = BigInteger.valueOf(value);
+        this((long) value);
     }
 
-    public PInt(BigInteger value) {
+    public PInt(long value) {
         this.value = value;
+        this.bigValue = null;
     }
 
-    public PInt(long value) {
-        this.value = BigInteger.valueOf(value);
+    public PInt(BigInteger value) {
+        if (value.bitLength() < Long.SIZE) {
+            this.value = value.longValue();
+            this.bigValue = null;
+        } else {
+            this.value = 0;
+            this.bigValue = value;
+        }
     }
 
     @Override
@@ -53,8 +65,17 @@ public final class PInt extends PythonBuiltinObject {
         return __class__;
     }
 
-    public BigInteger getValue() {
+    public boolean fitsInLong() {
+        return bigValue == null;
+    }
+
+    public long longValue() {
+        assert fitsInLong();
         return value;
     }
 
+    public BigInteger getValue() {
+        return bigValue != null ? bigValue : BigInteger.valueOf(value);
+    }
+
 }
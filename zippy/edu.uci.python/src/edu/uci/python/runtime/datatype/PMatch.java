@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.datatype;
+
+import java.util.*;
+import java.util.regex.*;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+import edu.uci.python.runtime.*;
+import edu.uci.python.runtime.builtin.*;
+import edu.uci.python.runtime.sequence.*;
+import edu.uci.python.runtime.standardtype.*;
+
+/**
+ * The result of a successful match. Only the group offsets are recorded; group texts are cut out
+ * of the searched string when they are asked for.
+ */
+public final class PMatch extends PythonBuiltinObject {
+
+    public static final PythonBuiltinClass __class__ = PythonContext.getBuiltinTypeFor(PMatch.class);
+
+    private final PPattern pattern;
+    private final String string;
+    private final int pos;
+    private final int endpos;
+    private final int[] offsets;
+
+    public PMatch(PPattern pattern, String string, int pos, int endpos, Matcher matcher) {
+        this.pattern = pattern;
+        this.string = string;
+        this.pos = pos;
+        this.endpos = endpos;
+        int groups = pattern.getGroups();
+        this.offsets = new int[(groups + 1) * 2];
+        for (int i = 0; i <= groups; i++) {
+            offsets[i * 2] = matcher.start(i);
+            offsets[i * 2 + 1] = matcher.end(i);
+        }
+    }
+
+    public PPattern getPattern() {
+        return pattern;
+    }
+
+    public String getString() {
+        return string;
+    }
+
+    public int getPos() {
+        return pos;
+    }
+
+    public int getEndpos() {
+        return endpos;
+    }
+
+    public Object group(Object group) {
+        return groupOrDefault(pattern.getGroupIndex(group), PNone.NONE);
+    }
+
+    private Object groupOrDefault(int index, Object defaultValue) {
+        int start = offsets[index * 2];
+        return start < 0 ? defaultValue : string.substring(start, offsets[index * 2 + 1]);
+    }
+
+    void appendGroup(StringBuilder sb, int index) {
+        int start = offsets[index * 2];
+        if (start >= 0) {
+            sb.append(string, start, offsets[index * 2 + 1]);
+        }
+    }
+
+    public PTuple groups(Object defaultValue) {
+        Object[] items = new Object[pattern.getGroups()];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = groupOrDefault(i + 1, defaultValue);
+        }
+        return new PTuple(items);
+    }
+
+    @TruffleBoundary
+    public PDict groupdict(Object defaultValue) {
+        PDict dict = new PDict();
+        for (Map.Entry<String, Integer> entry : pattern.getNamedGroups().entrySet()) {
+            dict.setItem(entry.getKey(), groupOrDefault(entry.getValue(), defaultValue));
+        }
+        return dict;
+    }
+
+    public int start(Object group) {
+        return offsets[pattern.getGroupIndex(group) * 2];
+    }
+
+    public int end(Object group) {
+        return offsets[pattern.getGroupIndex(group) * 2 + 1];
+    }
+
+    public PTuple span(Object group) {
+        int index = pattern.getGroupIndex(group);
+        return new PTuple(new Object[]{offsets[index * 2], offsets[index * 2 + 1]});
+    }
+
+    @Override
+    public PythonBuiltinClass __class__() {
+        return __class__;
+    }
+
+    @Override
+    public String toString() {
+        return "<_sre.SRE_Match object; span=(" + offsets[0] + ", " + offsets[1] + "), match='" + string.substring(offsets[0], offsets[1]) + "'>";
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.datatype;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+import edu.uci.python.runtime.*;
+import edu.uci.python.runtime.builtin.*;
+import edu.uci.python.runtime.datatype.storage.*;
+import edu.uci.python.runtime.exception.*;
+import edu.uci.python.runtime.sequence.*;
+
+/**
+ * collections.OrderedDict. Dictionary storages already keep insertion order, so this only adds the
+ * order aware operations and an order sensitive comparison between ordered dictionaries.
+ */
+public final class POrderedDict extends PDict {
+
+    public static final PythonBuiltinClass __class__ = PythonContext.getBuiltinTypeFor(POrderedDict.class);
+
+    public POrderedDict() {
+    }
+
+    private POrderedDict(DictStorage store) {
+        super(store);
+    }
+
+    @Override
+    public PythonBuiltinClass __class__() {
+        return __class__;
+    }
+
+    /**
+     * Moving a key to the front has no cheaper form on an insertion ordered storage than
+     * reinserting the remaining entries after it.
+     */
+    public void moveToEnd(Object key, boolean last) {
+        final Object value = removeItem(key);
+
+        if (value == null) {
+            throw PythonError.KeyError(String.valueOf(key));
+        }
+
+        if (last) {
+            setItem(key, value);
+            return;
+        }
+
+        final DictStorage rest = getStorage().copy();
+        clear();
+        setItem(key, value);
+
+        for (int i = rest.nextEntry(0); i >= 0; i = rest.nextEntry(i + 1)) {
+            setItem(rest.keyAt(i), rest.valueAt(i));
+        }
+    }
+
+    /**
+     * Removes and returns the last entry, or the first one if last is false. Returns null if the
+     * dictionary is empty.
+     */
+    public PTuple popItem(boolean last) {
+        if (last) {
+            return popItem();
+        }
+
+        final DictStorage store = getStorage();
+        final int first = store.nextEntry(0);
+
+        if (first < 0) {
+            return null;
+        }
+
+        final Object key = store.keyAt(first);
+        final Object value = store.valueAt(first);
+        removeItem(key);
+        return new PTuple(new Object[]{key, value});
+    }
+
+    @Override
+    public POrderedDict copy() {
+        return new POrderedDict(getStorage().copy());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof POrderedDict)) {
+            return super.equals(other);
+        }
+
+        final DictStorage store = getStorage();
+        final DictStorage otherStore = ((POrderedDict) other).getStorage();
+
+        if (store.length() != otherStore.length()) {
+            return false;
+        }
+
+        for (int i = store.nextEntry(0), j = otherStore.nextEntry(0); i >= 0; i = store.nextEntry(i + 1), j = otherStore.nextEntry(j + 1)) {
+            if (!store.keyAt(i).equals(otherStore.keyAt(j)) || !store.valueAt(i).equals(otherStore.valueAt(j))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    @Override
+    @TruffleBoundary
+    public String toString() {
+        if (len() == 0) {
+            return "OrderedDict()";
+        }
+
+        StringBuilder buf = new StringBuilder("OrderedDict([");
+        final DictStorage store = getStorage();
+
+        for (int i = store.nextEntry(0); i >= 0;) {
+            buf.append("(" + PSequence.toString(store.keyAt(i)) + ", " + PSequence.toString(store.valueAt(i)) + ")");
+            i = store.nextEntry(i + 1);
+
+            if (i >= 0) {
+                buf.append(", ");
+            }
+        }
+
+        buf.append("])");
+        return buf.toString();
+    }
+
+}
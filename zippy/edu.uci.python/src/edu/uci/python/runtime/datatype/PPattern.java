@@ -0,0 +1,710 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.datatype;
+
+import java.util.*;
+import java.util.regex.*;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+import edu.uci.python.runtime.*;
+import edu.uci.python.runtime.builtin.*;
+import edu.uci.python.runtime.exception.*;
+import edu.uci.python.runtime.function.*;
+import edu.uci.python.runtime.iterator.*;
+import edu.uci.python.runtime.sequence.*;
+import edu.uci.python.runtime.standardtype.*;
+
+/**
+ * A compiled regular expression of the native re module.
+ * <p>
+ * Python patterns are translated once into {@link java.util.regex.Pattern} syntax and kept in a
+ * bounded LRU cache, so repeated calls to the module level functions with the same pattern and
+ * flags do not compile again. Named groups are turned into plain capturing groups; the name to
+ * index mapping is kept here.
+ */
+public final class PPattern extends PythonBuiltinObject {
+
+    public static final PythonBuiltinClass __class__ = PythonContext.getBuiltinTypeFor(PPattern.class);
+
+    public static final int IGNORECASE = 2;
+    public static final int LOCALE = 4;
+    public static final int MULTILINE = 8;
+    public static final int DOTALL = 16;
+    public static final int UNICODE = 32;
+    public static final int VERBOSE = 64;
+    public static final int ASCII = 256;
+
+    private static final int MAX_CACHE_SIZE = 512;
+
+    @SuppressWarnings("serial") private static final Map<String, PPattern> cache = new LinkedHashMap<String, PPattern>(64, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PPattern> eldest) {
+            return size() > MAX_CACHE_SIZE;
+        }
+    };
+
+    private final String pattern;
+    private final int flags;
+    private final Pattern compiled;
+    private final int groups;
+    private final Map<String, Integer> groupIndex;
+
+    private PPattern(String pattern, int flags, Pattern compiled, int groups, Map<String, Integer> groupIndex) {
+        this.pattern = pattern;
+        this.flags = flags;
+        this.compiled = compiled;
+        this.groups = groups;
+        this.groupIndex = groupIndex;
+    }
+
+    @TruffleBoundary
+    public static PPattern compile(String pattern, int flags) {
+        String key = flags + ":" + pattern;
+        synchronized (cache) {
+            PPattern cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        Map<String, Integer> names = new HashMap<>();
+        String translated = new Translator(pattern, flags, names).translate();
+        Pattern compiled;
+        try {
+            compiled = Pattern.compile(translated, toJavaFlags(flags));
+        } catch (PatternSyntaxException e) {
+            throw PythonError.ValueError(e.getDescription() + " in regular expression " + pattern);
+        }
+
+        PPattern result = new PPattern(pattern, flags, compiled, compiled.matcher("").groupCount(), Collections.unmodifiableMap(names));
+        synchronized (cache) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    @TruffleBoundary
+    public static void purge() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private static int toJavaFlags(int flags) {
+        boolean ascii = (flags & ASCII) != 0;
+        int javaFlags = Pattern.UNIX_LINES;
+        if (!ascii) {
+            javaFlags |= Pattern.UNICODE_CHARACTER_CLASS;
+        }
+        if ((flags & IGNORECASE) != 0) {
+            javaFlags |= ascii ? Pattern.CASE_INSENSITIVE : Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+        }
+        if ((flags & MULTILINE) != 0) {
+            javaFlags |= Pattern.MULTILINE;
+        }
+        if ((flags & DOTALL) != 0) {
+            javaFlags |= Pattern.DOTALL;
+        }
+        if ((flags & VERBOSE) != 0) {
+            javaFlags |= Pattern.COMMENTS;
+        }
+        return javaFlags;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public int getFlags() {
+        return flags;
+    }
+
+    public int getGroups() {
+        return groups;
+    }
+
+    public int getGroupIndex(Object group) {
+        int index;
+        if (group instanceof Integer) {
+            index = (int) group;
+        } else if (group instanceof Boolean) {
+            index = (boolean) group ? 1 : 0;
+        } else if (group instanceof String || group instanceof PString) {
+            Integer named = groupIndex.get(group.toString());
+            if (named == null) {
+                throw PythonError.IndexError("no such group");
+            }
+            index = named;
+        } else {
+            throw PythonError.IndexError("no such group");
+        }
+
+        if (index < 0 || index > groups) {
+            throw PythonError.IndexError("no such group");
+        }
+        return index;
+    }
+
+    Map<String, Integer> getNamedGroups() {
+        return groupIndex;
+    }
+
+    public Matcher matcher(String string, int pos, int endpos) {
+        Matcher matcher = compiled.matcher(string);
+        int length = string.length();
+        int start = Math.min(Math.max(pos, 0), length);
+        int end = Math.min(Math.max(endpos, start), length);
+        if (start != 0 || end != length) {
+            matcher.region(start, end);
+            matcher.useAnchoringBounds(false);
+            matcher.useTransparentBounds(true);
+        }
+        return matcher;
+    }
+
+    @TruffleBoundary
+    public Object match(String string, int pos, int endpos) {
+        Matcher matcher = matcher(string, pos, endpos);
+        return matcher.lookingAt() ? new PMatch(this, string, pos, endpos, matcher) : PNone.NONE;
+    }
+
+    @TruffleBoundary
+    public Object search(String string, int pos, int endpos) {
+        Matcher matcher = matcher(string, pos, endpos);
+        return matcher.find() ? new PMatch(this, string, pos, endpos, matcher) : PNone.NONE;
+    }
+
+    @TruffleBoundary
+    public Object fullmatch(String string, int pos, int endpos) {
+        Matcher matcher = matcher(string, pos, endpos);
+        return matcher.matches() ? new PMatch(this, string, pos, endpos, matcher) : PNone.NONE;
+    }
+
+    /**
+     * Matches are streamed from the matcher; only the group texts end up in the result.
+     */
+    @TruffleBoundary
+    public PList findall(String string, int pos, int endpos) {
+        Matcher matcher = matcher(string, pos, endpos);
+        PList result = new PList();
+        while (matcher.find()) {
+            if (groups == 0) {
+                result.append(matcher.group());
+            } else if (groups == 1) {
+                result.append(groupOrEmpty(matcher, 1));
+            } else {
+                Object[] items = new Object[groups];
+                for (int i = 0; i < groups; i++) {
+                    items[i] = groupOrEmpty(matcher, i + 1);
+                }
+                result.append(new PTuple(items));
+            }
+        }
+        return result;
+    }
+
+    private static String groupOrEmpty(Matcher matcher, int group) {
+        String text = matcher.group(group);
+        return text == null ? "" : text;
+    }
+
+    public PIterator finditer(String string, int pos, int endpos) {
+        return new PMatchIterator(this, string, pos, endpos);
+    }
+
+    @TruffleBoundary
+    public PList split(String string, int maxsplit) {
+        Matcher matcher = compiled.matcher(string);
+        PList result = new PList();
+        int last = 0;
+        int splits = 0;
+        while ((maxsplit <= 0 || splits < maxsplit) && matcher.find()) {
+            if (matcher.start() == matcher.end()) {
+                // empty matches never split
+                continue;
+            }
+            result.append(string.substring(last, matcher.start()));
+            for (int i = 1; i <= groups; i++) {
+                String text = matcher.group(i);
+                result.append(text == null ? PNone.NONE : text);
+            }
+            last = matcher.end();
+            splits++;
+        }
+        result.append(string.substring(last));
+        return result;
+    }
+
+    /**
+     * Returns the substituted string and the number of substitutions. The result is assembled in
+     * a single buffer straight from slices of the input, without going through
+     * {@link Matcher#appendReplacement}, since Python templates use a different syntax.
+     */
+    @TruffleBoundary
+    public PTuple subn(Object repl, String string, int count) {
+        Matcher matcher = compiled.matcher(string);
+        StringBuilder sb = null;
+        int last = 0;
+        int n = 0;
+        Template template = repl instanceof PythonCallable ? null : new Template(this, repl.toString());
+
+        while ((count <= 0 || n < count) && matcher.find()) {
+            if (sb == null) {
+                sb = new StringBuilder(string.length() + 16);
+            }
+            sb.append(string, last, matcher.start());
+            if (template != null) {
+                template.expand(sb, string, matcher);
+            } else {
+                Object replacement = ((PythonCallable) repl).call(PArguments.createWithUserArguments(new PMatch(this, string, 0, string.length(), matcher)));
+                sb.append(replacement.toString());
+            }
+            last = matcher.end();
+            n++;
+        }
+
+        if (sb == null) {
+            return new PTuple(new Object[]{string, 0});
+        }
+        sb.append(string, last, string.length());
+        return new PTuple(new Object[]{sb.toString(), n});
+    }
+
+    @TruffleBoundary
+    public String expand(PMatch match, String template) {
+        StringBuilder sb = new StringBuilder();
+        new Template(this, template).expand(sb, match);
+        return sb.toString();
+    }
+
+    @TruffleBoundary
+    public static String escape(String string) {
+        StringBuilder sb = new StringBuilder(string.length() * 2);
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_') {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public PythonBuiltinClass __class__() {
+        return __class__;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof PPattern)) {
+            return false;
+        }
+        PPattern that = (PPattern) other;
+        return flags == that.flags && pattern.equals(that.pattern);
+    }
+
+    @Override
+    public int hashCode() {
+        return pattern.hashCode() ^ flags;
+    }
+
+    @Override
+    public String toString() {
+        return "re.compile('" + pattern + "')";
+    }
+
+    /**
+     * A parsed replacement template. Literal runs and group references are resolved once per
+     * call to sub, not once per match.
+     */
+    private static final class Template {
+
+        private final String[] literals;
+        private final int[] groups;
+
+        Template(PPattern pattern, String template) {
+            List<String> literalList = new ArrayList<>();
+            List<Integer> groupList = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+            int i = 0;
+            while (i < template.length()) {
+                char c = template.charAt(i++);
+                if (c != '\\' || i == template.length()) {
+                    literal.append(c);
+                    continue;
+                }
+
+                char next = template.charAt(i++);
+                int group = -1;
+                if (next == 'g' && i < template.length() && template.charAt(i) == '<') {
+                    int close = template.indexOf('>', i);
+                    if (close < 0) {
+                        throw PythonError.ValueError("missing >, unterminated name");
+                    }
+                    String name = template.substring(i + 1, close);
+                    i = close + 1;
+                    group = isDigits(name) ? pattern.getGroupIndex(Integer.parseInt(name)) : pattern.getGroupIndex(name);
+                } else if (next >= '1' && next <= '9') {
+                    int value = next - '0';
+                    if (i < template.length() && Character.isDigit(template.charAt(i))) {
+                        value = value * 10 + (template.charAt(i++) - '0');
+                    }
+                    group = pattern.getGroupIndex(value);
+                } else if (next == '0') {
+                    int value = 0;
+                    for (int k = 0; k < 2 && i < template.length() && template.charAt(i) >= '0' && template.charAt(i) <= '7'; k++) {
+                        value = value * 8 + (template.charAt(i++) - '0');
+                    }
+                    literal.append((char) value);
+                } else {
+                    char unescaped = unescape(next);
+                    if (unescaped != 0) {
+                        literal.append(unescaped);
+                    } else {
+                        literal.append('\\').append(next);
+                    }
+                }
+
+                if (group >= 0) {
+                    literalList.add(literal.toString());
+                    groupList.add(group);
+                    literal.setLength(0);
+                }
+            }
+            literalList.add(literal.toString());
+
+            this.literals = literalList.toArray(new String[literalList.size()]);
+            this.groups = new int[groupList.size()];
+            for (int k = 0; k < groups.length; k++) {
+                groups[k] = groupList.get(k);
+            }
+        }
+
+        private static boolean isDigits(String name) {
+            if (name.isEmpty()) {
+                return false;
+            }
+            for (int i = 0; i < name.length(); i++) {
+                if (!Character.isDigit(name.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static char unescape(char c) {
+            switch (c) {
+                case 'n':
+                    return '\n';
+                case 't':
+                    return '\t';
+                case 'r':
+                    return '\r';
+                case 'f':
+                    return '\f';
+                case 'v':
+                    return '\u000b';
+                case 'a':
+                    return '\u0007';
+                case 'b':
+                    return '\b';
+                case '\\':
+                    return '\\';
+                default:
+                    return 0;
+            }
+        }
+
+        void expand(StringBuilder sb, String string, Matcher matcher) {
+            for (int k = 0; k < groups.length; k++) {
+                sb.append(literals[k]);
+                int start = matcher.start(groups[k]);
+                if (start >= 0) {
+                    sb.append(string, start, matcher.end(groups[k]));
+                }
+            }
+            sb.append(literals[groups.length]);
+        }
+
+        void expand(StringBuilder sb, PMatch match) {
+            for (int k = 0; k < groups.length; k++) {
+                sb.append(literals[k]);
+                match.appendGroup(sb, groups[k]);
+            }
+            sb.append(literals[groups.length]);
+        }
+    }
+
+    /**
+     * Rewrites the parts of Python's regular expression syntax that java.util.regex either does
+     * not know or reads differently.
+     */
+    private static final class Translator {
+
+        private final String source;
+        private final Map<String, Integer> names;
+        private final StringBuilder out;
+        private boolean verbose;
+        private int groupCount;
+        private int pos;
+
+        Translator(String source, int flags, Map<String, Integer> names) {
+            this.source = source;
+            this.names = names;
+            this.out = new StringBuilder(source.length() + 16);
+            this.verbose = (flags & VERBOSE) != 0;
+        }
+
+        String translate() {
+            while (pos < source.length()) {
+                char c = source.charAt(pos++);
+                switch (c) {
+                    case '\\':
+                        translateEscape(false);
+                        break;
+                    case '[':
+                        translateClass();
+                        break;
+                    case '(':
+                        translateGroup();
+                        break;
+                    case '{':
+                        if (!isQuantifier()) {
+                            out.append("\\{");
+                        } else if (source.charAt(pos) == ',') {
+                            out.append("{0");
+                        } else {
+                            out.append('{');
+                        }
+                        break;
+                    case '#':
+                        if (verbose) {
+                            int end = source.indexOf('\n', pos);
+                            end = end < 0 ? source.length() : end;
+                            out.append('#').append(source, pos, end);
+                            pos = end;
+                        } else {
+                            out.append(c);
+                        }
+                        break;
+                    default:
+                        out.append(c);
+                }
+            }
+            return out.toString();
+        }
+
+        /**
+         * Checks whether the '{' just consumed opens {m}, {m,}, {,n} or {m,n}.
+         */
+        private boolean isQuantifier() {
+            int close = source.indexOf('}', pos);
+            if (close < 0) {
+                return false;
+            }
+            String body = source.substring(pos, close);
+            return body.matches("\\d+|\\d+,\\d*|,\\d+");
+        }
+
+        private void translateEscape(boolean inClass) {
+            if (pos >= source.length()) {
+                throw PythonError.ValueError("bogus escape (end of line)");
+            }
+            char c = source.charAt(pos++);
+            switch (c) {
+                case 'Z':
+                    out.append(inClass ? "Z" : "\\z");
+                    break;
+                case 'b':
+                    out.append(inClass ? "\\x08" : "\\b");
+                    break;
+                case 'U':
+                    appendCodePoint(parseHex(8));
+                    break;
+                case 'u':
+                    appendCodePoint(parseHex(4));
+                    break;
+                case 'x':
+                    appendCodePoint(parseHex(2));
+                    break;
+                case '0':
+                    appendCodePoint(parseOctal(0));
+                    break;
+                default:
+                    if (c >= '1' && c <= '9') {
+                        if (inClass) {
+                            appendCodePoint(parseOctal(c - '0'));
+                        } else {
+                            int group = c - '0';
+                            if (pos < source.length() && Character.isDigit(source.charAt(pos))) {
+                                group = group * 10 + (source.charAt(pos++) - '0');
+                            }
+                            out.append("(?:\\").append(group).append(')');
+                        }
+                    } else if (Character.isLetterOrDigit(c) && "AbBdDsSwWafnrtv".indexOf(c) < 0) {
+                        throw PythonError.ValueError("bad escape \\" + c);
+                    } else if (c == 'v') {
+                        out.append("\\x0B");
+                    } else {
+                        out.append('\\').append(c);
+                    }
+            }
+        }
+
+        private int parseHex(int digits) {
+            if (pos + digits > source.length()) {
+                throw PythonError.ValueError("incomplete escape in regular expression");
+            }
+            try {
+                int value = Integer.parseInt(source.substring(pos, pos + digits), 16);
+                pos += digits;
+                return value;
+            } catch (NumberFormatException e) {
+                throw PythonError.ValueError("incomplete escape in regular expression");
+            }
+        }
+
+        private int parseOctal(int first) {
+            int value = first;
+            for (int i = 0; i < 2 && pos < source.length() && source.charAt(pos) >= '0' && source.charAt(pos) <= '7'; i++) {
+                value = value * 8 + (source.charAt(pos++) - '0');
+            }
+            return value;
+        }
+
+        private void appendCodePoint(int codePoint) {
+            out.append("\\x{").append(Integer.toHexString(codePoint)).append('}');
+        }
+
+        private void translateClass() {
+            out.append('[');
+            if (pos < source.length() && source.charAt(pos) == '^') {
+                out.append('^');
+                pos++;
+            }
+            if (pos < source.length() && source.charAt(pos) == ']') {
+                out.append("\\]");
+                pos++;
+            }
+
+            while (pos < source.length()) {
+                char c = source.charAt(pos++);
+                if (c == ']') {
+                    out.append(']');
+                    return;
+                } else if (c == '\\') {
+                    translateEscape(true);
+                } else if (c == '[' || (c == '&' && pos < source.length() && source.charAt(pos) == '&')) {
+                    out.append('\\').append(c);
+                } else if (verbose && (c == '#' || Character.isWhitespace(c))) {
+                    appendCodePoint(c);
+                } else {
+                    out.append(c);
+                }
+            }
+            throw PythonError.ValueError("unterminated character set");
+        }
+
+        private void translateGroup() {
+            if (pos >= source.length() || source.charAt(pos) != '?') {
+                groupCount++;
+                out.append('(');
+                return;
+            }
+
+            if (source.startsWith("?P<", pos)) {
+                int close = source.indexOf('>', pos);
+                if (close < 0) {
+                    throw PythonError.ValueError("missing >, unterminated name");
+                }
+                String name = source.substring(pos + 3, close);
+                groupCount++;
+                if (names.put(name, groupCount) != null) {
+                    throw PythonError.ValueError("redefinition of group name '" + name + "'");
+                }
+                pos = close + 1;
+                out.append('(');
+            } else if (source.startsWith("?P=", pos)) {
+                int close = source.indexOf(')', pos);
+                if (close < 0) {
+                    throw PythonError.ValueError("missing ), unterminated name");
+                }
+                String name = source.substring(pos + 3, close);
+                Integer group = names.get(name);
+                if (group == null) {
+                    throw PythonError.ValueError("unknown group name '" + name + "'");
+                }
+                pos = close + 1;
+                out.append("(?:\\").append(group).append(')');
+            } else if (source.startsWith("?#", pos)) {
+                int close = source.indexOf(')', pos);
+                if (close < 0) {
+                    throw PythonError.ValueError("missing ), unterminated comment");
+                }
+                pos = close + 1;
+            } else {
+                translateInlineFlags();
+            }
+        }
+
+        /**
+         * Drops the a, L and u flags, which have no java.util.regex counterpart, from (?flags) and
+         * (?flags:...). Everything else starting with "(?" is passed through.
+         */
+        private void translateInlineFlags() {
+            int end = pos + 1;
+            while (end < source.length() && "aiLmsux-".indexOf(source.charAt(end)) >= 0) {
+                end++;
+            }
+            if (end == pos + 1 || end >= source.length() || (source.charAt(end) != ')' && source.charAt(end) != ':')) {
+                out.append('(');
+                return;
+            }
+
+            StringBuilder kept = new StringBuilder();
+            for (int i = pos + 1; i < end; i++) {
+                char flag = source.charAt(i);
+                if (flag == 'x' && source.charAt(end) == ')') {
+                    verbose = true;
+                }
+                if ("aLu".indexOf(flag) < 0) {
+                    kept.append(flag);
+                }
+            }
+
+            boolean global = source.charAt(end) == ')';
+            pos = end + 1;
+            if (kept.length() == 0 || kept.toString().equals("-")) {
+                out.append(global ? "" : "(?:");
+            } else {
+                out.append("(?").append(kept).append(global ? ')' : ':');
+            }
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.datatype.storage;
+
+import java.util.*;
+
+/**
+ * Common index table of the hashed dictionary storages.
+ * <p>
+ * Follows the compact layout of CPython 3.6: a sparse <code>indices</code> table of power of two
+ * size maps hash slots to positions in dense entry arrays owned by the subclass. Entries are
+ * appended in insertion order, so iteration simply walks the dense arrays. A deleted entry stays
+ * in the dense arrays until the next resize squeezes it out.
+ */
+public abstract class BasicDictStorage extends DictStorage {
+
+    protected static final int EMPTY = -1;
+    protected static final int DUMMY = -2;
+    protected static final int MIN_SIZE = 8;
+    protected static final int PERTURB_SHIFT = 5;
+
+    protected int[] indices;
+
+    // dense entries in use, including deleted ones
+    protected int used;
+
+    // live entries
+    protected int size;
+
+    @Override
+    public final int length() {
+        return size;
+    }
+
+    protected static int tableSizeFor(int expectedSize) {
+        int tableSize = MIN_SIZE;
+
+        // Keep the load factor under 2/3.
+        while (tableSize * 2 <= expectedSize * 3) {
+            tableSize <<= 1;
+        }
+
+        return tableSize;
+    }
+
+    protected static int usableFor(int tableSize) {
+        return (tableSize << 1) / 3;
+    }
+
+    protected final void allocateIndices(int tableSize) {
+        indices = new int[tableSize];
+        Arrays.fill(indices, EMPTY);
+        used = 0;
+        size = 0;
+    }
+
+    protected final int findFreeSlot(int hash) {
+        final int mask = indices.length - 1;
+        int slot = hash & mask;
+        int perturb = hash;
+
+        while (indices[slot] >= 0) {
+            perturb >>>= PERTURB_SHIFT;
+            slot = (5 * slot + 1 + perturb) & mask;
+        }
+
+        return slot;
+    }
+
+    /**
+     * Unlinks the entry referenced by slot. The subclass clears the dense entry itself.
+     */
+    protected final int releaseSlot(int slot) {
+        final int entry = indices[slot];
+        indices[slot] = DUMMY;
+        size--;
+        return entry;
+    }
+
+    protected abstract boolean isLiveEntry(int entry);
+
+    @Override
+    public final int nextEntry(int index) {
+        for (int i = index; i < used; i++) {
+            if (isLiveEntry(i)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public final int lastEntry() {
+        for (int i = used - 1; i >= 0; i--) {
+            if (isLiveEntry(i)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.datatype.storage;
+
+/**
+ * A ring buffer holding the elements of a deque. The capacity is always a power of two, so a
+ * logical index maps to its slot with a mask. Appending or popping at either end moves the head or
+ * the length and never shifts elements.
+ */
+public abstract class DequeStorage {
+
+    protected static final int INITIAL_CAPACITY = 8;
+
+    // Slot of the first element
+    protected int head;
+    protected int length;
+
+    public final int length() {
+        return length;
+    }
+
+    protected abstract int capacity();
+
+    /**
+     * Moves the elements in order to the start of a new array of the given capacity.
+     */
+    protected abstract void resize(int newCapacity);
+
+    protected abstract void moveSlot(int from, int to);
+
+    protected abstract void clearSlot(int slot);
+
+    protected final int slot(int index) {
+        return (head + index) & (capacity() - 1);
+    }
+
+    protected final int reserveLast() {
+        if (length == capacity()) {
+            resize(capacity() * 2);
+        }
+
+        return slot(length++);
+    }
+
+    protected final int reserveFirst() {
+        if (length == capacity()) {
+            resize(capacity() * 2);
+        }
+
+        head = (head - 1) & (capacity() - 1);
+        length++;
+        return head;
+    }
+
+    public abstract Object getItem(int index);
+
+    public abstract void setItem(int index, Object value) throws DequeStoreException;
+
+    public abstract void append(Object value) throws DequeStoreException;
+
+    public abstract void appendLeft(Object value) throws DequeStoreException;
+
+    public final Object pop() {
+        final int last = slot(length - 1);
+        final Object value = getItem(length - 1);
+        clearSlot(last);
+        length--;
+        return value;
+    }
+
+    public final Object popLeft() {
+        final Object value = getItem(0);
+        clearSlot(head);
+        head = (head + 1) & (capacity() - 1);
+        length--;
+        return value;
+    }
+
+    /**
+     * Removes the element at index, shifting whichever side of it is shorter.
+     */
+    public final void delItem(int index) {
+        if (index < length / 2) {
+            for (int i = index; i > 0; i--) {
+                moveSlot(slot(i - 1), slot(i));
+            }
+
+            clearSlot(head);
+            head = (head + 1) & (capacity() - 1);
+        } else {
+            for (int i = index; i < length - 1; i++) {
+                moveSlot(slot(i + 1), slot(i));
+            }
+
+            clearSlot(slot(length - 1));
+        }
+
+        length--;
+    }
+
+    /**
+     * Rotates n steps to the right, where 0 <= n < length. Each step moves one element from one
+     * end to the other, taking the shorter direction.
+     */
+    public final void rotate(int n) {
+        if (n <= length / 2) {
+            for (int i = 0; i < n; i++) {
+                final int last = slot(length - 1);
+                head = (head - 1) & (capacity() - 1);
+                moveSlot(last, head);
+                if (last != head) {
+                    clearSlot(last);
+                }
+            }
+        } else {
+            for (int i = 0; i < length - n; i++) {
+                final int first = head;
+                final int end = slot(length);
+                moveSlot(first, end);
+                head = (head + 1) & (capacity() - 1);
+                if (first != end) {
+                    clearSlot(first);
+                }
+            }
+        }
+    }
+
+    public final void reverse() {
+        for (int i = 0, j = length - 1; i < j; i++, j--) {
+            swapSlots(slot(i), slot(j));
+        }
+    }
+
+    protected abstract void swapSlots(int first, int second);
+
+    public abstract void clear();
+
+    public abstract DequeStorage copy();
+
+    public abstract DequeStorage generalizeFor(Object value);
+
+    protected final ObjectDequeStorage generalizeToObjects() {
+        final Object[] values = new Object[Math.max(INITIAL_CAPACITY, Integer.highestOneBit(length) * 2)];
+
+        for (int i = 0; i < length; i++) {
+            values[i] = getItem(i);
+        }
+
+        return new ObjectDequeStorage(values, length);
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.datatype.storage;
+
+import edu.uci.python.runtime.datatype.*;
+
+public abstract class DictStorage {
+
+    public abstract int length();
+
+    public abstract DictStorage copy();
+
+    /**
+     * Returns the value mapped to key, or null if there is no such entry.
+     */
+    public abstract Object getItem(Object key);
+
+    public Object getIntItem(int key) {
+        return getItem(key);
+    }
+
+    public Object getStringItem(String key) {
+        return getItem(key);
+    }
+
+    public abstract void setItem(Object key, Object value) throws DictStoreException;
+
+    public void setStringItem(String key, Object value) throws DictStoreException {
+        setItem(key, value);
+    }
+
+    /**
+     * Removes the entry for key and returns its value, or null if there is no such entry.
+     */
+    public abstract Object removeItem(Object key);
+
+    public abstract boolean hasKey(Object key);
+
+    /**
+     * Returns the position of the first entry at or after index in insertion order, or -1.
+     */
+    public abstract int nextEntry(int index);
+
+    /**
+     * Returns the position of the most recently inserted entry, or -1 if the storage is empty.
+     */
+    public abstract int lastEntry();
+
+    public abstract Object keyAt(int index);
+
+    public abstract Object valueAt(int index);
+
+    public abstract DictStorage generalizeFor(Object key, Object value);
+
+    public boolean equals(DictStorage other) {
+        if (length() != other.length()) {
+            return false;
+        }
+
+        for (int i = nextEntry(0); i >= 0; i = nextEntry(i + 1)) {
+            final Object otherValue = other.getItem(keyAt(i));
+
+            if (otherValue == null || !HashingUtil.keyEquals(valueAt(i), otherValue)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.datatype.storage;
+
+import edu.uci.python.runtime.*;
+import edu.uci.python.runtime.sequence.*;
+
+public final class EmptyDictStorage extends DictStorage {
+
+    public static final EmptyDictStorage INSTANCE = new EmptyDictStorage();
+    private final PythonOptions options;
+
+    private EmptyDictStorage() {
+        this.options = new PythonOptions();
+    }
+
+    @Override
+    public DictStorage generalizeFor(Object key, Object value) {
+        if (!options.UnboxDictStorage) {
+            return new ObjectDictStorage();
+        }
+
+        if (key instanceof Integer && value instanceof Integer) {
+            return new IntDictStorage();
+        } else if (key instanceof String || key instanceof PString) {
+            return new StringDictStorage();
+        } else {
+            return new ObjectDictStorage();
+        }
+    }
+
+    @Override
+    public int length() {
+        return 0;
+    }
+
+    @Override
+    public DictStorage copy() {
+        return this;
+    }
+
+    @Override
+    public Object getItem(Object key) {
+        return null;
+    }
+
+    @Override
+    public void setItem(Object key, Object value) throws DictStoreException {
+        throw DictStoreException.INSTANCE;
+    }
+
+    @Override
+    public Object removeItem(Object key) {
+        return null;
+    }
+
+    @Override
+    public boolean hasKey(Object key) {
+        return false;
+    }
+
+    @Override
+    public int nextEntry(int index) {
+        return -1;
+    }
+
+    @Override
+    public int lastEntry() {
+        return -1;
+    }
+
+    @Override
+    public Object keyAt(int index) {
+        throw new IndexOutOfBoundsException();
+    }
+
+    @Override
+    public Object valueAt(int index) {
+        throw new IndexOutOfBoundsException();
+    }
+
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.datatype.storage;
+
+import edu.uci.python.runtime.datatype.*;
+
+/**
+ * Maps unboxed int keys to unboxed int values, e.g. counters and histograms.
+ */
+public final class IntDictStorage extends BasicDictStorage {
+
+    private int[] keys;
+    private int[] values;
+    private boolean[] removed;
+
+    public IntDictStorage() {
+        this(0);
+    }
+
+    public IntDictStorage(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    private IntDictStorage(IntDictStorage other) {
+        this.indices = other.indices.clone();
+        this.keys = other.keys.clone();
+        this.values = other.values.clone();
+        this.removed = other.removed.clone();
+        this.used = other.used;
+        this.size = other.size;
+    }
+
+    private void allocate(int tableSize) {
+        allocateIndices(tableSize);
+        final int usable = usableFor(tableSize);
+        keys = new int[usable];
+        values = new int[usable];
+        removed = new boolean[usable];
+    }
+
+    @Override
+    protected boolean isLiveEntry(int entry) {
+        return !removed[entry];
+    }
+
+    @Override
+    public DictStorage copy() {
+        return new IntDictStorage(this);
+    }
+
+    public int intKeyAt(int index) {
+        return keys[index];
+    }
+
+    public int intValueAt(int index) {
+        return values[index];
+    }
+
+    @Override
+    public Object keyAt(int index) {
+        return keys[index];
+    }
+
+    @Override
+    public Object valueAt(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns the dense position of the entry for key, or -1 if it is not present.
+     */
+    public int findIntEntry(int key) {
+        final int slot = lookupIntSlot(key);
+        return slot < 0 ? -1 : indices[slot];
+    }
+
+    private int lookupIntSlot(int key) {
+        final int hash = HashingUtil.hashInt(key);
+        final int mask = indices.length - 1;
+        int slot = hash & mask;
+        int perturb = hash;
+
+        while (true) {
+            final int entry = indices[slot];
+
+            if (entry == EMPTY) {
+                return -1;
+            } else if (entry >= 0 && keys[entry] == key) {
+                return slot;
+            }
+
+            perturb >>>= PERTURB_SHIFT;
+            slot = (5 * slot + 1 + perturb) & mask;
+        }
+    }
+
+    /**
+     * Keys of other types can still be equal to an int key, e.g. 1.0 or True. Their hash equals
+     * the int they compare equal to.
+     */
+    private int lookupSlot(Object key) {
+        if (key instanceof Integer) {
+            return lookupIntSlot((int) key);
+        }
+
+        final int hash = HashingUtil.hash(key);
+        final int mask = indices.length - 1;
+        int slot = hash & mask;
+        int perturb = hash;
+
+        while (true) {
+            final int entry = indices[slot];
+
+            if (entry == EMPTY) {
+                return -1;
+            } else if (entry >= 0 && keys[entry] == hash && HashingUtil.keyEquals(keys[entry], key)) {
+                return slot;
+            }
+
+            perturb >>>= PERTURB_SHIFT;
+            slot = (5 * slot + 1 + perturb) & mask;
+        }
+    }
+
+    @Override
+    public Object getItem(Object key) {
+        final int slot = lookupSlot(key);
+        return slot < 0 ? null : values[indices[slot]];
+    }
+
+    @Override
+    public Object getIntItem(int key) {
+        final int slot = lookupIntSlot(key);
+        return slot < 0 ? null : values[indices[slot]];
+    }
+
+    @Override
+    public boolean hasKey(Object key) {
+        return lookupSlot(key) >= 0;
+    }
+
+    @Override
+    public void setItem(Object key, Object value) throws DictStoreException {
+        if (key instanceof Integer && value instanceof Integer) {
+            setIntItem((int) key, (int) value);
+        } else {
+            throw DictStoreException.INSTANCE;
+        }
+    }
+
+    public void setIntItem(int key, int value) {
+        final int slot = lookupIntSlot(key);
+
+        if (slot >= 0) {
+            values[indices[slot]] = value;
+        } else {
+            insert(key, value);
+        }
+    }
+
+    private void insert(int key, int value) {
+        if (used == keys.length) {
+            resize(size + 1);
+        }
+
+        final int entry = used++;
+        keys[entry] = key;
+        values[entry] = value;
+        indices[findFreeSlot(HashingUtil.hashInt(key))] = entry;
+        size++;
+    }
+
+    private void resize(int minSize) {
+        final int[] oldKeys = keys;
+        final int[] oldValues = values;
+        final boolean[] oldRemoved = removed;
+        final int oldUsed = used;
+
+        allocate(tableSizeFor(minSize * 2));
+
+        for (int i = 0; i < oldUsed; i++) {
+            if (!oldRemoved[i]) {
+                final int entry = used++;
+                keys[entry] = oldKeys[i];
+                values[entry] = oldValues[i];
+                indices[findFreeSlot(HashingUtil.hashInt(oldKeys[i]))] = entry;
+            }
+        }
+
+        size = used;
+    }
+
+    @Override
+    public Object removeItem(Object key) {
+        final int slot = lookupSlot(key);
+
+        if (slot < 0) {
+            return null;
+        }
+
+        final int entry = releaseSlot(slot);
+        removed[entry] = true;
+        return values[entry];
+    }
+
+    @Override
+    public DictStorage generalizeFor(Object key, Object value) {
+        final ObjectDictStorage generalized = new ObjectDictStorage(size + 1);
+
+        for (int i = nextEntry(0); i >= 0; i = nextEntry(i + 1)) {
+            generalized.putInt(keys[i], values[i]);
+        }
+
+        return generalized;
+    }
+
+}
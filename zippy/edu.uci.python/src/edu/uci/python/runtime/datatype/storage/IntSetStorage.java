@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.datatype.storage;
+
+import edu.uci.python.runtime.datatype.*;
+
+/**
+ * Holds unboxed int elements.
+ */
+public final class IntSetStorage extends BasicSetStorage {
+
+    private int[] elements;
+    private boolean[] removed;
+
+    public IntSetStorage() {
+        this(0);
+    }
+
+    public IntSetStorage(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    private IntSetStorage(IntSetStorage other) {
+        this.indices = other.indices.clone();
+        this.elements = other.elements.clone();
+        this.removed = other.removed.clone();
+        this.used = other.used;
+        this.size = other.size;
+        this.fill = other.fill;
+    }
+
+    private void allocate(int tableSize) {
+        allocateIndices(tableSize);
+        final int usable = usableFor(tableSize);
+        elements = new int[usable];
+        removed = new boolean[usable];
+    }
+
+    @Override
+    protected boolean isLiveEntry(int entry) {
+        return !removed[entry];
+    }
+
+    @Override
+    public SetStorage copy() {
+        return new IntSetStorage(this);
+    }
+
+    public int intElementAt(int index) {
+        return elements[index];
+    }
+
+    @Override
+    public Object elementAt(int index) {
+        return elements[index];
+    }
+
+    private int lookupIntSlot(int element) {
+        final int hash = HashingUtil.hashInt(element);
+        final int mask = indices.length - 1;
+        int slot = hash & mask;
+        int perturb = hash;
+
+        while (true) {
+            final int entry = indices[slot];
+
+            if (entry == EMPTY) {
+                return -1;
+            } else if (entry >= 0 && elements[entry] == element) {
+                return slot;
+            }
+
+            perturb >>>= PERTURB_SHIFT;
+            slot = (5 * slot + 1 + perturb) & mask;
+        }
+    }
+
+    /**
+     * Elements of other types can still be equal to an int element, e.g. 1.0 or True. Their hash
+     * equals the int they compare equal to.
+     */
+    private int lookupSlot(Object element) {
+        if (element instanceof Integer) {
+            return lookupIntSlot((int) element);
+        }
+
+        final int hash = HashingUtil.hash(element);
+        final int mask = indices.length - 1;
+        int slot = hash & mask;
+        int perturb = hash;
+
+        while (true) {
+            final int entry = indices[slot];
+
+            if (entry == EMPTY) {
+                return -1;
+            } else if (entry >= 0 && elements[entry] == hash && HashingUtil.keyEquals(elements[entry], element)) {
+                return slot;
+            }
+
+            perturb >>>= PERTURB_SHIFT;
+            slot = (5 * slot + 1 + perturb) & mask;
+        }
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return lookupSlot(element) >= 0;
+    }
+
+    @Override
+    public boolean containsInt(int element) {
+        return lookupIntSlot(element) >= 0;
+    }
+
+    @Override
+    public boolean add(Object element) throws SetStoreException {
+        if (element instanceof Integer) {
+            return addInt((int) element);
+        }
+
+        throw SetStoreException.INSTANCE;
+    }
+
+    public boolean addInt(int element) {
+        if (lookupIntSlot(element) >= 0) {
+            return false;
+        }
+
+        if (isFull(elements.length)) {
+            resize(size + 1);
+        }
+
+        final int entry = used++;
+        elements[entry] = element;
+        removed[entry] = false;
+        link(HashingUtil.hashInt(element), entry);
+        size++;
+        return true;
+    }
+
+    private void resize(int minSize) {
+        final int[] oldElements = elements;
+        final boolean[] oldRemoved = removed;
+        final int oldUsed = used;
+
+        allocate(tableSizeFor(minSize * 2));
+
+        for (int i = 0; i < oldUsed; i++) {
+            if (!oldRemoved[i]) {
+                final int entry = used++;
+                elements[entry] = oldElements[i];
+                link(HashingUtil.hashInt(oldElements[i]), entry);
+            }
+        }
+
+        size = used;
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        final int slot = lookupSlot(element);
+
+        if (slot < 0) {
+            return false;
+        }
+
+        removed[releaseSlot(slot)] = true;
+        return true;
+    }
+
+    @Override
+    public SetStorage generalizeFor(Object element) {
+        final ObjectSetStorage generalized = new ObjectSetStorage(size + 1);
+
+        for (int i = nextEntry(0); i >= 0; i = nextEntry(i + 1)) {
+            generalized.addInt(elements[i]);
+        }
+
+        return generalized;
+    }
+
+}
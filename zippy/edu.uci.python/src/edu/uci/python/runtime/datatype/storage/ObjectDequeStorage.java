@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.datatype.storage;
+
+import java.util.*;
+
+public final class ObjectDequeStorage extends DequeStorage {
+
+    private Object[] values;
+
+    public ObjectDequeStorage() {
+        values = new Object[INITIAL_CAPACITY];
+    }
+
+    ObjectDequeStorage(Object[] values, int length) {
+        assert Integer.bitCount(values.length) == 1;
+        this.values = values;
+        this.length = length;
+    }
+
+    private ObjectDequeStorage(Object[] values, int head, int length) {
+        this.values = values;
+        this.head = head;
+        this.length = length;
+    }
+
+    @Override
+    protected int capacity() {
+        return values.length;
+    }
+
+    @Override
+    protected void resize(int newCapacity) {
+        final Object[] newValues = new Object[newCapacity];
+        final int firstPart = Math.min(length, values.length - head);
+        System.arraycopy(values, head, newValues, 0, firstPart);
+        System.arraycopy(values, 0, newValues, firstPart, length - firstPart);
+        values = newValues;
+        head = 0;
+    }
+
+    @Override
+    protected void moveSlot(int from, int to) {
+        values[to] = values[from];
+    }
+
+    /**
+     * Vacated slots drop their reference so popped elements can be collected.
+     */
+    @Override
+    protected void clearSlot(int slot) {
+        values[slot] = null;
+    }
+
+    @Override
+    protected void swapSlots(int first, int second) {
+        final Object value = values[first];
+        values[first] = values[second];
+        values[second] = value;
+    }
+
+    @Override
+    public Object getItem(int index) {
+        return values[slot(index)];
+    }
+
+    @Override
+    public void setItem(int index, Object value) {
+        values[slot(index)] = value;
+    }
+
+    @Override
+    public void append(Object value) {
+        final int slot = reserveLast();
+        values[slot] = value;
+    }
+
+    @Override
+    public void appendLeft(Object value) {
+        final int slot = reserveFirst();
+        values[slot] = value;
+    }
+
+    @Override
+    public void clear() {
+        values = new Object[INITIAL_CAPACITY];
+        head = 0;
+        length = 0;
+    }
+
+    @Override
+    public ObjectDequeStorage copy() {
+        return new ObjectDequeStorage(Arrays.copyOf(values, values.length), head, length);
+    }
+
+    @Override
+    public DequeStorage generalizeFor(Object value) {
+        return this;
+    }
+
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.datatype.storage;
+
+import edu.uci.python.runtime.datatype.*;
+
+/**
+ * Generic dictionary storage holding boxed keys and values.
+ * <p>
+ * Keys follow {@link HashingUtil} semantics. <code>int</code>, <code>long</code> and
+ * <code>String</code> keys have dedicated lookup paths that neither box the key nor dispatch
+ * through the generic equality check.
+ */
+public final class ObjectDictStorage extends BasicDictStorage {
+
+    private int[] hashes;
+    private Object[] keys;
+    private Object[] values;
+
+    public ObjectDictStorage() {
+        this(0);
+    }
+
+    public ObjectDictStorage(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    private ObjectDictStorage(ObjectDictStorage other) {
+        this.indices = other.indices.clone();
+        this.hashes = other.hashes.clone();
+        this.keys = other.keys.clone();
+        this.values = other.values.clone();
+        this.used = other.used;
+        this.size = other.size;
+    }
+
+    private void allocate(int tableSize) {
+        allocateIndices(tableSize);
+        final int usable = usableFor(tableSize);
+        hashes = new int[usable];
+        keys = new Object[usable];
+        values = new Object[usable];
+    }
+
+    @Override
+    protected boolean isLiveEntry(int entry) {
+        return keys[entry] != null;
+    }
+
+    @Override
+    public DictStorage copy() {
+        return new ObjectDictStorage(this);
+    }
+
+    @Override
+    public DictStorage generalizeFor(Object key, Object value) {
+        return this;
+    }
+
+    @Override
+    public Object keyAt(int index) {
+        return keys[index];
+    }
+
+    @Override
+    public Object valueAt(int index) {
+        return values[index];
+    }
+
+    // lookup
+    @Override
+    public Object getItem(Object key) {
+        final int entry = findEntry(key, HashingUtil.hash(key));
+        return entry < 0 ? null : values[entry];
+    }
+
+    @Override
+    public Object getIntItem(int key) {
+        final int entry = findIntEntry(key);
+        return entry < 0 ? null : values[entry];
+    }
+
+    public Object getLongItem(long key) {
+        final int entry = findLongEntry(key);
+        return entry < 0 ? null : values[entry];
+    }
+
+    @Override
+    public Object getStringItem(String key) {
+        final int entry = findStringEntry(key);
+        return entry < 0 ? null : values[entry];
+    }
+
+    @Override
+    public boolean hasKey(Object key) {
+        return findEntry(key, HashingUtil.hash(key)) >= 0;
+    }
+
+    /**
+     * Returns the dense position of the entry for <code>key</code>, or -1 if it is not present.
+     */
+    public int findEntry(Object key, int hash) {
+        final int mask = indices.length - 1;
+        int slot = hash & mask;
+        int perturb = hash;
+
+        while (true) {
+            final int entry = indices[slot];
+
+            if (entry == EMPTY) {
+                return -1;
+            } else if (entry != DUMMY && hashes[entry] == hash && HashingUtil.keyEquals(keys[entry], key)) {
+                return entry;
+            }
+
+            perturb >>>= PERTURB_SHIFT;
+            slot = (5 * slot + 1 + perturb) & mask;
+        }
+    }
+
+    private int findIntEntry(int key) {
+        final int hash = HashingUtil.hashInt(key);
+        final int mask = indices.length - 1;
+        int slot = hash & mask;
+        int perturb = hash;
+
+        while (true) {
+            final int entry = indices[slot];
+
+            if (entry == EMPTY) {
+                return -1;
+            } else if (entry != DUMMY && hashes[entry] == hash) {
+                final Object k = keys[entry];
+
+                if (k instanceof Integer ? (int) k == key : HashingUtil.keyEquals(k, key)) {
+                    return entry;
+                }
+            }
+
+            perturb >>>= PERTURB_SHIFT;
+            slot = (5 * slot + 1 + perturb) & mask;
+        }
+    }
+
+    private int findLongEntry(long key) {
+        final int hash = HashingUtil.hashLong(key);
+        final int mask = indices.length - 1;
+        int slot = hash & mask;
+        int perturb = hash;
+
+        while (true) {
+            final int entry = indices[slot];
+
+            if (entry == EMPTY) {
+                return -1;
+            } else if (entry != DUMMY && hashes[entry] == hash) {
+                final Object k = keys[entry];
+
+                if (k instanceof Long ? (long) k == key : HashingUtil.keyEquals(k, key)) {
+                    return entry;
+                }
+            }
+
+            perturb >>>= PERTURB_SHIFT;
+            slot = (5 * slot + 1 + perturb) & mask;
+        }
+    }
+
+    private int findStringEntry(String key) {
+        final int hash = HashingUtil.hashString(key);
+        final int mask = indices.length - 1;
+        int slot = hash & mask;
+        int perturb = hash;
+
+        while (true) {
+            final int entry = indices[slot];
+
+            if (entry == EMPTY) {
+                return -1;
+            } else if (entry != DUMMY && hashes[entry] == hash) {
+                final Object k = keys[entry];
+
+                if (k instanceof String ? key.equals(k) : HashingUtil.keyEquals(k, key)) {
+                    return entry;
+                }
+            }
+
+            perturb >>>= PERTURB_SHIFT;
+            slot = (5 * slot + 1 + perturb) & mask;
+        }
+    }
+
+    // insertion
+    @Override
+    public void setItem(Object key, Object value) {
+        put(key, value);
+    }
+
+    @Override
+    public void setStringItem(String key, Object value) {
+        putString(key, value);
+    }
+
+    public void put(Object key, Object value) {
+        final int hash = HashingUtil.hash(key);
+        final int entry = findEntry(key, hash);
+
+        if (entry >= 0) {
+            values[entry] = value;
+        } else {
+            insert(hash, key, value);
+        }
+    }
+
+    public void putInt(int key, Object value) {
+        final int entry = findIntEntry(key);
+
+        if (entry >= 0) {
+            values[entry] = value;
+        } else {
+            insert(HashingUtil.hashInt(key), key, value);
+        }
+    }
+
+    public void putLong(long key, Object value) {
+        final int entry = findLongEntry(key);
+
+        if (entry >= 0) {
+            values[entry] = value;
+        } else {
+            insert(HashingUtil.hashLong(key), key, value);
+        }
+    }
+
+    public void putString(String key, Object value) {
+        final int entry = findStringEntry(key);
+
+        if (entry >= 0) {
+            values[entry] = value;
+        } else {
+            insert(HashingUtil.hashString(key), key, value);
+        }
+    }
+
+    private void insert(int hash, Object key, Object value) {
+        if (used == keys.length) {
+            resize(size + 1);
+        }
+
+        final int entry = used++;
+        hashes[entry] = hash;
+        keys[entry] = key;
+        values[entry] = value;
+        indices[findFreeSlot(hash)] = entry;
+        size++;
+    }
+
+    /**
+     * Rebuilds the index table for at least <code>minSize</code> entries and compacts the dense
+     * arrays, dropping deleted entries.
+     */
+    private void resize(int minSize) {
+        final int[] oldHashes = hashes;
+        final Object[] oldKeys = keys;
+        final Object[] oldValues = values;
+        final int oldUsed = used;
+
+        allocate(tableSizeFor(minSize * 2));
+
+        for (int i = 0; i < oldUsed; i++) {
+            if (oldKeys[i] != null) {
+                final int entry = used++;
+                hashes[entry] = oldHashes[i];
+                keys[entry] = oldKeys[i];
+                values[entry] = oldValues[i];
+                indices[findFreeSlot(oldHashes[i])] = entry;
+            }
+        }
+
+        size = used;
+    }
+
+    // removal
+    @Override
+    public Object removeItem(Object key) {
+        final int hash = HashingUtil.hash(key);
+        final int mask = indices.length - 1;
+        int slot = hash & mask;
+        int perturb = hash;
+
+        while (true) {
+            final int entry = indices[slot];
+
+            if (entry == EMPTY) {
+                return null;
+            } else if (entry != DUMMY && hashes[entry] == hash && HashingUtil.keyEquals(keys[entry], key)) {
+                final Object value = values[entry];
+                releaseSlot(slot);
+                keys[entry] = null;
+                values[entry] = null;
+                return value;
+            }
+
+            perturb >>>= PERTURB_SHIFT;
+            slot = (5 * slot + 1 + perturb) & mask;
+        }
+    }
+
+}
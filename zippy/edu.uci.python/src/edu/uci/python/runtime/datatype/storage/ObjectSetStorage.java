@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.datatype.storage;
+
+import edu.uci.python.runtime.datatype.*;
+
+/**
+ * Generic set storage holding boxed elements with {@link HashingUtil} semantics.
+ */
+public final class ObjectSetStorage extends BasicSetStorage {
+
+    private int[] hashes;
+    private Object[] elements;
+
+    public ObjectSetStorage() {
+        this(0);
+    }
+
+    public ObjectSetStorage(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    private ObjectSetStorage(ObjectSetStorage other) {
+        this.indices = other.indices.clone();
+        this.hashes = other.hashes.clone();
+        this.elements = other.elements.clone();
+        this.used = other.used;
+        this.size = other.size;
+        this.fill = other.fill;
+    }
+
+    private void allocate(int tableSize) {
+        allocateIndices(tableSize);
+        final int usable = usableFor(tableSize);
+        hashes = new int[usable];
+        elements = new Object[usable];
+    }
+
+    @Override
+    protected boolean isLiveEntry(int entry) {
+        return elements[entry] != null;
+    }
+
+    @Override
+    public SetStorage copy() {
+        return new ObjectSetStorage(this);
+    }
+
+    @Override
+    public SetStorage generalizeFor(Object element) {
+        return this;
+    }
+
+    @Override
+    public Object elementAt(int index) {
+        return elements[index];
+    }
+
+    private int lookupSlot(Object element, int hash) {
+        final int mask = indices.length - 1;
+        int slot = hash & mask;
+        int perturb = hash;
+
+        while (true) {
+            final int entry = indices[slot];
+
+            if (entry == EMPTY) {
+                return -1;
+            } else if (entry != DUMMY && hashes[entry] == hash && HashingUtil.keyEquals(elements[entry], element)) {
+                return slot;
+            }
+
+            perturb >>>= PERTURB_SHIFT;
+            slot = (5 * slot + 1 + perturb) & mask;
+        }
+    }
+
+    private int lookupIntSlot(int element) {
+        final int hash = HashingUtil.hashInt(element);
+        final int mask = indices.length - 1;
+        int slot = hash & mask;
+        int perturb = hash;
+
+        while (true) {
+            final int entry = indices[slot];
+
+            if (entry == EMPTY) {
+                return -1;
+            } else if (entry != DUMMY && hashes[entry] == hash) {
+                final Object e = elements[entry];
+
+                if (e instanceof Integer ? (int) e == element : HashingUtil.keyEquals(e, element)) {
+                    return slot;
+                }
+            }
+
+            perturb >>>= PERTURB_SHIFT;
+            slot = (5 * slot + 1 + perturb) & mask;
+        }
+    }
+
+    private int lookupStringSlot(String element) {
+        final int hash = HashingUtil.hashString(element);
+        final int mask = indices.length - 1;
+        int slot = hash & mask;
+        int perturb = hash;
+
+        while (true) {
+            final int entry = indices[slot];
+
+            if (entry == EMPTY) {
+                return -1;
+            } else if (entry != DUMMY && hashes[entry] == hash) {
+                final Object e = elements[entry];
+
+                if (e instanceof String ? element.equals(e) : HashingUtil.keyEquals(e, element)) {
+                    return slot;
+                }
+            }
+
+            perturb >>>= PERTURB_SHIFT;
+            slot = (5 * slot + 1 + perturb) & mask;
+        }
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return lookupSlot(element, HashingUtil.hash(element)) >= 0;
+    }
+
+    @Override
+    public boolean containsInt(int element) {
+        return lookupIntSlot(element) >= 0;
+    }
+
+    @Override
+    public boolean containsString(String element) {
+        return lookupStringSlot(element) >= 0;
+    }
+
+    @Override
+    public boolean add(Object element) {
+        final int hash = HashingUtil.hash(element);
+
+        if (lookupSlot(element, hash) >= 0) {
+            return false;
+        }
+
+        insert(hash, element);
+        return true;
+    }
+
+    public boolean addInt(int element) {
+        if (lookupIntSlot(element) >= 0) {
+            return false;
+        }
+
+        insert(HashingUtil.hashInt(element), element);
+        return true;
+    }
+
+    public boolean addString(String element) {
+        if (lookupStringSlot(element) >= 0) {
+            return false;
+        }
+
+        insert(HashingUtil.hashString(element), element);
+        return true;
+    }
+
+    private void insert(int hash, Object element) {
+        if (isFull(elements.length)) {
+            resize(size + 1);
+        }
+
+        final int entry = used++;
+        hashes[entry] = hash;
+        elements[entry] = element;
+        link(hash, entry);
+        size++;
+    }
+
+    private void resize(int minSize) {
+        final int[] oldHashes = hashes;
+        final Object[] oldElements = elements;
+        final int oldUsed = used;
+
+        allocate(tableSizeFor(minSize * 2));
+
+        for (int i = 0; i < oldUsed; i++) {
+            if (oldElements[i] != null) {
+                final int entry = used++;
+                hashes[entry] = oldHashes[i];
+                elements[entry] = oldElements[i];
+                link(oldHashes[i], entry);
+            }
+        }
+
+        size = used;
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        final int slot = lookupSlot(element, HashingUtil.hash(element));
+
+        if (slot < 0) {
+            return false;
+        }
+
+        elements[releaseSlot(slot)] = null;
+        return true;
+    }
+
+}
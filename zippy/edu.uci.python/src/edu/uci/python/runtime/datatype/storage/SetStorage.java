@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.datatype.storage;
+
+public abstract class SetStorage {
+
+    public abstract int length();
+
+    public abstract SetStorage copy();
+
+    public abstract boolean contains(Object element);
+
+    public boolean containsInt(int element) {
+        return contains(element);
+    }
+
+    public boolean containsString(String element) {
+        return contains(element);
+    }
+
+    /**
+     * Returns false if an equal element is already present.
+     */
+    public abstract boolean add(Object element) throws SetStoreException;
+
+    /**
+     * Returns false if there is no equal element.
+     */
+    public abstract boolean remove(Object element);
+
+    /**
+     * Removes and returns the most recently inserted element, or null if the storage is empty.
+     */
+    public abstract Object pop();
+
+    /**
+     * Returns the position of the first element at or after index in insertion order, or -1.
+     */
+    public abstract int nextEntry(int index);
+
+    public abstract Object elementAt(int index);
+
+    public abstract SetStorage generalizeFor(Object element);
+
+}
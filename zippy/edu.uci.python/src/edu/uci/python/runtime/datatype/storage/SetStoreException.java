@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, Regents of the University of California
+ * Copyright (c) 2015, Regents of the University of California
  * All rights reserved.
  *
  * Redistribution and use in source and binary forms, with or without
@@ -22,25 +22,16 @@
  * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
  * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
-package edu.uci.python.profiler;
+package edu.uci.python.runtime.datatype.storage;
 
-import com.oracle.truffle.api.instrument.*;
 import com.oracle.truffle.api.nodes.*;
 
 /**
- * @author Gulfem
+ * A set storage cannot hold the element type it is asked to store.
  */
+public class SetStoreException extends SlowPathException {
 
-public final class MethodBodyInstrument extends Instrument {
-
-    private final Node node;
-
-    public MethodBodyInstrument(Node node) {
-        this.node = node;
-    }
-
-    public Node getNode() {
-        return node;
-    }
+    private static final long serialVersionUID = -6385273316830429215L;
+    public static final SetStoreException INSTANCE = new SetStoreException();
 
 }
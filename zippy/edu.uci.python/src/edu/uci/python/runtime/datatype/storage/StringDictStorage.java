@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.datatype.storage;
+
+import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.sequence.*;
+
+/**
+ * Maps string keys to arbitrary values, e.g. records and keyword tables. Relies on the hash code
+ * cached in {@link String} instead of keeping a separate hash array.
+ */
+public final class StringDictStorage extends BasicDictStorage {
+
+    // null marks a deleted entry
+    private String[] keys;
+    private Object[] values;
+
+    public StringDictStorage() {
+        this(0);
+    }
+
+    public StringDictStorage(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    private StringDictStorage(StringDictStorage other) {
+        this.indices = other.indices.clone();
+        this.keys = other.keys.clone();
+        this.values = other.values.clone();
+        this.used = other.used;
+        this.size = other.size;
+    }
+
+    private void allocate(int tableSize) {
+        allocateIndices(tableSize);
+        final int usable = usableFor(tableSize);
+        keys = new String[usable];
+        values = new Object[usable];
+    }
+
+    @Override
+    protected boolean isLiveEntry(int entry) {
+        return keys[entry] != null;
+    }
+
+    @Override
+    public DictStorage copy() {
+        return new StringDictStorage(this);
+    }
+
+    @Override
+    public Object keyAt(int index) {
+        return keys[index];
+    }
+
+    @Override
+    public Object valueAt(int index) {
+        return values[index];
+    }
+
+    private int lookupStringSlot(String key) {
+        final int hash = HashingUtil.hashString(key);
+        final int mask = indices.length - 1;
+        int slot = hash & mask;
+        int perturb = hash;
+
+        while (true) {
+            final int entry = indices[slot];
+
+            if (entry == EMPTY) {
+                return -1;
+            } else if (entry >= 0) {
+                final String k = keys[entry];
+
+                if (k == key || (k.hashCode() == hash && k.equals(key))) {
+                    return slot;
+                }
+            }
+
+            perturb >>>= PERTURB_SHIFT;
+            slot = (5 * slot + 1 + perturb) & mask;
+        }
+    }
+
+    private int lookupSlot(Object key) {
+        if (key instanceof String) {
+            return lookupStringSlot((String) key);
+        } else if (key instanceof PString) {
+            return lookupStringSlot(((PString) key).getValue());
+        }
+
+        final int hash = HashingUtil.hash(key);
+        final int mask = indices.length - 1;
+        int slot = hash & mask;
+        int perturb = hash;
+
+        while (true) {
+            final int entry = indices[slot];
+
+            if (entry == EMPTY) {
+                return -1;
+            } else if (entry >= 0 && keys[entry].hashCode() == hash && HashingUtil.keyEquals(keys[entry], key)) {
+                return slot;
+            }
+
+            perturb >>>= PERTURB_SHIFT;
+            slot = (5 * slot + 1 + perturb) & mask;
+        }
+    }
+
+    @Override
+    public Object getItem(Object key) {
+        final int slot = lookupSlot(key);
+        return slot < 0 ? null : values[indices[slot]];
+    }
+
+    @Override
+    public Object getStringItem(String key) {
+        final int slot = lookupStringSlot(key);
+        return slot < 0 ? null : values[indices[slot]];
+    }
+
+    @Override
+    public boolean hasKey(Object key) {
+        return lookupSlot(key) >= 0;
+    }
+
+    @Override
+    public void setItem(Object key, Object value) throws DictStoreException {
+        if (key instanceof String) {
+            setStringItem((String) key, value);
+        } else if (key instanceof PString) {
+            setStringItem(((PString) key).getValue(), value);
+        } else {
+            throw DictStoreException.INSTANCE;
+        }
+    }
+
+    @Override
+    public void setStringItem(String key, Object value) {
+        final int slot = lookupStringSlot(key);
+
+        if (slot >= 0) {
+            values[indices[slot]] = value;
+        } else {
+            insert(key, value);
+        }
+    }
+
+    private void insert(String key, Object value) {
+        if (used == keys.length) {
+            resize(size + 1);
+        }
+
+        final int entry = used++;
+        keys[entry] = key;
+        values[entry] = value;
+        indices[findFreeSlot(HashingUtil.hashString(key))] = entry;
+        size++;
+    }
+
+    private void resize(int minSize) {
+        final String[] oldKeys = keys;
+        final Object[] oldValues = values;
+        final int oldUsed = used;
+
+        allocate(tableSizeFor(minSize * 2));
+
+        for (int i = 0; i < oldUsed; i++) {
+            if (oldKeys[i] != null) {
+                final int entry = used++;
+                keys[entry] = oldKeys[i];
+                values[entry] = oldValues[i];
+                indices[findFreeSlot(HashingUtil.hashString(oldKeys[i]))] = entry;
+            }
+        }
+
+        size = used;
+    }
+
+    @Override
+    public Object removeItem(Object key) {
+        final int slot = lookupSlot(key);
+
+        if (slot < 0) {
+            return null;
+        }
+
+        final int entry = releaseSlot(slot);
+        final Object value = values[entry];
+        keys[entry] = null;
+        values[entry] = null;
+        return value;
+    }
+
+    @Override
+    public DictStorage generalizeFor(Object key, Object value) {
+        final ObjectDictStorage generalized = new ObjectDictStorage(size + 1);
+
+        for (int i = nextEntry(0); i >= 0; i = nextEntry(i + 1)) {
+            generalized.putString(keys[i], values[i]);
+        }
+
+        return generalized;
+    }
+
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.datatype.storage;
+
+import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.sequence.*;
+
+/**
+ * Holds string elements. Relies on the hash code cached in {@link String} instead of keeping a
+ * separate hash array.
+ */
+public final class StringSetStorage extends BasicSetStorage {
+
+    // null marks a deleted entry
+    private String[] elements;
+
+    public StringSetStorage() {
+        this(0);
+    }
+
+    public StringSetStorage(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    private StringSetStorage(StringSetStorage other) {
+        this.indices = other.indices.clone();
+        this.elements = other.elements.clone();
+        this.used = other.used;
+        this.size = other.size;
+        this.fill = other.fill;
+    }
+
+    private void allocate(int tableSize) {
+        allocateIndices(tableSize);
+        elements = new String[usableFor(tableSize)];
+    }
+
+    @Override
+    protected boolean isLiveEntry(int entry) {
+        return elements[entry] != null;
+    }
+
+    @Override
+    public SetStorage copy() {
+        return new StringSetStorage(this);
+    }
+
+    @Override
+    public Object elementAt(int index) {
+        return elements[index];
+    }
+
+    private int lookupStringSlot(String element) {
+        final int hash = HashingUtil.hashString(element);
+        final int mask = indices.length - 1;
+        int slot = hash & mask;
+        int perturb = hash;
+
+        while (true) {
+            final int entry = indices[slot];
+
+            if (entry == EMPTY) {
+                return -1;
+            } else if (entry >= 0) {
+                final String e = elements[entry];
+
+                if (e == element || (e.hashCode() == hash && e.equals(element))) {
+                    return slot;
+                }
+            }
+
+            perturb >>>= PERTURB_SHIFT;
+            slot = (5 * slot + 1 + perturb) & mask;
+        }
+    }
+
+    private int lookupSlot(Object element) {
+        if (element instanceof String) {
+            return lookupStringSlot((String) element);
+        } else if (element instanceof PString) {
+            return lookupStringSlot(((PString) element).getValue());
+        }
+
+        final int hash = HashingUtil.hash(element);
+        final int mask = indices.length - 1;
+        int slot = hash & mask;
+        int perturb = hash;
+
+        while (true) {
+            final int entry = indices[slot];
+
+            if (entry == EMPTY) {
+                return -1;
+            } else if (entry >= 0 && elements[entry].hashCode() == hash && HashingUtil.keyEquals(elements[entry], element)) {
+                return slot;
+            }
+
+            perturb >>>= PERTURB_SHIFT;
+            slot = (5 * slot + 1 + perturb) & mask;
+        }
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return lookupSlot(element) >= 0;
+    }
+
+    @Override
+    public boolean containsString(String element) {
+        return lookupStringSlot(element) >= 0;
+    }
+
+    @Override
+    public boolean add(Object element) throws SetStoreException {
+        if (element instanceof String) {
+            return addString((String) element);
+        } else if (element instanceof PString) {
+            return addString(((PString) element).getValue());
+        }
+
+        throw SetStoreException.INSTANCE;
+    }
+
+    public boolean addString(String element) {
+        if (lookupStringSlot(element) >= 0) {
+            return false;
+        }
+
+        if (isFull(elements.length)) {
+            resize(size + 1);
+        }
+
+        final int entry = used++;
+        elements[entry] = element;
+        link(HashingUtil.hashString(element), entry);
+        size++;
+        return true;
+    }
+
+    private void resize(int minSize) {
+        final String[] oldElements = elements;
+        final int oldUsed = used;
+
+        allocate(tableSizeFor(minSize * 2));
+
+        for (int i = 0; i < oldUsed; i++) {
+            if (oldElements[i] != null) {
+                final int entry = used++;
+                elements[entry] = oldElements[i];
+                link(HashingUtil.hashString(oldElements[i]), entry);
+            }
+        }
+
+        size = used;
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        final int slot = lookupSlot(element);
+
+        if (slot < 0) {
+            return false;
+        }
+
+        elements[releaseSlot(slot)] = null;
+        return true;
+    }
+
+    @Override
+    public SetStorage generalizeFor(Object element) {
+        final ObjectSetStorage generalized = new ObjectSetStorage(size + 1);
+
+        for (int i = nextEntry(0); i >= 0; i = nextEntry(i + 1)) {
+            generalized.addString(elements[i]);
+        }
+
+        return generalized;
+    }
+
+}
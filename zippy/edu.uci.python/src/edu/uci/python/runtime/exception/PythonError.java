@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.exception;
+
+import org.python.core.*;
+
+/**
+ * A Python error raised by ZipPy. It is a Jython {@link PyException}, so the shell, the builtins
+ * and the Jython interop handle it as before, but it does not capture a Java stack trace: errors
+ * such as KeyError and IndexError are used for control flow, and no Python traceback shows the
+ * Java frames. -Dedu.uci.python.JavaStackInExceptions=true brings the Java stack traces back when
+ * debugging. Unlike Jython's option of the same purpose this does not affect other Jython code
+ * running in the process.
+ */
+public final class PythonError extends PyException {
+
+    private static final long serialVersionUID = -2405621178326395143L;
+
+    private static final boolean JAVA_STACK_IN_EXCEPTIONS = Boolean.getBoolean("edu.uci.python.JavaStackInExceptions");
+
+    public PythonError(PyObject type, PyObject value) {
+        super(type, value);
+    }
+
+    public PythonError(PyObject type, String message) {
+        super(type, message);
+    }
+
+    @Override
+    public Throwable fillInStackTrace() {
+        return JAVA_STACK_IN_EXCEPTIONS ? super.fillInStackTrace() : this;
+    }
+
+    /**
+     * {@code raise type} and {@code raise instance}. Anything else Jython's doRaise handles.
+     */
+    public static PyException raise(PyObject type, PyObject value) {
+        if (PyException.isExceptionClass(type)) {
+            final PythonError error = new PythonError(type, value == null ? Py.None : value);
+            error.normalize();
+
+            if (PyException.isExceptionInstance(error.value)) {
+                return error;
+            }
+        } else if ((value == null || value == Py.None) && PyException.isExceptionInstance(type)) {
+            return new PythonError(type.getType(), type);
+        }
+
+        return PyException.doRaise(type, value, null);
+    }
+
+    public static PythonError AttributeError(String message) {
+        return new PythonError(Py.AttributeError, message);
+    }
+
+    public static PythonError IndexError(String message) {
+        return new PythonError(Py.IndexError, message);
+    }
+
+    public static PythonError KeyError(String message) {
+        return new PythonError(Py.KeyError, message);
+    }
+
+    public static PythonError OverflowError(String message) {
+        return new PythonError(Py.OverflowError, message);
+    }
+
+    public static PythonError TypeError(String message) {
+        return new PythonError(Py.TypeError, message);
+    }
+
+    public static PythonError ValueError(String message) {
+        return new PythonError(Py.ValueError, message);
+    }
+
+    public static PythonError ZeroDivisionError(String message) {
+        return new PythonError(Py.ZeroDivisionError, message);
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.iterator;
+
+import java.math.*;
+
+import edu.uci.python.runtime.exception.*;
+import edu.uci.python.runtime.function.*;
+
+/**
+ * itertools.accumulate. Without a function the running total is a sum of numbers.
+ */
+public final class PAccumulateIterator implements PIterator {
+
+    private final PIterator iterator;
+    private final PythonCallable function;
+    private Object total;
+
+    public PAccumulateIterator(PIterator iterator, PythonCallable function) {
+        this.iterator = iterator;
+        this.function = function;
+    }
+
+    @Override
+    public Object __next__() throws StopIterationException {
+        final Object value = iterator.__next__();
+
+        if (total == null) {
+            total = value;
+        } else if (function != null) {
+            total = function.call(PArguments.createWithUserArguments(total, value));
+        } else {
+            total = add(total, value);
+        }
+
+        return total;
+    }
+
+    private static Object add(Object left, Object right) {
+        if (left instanceof Integer && right instanceof Integer) {
+            final int l = (int) left;
+            final int r = (int) right;
+            final int result = l + r;
+
+            if (((l ^ result) & (r ^ result)) < 0) {
+                return BigInteger.valueOf(l).add(BigInteger.valueOf(r));
+            }
+
+            return result;
+        } else if (left instanceof Double || right instanceof Double) {
+            return toDouble(left) + toDouble(right);
+        } else if (isInteger(left) && isInteger(right)) {
+            return toBigInteger(left).add(toBigInteger(right));
+        }
+
+        throw PythonError.TypeError("unsupported operand type(s) for +");
+    }
+
+    private static boolean isInteger(Object value) {
+        return value instanceof Integer || value instanceof BigInteger;
+    }
+
+    private static BigInteger toBigInteger(Object value) {
+        return value instanceof BigInteger ? (BigInteger) value : BigInteger.valueOf((int) value);
+    }
+
+    private static double toDouble(Object value) {
+        if (value instanceof Double) {
+            return (double) value;
+        } else if (isInteger(value)) {
+            return toBigInteger(value).doubleValue();
+        }
+
+        throw PythonError.TypeError("unsupported operand type(s) for +");
+    }
+
+}
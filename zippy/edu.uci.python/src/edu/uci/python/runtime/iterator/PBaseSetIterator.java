@@ -24,24 +24,27 @@
  */
 package edu.uci.python.runtime.iterator;
 
-import java.util.*;
-
+import edu.uci.python.runtime.datatype.storage.*;
 import edu.uci.python.runtime.exception.*;
 
 public class PBaseSetIterator implements PIterator {
 
-    private final Iterator<?> setIterator;
+    private final SetStorage store;
+    private int index;
 
-    public PBaseSetIterator(Iterator<?> iterator) {
-        this.setIterator = iterator;
+    public PBaseSetIterator(SetStorage store) {
+        this.store = store;
     }
 
     @Override
     public Object __next__() throws StopIterationException {
-        if (setIterator.hasNext()) {
-            return setIterator.next();
+        final int entry = store.nextEntry(index);
+
+        if (entry < 0) {
+            throw StopIterationException.INSTANCE;
         }
 
-        throw StopIterationException.INSTANCE;
+        index = entry + 1;
+        return store.elementAt(entry);
     }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.iterator;
+
+import edu.uci.python.runtime.exception.*;
+import edu.uci.python.runtime.sequence.*;
+
+/**
+ * itertools.combinations, in lexicographic order of positions.
+ */
+public final class PCombinationsIterator implements PIterator {
+
+    private final Object[] pool;
+    private final int[] indices;
+    private boolean started;
+    private boolean exhausted;
+
+    public PCombinationsIterator(Object[] pool, int r) {
+        this.pool = pool;
+        this.indices = new int[Math.max(r, 0)];
+        this.exhausted = r > pool.length;
+
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+    }
+
+    @Override
+    public Object __next__() throws StopIterationException {
+        if (exhausted) {
+            throw StopIterationException.INSTANCE;
+        }
+
+        if (started && !advance()) {
+            exhausted = true;
+            throw StopIterationException.INSTANCE;
+        }
+
+        started = true;
+        final Object[] result = new Object[indices.length];
+
+        for (int i = 0; i < indices.length; i++) {
+            result[i] = pool[indices[i]];
+        }
+
+        return new PTuple(result);
+    }
+
+    private boolean advance() {
+        final int r = indices.length;
+        final int n = pool.length;
+        int i = r - 1;
+
+        while (i >= 0 && indices[i] == i + n - r) {
+            i--;
+        }
+
+        if (i < 0) {
+            return false;
+        }
+
+        indices[i]++;
+
+        for (int j = i + 1; j < r; j++) {
+            indices[j] = indices[j - 1] + 1;
+        }
+
+        return true;
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.iterator;
+
+import java.math.*;
+
+import edu.uci.python.runtime.exception.*;
+import edu.uci.python.runtime.misc.*;
+
+/**
+ * itertools.count. It never runs out, so loops over it are bounded by the consumer. The count is
+ * kept in a long and moves to a BigInteger once it leaves the long range; values that fit are
+ * returned as ints, so a count that crosses the int range keeps counting instead of wrapping.
+ */
+public final class PCountIterator implements PIterator {
+
+    private long value;
+    private final long step;
+    private BigInteger bigValue;
+    private BigInteger bigStep;
+
+    public PCountIterator(long start, long step) {
+        this.value = start;
+        this.step = step;
+    }
+
+    public PCountIterator(BigInteger start, BigInteger step) {
+        this.step = 0;
+        this.bigValue = start;
+        this.bigStep = step;
+    }
+
+    @Override
+    public Object __next__() throws StopIterationException {
+        if (bigValue != null) {
+            return nextBig();
+        }
+
+        final long current = value;
+
+        try {
+            value = Math.addExact(value, step);
+        } catch (ArithmeticException e) {
+            bigStep = BigInteger.valueOf(step);
+            bigValue = BigInteger.valueOf(current).add(bigStep);
+        }
+
+        if (current == (int) current) {
+            return (int) current;
+        }
+
+        return current;
+    }
+
+    private Object nextBig() {
+        final BigInteger current = bigValue;
+        bigValue = current.add(bigStep);
+        return BigIntegerMath.narrow(current);
+    }
+
+    public static final class PDoubleCountIterator implements PIterator, PDoubleIterator {
+
+        private double value;
+        private final double step;
+
+        public PDoubleCountIterator(double start, double step) {
+            this.value = start;
+            this.step = step;
+        }
+
+        @Override
+        public Object __next__() throws StopIterationException {
+            return __nextDouble__();
+        }
+
+        public double __nextDouble__() {
+            final double current = value;
+            value += step;
+            return current;
+        }
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.iterator;
+
+import org.python.core.*;
+
+import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.datatype.storage.*;
+import edu.uci.python.runtime.exception.*;
+
+/**
+ * Iterates a deque by position. The storage seen at creation is kept, so a deque that generalizes
+ * its storage while being iterated is reported instead of read through a stale view.
+ */
+public class PDequeIterator implements PIterator {
+
+    protected final PDeque deque;
+    protected final DequeStorage store;
+    protected int index;
+
+    public PDequeIterator(PDeque deque) {
+        this.deque = deque;
+        this.store = deque.getStorage();
+    }
+
+    public final PDeque getDeque() {
+        return deque;
+    }
+
+    public final DequeStorage getStorage() {
+        return store;
+    }
+
+    public final void checkStorage() {
+        if (deque.getStorage() != store) {
+            throw Py.RuntimeError("deque mutated during iteration");
+        }
+    }
+
+    /**
+     * Returns the position of the next element.
+     */
+    protected final int advance() {
+        checkStorage();
+
+        if (index < store.length()) {
+            return index++;
+        }
+
+        throw StopIterationException.INSTANCE;
+    }
+
+    @Override
+    public Object __next__() throws StopIterationException {
+        return store.getItem(advance());
+    }
+
+    public static final class PIntDequeIterator extends PDequeIterator implements PIntegerIterator {
+
+        public PIntDequeIterator(PDeque deque) {
+            super(deque);
+        }
+
+        @Override
+        public int __nextInt__() {
+            return ((IntDequeStorage) store).getIntItem(advance());
+        }
+
+        @Override
+        public Object __next__() throws StopIterationException {
+            return __nextInt__();
+        }
+    }
+
+    public static final class PDoubleDequeIterator extends PDequeIterator implements PDoubleIterator {
+
+        public PDoubleDequeIterator(PDeque deque) {
+            super(deque);
+        }
+
+        @Override
+        public double __nextDouble__() {
+            return ((DoubleDequeStorage) store).getDoubleItem(advance());
+        }
+
+        @Override
+        public Object __next__() throws StopIterationException {
+            return __nextDouble__();
+        }
+    }
+
+}
@@ -24,25 +24,44 @@
  */
 package edu.uci.python.runtime.iterator;
 
-import java.util.*;
-
+import edu.uci.python.runtime.datatype.storage.*;
 import edu.uci.python.runtime.exception.*;
 
 public class PDictIterator implements PIterator {
 
-    private final Iterator<?> keyIterator;
+    protected final DictStorage store;
+    protected int index;
+
+    public PDictIterator(DictStorage store) {
+        this.store = store;
+    }
+
+    protected final int advance() {
+        final int entry = store.nextEntry(index);
+
+        if (entry < 0) {
+            throw StopIterationException.INSTANCE;
+        }
 
-    public PDictIterator(Iterator<?> iterator) {
-        keyIterator = iterator;
+        index = entry + 1;
+        return entry;
     }
 
     @Override
     public Object __next__() throws StopIterationException {
-        if (keyIterator.hasNext()) {
-            return keyIterator.next();
+        return store.keyAt(advance());
+    }
+
+    public static final class PDictValuesIterator extends PDictIterator {
+
+        public PDictValuesIterator(DictStorage store) {
+            super(store);
         }
 
-        throw StopIterationException.INSTANCE;
+        @Override
+        public Object __next__() throws StopIterationException {
+            return store.valueAt(advance());
+        }
     }
 
 }
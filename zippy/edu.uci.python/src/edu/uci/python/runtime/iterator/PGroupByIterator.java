@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.iterator;
+
+import edu.uci.python.runtime.exception.*;
+import edu.uci.python.runtime.function.*;
+import edu.uci.python.runtime.sequence.*;
+
+/**
+ * itertools.groupby. Groups share the underlying iterator, so a group stops producing elements
+ * once the next group has been requested.
+ */
+public final class PGroupByIterator implements PIterator {
+
+    private static final Object NO_KEY = new Object();
+
+    private final PIterator iterator;
+    private final PythonCallable keyFunction;
+
+    private Object currentKey = NO_KEY;
+    private Object currentValue;
+    private Object targetKey = NO_KEY;
+    private PGrouper currentGroup;
+
+    public PGroupByIterator(PIterator iterator, PythonCallable keyFunction) {
+        this.iterator = iterator;
+        this.keyFunction = keyFunction;
+    }
+
+    private static boolean keysEqual(Object left, Object right) {
+        return left == right || (left != NO_KEY && right != NO_KEY && left.equals(right));
+    }
+
+    private void advance() {
+        currentValue = iterator.__next__();
+        currentKey = keyFunction == null ? currentValue : keyFunction.call(PArguments.createWithUserArguments(currentValue));
+    }
+
+    @Override
+    public Object __next__() throws StopIterationException {
+        currentGroup = null;
+
+        while (keysEqual(currentKey, targetKey)) {
+            advance();
+        }
+
+        targetKey = currentKey;
+        currentGroup = new PGrouper(this, targetKey);
+        return new PTuple(new Object[]{currentKey, currentGroup});
+    }
+
+    public static final class PGrouper implements PIterator {
+
+        private final PGroupByIterator parent;
+        private final Object key;
+        private boolean pending;
+
+        public PGrouper(PGroupByIterator parent, Object key) {
+            this.parent = parent;
+            this.key = key;
+        }
+
+        @Override
+        public Object __next__() throws StopIterationException {
+            if (parent.currentGroup != this) {
+                throw StopIterationException.INSTANCE;
+            }
+
+            if (pending) {
+                pending = false;
+
+                try {
+                    parent.advance();
+                } catch (StopIterationException e) {
+                    parent.currentGroup = null;
+                    throw e;
+                }
+            }
+
+            if (!keysEqual(parent.currentKey, key)) {
+                throw StopIterationException.INSTANCE;
+            }
+
+            pending = true;
+            return parent.currentValue;
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.iterator;
+
+import edu.uci.python.runtime.exception.*;
+
+/**
+ * itertools.islice. Positions are counted in elements taken from the source, which is only
+ * advanced as far as the next element that is returned.
+ */
+public class PISliceIterator implements PIterator {
+
+    public static final int NO_STOP = -1;
+
+    private final PIterator iterator;
+    private int next;
+    private final int stop;
+    private final int step;
+    private int consumed;
+
+    public PISliceIterator(PIterator iterator, int start, int stop, int step) {
+        this.iterator = iterator;
+        this.next = start;
+        this.stop = stop;
+        this.step = step;
+    }
+
+    public final PIterator getIterator() {
+        return iterator;
+    }
+
+    public final boolean hasStop() {
+        return stop != NO_STOP;
+    }
+
+    /**
+     * The number of elements left, if the slice has a stop and the source does not run out first.
+     */
+    public final int remaining() {
+        assert hasStop();
+        return next >= stop ? 0 : (stop - next + step - 1) / step;
+    }
+
+    /**
+     * Skips the source to the next position to return, or fails if the slice is exhausted.
+     */
+    protected final void skip() {
+        if (stop != NO_STOP && next >= stop) {
+            throw StopIterationException.INSTANCE;
+        }
+
+        while (consumed < next) {
+            iterator.__next__();
+            consumed++;
+        }
+
+        consumed++;
+        next = stop != NO_STOP && stop - next < step ? stop : next + step;
+    }
+
+    @Override
+    public Object __next__() throws StopIterationException {
+        skip();
+        return iterator.__next__();
+    }
+
+    public static final class PIntegerISliceIterator extends PISliceIterator implements PIntegerIterator {
+
+        private final PIntegerIterator intIterator;
+
+        public PIntegerISliceIterator(PIterator iterator, int start, int stop, int step) {
+            super(iterator, start, stop, step);
+            this.intIterator = (PIntegerIterator) iterator;
+        }
+
+        @Override
+        public Object __next__() throws StopIterationException {
+            return __nextInt__();
+        }
+
+        public int __nextInt__() {
+            skip();
+            return intIterator.__nextInt__();
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.iterator;
+
+import java.util.regex.*;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.exception.*;
+import edu.uci.python.runtime.standardtype.*;
+
+/**
+ * Produces the matches of re.finditer one at a time from a single matcher.
+ */
+public final class PMatchIterator extends PythonBuiltinObject implements PIterable, PIterator {
+
+    private final PPattern pattern;
+    private final String string;
+    private final int pos;
+    private final int endpos;
+    private final Matcher matcher;
+
+    public PMatchIterator(PPattern pattern, String string, int pos, int endpos) {
+        this.pattern = pattern;
+        this.string = string;
+        this.pos = pos;
+        this.endpos = endpos;
+        this.matcher = pattern.matcher(string, pos, endpos);
+    }
+
+    @Override
+    public PIterator __iter__() {
+        return this;
+    }
+
+    @TruffleBoundary
+    @Override
+    public Object __next__() throws StopIterationException {
+        if (matcher.find()) {
+            return new PMatch(pattern, string, pos, endpos, matcher);
+        }
+
+        throw StopIterationException.INSTANCE;
+    }
+
+    @Override
+    public int len() {
+        throw PythonError.TypeError("object of type 'callable_iterator' has no len()");
+    }
+
+    @Override
+    public Object getMax() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object getMin() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String toString() {
+        return "<callable_iterator object at " + hashCode() + ">";
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.iterator;
+
+import edu.uci.python.runtime.exception.*;
+import edu.uci.python.runtime.sequence.*;
+
+/**
+ * itertools.permutations, in lexicographic order of positions. Follows the cycle counting
+ * algorithm of CPython, which produces each permutation with a single swap or rotation.
+ */
+public final class PPermutationsIterator implements PIterator {
+
+    private final Object[] pool;
+    private final int r;
+    private final int[] indices;
+    private final int[] cycles;
+    private boolean started;
+    private boolean exhausted;
+
+    public PPermutationsIterator(Object[] pool, int r) {
+        final int n = pool.length;
+        this.pool = pool;
+        this.r = r;
+        this.indices = new int[n];
+        this.cycles = new int[Math.max(r, 0)];
+        this.exhausted = r > n;
+
+        for (int i = 0; i < n; i++) {
+            indices[i] = i;
+        }
+
+        for (int i = 0; i < cycles.length; i++) {
+            cycles[i] = n - i;
+        }
+    }
+
+    @Override
+    public Object __next__() throws StopIterationException {
+        if (exhausted) {
+            throw StopIterationException.INSTANCE;
+        }
+
+        if (started && !advance()) {
+            exhausted = true;
+            throw StopIterationException.INSTANCE;
+        }
+
+        started = true;
+        final Object[] result = new Object[r];
+
+        for (int i = 0; i < r; i++) {
+            result[i] = pool[indices[i]];
+        }
+
+        return new PTuple(result);
+    }
+
+    private boolean advance() {
+        final int n = pool.length;
+
+        for (int i = r - 1; i >= 0; i--) {
+            cycles[i]--;
+
+            if (cycles[i] == 0) {
+                // Rotate indices[i:] one step to the left
+                final int first = indices[i];
+                System.arraycopy(indices, i + 1, indices, i, n - i - 1);
+                indices[n - 1] = first;
+                cycles[i] = n - i;
+            } else {
+                final int j = n - cycles[i];
+                final int swap = indices[i];
+                indices[i] = indices[j];
+                indices[j] = swap;
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+}
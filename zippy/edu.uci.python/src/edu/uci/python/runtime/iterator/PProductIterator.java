@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.iterator;
+
+import edu.uci.python.runtime.exception.*;
+import edu.uci.python.runtime.sequence.*;
+
+/**
+ * itertools.product. The indices advance like an odometer, rightmost pool first.
+ */
+public final class PProductIterator implements PIterator {
+
+    private final Object[][] pools;
+    private final int[] indices;
+    private boolean started;
+    private boolean exhausted;
+
+    public PProductIterator(Object[][] pools) {
+        this.pools = pools;
+        this.indices = new int[pools.length];
+
+        for (Object[] pool : pools) {
+            if (pool.length == 0) {
+                exhausted = true;
+            }
+        }
+    }
+
+    @Override
+    public Object __next__() throws StopIterationException {
+        if (exhausted) {
+            throw StopIterationException.INSTANCE;
+        }
+
+        if (started) {
+            int i = indices.length - 1;
+
+            while (i >= 0 && ++indices[i] == pools[i].length) {
+                indices[i] = 0;
+                i--;
+            }
+
+            if (i < 0) {
+                exhausted = true;
+                throw StopIterationException.INSTANCE;
+            }
+        }
+
+        started = true;
+        final Object[] result = new Object[indices.length];
+
+        for (int i = 0; i < indices.length; i++) {
+            result[i] = pools[i][indices[i]];
+        }
+
+        return new PTuple(result);
+    }
+
+}
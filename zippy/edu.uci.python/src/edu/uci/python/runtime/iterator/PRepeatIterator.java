@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, Regents of the University of California
+ * Copyright (c) 2015, Regents of the University of California
  * All rights reserved.
  *
  * Redistribution and use in source and binary forms, with or without
@@ -22,48 +22,34 @@
  * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
  * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
-package edu.uci.python.profiler;
+package edu.uci.python.runtime.iterator;
 
-import com.oracle.truffle.api.frame.*;
-import com.oracle.truffle.api.instrument.*;
-
-import edu.uci.python.nodes.*;
+import edu.uci.python.runtime.exception.*;
 
 /**
- * @author Gulfem
+ * itertools.repeat. A negative count repeats forever.
  */
+public final class PRepeatIterator implements PIterator {
 
-public class ProfilerNode extends PNode {
-
-    @Child protected PNode child;
-    long counter;
+    private final Object value;
+    private int remaining;
 
-    public ProfilerNode(PNode child) {
-        this.child = child;
-        counter++;
+    public PRepeatIterator(Object value, int times) {
+        this.value = value;
+        this.remaining = times;
     }
 
     @Override
-    public Object execute(VirtualFrame frame) {
-        counter++;
-        Object result;
-
-        try {
-            result = child.execute(frame);
-        } catch (KillException e) {
-            throw (e);
-        } catch (Exception e) {
-            throw (e);
+    public Object __next__() throws StopIterationException {
+        if (remaining == 0) {
+            throw StopIterationException.INSTANCE;
         }
 
-        return result;
-    }
+        if (remaining > 0) {
+            remaining--;
+        }
 
-    public PNode getChild() {
-        return child;
+        return value;
     }
 
-    public long getCounter() {
-        return counter;
-    }
 }
@@ -24,8 +24,6 @@
  */
 package edu.uci.python.runtime.iterator;
 
-import org.python.core.*;
-
 import edu.uci.python.runtime.datatype.*;
 import edu.uci.python.runtime.exception.*;
 import edu.uci.python.runtime.sequence.*;
@@ -64,7 +62,7 @@ public final class PZip extends PythonBuiltinObject implements PIterable, PItera
 
     @Override
     public int len() {
-        throw Py.AttributeError("'zip'" + " object has no attribute " + "'len'");
+        throw PythonError.AttributeError("'zip'" + " object has no attribute " + "'len'");
     }
 
     @Override
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.misc;
+
+import java.math.*;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+import edu.uci.python.runtime.exception.PythonError;
+
+/**
+ * Arbitrary-precision helpers for Python ints that outgrew a long. Java's {@link BigInteger} is
+ * immutable and already switches to Karatsuba and Toom-Cook multiplication and squaring-based pow
+ * internally, so what these helpers save is allocation: small operands come from a cache, divmod
+ * does one division, and results of division and modulo that fit a machine word go back to the int
+ * or long tier instead of staying boxed in a BigInteger.
+ */
+public final class BigIntegerMath {
+
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = 1024;
+
+    private static final BigInteger[] cache = new BigInteger[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < cache.length; i++) {
+            cache[i] = BigInteger.valueOf(i + CACHE_LOW);
+        }
+    }
+
+    private BigIntegerMath() {
+    }
+
+    public static BigInteger valueOf(long value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return cache[(int) value - CACHE_LOW];
+        }
+
+        return BigInteger.valueOf(value);
+    }
+
+    /**
+     * Returns {@code value} as an int or a long if it fits.
+     */
+    public static Object narrow(BigInteger value) {
+        final int bitLength = value.bitLength();
+
+        if (bitLength < Integer.SIZE) {
+            return value.intValue();
+        } else if (bitLength < Long.SIZE) {
+            return value.longValue();
+        }
+
+        return value;
+    }
+
+    /**
+     * Quotient and remainder rounded towards negative infinity, as Python's divmod.
+     */
+    @TruffleBoundary
+    public static BigInteger[] floorDivMod(BigInteger left, BigInteger right) {
+        if (right.signum() == 0) {
+            throw PythonError.ZeroDivisionError("integer division or modulo by zero");
+        }
+
+        final BigInteger[] result = left.divideAndRemainder(right);
+
+        if (result[1].signum() != 0 && result[1].signum() != right.signum()) {
+            result[0] = result[0].subtract(BigInteger.ONE);
+            result[1] = result[1].add(right);
+        }
+
+        return result;
+    }
+
+    @TruffleBoundary
+    public static BigInteger floorMod(BigInteger left, BigInteger right) {
+        if (right.signum() > 0) {
+            return left.mod(right);
+        }
+
+        return floorDivMod(left, right)[1];
+    }
+
+    /**
+     * True division rounded to the nearest double. Converting both operands first would lose
+     * precision once they exceed 53 bits.
+     */
+    @TruffleBoundary
+    public static double trueDivide(BigInteger left, BigInteger right) {
+        if (right.signum() == 0) {
+            throw PythonError.ZeroDivisionError("integer division or modulo by zero");
+        }
+
+        if (left.bitLength() <= 53 && right.bitLength() <= 53) {
+            return left.doubleValue() / right.doubleValue();
+        }
+
+        return new BigDecimal(left).divide(new BigDecimal(right), MathContext.DECIMAL128).doubleValue();
+    }
+
+    /**
+     * {@code base ** exponent}; a negative exponent gives a float.
+     */
+    @TruffleBoundary
+    public static Object pow(BigInteger base, BigInteger exponent) {
+        if (exponent.signum() < 0) {
+            return Math.pow(base.doubleValue(), exponent.doubleValue());
+        }
+
+        if (exponent.bitLength() < Integer.SIZE) {
+            try {
+                return base.pow(exponent.intValue());
+            } catch (ArithmeticException e) {
+                // the result would exceed the BigInteger range
+                throw PythonError.OverflowError("exponent too large");
+            }
+        }
+
+        if (base.signum() == 0 || base.equals(BigInteger.ONE)) {
+            return base;
+        } else if (base.equals(BigInteger.ONE.negate())) {
+            return exponent.testBit(0) ? base : BigInteger.ONE;
+        }
+
+        throw PythonError.OverflowError("exponent too large");
+    }
+
+    /**
+     * Three argument pow: {@code base ** exponent % modulus} without computing the full power.
+     */
+    @TruffleBoundary
+    public static BigInteger modPow(BigInteger base, BigInteger exponent, BigInteger modulus) {
+        if (modulus.signum() == 0) {
+            throw PythonError.ValueError("pow() 3rd argument cannot be 0");
+        }
+
+        if (exponent.signum() < 0) {
+            throw PythonError.ValueError("pow() 2nd argument cannot be negative when 3rd argument specified");
+        }
+
+        final BigInteger result = base.modPow(exponent, modulus.abs());
+
+        if (modulus.signum() < 0 && result.signum() != 0) {
+            return result.add(modulus);
+        }
+
+        return result;
+    }
+
+}
@@ -31,6 +31,14 @@ import com.oracle.truffle.api.*;
 
 import edu.uci.python.runtime.object.location.*;
 
+/**
+ * Fixed object layouts form a transition tree. Adding, deleting or generalizing an attribute
+ * returns a successor layout that is cached in its predecessor, so that objects of a class which
+ * evolve the same way end up sharing the same layouts. A transition by itself does not invalidate
+ * the predecessor, since it is still a correct description of the objects that use it. Only the
+ * layout a class hands out to new instances is retired once the class moves on, see
+ * {@link FixedPythonObjectStorage#updateLayout}.
+ */
 public final class FixedObjectLayout extends ObjectLayout {
 
     private final int primitiveIntStorageLocationsUsed;
@@ -38,16 +46,26 @@ public final class FixedObjectLayout extends ObjectLayout {
     private final int fieldObjectStorageLocationsUsed;
     private final int arrayObjectStorageLocationsUsed;
 
+    // Shared by all layouts of a transition tree
+    private final Assumption ctorValidAssumption;
+    private final Map<String, FixedObjectLayout> transitions = new HashMap<>();
+
     public FixedObjectLayout(String originHint) {
         super(originHint);
         primitiveIntStorageLocationsUsed = 0;
         primitiveDoubleStorageLocationsUsed = 0;
         fieldObjectStorageLocationsUsed = 0;
         arrayObjectStorageLocationsUsed = 0;
+        ctorValidAssumption = Truffle.getRuntime().createAssumption(originHint + ".ctor");
     }
 
     public FixedObjectLayout(String originalHint, Map<String, Class<?>> storageTypes) {
+        this(originalHint, storageTypes, Truffle.getRuntime().createAssumption(originalHint + ".ctor"));
+    }
+
+    private FixedObjectLayout(String originalHint, Map<String, Class<?>> storageTypes, Assumption ctorValidAssumption) {
         super(originalHint);
+        this.ctorValidAssumption = ctorValidAssumption;
         int primitiveIntStorageLocationIndex = 0;
         int primitiveDoubleStorageLocationIndex = 0;
         int fieldObjectStorageLocationIndex = 0;
@@ -131,7 +149,7 @@ public final class FixedObjectLayout extends ObjectLayout {
 
     @Override
     public Assumption getCtorValidAssumption() {
-        return this.validAssumption;
+        return ctorValidAssumption;
     }
 
     @Override
@@ -143,26 +161,70 @@ public final class FixedObjectLayout extends ObjectLayout {
 
     @Override
     protected ObjectLayout addAttribute(String name, Class<?> type) {
-        final Map<String, Class<?>> attributeTypes = getAttributeTypes();
-        attributeTypes.put(name, type);
-        validAssumption.invalidate();
-        return new FixedObjectLayout(originHint + "+" + name, attributeTypes);
+        final String key = "+" + name + ":" + type.getName();
+        FixedObjectLayout successor = findTransition(key);
+
+        if (successor == null) {
+            final Map<String, Class<?>> attributeTypes = getAttributeTypes();
+            attributeTypes.put(name, type);
+            successor = addTransition(key, attributeTypes);
+        }
+
+        return successor;
     }
 
     @Override
     protected ObjectLayout deleteAttribute(String name) {
-        final Map<String, Class<?>> attributeTypes = getAttributeTypes();
-        attributeTypes.remove(name);
-        validAssumption.invalidate();
-        return new FixedObjectLayout(originHint + "-" + name, attributeTypes);
+        final String key = "-" + name;
+        FixedObjectLayout successor = findTransition(key);
+
+        if (successor == null) {
+            final Map<String, Class<?>> attributeTypes = getAttributeTypes();
+            attributeTypes.remove(name);
+            successor = addTransition(key, attributeTypes);
+        }
+
+        return successor;
     }
 
     @Override
     public ObjectLayout generalizedAttribute(String name) {
-        final Map<String, Class<?>> storageTypes = getAttributeTypes();
-        storageTypes.put(name, Object.class);
-        validAssumption.invalidate();
-        return new FixedObjectLayout(originHint + "!" + name, storageTypes);
+        final String key = "!" + name;
+        FixedObjectLayout successor = findTransition(key);
+
+        if (successor == null) {
+            final Map<String, Class<?>> storageTypes = getAttributeTypes();
+            storageTypes.put(name, Object.class);
+            successor = addTransition(key, storageTypes);
+        }
+
+        return successor;
+    }
+
+    /**
+     * A private layout is invalidated once its owner moves on, see
+     * {@link FixedPythonObjectStorage#updateLayout}. Such a successor must not be handed out again.
+     */
+    private FixedObjectLayout findTransition(String key) {
+        final FixedObjectLayout successor = transitions.get(key);
+
+        if (successor != null && successor.validAssumption.isValid()) {
+            return successor;
+        }
+
+        return null;
+    }
+
+    private FixedObjectLayout addTransition(String key, Map<String, Class<?>> attributeTypes) {
+        final FixedObjectLayout successor = new FixedObjectLayout(originHint + key, attributeTypes, ctorValidAssumption);
+        transitions.put(key, successor);
+        return successor;
+    }
+
+    @Override
+    protected ObjectLayout toFlexibleObjectLayout(Class<?> objectStorageClass) {
+        ctorValidAssumption.invalidate();
+        return super.toFlexibleObjectLayout(objectStorageClass);
     }
 
     @Override
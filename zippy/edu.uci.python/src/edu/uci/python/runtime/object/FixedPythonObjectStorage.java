@@ -25,9 +25,11 @@
 package edu.uci.python.runtime.object;
 
 import java.util.*;
+import java.util.Map.Entry;
 
 import com.oracle.truffle.api.*;
 
+import edu.uci.python.runtime.object.location.*;
 import edu.uci.python.runtime.standardtype.*;
 
 public class FixedPythonObjectStorage extends PythonObject {
@@ -94,19 +96,35 @@ public class FixedPythonObjectStorage extends PythonObject {
     }
 
     @Override
-    public void updateLayout(ObjectLayout newLayout) {
+    public void updateLayout(ObjectLayout requestedLayout) {
         CompilerDirectives.transferToInterpreterAndInvalidate();
         assert verifyLayout();
 
         // Get the current values of instance variables
         final Map<String, Object> instanceVariableMap = getAttributes();
+        final ObjectLayout oldLayout = objectLayout;
 
         // Use new Layout
+        final ObjectLayout newLayout = fitToValues(requestedLayout, instanceVariableMap);
         objectLayout = newLayout;
 
-        // Synchronize instance object layout with the class
         if (!usePrivateLayout) {
+            if (oldLayout != newLayout && oldLayout == pythonClass.getInstanceObjectLayout()) {
+                /*
+                 * New instances no longer start from the old layout. Retire it so that inline
+                 * caches keyed on it give way to the current one instead of piling up.
+                 */
+                oldLayout.getValidAssumption().invalidate();
+            }
+
+            // Synchronize instance object layout with the class
             pythonClass.updateInstanceObjectLayout(newLayout);
+        } else if (oldLayout != newLayout) {
+            /*
+             * Attribute lookups through classes and modules rely on the stable assumption of their
+             * private layout rather than on a layout comparison.
+             */
+            oldLayout.getValidAssumption().invalidate();
         }
 
         // Make all primitives as unset
@@ -121,4 +139,34 @@ public class FixedPythonObjectStorage extends PythonObject {
         assert verifyLayout();
     }
 
+    /**
+     * An int attribute that did not get a primitive slot is kept in an object slot, where it may
+     * since have grown into a long or a BigInteger. A new layout can hand that attribute a
+     * primitive slot again, so generalize every attribute whose current value would not fit.
+     */
+    private static ObjectLayout fitToValues(ObjectLayout layout, Map<String, Object> values) {
+        ObjectLayout result = layout;
+        boolean changed = true;
+
+        while (changed) {
+            changed = false;
+
+            for (Entry<String, Object> entry : values.entrySet()) {
+                final StorageLocation location = result.findStorageLocation(entry.getKey());
+
+                if (location != null && isPrimitive(location) && !location.getStoredClass().isInstance(entry.getValue())) {
+                    result = result.generalizedAttribute(entry.getKey());
+                    changed = true;
+                    break;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private static boolean isPrimitive(StorageLocation location) {
+        return location instanceof IntStorageLocation || location instanceof DoubleStorageLocation || location instanceof BooleanStorageLocation;
+    }
+
 }
@@ -27,13 +27,13 @@ package edu.uci.python.runtime.object;
 import java.util.*;
 import java.util.Map.Entry;
 
-import org.python.core.*;
-
 import com.oracle.truffle.api.*;
 import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
 
 import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.exception.*;
 import edu.uci.python.runtime.object.location.*;
+import edu.uci.python.runtime.sequence.*;
 import edu.uci.python.runtime.standardtype.*;
 
 public abstract class PythonObject implements Comparable<Object> {
@@ -182,7 +182,7 @@ public abstract class PythonObject implements Comparable<Object> {
         StorageLocation storageLocation = objectLayout.findStorageLocation(name);
 
         if (storageLocation == null) {
-            throw Py.AttributeError(this + " object has no attribute " + name);
+            throw PythonError.AttributeError(this + " object has no attribute " + name);
         }
 
         updateLayout(objectLayout.deleteAttribute(name));
@@ -272,7 +272,7 @@ public abstract class PythonObject implements Comparable<Object> {
 
     @Override
     public int compareTo(Object o) {
-        return this.equals(o) ? 0 : 1;
+        return this.equals(o) ? 0 : new PythonComparator().compare(this, o);
     }
 
     @Override
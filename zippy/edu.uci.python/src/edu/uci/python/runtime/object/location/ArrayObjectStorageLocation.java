@@ -24,10 +24,9 @@
  */
 package edu.uci.python.runtime.object.location;
 
-import org.python.core.*;
-
 import com.oracle.truffle.api.*;
 
+import edu.uci.python.runtime.exception.*;
 import edu.uci.python.runtime.object.*;
 
 public final class ArrayObjectStorageLocation extends StorageLocation {
@@ -55,7 +54,7 @@ public final class ArrayObjectStorageLocation extends StorageLocation {
         }
 
         CompilerDirectives.transferToInterpreterAndInvalidate();
-        throw Py.AttributeError(object + " object has no attribute " + getObjectLayout().findAttributeId(this));
+        throw PythonError.AttributeError(object + " object has no attribute " + getObjectLayout().findAttributeId(this));
     }
 
     @Override
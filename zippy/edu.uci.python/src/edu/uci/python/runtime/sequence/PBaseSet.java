@@ -26,66 +26,90 @@ package edu.uci.python.runtime.sequence;
 
 import java.util.*;
 
-import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
-
 import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.datatype.storage.*;
 import edu.uci.python.runtime.exception.*;
 import edu.uci.python.runtime.iterator.*;
 import edu.uci.python.runtime.standardtype.*;
 
 public abstract class PBaseSet extends PythonBuiltinObject implements PIterable {
 
-    protected final TreeSet<Object> set;
+    protected SetStorage store;
 
     public PBaseSet() {
-        this.set = new TreeSet<>();
+        this.store = EmptySetStorage.INSTANCE;
     }
 
-    public PBaseSet(TreeSet<Object> elements) {
-        this.set = elements;
+    public PBaseSet(SetStorage store) {
+        this.store = store;
     }
 
     public PBaseSet(PIterator iter) {
         this();
-        try {
-            while (true) {
-                this.set.add(iter.__next__());
-            }
-        } catch (StopIterationException e) {
-            // fall through
-        }
+        updateInternal(iter);
     }
 
     public PBaseSet(PBaseSet baseSet) {
-        this();
-        addAll(baseSet);
+        this(baseSet.store.copy());
     }
 
-    @TruffleBoundary
-    private void addAll(PBaseSet baseSet) {
-        this.set.addAll(baseSet.set);
-    }
-
-    public Set<Object> getSet() {
-        return set;
+    public final SetStorage getStorage() {
+        return store;
     }
 
     public PIterator __iter__() {
-        return new PBaseSetIterator(set.iterator());
+        return new PBaseSetIterator(store);
     }
 
     public final boolean contains(Object o) {
-        return this.set.contains(o);
+        return store.contains(o);
+    }
+
+    public final Object[] toArray() {
+        final Object[] array = new Object[store.length()];
+        int index = 0;
+
+        for (int i = store.nextEntry(0); i >= 0; i = store.nextEntry(i + 1)) {
+            array[index++] = store.elementAt(i);
+        }
+
+        return array;
+    }
+
+    protected final boolean addElement(Object o) {
+        try {
+            return store.add(o);
+        } catch (SetStoreException e) {
+            store = store.generalizeFor(o);
+
+            try {
+                return store.add(o);
+            } catch (SetStoreException ex) {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+    protected final boolean removeElement(Object o) {
+        return store.remove(o);
     }
 
     // disjoint
     public boolean isDisjoint(PBaseSet other) {
-        return Collections.disjoint(this.set, other.set);
+        final SetStorage smaller = len() <= other.len() ? store : other.store;
+        final SetStorage larger = smaller == store ? other.store : store;
+
+        for (int i = smaller.nextEntry(0); i >= 0; i = smaller.nextEntry(i + 1)) {
+            if (larger.contains(smaller.elementAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
-    @SuppressWarnings("unused")
     public boolean isDisjoint(PIterator other) {
-        throw new UnsupportedOperationException();
+        return this.isDisjoint(new PSet(other));
     }
 
     // subset
@@ -94,11 +118,12 @@ public abstract class PBaseSet extends PythonBuiltinObject implements PIterable
             return false;
         }
 
-        for (Object p : this.set) {
-            if (!other.set.contains(p)) {
+        for (int i = store.nextEntry(0); i >= 0; i = store.nextEntry(i + 1)) {
+            if (!other.store.contains(store.elementAt(i))) {
                 return false;
             }
         }
+
         return true;
     }
 
@@ -127,7 +152,7 @@ public abstract class PBaseSet extends PythonBuiltinObject implements PIterable
     // union
     public PBaseSet union(PBaseSet other) {
         PBaseSet newSet = cloneThisSet();
-        newSet.set.addAll(other.set);
+        newSet.updateInternal(other);
         return newSet;
     }
 
@@ -137,10 +162,9 @@ public abstract class PBaseSet extends PythonBuiltinObject implements PIterable
 
     // intersection
     public PBaseSet intersection(PBaseSet other) {
-        boolean set1IsLarger = set.size() > other.set.size();
-        PBaseSet cloneSet = (set1IsLarger ? other.cloneThisSet() : this.cloneThisSet());
-        cloneSet.set.retainAll(set1IsLarger ? this.set : other.set);
-        return cloneSet;
+        PBaseSet newSet = cloneThisSet();
+        newSet.retainAll(other);
+        return newSet;
     }
 
     public PBaseSet intersection(PIterator other) {
@@ -150,18 +174,19 @@ public abstract class PBaseSet extends PythonBuiltinObject implements PIterable
     // difference
     public PBaseSet difference(PBaseSet other) {
         PBaseSet newSet = cloneThisSet();
-        newSet.set.removeAll(other.set);
+        newSet.removeAll(other);
         return newSet;
     }
 
     public PBaseSet difference(PIterator other) {
-        return this.intersection(new PSet(other));
+        return this.difference(new PSet(other));
     }
 
     // symmetric_difference
-    @SuppressWarnings("unused")
     public PBaseSet symmetricDifference(PBaseSet other) {
-        throw new UnsupportedOperationException();
+        PBaseSet newSet = cloneThisSet();
+        newSet.toggleAll(other);
+        return newSet;
     }
 
     // copy
@@ -175,36 +200,30 @@ public abstract class PBaseSet extends PythonBuiltinObject implements PIterable
     public abstract void update(PIterator iterator);
 
     // intersection_update
-    @SuppressWarnings("unused")
     public void intersectionUpdate(PBaseSet other) {
-        throw new UnsupportedOperationException();
+        retainAll(other);
     }
 
-    @SuppressWarnings("unused")
     public void intersectionUpdate(PIterator iterator) {
-        throw new UnsupportedOperationException();
+        retainAll(new PSet(iterator));
     }
 
     // difference_update
-    @SuppressWarnings("unused")
     public void differenceUpdate(PBaseSet other) {
-        throw new UnsupportedOperationException();
+        removeAll(other);
     }
 
-    @SuppressWarnings("unused")
     public void differenceUpdate(PIterator iterator) {
-        throw new UnsupportedOperationException();
+        removeAll(new PSet(iterator));
     }
 
     // symmetric_difference_update
-    @SuppressWarnings("unused")
     public void symmetricDifferenceUpdate(PBaseSet other) {
-        throw new UnsupportedOperationException();
+        toggleAll(other);
     }
 
-    @SuppressWarnings("unused")
     public void symmetricDifferenceUpdate(PIterator iterator) {
-        throw new UnsupportedOperationException();
+        toggleAll(new PSet(iterator));
     }
 
     protected abstract PBaseSet cloneThisSet();
@@ -218,53 +237,118 @@ public abstract class PBaseSet extends PythonBuiltinObject implements PIterable
         if (data instanceof PBaseSet) {
             updateInternal((PBaseSet) data);
         } else if (data instanceof PIterator) {
-            throw new UnsupportedOperationException();
+            updateInternal((PIterator) data);
         }
     }
 
     protected void updateInternal(PBaseSet data) {
-        // Skip the iteration if both are sets
-        set.addAll(data.set);
+        final SetStorage other = data.store;
+
+        for (int i = other.nextEntry(0); i >= 0; i = other.nextEntry(i + 1)) {
+            addElement(other.elementAt(i));
+        }
     }
 
     protected void updateInternal(PIterator iterator) {
         try {
             while (true) {
-                set.add(iterator.__next__());
+                addElement(iterator.__next__());
             }
         } catch (StopIterationException e) {
             // fall through
         }
     }
 
+    /**
+     * Deleted entries stay in place in the dense arrays, so removing while walking the own storage
+     * is safe.
+     */
+    private void retainAll(PBaseSet other) {
+        for (int i = store.nextEntry(0); i >= 0; i = store.nextEntry(i + 1)) {
+            final Object element = store.elementAt(i);
+
+            if (!other.store.contains(element)) {
+                store.remove(element);
+            }
+        }
+    }
+
+    private void removeAll(PBaseSet other) {
+        if (other.len() < len()) {
+            for (int i = other.store.nextEntry(0); i >= 0; i = other.store.nextEntry(i + 1)) {
+                store.remove(other.store.elementAt(i));
+            }
+        } else {
+            for (int i = store.nextEntry(0); i >= 0; i = store.nextEntry(i + 1)) {
+                final Object element = store.elementAt(i);
+
+                if (other.store.contains(element)) {
+                    store.remove(element);
+                }
+            }
+        }
+    }
+
+    private void toggleAll(PBaseSet other) {
+        final SetStorage otherStore = other == this ? store.copy() : other.store;
+
+        for (int i = otherStore.nextEntry(0); i >= 0; i = otherStore.nextEntry(i + 1)) {
+            final Object element = otherStore.elementAt(i);
+
+            if (!store.remove(element)) {
+                addElement(element);
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof PBaseSet)) {
+            return false;
+        }
+
+        PBaseSet otherSet = (PBaseSet) other;
+        return this.len() == otherSet.len() && this.isSubset(otherSet);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
     @Override
     public Object getMax() {
-        return this.set.last();
+        final Object[] copy = toArray();
+        Arrays.sort(copy);
+        return copy[copy.length - 1];
     }
 
     @Override
     public Object getMin() {
-        return this.set.first();
+        final Object[] copy = toArray();
+        Arrays.sort(copy);
+        return copy[0];
     }
 
     @Override
     public int len() {
-        return this.set.size();
+        return store.length();
     }
 
     @Override
     public String toString() {
-        if (set.size() == 0) {
+        if (store.length() == 0) {
             return "set()";
         }
 
         StringBuilder buf = new StringBuilder().append("{");
 
-        for (Iterator<Object> i = set.iterator(); i.hasNext();) {
-            String str = PSequence.toString(i.next());
+        for (int i = store.nextEntry(0); i >= 0;) {
+            String str = PSequence.toString(store.elementAt(i));
             buf.append(str);
+            i = store.nextEntry(i + 1);
 
-            if (i.hasNext()) {
+            if (i >= 0) {
                 buf.append(", ");
             }
         }
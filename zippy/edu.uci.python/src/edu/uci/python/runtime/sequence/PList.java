@@ -26,15 +26,15 @@ package edu.uci.python.runtime.sequence;
 
 import java.util.*;
 
-import org.python.core.*;
-
 import com.oracle.truffle.api.*;
 import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 
 import edu.uci.python.runtime.*;
 import edu.uci.python.runtime.builtin.*;
 import edu.uci.python.runtime.datatype.*;
 import edu.uci.python.runtime.exception.*;
+import edu.uci.python.runtime.function.*;
 import edu.uci.python.runtime.iterator.*;
 import edu.uci.python.runtime.sequence.storage.*;
 
@@ -189,29 +189,79 @@ public class PList extends PSequence {
 
     @Override
     public final Object getMax() {
-        Object[] copy = store.getCopyOfInternalArray();
-        Arrays.sort(copy);
-        return copy[copy.length - 1];
+        return PythonComparator.max(store.getCopyOfInternalArray(), store.length());
     }
 
     @Override
     public final Object getMin() {
-        Object[] copy = store.getCopyOfInternalArray();
-        Arrays.sort(copy);
-        return copy[0];
+        return PythonComparator.min(store.getCopyOfInternalArray(), store.length());
     }
 
     public final void sort() {
         store.sort();
     }
 
+    /**
+     * Stable sort with an optional key function, called once per element, and reverse order.
+     * Unboxed storages without a key are sorted in place.
+     */
+    @TruffleBoundary
+    public final void sort(PythonCallable key, final boolean reverse) {
+        if (key == null && (!reverse || store instanceof IntSequenceStorage || store instanceof LongSequenceStorage || store instanceof DoubleSequenceStorage)) {
+            store.sort();
+
+            if (reverse) {
+                store.reverse();
+            }
+
+            return;
+        }
+
+        final int length = store.length();
+        final Object[][] entries = new Object[length][];
+
+        for (int i = 0; i < length; i++) {
+            final Object value = store.getItemNormalized(i);
+            final Object sortKey = key == null ? value : key.call(PArguments.createWithUserArguments(value));
+            entries[i] = new Object[]{sortKey, value};
+        }
+
+        final PythonComparator comparator = new PythonComparator();
+
+        Arrays.sort(entries, new Comparator<Object[]>() {
+            public int compare(Object[] first, Object[] second) {
+                return reverse ? comparator.compare(second[0], first[0]) : comparator.compare(first[0], second[0]);
+            }
+        });
+
+        try {
+            for (int i = 0; i < length; i++) {
+                store.setItemNormalized(i, entries[i][1]);
+            }
+        } catch (SequenceStoreException e) {
+            throw new IllegalStateException();
+        }
+    }
+
     @Override
     public final int len() {
         return store.length();
     }
 
     public final PList __mul__(int value) {
-        assert value > 0;
+        if (value <= 0) {
+            return new PList();
+        }
+
+        if (store instanceof IntSequenceStorage) {
+            return new PList(((IntSequenceStorage) store).repeat(value));
+        } else if (store instanceof LongSequenceStorage) {
+            return new PList(((LongSequenceStorage) store).repeat(value));
+        } else if (store instanceof DoubleSequenceStorage) {
+            return new PList(((DoubleSequenceStorage) store).repeat(value));
+        }
+
+        SequenceUtil.repeatLength(store.length(), value);
         SequenceStorage newStore = store.copy();
 
         try {
@@ -291,7 +341,7 @@ public class PList extends PSequence {
         }
 
         CompilerDirectives.transferToInterpreterAndInvalidate();
-        throw Py.ValueError(value + " is not in list");
+        throw PythonError.ValueError(value + " is not in list");
     }
 
     public final void insert(int index, Object value) {
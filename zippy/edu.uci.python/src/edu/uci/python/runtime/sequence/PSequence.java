@@ -59,7 +59,7 @@ public abstract class PSequence extends PythonBuiltinObject implements PIterable
     public abstract boolean lessThan(PSequence sequence);
 
     public static String toString(Object item) {
-        if (item instanceof String) {
+        if (item instanceof String || item instanceof PString) {
             return "'" + item.toString() + "'";
         } else if (item instanceof Boolean) {
             return ((boolean) item ? "True" : "False");
@@ -24,10 +24,9 @@
  */
 package edu.uci.python.runtime.sequence;
 
-import java.util.*;
-
 import edu.uci.python.runtime.*;
 import edu.uci.python.runtime.builtin.*;
+import edu.uci.python.runtime.datatype.storage.*;
 import edu.uci.python.runtime.iterator.*;
 
 public final class PSet extends PBaseSet {
@@ -38,8 +37,8 @@ public final class PSet extends PBaseSet {
         super();
     }
 
-    public PSet(TreeSet<Object> elements) {
-        super(elements);
+    public PSet(SetStorage store) {
+        super(store);
     }
 
     public PSet(PIterator iterator) {
@@ -73,30 +72,27 @@ public final class PSet extends PBaseSet {
 
     // add
     public boolean add(Object o) {
-        return set.add(o);
+        return addElement(o);
     }
 
     // remove
-    @SuppressWarnings({"unused", "static-method"})
     public boolean remove(Object o) {
-        throw new UnsupportedOperationException();
+        return removeElement(o);
     }
 
     // discard
-    @SuppressWarnings({"unused", "static-method"})
     public boolean discard(Object o) {
-        throw new UnsupportedOperationException();
+        return removeElement(o);
     }
 
     // pop
-    @SuppressWarnings("static-method")
-    public boolean pop() {
-        throw new UnsupportedOperationException();
+    public Object pop() {
+        return store.pop();
     }
 
     // clear
     public void clear() {
-        set.clear();
+        store = EmptySetStorage.INSTANCE;
     }
 
 }
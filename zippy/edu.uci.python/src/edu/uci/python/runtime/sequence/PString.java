@@ -27,16 +27,123 @@ package edu.uci.python.runtime.sequence;
 import edu.uci.python.runtime.*;
 import edu.uci.python.runtime.builtin.*;
 import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.exception.*;
 import edu.uci.python.runtime.sequence.storage.*;
 
+/**
+ * A boxed {@code str}. Most strings are plain {@link String}s; a {@code PString} is what string
+ * concatenation produces once the result grows large.
+ * <p>
+ * A concatenation does not copy its operands. Its characters live in a {@link StringBuilder} shared
+ * along a chain of concatenations: appending to the string that ends the builder extends the
+ * builder in place, so {@code s += piece} in a loop is linear instead of quadratic. The flat
+ * {@link String} is only materialized, and then cached, when the value is indexed, hashed or
+ * handed to code that needs a {@code String}.
+ */
 public final class PString extends PImmutableSequence {
 
     public static final PythonBuiltinClass __class__ = PythonContext.getBuiltinTypeFor(PString.class);
 
-    private final String value;
+    /**
+     * Concatenations shorter than this are plain {@link String}s.
+     */
+    public static final int LAZY_CONCAT_THRESHOLD = 1024;
+
+    private String value;
+    private final StringBuilder builder;
+    private final int length;
 
     public PString(String value) {
         this.value = value;
+        this.builder = null;
+        this.length = value.length();
+    }
+
+    private PString(StringBuilder builder, int length) {
+        this.builder = builder;
+        this.length = length;
+    }
+
+    /**
+     * Returns {@code left + right}, as a lazily concatenated {@code PString} if the result is long.
+     */
+    public static Object concat(String left, String right) {
+        int resultLength = left.length() + right.length();
+        if (resultLength < LAZY_CONCAT_THRESHOLD) {
+            return left + right;
+        }
+
+        StringBuilder sb = new StringBuilder(resultLength * 2);
+        sb.append(left).append(right);
+        return new PString(sb, resultLength);
+    }
+
+    public PString append(String suffix) {
+        if (builder != null && builder.length() == length) {
+            builder.append(suffix);
+            return new PString(builder, builder.length());
+        }
+
+        StringBuilder sb = new StringBuilder((length + suffix.length()) * 2);
+        appendTo(sb);
+        sb.append(suffix);
+        return new PString(sb, sb.length());
+    }
+
+    public PString append(PString suffix) {
+        if (suffix.value != null) {
+            return append(suffix.value);
+        }
+
+        StringBuilder sb = new StringBuilder((length + suffix.length) * 2);
+        appendTo(sb);
+        suffix.appendTo(sb);
+        return new PString(sb, sb.length());
+    }
+
+    /**
+     * Appends the characters of this string without materializing it.
+     */
+    public void appendTo(StringBuilder sb) {
+        if (value != null) {
+            sb.append(value);
+        } else {
+            sb.append(builder, 0, length);
+        }
+    }
+
+    /**
+     * Returns {@code value} with a {@code PString} replaced by its flat {@link String}, so that it
+     * can be compared against a plain {@code String} with {@link Object#equals}.
+     */
+    public static Object normalize(Object value) {
+        return value instanceof PString ? ((PString) value).getValue() : value;
+    }
+
+    public static void appendTo(StringBuilder sb, Object element) {
+        if (element instanceof PString) {
+            ((PString) element).appendTo(sb);
+        } else {
+            sb.append(element);
+        }
+    }
+
+    public boolean startsWith(String prefix) {
+        if (value != null) {
+            return value.startsWith(prefix);
+        }
+
+        if (prefix.length() > length) {
+            return false;
+        }
+
+        for (int i = 0; i < prefix.length(); i++) {
+            if (builder.charAt(i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     @Override
@@ -45,58 +152,129 @@ public final class PString extends PImmutableSequence {
     }
 
     public String getValue() {
+        if (value == null) {
+            value = builder.substring(0, length);
+        }
+
         return value;
     }
 
     @Override
     public int len() {
-        return value.length();
+        return length;
     }
 
     @Override
     public Object getItem(int idx) {
-        return value.charAt(idx);
+        return String.valueOf(getValue().charAt(idx));
     }
 
     @Override
-    public Object getSlice(int start, int stop, int step, int length) {
-        throw new UnsupportedOperationException();
+    public Object getSlice(int start, int stop, int step, int sliceLength) {
+        final String flat = getValue();
+
+        if (step == 1) {
+            return flat.substring(start, Math.max(start, stop));
+        }
+
+        final char[] chars = new char[sliceLength];
+        for (int i = start, j = 0; j < sliceLength; i += step, j++) {
+            chars[j] = flat.charAt(i);
+        }
+
+        return new String(chars);
     }
 
     @Override
     public Object getSlice(PSlice slice) {
-        throw new UnsupportedOperationException();
+        final int sliceLength = slice.computeActualIndices(length);
+        return getSlice(slice.getStart(), slice.getStop(), slice.getStep(), sliceLength);
     }
 
     @Override
     public boolean lessThan(PSequence sequence) {
-        throw new UnsupportedOperationException();
+        if (!(sequence instanceof PString)) {
+            throw PythonError.TypeError("unorderable types: str() < " + sequence.__class__().getName() + "()");
+        }
+
+        return getValue().compareTo(((PString) sequence).getValue()) < 0;
     }
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof PString) {
+            return getValue().equals(((PString) other).getValue());
+        }
+
+        return other instanceof String && getValue().equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return getValue().hashCode();
     }
 
     @Override
     public SequenceStorage getStorage() {
-        throw new UnsupportedOperationException();
+        final Object[] chars = new Object[length];
+
+        for (int i = 0; i < length; i++) {
+            chars[i] = getItem(i);
+        }
+
+        return new ObjectSequenceStorage(chars);
     }
 
+    /**
+     * The position of a substring, which is what {@code in} asks of a string.
+     */
     @SuppressWarnings("hiding")
     @Override
     public int index(Object value) {
-        throw new UnsupportedOperationException();
+        final Object normalized = normalize(value);
+
+        if (!(normalized instanceof String)) {
+            throw PythonError.TypeError("'in <string>' requires string as left operand");
+        }
+
+        return getValue().indexOf((String) normalized);
     }
 
     @Override
     public Object getMax() {
-        throw new UnsupportedOperationException();
+        final String flat = getValue();
+        checkNotEmpty("max");
+        char max = flat.charAt(0);
+
+        for (int i = 1; i < length; i++) {
+            max = (char) Math.max(max, flat.charAt(i));
+        }
+
+        return String.valueOf(max);
     }
 
     @Override
     public Object getMin() {
-        throw new UnsupportedOperationException();
+        final String flat = getValue();
+        checkNotEmpty("min");
+        char min = flat.charAt(0);
+
+        for (int i = 1; i < length; i++) {
+            min = (char) Math.min(min, flat.charAt(i));
+        }
+
+        return String.valueOf(min);
+    }
+
+    private void checkNotEmpty(String function) {
+        if (length == 0) {
+            throw PythonError.ValueError(function + "() arg is an empty sequence");
+        }
     }
 
 }
@@ -26,8 +26,6 @@ package edu.uci.python.runtime.sequence;
 
 import java.util.*;
 
-import org.python.core.*;
-
 import com.oracle.truffle.api.*;
 
 import edu.uci.python.runtime.*;
@@ -91,7 +89,7 @@ public final class PTuple extends PImmutableSequence implements Comparable<Objec
             return array[index];
         } catch (ArrayIndexOutOfBoundsException e) {
             CompilerDirectives.transferToInterpreterAndInvalidate();
-            throw Py.IndexError("tuple index out of range");
+            throw PythonError.IndexError("tuple index out of range");
         }
     }
 
@@ -162,16 +160,12 @@ public final class PTuple extends PImmutableSequence implements Comparable<Objec
 
     @Override
     public Object getMin() {
-        Object[] copy = Arrays.copyOf(this.array, this.array.length);
-        Arrays.sort(copy);
-        return copy[0];
+        return PythonComparator.min(array, array.length);
     }
 
     @Override
     public Object getMax() {
-        Object[] copy = Arrays.copyOf(this.array, this.array.length);
-        Arrays.sort(copy);
-        return copy[copy.length - 1];
+        return PythonComparator.max(array, array.length);
     }
 
     public PTuple __add__(PTuple tuple) {
@@ -195,10 +189,12 @@ public final class PTuple extends PImmutableSequence implements Comparable<Objec
 
     @Override
     public int index(Object value) {
+        final Object normalized = PString.normalize(value);
+
         for (int i = 0; i < array.length; i++) {
-            Object val = array[i];
+            Object val = PString.normalize(array[i]);
 
-            if (val.equals(value)) {
+            if (val.equals(normalized)) {
                 return i;
             }
         }
@@ -217,7 +213,17 @@ public final class PTuple extends PImmutableSequence implements Comparable<Objec
         }
 
         PTuple otherTuple = (PTuple) other;
-        return Arrays.equals(array, otherTuple.array);
+        if (array.length != otherTuple.array.length) {
+            return false;
+        }
+
+        for (int i = 0; i < array.length; i++) {
+            if (!PString.normalize(array[i]).equals(PString.normalize(otherTuple.array[i]))) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     @Override
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.sequence;
+
+import java.math.*;
+import java.util.*;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+import edu.uci.python.runtime.exception.*;
+import edu.uci.python.runtime.function.*;
+import edu.uci.python.runtime.misc.*;
+import edu.uci.python.runtime.object.*;
+import edu.uci.python.runtime.standardtype.*;
+
+/**
+ * Orders values the way Python's sort does, using only "less than". Numbers and strings are
+ * compared directly, sequences lexicographically, and user objects through their __lt__ method.
+ * The method is looked up once per class and reused for as long as the objects being compared
+ * share it, which is the common case when sorting records.
+ */
+public final class PythonComparator implements Comparator<Object> {
+
+    private PythonClass cachedClass;
+    private PythonCallable cachedLessThan;
+
+    /**
+     * The largest of the first {@code length} values, the first one on ties, as max() returns it.
+     */
+    @TruffleBoundary
+    public static Object max(Object[] values, int length) {
+        checkNotEmpty("max", length);
+        final PythonComparator comparator = new PythonComparator();
+        Object max = values[0];
+
+        for (int i = 1; i < length; i++) {
+            if (comparator.lessThan(max, values[i])) {
+                max = values[i];
+            }
+        }
+
+        return max;
+    }
+
+    /**
+     * The smallest of the first {@code length} values, the first one on ties, as min() returns it.
+     */
+    @TruffleBoundary
+    public static Object min(Object[] values, int length) {
+        checkNotEmpty("min", length);
+        final PythonComparator comparator = new PythonComparator();
+        Object min = values[0];
+
+        for (int i = 1; i < length; i++) {
+            if (comparator.lessThan(values[i], min)) {
+                min = values[i];
+            }
+        }
+
+        return min;
+    }
+
+    private static void checkNotEmpty(String function, int length) {
+        if (length == 0) {
+            throw PythonError.ValueError(function + "() arg is an empty sequence");
+        }
+    }
+
+    @Override
+    public int compare(Object left, Object right) {
+        if (lessThan(left, right)) {
+            return -1;
+        }
+
+        return lessThan(right, left) ? 1 : 0;
+    }
+
+    @TruffleBoundary
+    public boolean lessThan(Object left, Object right) {
+        if (left instanceof Integer && right instanceof Integer) {
+            return (int) left < (int) right;
+        } else if (isNumber(left) && isNumber(right)) {
+            if (left instanceof Double || right instanceof Double) {
+                return toDouble(left) < toDouble(right);
+            }
+
+            return toBigInteger(left).compareTo(toBigInteger(right)) < 0;
+        } else if (isString(left) && isString(right)) {
+            return left.toString().compareTo(right.toString()) < 0;
+        } else if (left instanceof PythonObject && !(left instanceof PythonClass)) {
+            final Object result = getLessThan((PythonObject) left).call(PArguments.createWithUserArguments(left, right));
+            return JavaTypeConversions.toBoolean(result);
+        } else if (left instanceof PSequence && right instanceof PSequence && left.getClass() == right.getClass()) {
+            return sequenceLessThan((PSequence) left, (PSequence) right);
+        }
+
+        throw PythonError.TypeError("unorderable types: " + left + " < " + right);
+    }
+
+    private PythonCallable getLessThan(PythonObject object) {
+        final PythonClass clazz = object.getPythonClass();
+
+        if (clazz != cachedClass) {
+            final PythonCallable method = clazz.lookUpMethod("__lt__");
+
+            if (method == null) {
+                throw PythonError.TypeError("unorderable types: " + clazz.getName() + "() < " + clazz.getName() + "()");
+            }
+
+            cachedClass = clazz;
+            cachedLessThan = method;
+        }
+
+        return cachedLessThan;
+    }
+
+    private boolean sequenceLessThan(PSequence left, PSequence right) {
+        final int length = Math.min(left.len(), right.len());
+
+        for (int i = 0; i < length; i++) {
+            final Object leftItem = left.getItem(i);
+            final Object rightItem = right.getItem(i);
+
+            if (!itemsEqual(leftItem, rightItem)) {
+                return lessThan(leftItem, rightItem);
+            }
+        }
+
+        return left.len() < right.len();
+    }
+
+    private static boolean itemsEqual(Object left, Object right) {
+        if (isNumber(left) && isNumber(right)) {
+            if (left instanceof Double || right instanceof Double) {
+                return toDouble(left) == toDouble(right);
+            }
+
+            return toBigInteger(left).equals(toBigInteger(right));
+        } else if (isString(left) && isString(right)) {
+            return left.toString().equals(right.toString());
+        }
+
+        return left.equals(right);
+    }
+
+    private static boolean isNumber(Object value) {
+        return value instanceof Integer || value instanceof Double || value instanceof Long || value instanceof BigInteger || value instanceof Boolean;
+    }
+
+    private static boolean isString(Object value) {
+        return value instanceof String || value instanceof PString || value instanceof Character;
+    }
+
+    private static double toDouble(Object value) {
+        if (value instanceof Double) {
+            return (double) value;
+        }
+
+        return toBigInteger(value).doubleValue();
+    }
+
+    private static BigInteger toBigInteger(Object value) {
+        if (value instanceof BigInteger) {
+            return (BigInteger) value;
+        } else if (value instanceof Boolean) {
+            return (boolean) value ? BigInteger.ONE : BigInteger.ZERO;
+        }
+
+        return BigInteger.valueOf(((Number) value).longValue());
+    }
+
+}
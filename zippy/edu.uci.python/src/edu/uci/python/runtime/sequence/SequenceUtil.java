@@ -24,6 +24,14 @@
  */
 package edu.uci.python.runtime.sequence;
 
+import java.math.*;
+
+import org.python.core.*;
+
+import com.oracle.truffle.api.*;
+
+import edu.uci.python.runtime.exception.PythonError;
+
 public class SequenceUtil {
 
     public static final int MISSING_INDEX = Integer.MIN_VALUE;
@@ -92,4 +100,41 @@ public class SequenceUtil {
         }
     }
 
+    /**
+     * Converts an integer subscript to a sequence index, like CPython's {@code PyNumber_AsSsize_t}
+     * with an {@code IndexError}.
+     */
+    public static int toIndex(long index) {
+        if (index == (int) index) {
+            return (int) index;
+        }
+
+        CompilerDirectives.transferToInterpreter();
+        throw PythonError.IndexError("cannot fit 'int' into an index-sized integer");
+    }
+
+    public static int toIndex(BigInteger index) {
+        if (index.bitLength() < Integer.SIZE) {
+            return index.intValue();
+        }
+
+        CompilerDirectives.transferToInterpreter();
+        throw PythonError.IndexError("cannot fit 'int' into an index-sized integer");
+    }
+
+    /**
+     * Returns the length of a sequence of {@code length} items repeated {@code times} times, raising
+     * a {@code MemoryError} if it does not fit in an array.
+     */
+    public static int repeatLength(int length, int times) {
+        final long result = (long) length * times;
+
+        if (result > Integer.MAX_VALUE) {
+            CompilerDirectives.transferToInterpreter();
+            throw Py.MemoryError("");
+        }
+
+        return (int) result;
+    }
+
 }
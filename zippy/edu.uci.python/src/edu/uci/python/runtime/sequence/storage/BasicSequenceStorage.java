@@ -25,9 +25,15 @@
 package edu.uci.python.runtime.sequence.storage;
 
 import edu.uci.python.runtime.PythonOptions;
+import edu.uci.python.runtime.sequence.PString;
 
 public abstract class BasicSequenceStorage extends SequenceStorage {
 
+    /**
+     * Arrays shorter than this are not worth splitting across threads.
+     */
+    protected static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+
     protected final PythonOptions options;
 
     // nominated storage length
@@ -72,8 +78,9 @@ public abstract class BasicSequenceStorage extends SequenceStorage {
 
     @Override
     public int index(Object value) {
+        Object normalized = PString.normalize(value);
         for (int i = 0; i < length; i++) {
-            if (getItemNormalized(i).equals(value)) {
+            if (getItemNormalized(i).equals(normalized)) {
                 return i;
             }
         }
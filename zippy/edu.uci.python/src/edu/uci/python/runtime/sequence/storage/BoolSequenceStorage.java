@@ -27,11 +27,10 @@ package edu.uci.python.runtime.sequence.storage;
 import java.io.PrintStream;
 import java.util.Arrays;
 
-import org.python.core.Py;
-
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.nodes.ExplodeLoop;
 
+import edu.uci.python.runtime.exception.PythonError;
 import edu.uci.python.runtime.sequence.SequenceUtil;
 
 public final class BoolSequenceStorage extends BasicSequenceStorage {
@@ -98,7 +97,7 @@ public final class BoolSequenceStorage extends BasicSequenceStorage {
             return values[idx];
         } catch (ArrayIndexOutOfBoundsException e) {
             CompilerDirectives.transferToInterpreterAndInvalidate();
-            throw Py.IndexError("list index out of range");
+            throw PythonError.IndexError("list index out of range");
         }
     }
 
@@ -116,7 +115,7 @@ public final class BoolSequenceStorage extends BasicSequenceStorage {
             values[idx] = value;
         } catch (ArrayIndexOutOfBoundsException e) {
             CompilerDirectives.transferToInterpreterAndInvalidate();
-            throw Py.IndexError("list assignment index out of range");
+            throw PythonError.IndexError("list assignment index out of range");
         }
     }
 
@@ -215,7 +214,7 @@ public final class BoolSequenceStorage extends BasicSequenceStorage {
     }
 
     public boolean popBool() {
-        boolean pop = values[capacity - 1];
+        boolean pop = values[length - 1];
         length--;
         return pop;
     }
@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.sequence.storage;
+
+import java.util.*;
+
+import com.oracle.truffle.api.*;
+
+import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.exception.*;
+import edu.uci.python.runtime.sequence.*;
+
+/**
+ * A list of complex numbers kept as interleaved real and imaginary parts, so that element i
+ * occupies {@code values[2 * i]} and {@code values[2 * i + 1]}. Reads hand out a fresh
+ * {@link PComplex} that does not escape in typical loops, and writes copy the two parts in.
+ */
+public final class ComplexSequenceStorage extends BasicSequenceStorage {
+
+    private double[] values;
+
+    public ComplexSequenceStorage() {
+        values = new double[]{};
+    }
+
+    /**
+     * @param elements interleaved real and imaginary parts
+     */
+    public ComplexSequenceStorage(double[] elements) {
+        assert elements.length % 2 == 0;
+        this.values = elements;
+        length = elements.length / 2;
+        capacity = length;
+    }
+
+    @Override
+    protected void increaseCapacityExactWithCopy(int newCapacity) {
+        values = Arrays.copyOf(values, newCapacity * 2);
+        capacity = newCapacity;
+    }
+
+    @Override
+    protected void increaseCapacityExact(int newCapacity) {
+        values = new double[newCapacity * 2];
+        capacity = newCapacity;
+    }
+
+    @Override
+    public SequenceStorage copy() {
+        return new ComplexSequenceStorage(Arrays.copyOf(values, length * 2));
+    }
+
+    @Override
+    public Object[] getInternalArray() {
+        /**
+         * Have to box and copy.
+         */
+        Object[] boxed = new Object[length];
+
+        for (int i = 0; i < length; i++) {
+            boxed[i] = new PComplex(values[i * 2], values[i * 2 + 1]);
+        }
+
+        return boxed;
+    }
+
+    public double[] getInternalComplexArray() {
+        return values;
+    }
+
+    @Override
+    public Object[] getCopyOfInternalArray() {
+        return getInternalArray();
+    }
+
+    @Override
+    public Object getItemNormalized(int idx) {
+        return getComplexItemNormalized(idx);
+    }
+
+    public PComplex getComplexItemNormalized(int idx) {
+        if (idx < 0 || idx >= length) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            throw PythonError.IndexError("list index out of range");
+        }
+
+        return new PComplex(values[idx * 2], values[idx * 2 + 1]);
+    }
+
+    @Override
+    public void setItemNormalized(int idx, Object value) throws SequenceStoreException {
+        if (value instanceof PComplex) {
+            setComplexItemNormalized(idx, (PComplex) value);
+        } else {
+            throw SequenceStoreException.INSTANCE;
+        }
+    }
+
+    public void setComplexItemNormalized(int idx, PComplex value) {
+        if (idx < 0 || idx >= length) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            throw PythonError.IndexError("list assignment index out of range");
+        }
+
+        values[idx * 2] = value.getReal();
+        values[idx * 2 + 1] = value.getImag();
+    }
+
+    @Override
+    public void insertItem(int idx, Object value) throws SequenceStoreException {
+        if (value instanceof PComplex) {
+            insertComplexItem(idx, (PComplex) value);
+        } else {
+            throw SequenceStoreException.INSTANCE;
+        }
+    }
+
+    public void insertComplexItem(int idx, PComplex value) {
+        ensureCapacity(length + 1);
+
+        // shifting tail to the right by one slot
+        System.arraycopy(values, idx * 2, values, idx * 2 + 2, (length - idx) * 2);
+        values[idx * 2] = value.getReal();
+        values[idx * 2 + 1] = value.getImag();
+        length++;
+    }
+
+    @Override
+    public SequenceStorage getSliceInBound(int start, int stop, int step, int sliceLength) {
+        double[] newArray = new double[sliceLength * 2];
+
+        if (step == 1) {
+            System.arraycopy(values, start * 2, newArray, 0, sliceLength * 2);
+            return new ComplexSequenceStorage(newArray);
+        }
+
+        for (int i = start, j = 0; j < sliceLength; i += step, j++) {
+            newArray[j * 2] = values[i * 2];
+            newArray[j * 2 + 1] = values[i * 2 + 1];
+        }
+
+        return new ComplexSequenceStorage(newArray);
+    }
+
+    @Override
+    public void setSliceInBound(int start, int stop, int step, SequenceStorage sequence) throws SequenceStoreException {
+        if (sequence instanceof ComplexSequenceStorage) {
+            setComplexSliceInBound(start, stop, step, (ComplexSequenceStorage) sequence);
+        } else {
+            throw new SequenceStoreException();
+        }
+    }
+
+    public void setComplexSliceInBound(int start, int stop, int step, ComplexSequenceStorage sequence) {
+        int otherLength = sequence.length();
+
+        // range is the whole sequence?
+        if (start == 0 && stop == length) {
+            values = Arrays.copyOf(sequence.values, otherLength * 2);
+            length = otherLength;
+            minimizeCapacity();
+            return;
+        }
+
+        ensureCapacity(stop);
+
+        for (int i = start, j = 0; i < stop; i += step, j++) {
+            values[i * 2] = sequence.values[j * 2];
+            values[i * 2 + 1] = sequence.values[j * 2 + 1];
+        }
+
+        length = length > stop ? length : stop;
+    }
+
+    @Override
+    public void delSlice(int start, int stop) {
+        if (stop == SequenceUtil.MISSING_INDEX) {
+            length = start;
+        }
+    }
+
+    @Override
+    public void delItemInBound(int idx) {
+        popInBound(idx);
+    }
+
+    @Override
+    public Object popInBound(int idx) {
+        PComplex pop = new PComplex(values[idx * 2], values[idx * 2 + 1]);
+        System.arraycopy(values, idx * 2 + 2, values, idx * 2, (length - idx - 1) * 2);
+        length--;
+        return pop;
+    }
+
+    @Override
+    public int index(Object value) {
+        if (value instanceof PComplex) {
+            return indexOfComplex((PComplex) value);
+        } else {
+            return super.index(value);
+        }
+    }
+
+    public int indexOfComplex(PComplex value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i * 2] == value.getReal() && values[i * 2 + 1] == value.getImag()) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public void append(Object value) throws SequenceStoreException {
+        if (value instanceof PComplex) {
+            appendComplex((PComplex) value);
+        } else {
+            throw SequenceStoreException.INSTANCE;
+        }
+    }
+
+    public void appendComplex(PComplex value) {
+        ensureCapacity(length + 1);
+        values[length * 2] = value.getReal();
+        values[length * 2 + 1] = value.getImag();
+        length++;
+    }
+
+    @Override
+    public void extend(SequenceStorage other) throws SequenceStoreException {
+        if (other instanceof ComplexSequenceStorage) {
+            extendWithComplexStorage((ComplexSequenceStorage) other);
+        } else {
+            throw SequenceStoreException.INSTANCE;
+        }
+    }
+
+    public void extendWithComplexStorage(ComplexSequenceStorage other) {
+        int extendedLength = length + other.length();
+        ensureCapacity(extendedLength);
+        System.arraycopy(other.values, 0, values, length * 2, other.length() * 2);
+        length = extendedLength;
+    }
+
+    @Override
+    public void reverse() {
+        int head = 0;
+        int tail = length - 1;
+        int middle = (length - 1) / 2;
+
+        for (; head <= middle; head++, tail--) {
+            double real = values[head * 2];
+            double imag = values[head * 2 + 1];
+            values[head * 2] = values[tail * 2];
+            values[head * 2 + 1] = values[tail * 2 + 1];
+            values[tail * 2] = real;
+            values[tail * 2 + 1] = imag;
+        }
+    }
+
+    @Override
+    public void sort() {
+        CompilerDirectives.transferToInterpreter();
+        throw PythonError.TypeError("unorderable types: complex() < complex()");
+    }
+
+    @Override
+    public SequenceStorage generalizeFor(Object value) {
+        return new ObjectSequenceStorage(getInternalArray());
+    }
+
+    @Override
+    public Object getIndicativeValue() {
+        return new PComplex();
+    }
+
+    @Override
+    public boolean equals(SequenceStorage other) {
+        if (other.length() != length()) {
+            return false;
+        }
+
+        double[] otherArray = ((ComplexSequenceStorage) other).getInternalComplexArray();
+        for (int i = 0; i < length() * 2; i++) {
+            if (values[i] != otherArray[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+}
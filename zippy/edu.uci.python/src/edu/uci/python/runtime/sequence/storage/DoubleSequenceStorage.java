@@ -26,10 +26,9 @@ package edu.uci.python.runtime.sequence.storage;
 
 import java.util.*;
 
-import org.python.core.*;
-
 import com.oracle.truffle.api.*;
 
+import edu.uci.python.runtime.exception.*;
 import edu.uci.python.runtime.sequence.*;
 
 public final class DoubleSequenceStorage extends BasicSequenceStorage {
@@ -96,7 +95,7 @@ public final class DoubleSequenceStorage extends BasicSequenceStorage {
             return values[idx];
         } catch (ArrayIndexOutOfBoundsException e) {
             CompilerDirectives.transferToInterpreterAndInvalidate();
-            throw Py.IndexError("list index out of range");
+            throw PythonError.IndexError("list index out of range");
         }
     }
 
@@ -114,7 +113,7 @@ public final class DoubleSequenceStorage extends BasicSequenceStorage {
             values[idx] = value;
         } catch (ArrayIndexOutOfBoundsException e) {
             CompilerDirectives.transferToInterpreterAndInvalidate();
-            throw Py.IndexError("list assignment index out of range");
+            throw PythonError.IndexError("list assignment index out of range");
         }
     }
 
@@ -209,7 +208,7 @@ public final class DoubleSequenceStorage extends BasicSequenceStorage {
     }
 
     public double popDouble() {
-        double pop = values[capacity - 1];
+        double pop = values[length - 1];
         length--;
         return pop;
     }
@@ -234,6 +233,79 @@ public final class DoubleSequenceStorage extends BasicSequenceStorage {
         return -1;
     }
 
+    /*
+     * Bulk kernels used by the builtins, see IntSequenceStorage.
+     */
+
+    /**
+     * Adds from left to right, so the result is the same as a Python loop would give.
+     */
+    public double sumDouble() {
+        double sum = 0.0;
+
+        for (int i = 0; i < length; i++) {
+            sum += values[i];
+        }
+
+        return sum;
+    }
+
+    /**
+     * Python keeps the first of equal elements and never replaces the running minimum with a NaN,
+     * which is not what {@link Math#min(double, double)} does.
+     */
+    public double minDouble() {
+        assert length > 0;
+        double min = values[0];
+
+        for (int i = 1; i < length; i++) {
+            min = values[i] < min ? values[i] : min;
+        }
+
+        return min;
+    }
+
+    public double maxDouble() {
+        assert length > 0;
+        double max = values[0];
+
+        for (int i = 1; i < length; i++) {
+            max = values[i] > max ? values[i] : max;
+        }
+
+        return max;
+    }
+
+    public int countDouble(double value) {
+        int count = 0;
+
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    public DoubleSequenceStorage repeat(int times) {
+        if (times <= 0) {
+            return new DoubleSequenceStorage();
+        }
+
+        final double[] repeated = new double[SequenceUtil.repeatLength(length, times)];
+
+        if (length == 1) {
+            Arrays.fill(repeated, values[0]);
+        } else {
+            for (int i = 0; i < times; i++) {
+                System.arraycopy(values, 0, repeated, i * length, length);
+            }
+        }
+
+        return new DoubleSequenceStorage(repeated);
+    }
+
     @Override
     public void append(Object value) throws SequenceStoreException {
         if (value instanceof Double) {
@@ -285,10 +357,11 @@ public final class DoubleSequenceStorage extends BasicSequenceStorage {
 
     @Override
     public void sort() {
-        double[] copy = Arrays.copyOf(values, length);
-        Arrays.sort(copy);
-        values = copy;
-        minimizeCapacity();
+        if (options.ParallelSort && length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values, 0, length);
+        } else {
+            Arrays.sort(values, 0, length);
+        }
     }
 
     @Override
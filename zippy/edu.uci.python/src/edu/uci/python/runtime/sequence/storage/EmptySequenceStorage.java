@@ -26,11 +26,11 @@ package edu.uci.python.runtime.sequence.storage;
 
 import java.io.*;
 
-import org.python.core.*;
-
 import com.oracle.truffle.api.*;
 
 import edu.uci.python.runtime.*;
+import edu.uci.python.runtime.datatype.*;
+import edu.uci.python.runtime.exception.*;
 import edu.uci.python.runtime.sequence.*;
 
 public final class EmptySequenceStorage extends SequenceStorage {
@@ -55,6 +55,8 @@ public final class EmptySequenceStorage extends SequenceStorage {
             generalized = new LongSequenceStorage();
         } else if (value instanceof Double) {
             generalized = new DoubleSequenceStorage();
+        } else if (value instanceof PComplex) {
+            generalized = new ComplexSequenceStorage();
         } else if (value instanceof PList) {
             generalized = new ListSequenceStorage(((PList) value).getStorage());
         } else if (value instanceof PTuple) {
@@ -83,7 +85,7 @@ public final class EmptySequenceStorage extends SequenceStorage {
 
     @Override
     public int index(Object value) {
-        throw Py.ValueError(value + " is not in list");
+        throw PythonError.ValueError(value + " is not in list");
     }
 
     @Override
@@ -104,13 +106,13 @@ public final class EmptySequenceStorage extends SequenceStorage {
     @Override
     public Object getItemNormalized(int idx) {
         CompilerDirectives.transferToInterpreterAndInvalidate();
-        throw Py.ValueError("list index out of range");
+        throw PythonError.IndexError("list index out of range");
     }
 
     @Override
     public void setItemNormalized(int idx, Object value) throws SequenceStoreException {
         CompilerDirectives.transferToInterpreterAndInvalidate();
-        throw Py.ValueError("list assignment index out of range");
+        throw PythonError.ValueError("list assignment index out of range");
     }
 
     @Override
@@ -27,11 +27,9 @@ package edu.uci.python.runtime.sequence.storage;
 import java.io.PrintStream;
 import java.util.Arrays;
 
-import org.python.core.Py;
-
 import com.oracle.truffle.api.CompilerDirectives;
-import com.oracle.truffle.api.nodes.ExplodeLoop;
 
+import edu.uci.python.runtime.exception.PythonError;
 import edu.uci.python.runtime.sequence.SequenceUtil;
 
 public final class IntSequenceStorage extends BasicSequenceStorage {
@@ -98,7 +96,7 @@ public final class IntSequenceStorage extends BasicSequenceStorage {
             return values[idx];
         } catch (ArrayIndexOutOfBoundsException e) {
             CompilerDirectives.transferToInterpreterAndInvalidate();
-            throw Py.IndexError("list index out of range");
+            throw PythonError.IndexError("list index out of range");
         }
     }
 
@@ -116,7 +114,7 @@ public final class IntSequenceStorage extends BasicSequenceStorage {
             values[idx] = value;
         } catch (ArrayIndexOutOfBoundsException e) {
             CompilerDirectives.transferToInterpreterAndInvalidate();
-            throw Py.IndexError("list assignment index out of range");
+            throw PythonError.IndexError("list assignment index out of range");
         }
     }
 
@@ -215,7 +213,7 @@ public final class IntSequenceStorage extends BasicSequenceStorage {
     }
 
     public int popInt() {
-        int pop = values[capacity - 1];
+        int pop = values[length - 1];
         length--;
         return pop;
     }
@@ -230,7 +228,6 @@ public final class IntSequenceStorage extends BasicSequenceStorage {
 
     }
 
-    @ExplodeLoop
     public int indexOfInt(int value) {
         for (int i = 0; i < length; i++) {
             if (values[i] == value) {
@@ -241,6 +238,76 @@ public final class IntSequenceStorage extends BasicSequenceStorage {
         return -1;
     }
 
+    /*
+     * Bulk kernels used by the builtins. They are plain counted loops over the raw array, which
+     * the compiler unrolls and vectorizes.
+     */
+
+    /**
+     * The sum never overflows a long, since the array holds fewer than 2^31 ints.
+     */
+    public long sumInt() {
+        long sum = 0;
+
+        for (int i = 0; i < length; i++) {
+            sum += values[i];
+        }
+
+        return sum;
+    }
+
+    public int minInt() {
+        assert length > 0;
+        int min = values[0];
+
+        for (int i = 1; i < length; i++) {
+            min = Math.min(min, values[i]);
+        }
+
+        return min;
+    }
+
+    public int maxInt() {
+        assert length > 0;
+        int max = values[0];
+
+        for (int i = 1; i < length; i++) {
+            max = Math.max(max, values[i]);
+        }
+
+        return max;
+    }
+
+    public int countInt(int value) {
+        int count = 0;
+
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    public IntSequenceStorage repeat(int times) {
+        if (times <= 0) {
+            return new IntSequenceStorage();
+        }
+
+        final int[] repeated = new int[SequenceUtil.repeatLength(length, times)];
+
+        if (length == 1) {
+            Arrays.fill(repeated, values[0]);
+        } else {
+            for (int i = 0; i < times; i++) {
+                System.arraycopy(values, 0, repeated, i * length, length);
+            }
+        }
+
+        return new IntSequenceStorage(repeated);
+    }
+
     @Override
     public void append(Object value) throws SequenceStoreException {
         if (value instanceof Integer) {
@@ -265,7 +332,6 @@ public final class IntSequenceStorage extends BasicSequenceStorage {
         }
     }
 
-// @ExplodeLoop
     public void extendWithIntStorage(IntSequenceStorage other) {
         int extendedLength = length + other.length();
         ensureCapacity(extendedLength);
@@ -278,7 +344,6 @@ public final class IntSequenceStorage extends BasicSequenceStorage {
         length = extendedLength;
     }
 
-    @ExplodeLoop
     @Override
     public void reverse() {
         int head = 0;
@@ -292,23 +357,37 @@ public final class IntSequenceStorage extends BasicSequenceStorage {
         }
     }
 
-    @ExplodeLoop
     @Override
     public void sort() {
-        int[] copy = Arrays.copyOf(values, length);
-        Arrays.sort(copy);
-        values = copy;
-        minimizeCapacity();
+        if (options.ParallelSort && length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values, 0, length);
+        } else {
+            Arrays.sort(values, 0, length);
+        }
     }
 
     @Override
     public SequenceStorage generalizeFor(Object value) {
+        final SequenceStorage generalized;
+
+        if (value instanceof Long) {
+            long[] longs = new long[length];
+
+            for (int i = 0; i < length; i++) {
+                longs[i] = values[i];
+            }
+
+            generalized = new LongSequenceStorage(longs);
+        } else {
+            generalized = new ObjectSequenceStorage(getInternalArray());
+        }
+
         if (options.TraceSequenceStorageGeneralization) {
             PrintStream ps = System.out;
-            ps.println("[ZipPy]" + this + " generalizing to ObjectSequenceStorage");
+            ps.println("[ZipPy]" + this + " generalizing to " + generalized);
         }
 
-        return new ObjectSequenceStorage(getInternalArray());
+        return generalized;
     }
 
     @Override
@@ -316,7 +395,6 @@ public final class IntSequenceStorage extends BasicSequenceStorage {
         return 0;
     }
 
-    @ExplodeLoop
     @Override
     public boolean equals(SequenceStorage other) {
         if (other.length() != length() || !(other instanceof IntSequenceStorage)) {
@@ -27,12 +27,12 @@ package edu.uci.python.runtime.sequence.storage;
 import java.io.PrintStream;
 import java.util.Arrays;
 
-import org.python.core.Py;
-
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.nodes.ExplodeLoop;
 
+import edu.uci.python.runtime.exception.PythonError;
 import edu.uci.python.runtime.sequence.PList;
+import edu.uci.python.runtime.sequence.PythonComparator;
 import edu.uci.python.runtime.sequence.SequenceUtil;
 
 public final class ListSequenceStorage extends BasicSequenceStorage {
@@ -134,7 +134,7 @@ public final class ListSequenceStorage extends BasicSequenceStorage {
             return values[idx];
         } catch (ArrayIndexOutOfBoundsException e) {
             CompilerDirectives.transferToInterpreterAndInvalidate();
-            throw Py.IndexError("list index out of range");
+            throw PythonError.IndexError("list index out of range");
         }
     }
 
@@ -152,7 +152,7 @@ public final class ListSequenceStorage extends BasicSequenceStorage {
             values[idx] = value;
         } catch (ArrayIndexOutOfBoundsException e) {
             CompilerDirectives.transferToInterpreterAndInvalidate();
-            throw Py.IndexError("list assignment index out of range");
+            throw PythonError.IndexError("list assignment index out of range");
         }
     }
 
@@ -251,7 +251,7 @@ public final class ListSequenceStorage extends BasicSequenceStorage {
     }
 
     public PList popList() {
-        PList pop = values[capacity - 1];
+        PList pop = values[length - 1];
         length--;
         return pop;
     }
@@ -334,14 +334,9 @@ public final class ListSequenceStorage extends BasicSequenceStorage {
         }
     }
 
-    @ExplodeLoop
     @Override
     public void sort() {
-        // TODO: need to be tested
-        Object[] copy = Arrays.copyOf(values, length);
-        Arrays.sort(copy);
-        values = (PList[]) copy;
-        minimizeCapacity();
+        Arrays.sort(values, 0, length, new PythonComparator());
     }
 
     @Override
@@ -25,14 +25,11 @@
 package edu.uci.python.runtime.sequence.storage;
 
 import java.io.PrintStream;
-import java.math.BigInteger;
 import java.util.Arrays;
 
-import org.python.core.Py;
-
 import com.oracle.truffle.api.CompilerDirectives;
-import com.oracle.truffle.api.nodes.ExplodeLoop;
 
+import edu.uci.python.runtime.exception.PythonError;
 import edu.uci.python.runtime.sequence.SequenceUtil;
 
 public final class LongSequenceStorage extends BasicSequenceStorage {
@@ -99,15 +96,15 @@ public final class LongSequenceStorage extends BasicSequenceStorage {
             return values[idx];
         } catch (ArrayIndexOutOfBoundsException e) {
             CompilerDirectives.transferToInterpreterAndInvalidate();
-            throw Py.IndexError("list index out of range");
+            throw PythonError.IndexError("list index out of range");
         }
     }
 
     @Override
-    public void setItemNormalized(int idx, Object val) throws SequenceStoreException {
-        Object value = (val instanceof Integer) ? BigInteger.valueOf((int) val).longValue() : val;
-        value = (val instanceof BigInteger) ? ((BigInteger) val).longValue() : value;
-        if (value instanceof Long) {
+    public void setItemNormalized(int idx, Object value) throws SequenceStoreException {
+        if (value instanceof Integer) {
+            setLongItemNormalized(idx, (int) value);
+        } else if (value instanceof Long) {
             setLongItemNormalized(idx, (long) value);
         } else {
             throw SequenceStoreException.INSTANCE;
@@ -119,15 +116,15 @@ public final class LongSequenceStorage extends BasicSequenceStorage {
             values[idx] = value;
         } catch (ArrayIndexOutOfBoundsException e) {
             CompilerDirectives.transferToInterpreterAndInvalidate();
-            throw Py.IndexError("list assignment index out of range");
+            throw PythonError.IndexError("list assignment index out of range");
         }
     }
 
     @Override
-    public void insertItem(int idx, Object val) throws SequenceStoreException {
-        Object value = (val instanceof Integer) ? BigInteger.valueOf((int) val).longValue() : val;
-        value = (val instanceof BigInteger) ? ((BigInteger) val).longValue() : value;
-        if (value instanceof Long) {
+    public void insertItem(int idx, Object value) throws SequenceStoreException {
+        if (value instanceof Integer) {
+            insertLongItem(idx, (int) value);
+        } else if (value instanceof Long) {
             insertLongItem(idx, (long) value);
         } else {
             throw SequenceStoreException.INSTANCE;
@@ -220,17 +217,16 @@ public final class LongSequenceStorage extends BasicSequenceStorage {
     }
 
     public long popLong() {
-        long pop = values[capacity - 1];
+        long pop = values[length - 1];
         length--;
         return pop;
     }
 
     @Override
-    public int index(Object val) {
-        Object value = (val instanceof Integer) ? BigInteger.valueOf((int) val).longValue() : val;
-        value = (val instanceof BigInteger) ? ((BigInteger) val).longValue() : value;
-
-        if (value instanceof Long) {
+    public int index(Object value) {
+        if (value instanceof Integer) {
+            return indexOfLong((int) value);
+        } else if (value instanceof Long) {
             return indexOfLong((long) value);
         } else {
             return super.index(value);
@@ -238,7 +234,6 @@ public final class LongSequenceStorage extends BasicSequenceStorage {
 
     }
 
-    @ExplodeLoop
     public int indexOfLong(long value) {
         for (int i = 0; i < length; i++) {
             if (values[i] == value) {
@@ -249,12 +244,90 @@ public final class LongSequenceStorage extends BasicSequenceStorage {
         return -1;
     }
 
-    @Override
-    public void append(Object val) throws SequenceStoreException {
-        Object value = (val instanceof Integer) ? BigInteger.valueOf((int) val).longValue() : val;
-        value = (val instanceof BigInteger) ? ((BigInteger) val).longValue() : value;
+    /*
+     * Bulk kernels used by the builtins, see IntSequenceStorage.
+     */
+
+    /**
+     * Overflow is collected without a branch in the loop: an addition overflowed iff both operands
+     * have a sign that differs from the result. Throws {@link ArithmeticException} on overflow.
+     */
+    public long sumLong() {
+        long sum = 0;
+        long overflow = 0;
+
+        for (int i = 0; i < length; i++) {
+            final long value = values[i];
+            final long result = sum + value;
+            overflow |= (sum ^ result) & (value ^ result);
+            sum = result;
+        }
+
+        if (overflow < 0) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            throw new ArithmeticException("long overflow");
+        }
+
+        return sum;
+    }
+
+    public long minLong() {
+        assert length > 0;
+        long min = values[0];
+
+        for (int i = 1; i < length; i++) {
+            min = Math.min(min, values[i]);
+        }
+
+        return min;
+    }
+
+    public long maxLong() {
+        assert length > 0;
+        long max = values[0];
+
+        for (int i = 1; i < length; i++) {
+            max = Math.max(max, values[i]);
+        }
+
+        return max;
+    }
+
+    public int countLong(long value) {
+        int count = 0;
+
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    public LongSequenceStorage repeat(int times) {
+        if (times <= 0) {
+            return new LongSequenceStorage();
+        }
 
-        if (value instanceof Long) {
+        final long[] repeated = new long[SequenceUtil.repeatLength(length, times)];
+
+        if (length == 1) {
+            Arrays.fill(repeated, values[0]);
+        } else {
+            for (int i = 0; i < times; i++) {
+                System.arraycopy(values, 0, repeated, i * length, length);
+            }
+        }
+
+        return new LongSequenceStorage(repeated);
+    }
+
+    @Override
+    public void append(Object value) throws SequenceStoreException {
+        if (value instanceof Integer) {
+            appendLong((int) value);
+        } else if (value instanceof Long) {
             appendLong((long) value);
         } else {
             throw SequenceStoreException.INSTANCE;
@@ -288,7 +361,6 @@ public final class LongSequenceStorage extends BasicSequenceStorage {
         length = extendedLength;
     }
 
-    @ExplodeLoop
     @Override
     public void reverse() {
         int head = 0;
@@ -302,13 +374,13 @@ public final class LongSequenceStorage extends BasicSequenceStorage {
         }
     }
 
-    @ExplodeLoop
     @Override
     public void sort() {
-        long[] copy = Arrays.copyOf(values, length);
-        Arrays.sort(copy);
-        values = copy;
-        minimizeCapacity();
+        if (options.ParallelSort && length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values, 0, length);
+        } else {
+            Arrays.sort(values, 0, length);
+        }
     }
 
     @Override
@@ -326,7 +398,6 @@ public final class LongSequenceStorage extends BasicSequenceStorage {
         return 0;
     }
 
-    @ExplodeLoop
     @Override
     public boolean equals(SequenceStorage other) {
         if (other.length() != length() || !(other instanceof LongSequenceStorage)) {
@@ -26,11 +26,10 @@ package edu.uci.python.runtime.sequence.storage;
 
 import java.util.*;
 
-import org.python.core.*;
-
 import com.oracle.truffle.api.*;
 import com.oracle.truffle.api.nodes.*;
 
+import edu.uci.python.runtime.exception.*;
 import edu.uci.python.runtime.sequence.*;
 
 public final class ObjectSequenceStorage extends BasicSequenceStorage {
@@ -53,7 +52,7 @@ public final class ObjectSequenceStorage extends BasicSequenceStorage {
             return values[idx];
         } catch (ArrayIndexOutOfBoundsException e) {
             CompilerDirectives.transferToInterpreterAndInvalidate();
-            throw Py.IndexError("list index out of range");
+            throw PythonError.IndexError("list index out of range");
         }
     }
 
@@ -63,7 +62,7 @@ public final class ObjectSequenceStorage extends BasicSequenceStorage {
             values[idx] = value;
         } catch (ArrayIndexOutOfBoundsException e) {
             CompilerDirectives.transferToInterpreterAndInvalidate();
-            throw Py.IndexError("list assignment index out of range");
+            throw PythonError.IndexError("list assignment index out of range");
         }
     }
 
@@ -190,7 +189,7 @@ public final class ObjectSequenceStorage extends BasicSequenceStorage {
     }
 
     public Object popObject() {
-        Object pop = values[capacity - 1];
+        Object pop = values[length - 1];
         length--;
         return pop;
     }
@@ -210,10 +209,7 @@ public final class ObjectSequenceStorage extends BasicSequenceStorage {
 
     @Override
     public void sort() {
-        Object[] copy = getCopyOfInternalArray();
-        Arrays.sort(copy);
-        values = copy;
-        minimizeCapacity();
+        Arrays.sort(values, 0, length, new PythonComparator());
     }
 
     @Override
@@ -236,7 +232,7 @@ public final class ObjectSequenceStorage extends BasicSequenceStorage {
         int nominalLength = length() <= other.length() ? length() : other.length();
         Object[] otherArray = other.getInternalArray();
         for (int i = 0; i < nominalLength; i++) {
-            if (!values[i].equals(otherArray[i])) {
+            if (!values[i].equals(PString.normalize(otherArray[i]))) {
                 return false;
             }
         }
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.sequence.storage;
+
+import org.python.core.*;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+import edu.uci.python.nodes.truffle.*;
+import edu.uci.python.runtime.exception.*;
+import edu.uci.python.runtime.sequence.*;
+
+/**
+ * Storage that delegates to a list returned from Jython, so the list can be used as a
+ * {@link PList} without first copying its elements.
+ */
+public final class PyListSequenceStorage extends SequenceStorage {
+
+    private final PyList list;
+
+    public PyListSequenceStorage(PyList list) {
+        this.list = list;
+    }
+
+    public PyList getPyList() {
+        return list;
+    }
+
+    @Override
+    public int length() {
+        return list.size();
+    }
+
+    @Override
+    public SequenceStorage copy() {
+        return new ObjectSequenceStorage(getCopyOfInternalArray());
+    }
+
+    /**
+     * There is no internal array to share; callers get an unboxed snapshot.
+     */
+    @Override
+    public Object[] getInternalArray() {
+        return getCopyOfInternalArray();
+    }
+
+    @TruffleBoundary
+    @Override
+    public Object[] getCopyOfInternalArray() {
+        PyObject[] elements = list.getArray();
+        Object[] values = new Object[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            values[i] = PythonTypesUtil.unboxPyObject(elements[i]);
+        }
+        return values;
+    }
+
+    @TruffleBoundary
+    @Override
+    public Object getItemNormalized(int idx) {
+        if (idx < 0 || idx >= list.size()) {
+            throw PythonError.IndexError("list index out of range");
+        }
+        return PythonTypesUtil.unboxPyObject(list.pyget(idx));
+    }
+
+    @TruffleBoundary
+    @Override
+    public void setItemNormalized(int idx, Object value) {
+        if (idx < 0 || idx >= list.size()) {
+            throw PythonError.IndexError("list assignment index out of range");
+        }
+        list.pyset(idx, PythonTypesUtil.adaptToPyObject(value));
+    }
+
+    @TruffleBoundary
+    @Override
+    public void insertItem(int idx, Object value) {
+        list.insert(idx, PythonTypesUtil.adaptToPyObject(value));
+    }
+
+    @TruffleBoundary
+    @Override
+    public SequenceStorage getSliceInBound(int start, int stop, int step, int length) {
+        Object[] values = new Object[length];
+        for (int i = start, j = 0; j < length; i += step, j++) {
+            values[j] = PythonTypesUtil.unboxPyObject(list.pyget(i));
+        }
+        return new ObjectSequenceStorage(values);
+    }
+
+    @TruffleBoundary
+    @Override
+    public void setSliceInBound(int start, int stop, int step, SequenceStorage sequence) {
+        PyObject slice = new PySlice(Py.newInteger(start), Py.newInteger(stop), Py.newInteger(step));
+        list.__setitem__(slice, PythonTypesUtil.adaptToPyObject(new PList(sequence)));
+    }
+
+    @TruffleBoundary
+    @Override
+    public void delSlice(int start, int stop) {
+        list.remove(start, stop == SequenceUtil.MISSING_INDEX ? list.size() : stop);
+    }
+
+    @TruffleBoundary
+    @Override
+    public void delItemInBound(int idx) {
+        list.remove(idx);
+    }
+
+    @TruffleBoundary
+    @Override
+    public Object popInBound(int idx) {
+        return PythonTypesUtil.unboxPyObject(list.pop(idx));
+    }
+
+    @TruffleBoundary
+    @Override
+    public int index(Object value) {
+        Object normalized = PString.normalize(value);
+        for (int i = 0; i < list.size(); i++) {
+            if (getItemNormalized(i).equals(normalized)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @TruffleBoundary
+    @Override
+    public void append(Object value) {
+        list.append(PythonTypesUtil.adaptToPyObject(value));
+    }
+
+    @TruffleBoundary
+    @Override
+    public void extend(SequenceStorage other) {
+        for (int i = 0; i < other.length(); i++) {
+            list.append(PythonTypesUtil.adaptToPyObject(other.getItemNormalized(i)));
+        }
+    }
+
+    @TruffleBoundary
+    @Override
+    public void reverse() {
+        list.reverse();
+    }
+
+    @TruffleBoundary
+    @Override
+    public void sort() {
+        list.sort();
+    }
+
+    @TruffleBoundary
+    @Override
+    public boolean equals(SequenceStorage other) {
+        if (other.length() != length()) {
+            return false;
+        }
+
+        for (int i = 0; i < length(); i++) {
+            if (!getItemNormalized(i).equals(PString.normalize(other.getItemNormalized(i)))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public SequenceStorage generalizeFor(Object value) {
+        return this;
+    }
+
+    @Override
+    public Object getIndicativeValue() {
+        return null;
+    }
+
+}
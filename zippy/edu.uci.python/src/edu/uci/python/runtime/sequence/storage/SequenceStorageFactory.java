@@ -24,9 +24,8 @@
  */
 package edu.uci.python.runtime.sequence.storage;
 
-import java.math.BigInteger;
-
 import edu.uci.python.runtime.*;
+import edu.uci.python.runtime.datatype.*;
 import edu.uci.python.runtime.sequence.*;
 
 public class SequenceStorageFactory {
@@ -58,6 +57,8 @@ public class SequenceStorageFactory {
             return new DoubleSequenceStorage(specializeToDouble(values));
         } else if (canSpecializeToLong(values)) {
             return new LongSequenceStorage(specializeToLong(values));
+        } else if (canSpecializeToComplex(values)) {
+            return new ComplexSequenceStorage(specializeToComplex(values));
         } else if (canSpecializeToBool(values)) {
             return new BoolSequenceStorage(specializeToBool(values));
         } else if (canSpecializeToList(values)) {
@@ -93,17 +94,12 @@ public class SequenceStorageFactory {
         return intVals;
     }
 
+    /**
+     * A mix of int and long values is stored as longs.
+     */
     public static boolean canSpecializeToLong(Object[] values) {
-        Object val = values[0];
-        val = (val instanceof Integer) ? BigInteger.valueOf((int) val).longValue() : val;
-        if (!(values[0] instanceof Long)) {
-            return false;
-        }
-
         for (Object item : values) {
-            val = item;
-            val = (val instanceof Integer) ? BigInteger.valueOf((int) val).longValue() : val;
-            if (!(item instanceof Long)) {
+            if (!(item instanceof Long) && !(item instanceof Integer)) {
                 return false;
             }
         }
@@ -112,13 +108,13 @@ public class SequenceStorageFactory {
     }
 
     public static long[] specializeToLong(Object[] values) {
-        final long[] intVals = new long[values.length];
+        final long[] longVals = new long[values.length];
+
         for (int i = 0; i < values.length; i++) {
-            long value = (values[i] instanceof Integer) ? BigInteger.valueOf((int) values[i]).longValue() : (long) values[i];
-            intVals[i] = value;
+            longVals[i] = values[i] instanceof Integer ? (int) values[i] : (long) values[i];
         }
 
-        return intVals;
+        return longVals;
     }
 
     public static boolean canSpecializeToDouble(Object[] values) {
@@ -145,6 +141,34 @@ public class SequenceStorageFactory {
         return doubles;
     }
 
+    public static boolean canSpecializeToComplex(Object[] values) {
+        if (!(values[0] instanceof PComplex)) {
+            return false;
+        }
+
+        for (Object item : values) {
+            if (!(item instanceof PComplex)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Interleaves real and imaginary parts as {@link ComplexSequenceStorage} expects them.
+     */
+    public static double[] specializeToComplex(Object[] values) {
+        final double[] parts = new double[values.length * 2];
+
+        for (int i = 0; i < values.length; i++) {
+            parts[i * 2] = ((PComplex) values[i]).getReal();
+            parts[i * 2 + 1] = ((PComplex) values[i]).getImag();
+        }
+
+        return parts;
+    }
+
     public static boolean canSpecializeToBool(Object[] values) {
         if (!(values[0] instanceof Boolean)) {
             return false;
@@ -27,12 +27,12 @@ package edu.uci.python.runtime.sequence.storage;
 import java.io.PrintStream;
 import java.util.Arrays;
 
-import org.python.core.Py;
-
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.nodes.ExplodeLoop;
 
+import edu.uci.python.runtime.exception.PythonError;
 import edu.uci.python.runtime.sequence.PTuple;
+import edu.uci.python.runtime.sequence.PythonComparator;
 import edu.uci.python.runtime.sequence.SequenceUtil;
 
 public final class TupleSequenceStorage extends BasicSequenceStorage {
@@ -99,7 +99,7 @@ public final class TupleSequenceStorage extends BasicSequenceStorage {
             return values[idx];
         } catch (ArrayIndexOutOfBoundsException e) {
             CompilerDirectives.transferToInterpreterAndInvalidate();
-            throw Py.IndexError("list index out of range");
+            throw PythonError.IndexError("list index out of range");
         }
     }
 
@@ -117,7 +117,7 @@ public final class TupleSequenceStorage extends BasicSequenceStorage {
             values[idx] = value;
         } catch (ArrayIndexOutOfBoundsException e) {
             CompilerDirectives.transferToInterpreterAndInvalidate();
-            throw Py.IndexError("list assignment index out of range");
+            throw PythonError.IndexError("list assignment index out of range");
         }
     }
 
@@ -216,7 +216,7 @@ public final class TupleSequenceStorage extends BasicSequenceStorage {
     }
 
     public PTuple popPTuple() {
-        PTuple pop = values[capacity - 1];
+        PTuple pop = values[length - 1];
         length--;
         return pop;
     }
@@ -293,13 +293,9 @@ public final class TupleSequenceStorage extends BasicSequenceStorage {
         }
     }
 
-    @ExplodeLoop
     @Override
     public void sort() {
-        PTuple[] copy = Arrays.copyOf(values, length);
-        Arrays.sort(copy);
-        values = copy;
-        minimizeCapacity();
+        Arrays.sort(values, 0, length, new PythonComparator());
     }
 
     @Override
@@ -30,6 +30,7 @@ import java.util.*;
 import org.python.util.*;
 
 import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.*;
 import com.oracle.truffle.api.frame.*;
 
@@ -62,10 +63,18 @@ public class PythonClass extends FixedPythonObjectStorage implements PythonCalla
 
     private final Set<PythonClass> subClasses = Collections.newSetFromMap(new WeakHashMap<PythonClass, Boolean>());
 
+    /**
+     * Maps attribute names to the class in the MRO that defines them, or to null if none does. The
+     * cache and its assumption are renewed whenever a class in the MRO changes its attributes.
+     */
+    private final Map<String, PythonClass> attributeOwners = new HashMap<>();
+    @CompilationFinal private Assumption lookupStableAssumption;
+
     public PythonClass(PythonContext context, String name, PythonClass... baseClasses) {
         super(context.getTypeClass());
         this.context = context;
         this.className = name;
+        this.lookupStableAssumption = Truffle.getRuntime().createAssumption(name + ".lookup");
 
         if (baseClasses.length == 0) {
             this.baseClasses = new PythonClass[]{context.getObjectClass()};
@@ -180,15 +189,52 @@ public class PythonClass extends FixedPythonObjectStorage implements PythonCalla
 
     @Override
     public PythonObject getValidStorageFullLookup(String attributeId) {
-        PythonObject storage = null;
+        return lookUpAttributeOwner(attributeId);
+    }
+
+    /**
+     * Returns the first class in the method resolution order that defines the attribute, or null.
+     */
+    @TruffleBoundary
+    public final PythonClass lookUpAttributeOwner(String name) {
+        if (attributeOwners.containsKey(name)) {
+            return attributeOwners.get(name);
+        }
+
+        PythonClass owner = null;
 
-        if (isOwnAttribute(attributeId)) {
-            storage = this;
-        } else if (baseClasses.length > 0) {
-            storage = baseClasses[0].getValidStorageFullLookup(attributeId);
+        for (PythonClass current : methodResolutionOrder) {
+            if (current.isOwnAttribute(name)) {
+                owner = current;
+                break;
+            }
         }
 
-        return storage;
+        attributeOwners.put(name, owner);
+        return owner;
+    }
+
+    /**
+     * Stays valid as long as no class in the method resolution order adds or removes attributes.
+     */
+    public final Assumption getLookupStableAssumption() {
+        return lookupStableAssumption;
+    }
+
+    private void invalidateAttributeLookups() {
+        attributeOwners.clear();
+        lookupStableAssumption.invalidate();
+        lookupStableAssumption = Truffle.getRuntime().createAssumption(className + ".lookup");
+
+        for (PythonClass subClass : subClasses) {
+            subClass.invalidateAttributeLookups();
+        }
+    }
+
+    @Override
+    public void updateLayout(ObjectLayout newLayout) {
+        super.updateLayout(newLayout);
+        invalidateAttributeLookups();
     }
 
     public PythonCallable lookUpMethod(String methodName) {
@@ -208,15 +254,14 @@ public class PythonClass extends FixedPythonObjectStorage implements PythonCalla
 
     @Override
     public Object getAttribute(String name) {
-        // Find the storage location
-        final StorageLocation storageLocation = getObjectLayout().findStorageLocation(name);
+        final PythonClass owner = lookUpAttributeOwner(name);
 
-        // Continue the look up in PythonType.
-        if (storageLocation == null) {
-            return baseClasses.length == 0 ? PNone.NONE : baseClasses[0].getAttribute(name);
+        if (owner == null) {
+            return PNone.NONE;
         }
 
-        return storageLocation.read(this);
+        final StorageLocation storageLocation = owner.getObjectLayout().findStorageLocation(name);
+        return storageLocation.read(owner);
     }
 
     /**
@@ -232,6 +277,12 @@ public class PythonClass extends FixedPythonObjectStorage implements PythonCalla
                 base.subClasses.add(this);
             }
         }
+
+        // Bootstrapping classes get their base after the MRO has been computed.
+        if (methodResolutionOrder != null) {
+            computeMethodResolutionOrder();
+            invalidateAttributeLookups();
+        }
     }
 
     public final Set<PythonClass> getSubClasses() {
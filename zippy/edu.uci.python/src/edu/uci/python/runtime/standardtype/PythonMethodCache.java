@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2015, Regents of the University of California
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package edu.uci.python.runtime.standardtype;
+
+import com.oracle.truffle.api.*;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+import edu.uci.python.runtime.*;
+import edu.uci.python.runtime.object.location.*;
+
+/**
+ * A (class, name) to attribute cache for call sites whose inline caches went megamorphic. An entry
+ * remembers the class in the method resolution order that owns the attribute and the storage
+ * location it lives in, so a hit is a table probe and a field read. Entries are tagged with the
+ * {@link PythonClass#getLookupStableAssumption() lookup assumption} of the receiver class, which is
+ * replaced whenever an attribute is added to or removed from the class or any of its bases.
+ * Reassigning an existing attribute needs no invalidation since the value is read from its location
+ * on every hit. Each {@link PythonContext} owns its cache, so the classes an entry holds go away
+ * with the context that created them.
+ */
+public final class PythonMethodCache {
+
+    private static final int SIZE = 1 << 12;
+    private static final int MASK = SIZE - 1;
+
+    private final Entry[] entries = new Entry[SIZE];
+
+    private static final class Entry {
+
+        private final PythonClass clazz;
+        private final String name;
+        private final Assumption lookupStable;
+        private final PythonClass owner;
+        private final StorageLocation location;
+
+        Entry(PythonClass clazz, String name, Assumption lookupStable, PythonClass owner, StorageLocation location) {
+            this.clazz = clazz;
+            this.name = name;
+            this.lookupStable = lookupStable;
+            this.owner = owner;
+            this.location = location;
+        }
+
+        boolean matches(PythonClass receiverClass, String attributeId) {
+            return clazz == receiverClass && name.equals(attributeId) && lookupStable.isValid();
+        }
+    }
+
+    /**
+     * Returns the value of {@code name} found along the method resolution order of {@code clazz},
+     * or null if no class defines it.
+     */
+    @TruffleBoundary
+    public Object lookup(PythonClass clazz, String name) {
+        final int index = (System.identityHashCode(clazz) * 31 + name.hashCode()) & MASK;
+        final Entry entry = entries[index];
+
+        if (entry != null && entry.matches(clazz, name)) {
+            return entry.location.read(entry.owner);
+        }
+
+        final Assumption lookupStable = clazz.getLookupStableAssumption();
+        final PythonClass owner = clazz.lookUpAttributeOwner(name);
+
+        if (owner == null) {
+            return null;
+        }
+
+        final StorageLocation location = owner.getObjectLayout().findStorageLocation(name);
+        entries[index] = new Entry(clazz, name, lookupStable, owner, location);
+        return location.read(owner);
+    }
+
+}